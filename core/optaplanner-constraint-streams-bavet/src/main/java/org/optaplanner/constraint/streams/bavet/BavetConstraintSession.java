@@ -1,34 +1,122 @@
 package org.optaplanner.constraint.streams.bavet;
 
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractNode;
+import org.optaplanner.constraint.streams.bavet.common.StreamProfile;
 import org.optaplanner.constraint.streams.bavet.uni.ForEachUniNode;
 import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 
 final class BavetConstraintSession<Score_ extends Score<Score_>> {
 
+    /**
+     * Null if the node network is propagated in parallel, because then every partition has its own score inliner.
+     */
     private final AbstractScoreInliner<Score_> scoreInliner;
     private final Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap;
-    private final AbstractNode[] nodes; // Indexed by nodeIndex
+    /**
+     * Calls {@link AbstractNode#calculateScore()} on every node, in order.
+     */
+    private final Runnable nodePropagator;
     private final Map<Class<?>, ForEachUniNode<Object>[]> effectiveClassToNodeArrayMap;
+    /**
+     * Null unless the node network is propagated in parallel,
+     * in which case {@link #nodePropagator} only propagates the {@link ForEachUniNode}s.
+     */
+    private final BavetNodeNetworkPartition<Score_>[] partitions;
+    /**
+     * Null unless the node network is propagated in parallel.
+     * Owned by this session, so the partitions never wait on unrelated work, such as that of the move threads.
+     */
+    private final ForkJoinPool partitionPool;
+    private final ForkJoinTask<?>[] partitionTasks;
+    /**
+     * Null unless the session is profiled.
+     */
+    private final Map<ForEachUniNode<Object>, StreamProfile> forEachNodeToStreamProfileMap;
+    /**
+     * Null unless the session is profiled.
+     */
+    private final Map<Constraint, StreamProfile[]> constraintToStreamProfilesMap;
 
     public BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
             Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
-            AbstractNode[] nodes) {
+            Runnable nodePropagator) {
+        this(scoreInliner, declaredClassToNodeMap, nodePropagator, null, null);
+    }
+
+    /**
+     * Records the work done per constraint, see {@link #getConstraintProfileMap()}.
+     *
+     * @param scoreInliner never null
+     * @param declaredClassToNodeMap never null
+     * @param nodePropagator never null, times every node
+     * @param forEachNodeToStreamProfileMap null if not profiled, counts the facts inserted, updated and retracted
+     * @param constraintToStreamProfilesMap null if not profiled, the profiles of the streams of each constraint
+     */
+    public BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
+            Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
+            Runnable nodePropagator, Map<ForEachUniNode<Object>, StreamProfile> forEachNodeToStreamProfileMap,
+            Map<Constraint, StreamProfile[]> constraintToStreamProfilesMap) {
         this.scoreInliner = scoreInliner;
         this.declaredClassToNodeMap = declaredClassToNodeMap;
-        this.nodes = nodes;
+        this.nodePropagator = nodePropagator;
+        this.effectiveClassToNodeArrayMap = new IdentityHashMap<>(declaredClassToNodeMap.size());
+        this.partitions = null;
+        this.partitionPool = null;
+        this.partitionTasks = null;
+        this.forEachNodeToStreamProfileMap = forEachNodeToStreamProfileMap;
+        this.constraintToStreamProfilesMap = constraintToStreamProfilesMap;
+    }
+
+    /**
+     * Propagates the partitions in parallel.
+     * Each partition has its own score inliner, the score is the sum of them.
+     * Constraint matches are not supported, because they would be spread over those score inliners.
+     *
+     * @param declaredClassToNodeMap never null
+     * @param forEachNodePropagator never null, propagates the nodes that feed every partition
+     * @param partitions never null, at least 2, none of them with constraint matching enabled
+     */
+    public BavetConstraintSession(Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
+            Runnable forEachNodePropagator, BavetNodeNetworkPartition<Score_>[] partitions) {
+        if (partitions.length < 2) {
+            throw new IllegalArgumentException("Impossible state: the partitions length (" + partitions.length
+                    + ") must be at least 2 for parallel propagation.");
+        }
+        for (BavetNodeNetworkPartition<Score_> partition : partitions) {
+            if (partition.getScoreInliner().isConstraintMatchEnabled()) {
+                throw new IllegalArgumentException("Impossible state: parallel propagation does not support"
+                        + " constraint matching.");
+            }
+        }
+        this.scoreInliner = null;
+        this.declaredClassToNodeMap = declaredClassToNodeMap;
+        this.nodePropagator = forEachNodePropagator;
         this.effectiveClassToNodeArrayMap = new IdentityHashMap<>(declaredClassToNodeMap.size());
+        this.partitions = partitions;
+        // The calling thread propagates the first partition itself.
+        this.partitionPool = new ForkJoinPool(partitions.length - 1);
+        this.partitionTasks = new ForkJoinTask<?>[partitions.length];
+        this.forEachNodeToStreamProfileMap = null;
+        this.constraintToStreamProfilesMap = null;
     }
 
     public void insert(Object fact) {
         Class<?> factClass = fact.getClass();
         for (ForEachUniNode<Object> node : findNodes(factClass)) {
+            if (forEachNodeToStreamProfileMap != null) {
+                forEachNodeToStreamProfileMap.get(node).countInsert();
+            }
             node.insert(fact);
         }
     }
@@ -50,6 +138,9 @@ final class BavetConstraintSession<Score_ extends Score<Score_>> {
     public void update(Object fact) {
         Class<?> factClass = fact.getClass();
         for (ForEachUniNode<Object> node : findNodes(factClass)) {
+            if (forEachNodeToStreamProfileMap != null) {
+                forEachNodeToStreamProfileMap.get(node).countUpdate();
+            }
             node.update(fact);
         }
     }
@@ -57,27 +148,113 @@ final class BavetConstraintSession<Score_ extends Score<Score_>> {
     public void retract(Object fact) {
         Class<?> factClass = fact.getClass();
         for (ForEachUniNode<Object> node : findNodes(factClass)) {
+            if (forEachNodeToStreamProfileMap != null) {
+                forEachNodeToStreamProfileMap.get(node).countRetract();
+            }
             node.retract(fact);
         }
     }
 
     public Score_ calculateScore(int initScore) {
-        for (AbstractNode node : nodes) {
-            node.calculateScore();
+        nodePropagator.run();
+        if (partitions == null) {
+            return scoreInliner.extractScore(initScore);
+        }
+        return calculateScoreInParallel(initScore);
+    }
+
+    private Score_ calculateScoreInParallel(int initScore) {
+        // The ForEachUniNodes have filled the dirty queues of every partition by now.
+        // Forking happens-after that, joining happens-after the partition is done.
+        for (int i = 1; i < partitions.length; i++) {
+            partitionTasks[i] = partitionPool.submit(partitions[i]);
+        }
+        Score_ score;
+        try {
+            partitions[0].run();
+            score = partitions[0].getScoreInliner().extractScore(initScore);
+        } finally {
+            // Even if the first partition failed, so no partition still propagates when the next calculation starts.
+            for (int i = 1; i < partitions.length; i++) {
+                partitionTasks[i].quietlyJoin();
+            }
+        }
+        for (int i = 1; i < partitions.length; i++) {
+            ForkJoinTask<?> partitionTask = partitionTasks[i];
+            partitionTasks[i] = null;
+            partitionTask.join(); // Rethrows the failure of the partition, if any.
+            score = score.add(partitions[i].getScoreInliner().extractScore(0));
         }
-        return scoreInliner.extractScore(initScore);
+        return score;
     }
 
+    /**
+     * @return never null
+     * @throws IllegalStateException if the node network is propagated in parallel
+     */
     public AbstractScoreInliner<Score_> getScoreInliner() {
+        if (scoreInliner == null) {
+            throw new IllegalStateException("Impossible state: the session propagates in parallel,"
+                    + " so it has a score inliner per partition.");
+        }
         return scoreInliner;
     }
 
+    /**
+     * @return null if constraint matching is disabled, which it always is if the node network is propagated in parallel
+     */
     public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
-        return scoreInliner.getConstraintMatchTotalMap();
+        return scoreInliner == null ? null : scoreInliner.getConstraintMatchTotalMap();
     }
 
+    /**
+     * @return null if constraint matching is disabled, which it always is if the node network is propagated in parallel
+     */
     public Map<Object, Indictment<Score_>> getIndictmentMap() {
-        return scoreInliner.getIndictmentMap();
+        return scoreInliner == null ? null : scoreInliner.getIndictmentMap();
+    }
+
+    public boolean isProfiled() {
+        return constraintToStreamProfilesMap != null;
+    }
+
+    /**
+     * A stream shared by multiple constraints is counted in full for each of them.
+     *
+     * @return never null, the key is the {@link ConstraintProfile#getConstraintId() constraintId}
+     * @throws IllegalStateException if the session is not profiled
+     */
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (constraintToStreamProfilesMap == null) {
+            throw new IllegalStateException("Impossible state: the session is not profiled.");
+        }
+        Map<String, ConstraintProfile> constraintProfileMap = new LinkedHashMap<>(constraintToStreamProfilesMap.size());
+        constraintToStreamProfilesMap.forEach((constraint, streamProfiles) -> {
+            long insertCount = 0L;
+            long updateCount = 0L;
+            long retractCount = 0L;
+            long nanos = 0L;
+            for (StreamProfile streamProfile : streamProfiles) {
+                insertCount += streamProfile.getInsertCount();
+                updateCount += streamProfile.getUpdateCount();
+                retractCount += streamProfile.getRetractCount();
+                nanos += streamProfile.getNanos();
+            }
+            ConstraintProfile constraintProfile = new ConstraintProfile(constraint.getConstraintPackage(),
+                    constraint.getConstraintName(), insertCount, updateCount, retractCount, nanos);
+            constraintProfileMap.put(constraintProfile.getConstraintId(), constraintProfile);
+        });
+        return constraintProfileMap;
+    }
+
+    /**
+     * Shuts down the threads of parallel propagation, if any.
+     * The session must not calculate a score afterwards.
+     */
+    public void close() {
+        if (partitionPool != null) {
+            partitionPool.shutdown();
+        }
     }
 
 }
@@ -2,16 +2,25 @@ package org.optaplanner.constraint.streams.bavet;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.optaplanner.constraint.streams.bavet.bi.BavetFilterBiConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.AbstractNode;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
+import org.optaplanner.constraint.streams.bavet.common.NodeProfiler;
+import org.optaplanner.constraint.streams.bavet.common.StreamProfile;
+import org.optaplanner.constraint.streams.bavet.quad.BavetFilterQuadConstraintStream;
+import org.optaplanner.constraint.streams.bavet.tri.BavetFilterTriConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.BavetFilterUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.BavetForEachUniConstraintStream;
 import org.optaplanner.constraint.streams.bavet.uni.ForEachUniNode;
 import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
 import org.optaplanner.core.api.score.Score;
@@ -21,13 +30,33 @@ import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score<Score_>> {
 
+    /**
+     * The maximum number of threads that propagate a single score calculation.
+     * Defaults to 1, which disables parallel propagation.
+     * <p>
+     * Only worth it for large models, where a single score calculation takes milliseconds,
+     * and only if the constraints form multiple node networks that share nothing but their forEach nodes.
+     * Propagation is never parallel if constraint matching is enabled.
+     */
+    public static final String PARALLELISM_PROPERTY_NAME = "org.optaplanner.constraint.streams.bavet.parallelism";
+
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final List<BavetConstraint<Solution_>> constraintList;
+    private final int parallelism;
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             List<BavetConstraint<Solution_>> constraintList) {
+        this(solutionDescriptor, constraintList, Integer.getInteger(PARALLELISM_PROPERTY_NAME, 1));
+    }
+
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            List<BavetConstraint<Solution_>> constraintList, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism (" + parallelism + ") must be at least 1.");
+        }
         this.solutionDescriptor = solutionDescriptor;
         this.constraintList = constraintList;
+        this.parallelism = parallelism;
     }
 
     // ************************************************************************
@@ -36,31 +65,58 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     public BavetConstraintSession<Score_> buildSession(boolean constraintMatchEnabled,
             Solution_ workingSolution) {
+        return buildSession(constraintMatchEnabled, false, workingSolution);
+    }
+
+    /**
+     * @param constraintMatchEnabled true if the session tracks constraint matches
+     * @param constraintProfilingEnabled true if the session records the work done per constraint,
+     *        which is slow and disables parallel propagation
+     * @param workingSolution sometimes null, used to extract the constraint weights
+     * @return never null
+     */
+    public BavetConstraintSession<Score_> buildSession(boolean constraintMatchEnabled, boolean constraintProfilingEnabled,
+            Solution_ workingSolution) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         AbstractScoreInliner<Score_> scoreInliner = AbstractScoreInliner.buildScoreInliner(scoreDefinition,
                 constraintMatchEnabled);
 
-        Score_ zeroScore = scoreDefinition.getZeroScore();
-        Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
         Map<Constraint, Score_> constraintWeightMap = new HashMap<>(constraintList.size());
         for (BavetConstraint<Solution_> constraint : constraintList) {
-            Score_ constraintWeight = constraint.extractConstraintWeight(workingSolution);
-            // Filter out nodes that only lead to constraints with zero weight.
-            // Note: Node sharing happens earlier, in BavetConstraintFactory#share(Stream_).
-            if (!constraintWeight.equals(zeroScore)) {
-                // Relies on BavetConstraintFactory#share(Stream_) occurring for all constraint stream instances
-                // to ensure there are no 2 equal ConstraintStream instances (with different child stream lists).
-                constraint.collectActiveConstraintStreams(constraintStreamSet);
-                constraintWeightMap.put(constraint, constraintWeight);
-            }
+            constraintWeightMap.put(constraint, constraint.extractConstraintWeight(workingSolution));
         }
-        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, constraintWeightMap, scoreInliner);
-        // Build constraintStreamSet in reverse order to create downstream nodes first
-        // so every node only has final variables (some of which have downstream node method references).
-        List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList = new ArrayList<>(constraintStreamSet);
-        Collections.reverse(reversedConstraintStreamList);
-        for (BavetAbstractConstraintStream<Solution_> constraintStream : reversedConstraintStreamList) {
+        boolean partitioned = parallelism > 1 && !constraintMatchEnabled && !constraintProfilingEnabled;
+        NodeNetworkPlan<Solution_, Score_> plan = planNodeNetwork(constraintWeightMap, partitioned);
+        Map<Constraint, Score_> activeConstraintWeightMap = plan.activeConstraintWeightMap;
+        Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToPartitionMap = plan.streamToPartitionMap;
+        List<AbstractScoreInliner<Score_>> partitionScoreInlinerList = new ArrayList<>(plan.partitionCount);
+        for (int i = 0; i < plan.partitionCount; i++) {
+            partitionScoreInlinerList.add(AbstractScoreInliner.buildScoreInliner(scoreDefinition, false));
+        }
+        Map<Constraint, AbstractScoreInliner<Score_>> constraintScoreInlinerMap =
+                new HashMap<>(plan.constraintToPartitionMap.size());
+        plan.constraintToPartitionMap.forEach((constraint, partitionIndex) -> constraintScoreInlinerMap.put(constraint,
+                partitionScoreInlinerList.get(partitionIndex)));
+        NodeProfiler nodeProfiler = constraintProfilingEnabled ? new NodeProfiler() : null;
+        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(plan.constraintStreamSet, activeConstraintWeightMap,
+                scoreInliner, constraintScoreInlinerMap, nodeProfiler);
+        Map<AbstractNode, Integer> nodeToPartitionMap = new IdentityHashMap<>(streamToPartitionMap.size());
+        Map<AbstractNode, StreamProfile> nodeToStreamProfileMap = new IdentityHashMap<>();
+        for (BavetAbstractConstraintStream<Solution_> constraintStream : plan.reversedConstraintStreamList) {
+            int nodeCountBefore = buildHelper.getNodeCount();
             constraintStream.buildNode(buildHelper);
+            if (nodeProfiler != null) {
+                StreamProfile streamProfile = nodeProfiler.getStreamProfile(constraintStream);
+                for (int i = nodeCountBefore; i < buildHelper.getNodeCount(); i++) {
+                    nodeToStreamProfileMap.put(buildHelper.getNode(i), streamProfile);
+                }
+            }
+            Integer partitionIndex = streamToPartitionMap.get(constraintStream);
+            if (partitionIndex != null) {
+                for (int i = nodeCountBefore; i < buildHelper.getNodeCount(); i++) {
+                    nodeToPartitionMap.put(buildHelper.getNode(i), partitionIndex);
+                }
+            }
         }
         List<AbstractNode> nodeList = buildHelper.destroyAndGetNodeList();
         Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap = new LinkedHashMap<>();
@@ -76,7 +132,252 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                 }
             }
         }
-        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodeList.toArray(new AbstractNode[0]));
+        if (nodeProfiler != null) {
+            return buildProfiledSession(scoreInliner, declaredClassToNodeMap, nodeList, nodeProfiler,
+                    nodeToStreamProfileMap, plan.constraintToStreamSetMap);
+        }
+        if (partitionScoreInlinerList.isEmpty()) {
+            return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, buildNodePropagator(nodeList));
+        }
+        return buildParallelSession(declaredClassToNodeMap, nodeList, nodeToPartitionMap, partitionScoreInlinerList);
+    }
+
+    /**
+     * Decides which streams build nodes and which partition each node belongs to.
+     *
+     * @param constraintWeightMap never null, the weight of every constraint
+     * @param partitioned true if the constraints may be split over multiple partitions
+     * @return never null
+     */
+    private NodeNetworkPlan<Solution_, Score_> planNodeNetwork(Map<Constraint, Score_> constraintWeightMap,
+            boolean partitioned) {
+        ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
+        Score_ zeroScore = scoreDefinition.getZeroScore();
+        Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
+        Map<Constraint, Score_> activeConstraintWeightMap = new HashMap<>(constraintList.size());
+        Map<BavetConstraint<Solution_>, Set<BavetAbstractConstraintStream<Solution_>>> constraintToStreamSetMap =
+                new LinkedHashMap<>(constraintList.size());
+        for (BavetConstraint<Solution_> constraint : constraintList) {
+            Score_ constraintWeight = constraintWeightMap.get(constraint);
+            // Filter out nodes that only lead to constraints with zero weight.
+            // Note: Node sharing happens earlier, in BavetConstraintFactory#share(Stream_).
+            if (!constraintWeight.equals(zeroScore)) {
+                // Relies on BavetConstraintFactory#share(Stream_) occurring for all constraint stream instances
+                // to ensure there are no 2 equal ConstraintStream instances (with different child stream lists).
+                Set<BavetAbstractConstraintStream<Solution_>> streamSet = new LinkedHashSet<>();
+                constraint.collectActiveConstraintStreams(streamSet);
+                constraintStreamSet.addAll(streamSet);
+                constraintToStreamSetMap.put(constraint, streamSet);
+                activeConstraintWeightMap.put(constraint, constraintWeight);
+            }
+        }
+        // Maps every stream that builds a node to the index of its partition, except for the forEach streams.
+        Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToPartitionMap = Collections.emptyMap();
+        Map<Constraint, Integer> constraintToPartitionMap = Collections.emptyMap();
+        int partitionCount = 0;
+        if (partitioned) {
+            List<List<BavetConstraint<Solution_>>> partitionList = partitionConstraints(constraintToStreamSetMap);
+            if (partitionList.size() > 1) {
+                streamToPartitionMap = new HashMap<>(constraintStreamSet.size());
+                constraintToPartitionMap = new HashMap<>(activeConstraintWeightMap.size());
+                partitionCount = partitionList.size();
+                for (int i = 0; i < partitionList.size(); i++) {
+                    for (BavetConstraint<Solution_> constraint : partitionList.get(i)) {
+                        constraintToPartitionMap.put(constraint, i);
+                        for (BavetAbstractConstraintStream<Solution_> stream : constraintToStreamSetMap.get(constraint)) {
+                            if (!isPartitionFree(stream)) {
+                                streamToPartitionMap.put(stream, i);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        // Build constraintStreamSet in reverse order to create downstream nodes first
+        // so every node only has final variables (some of which have downstream node method references).
+        List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList = new ArrayList<>(constraintStreamSet);
+        Collections.reverse(reversedConstraintStreamList);
+        return new NodeNetworkPlan<>(constraintStreamSet, activeConstraintWeightMap,
+                constraintToStreamSetMap, streamToPartitionMap, constraintToPartitionMap, partitionCount,
+                reversedConstraintStreamList);
+    }
+
+    private BavetConstraintSession<Score_> buildParallelSession(
+            Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap, List<AbstractNode> nodeList,
+            Map<AbstractNode, Integer> nodeToPartitionMap, List<AbstractScoreInliner<Score_>> partitionScoreInlinerList) {
+        List<AbstractNode> forEachNodeList = new ArrayList<>(declaredClassToNodeMap.size());
+        List<List<AbstractNode>> partitionNodeListList = new ArrayList<>(partitionScoreInlinerList.size());
+        for (int i = 0; i < partitionScoreInlinerList.size(); i++) {
+            partitionNodeListList.add(new ArrayList<>());
+        }
+        for (AbstractNode node : nodeList) {
+            Integer partitionIndex = nodeToPartitionMap.get(node);
+            if (partitionIndex == null) {
+                if (!(node instanceof ForEachUniNode)) {
+                    throw new IllegalStateException("Impossible state: the node (" + node
+                            + ") is not a forEach node, yet it belongs to no partition.");
+                }
+                forEachNodeList.add(node);
+            } else {
+                partitionNodeListList.get(partitionIndex).add(node);
+            }
+        }
+        BavetNodeNetworkPartition<Score_>[] partitions = new BavetNodeNetworkPartition[partitionScoreInlinerList.size()];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new BavetNodeNetworkPartition<>(partitionScoreInlinerList.get(i),
+                    buildNodePropagator(partitionNodeListList.get(i)));
+        }
+        return new BavetConstraintSession<>(declaredClassToNodeMap, buildNodePropagator(forEachNodeList), partitions);
+    }
+
+    private BavetConstraintSession<Score_> buildProfiledSession(AbstractScoreInliner<Score_> scoreInliner,
+            Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap, List<AbstractNode> nodeList,
+            NodeProfiler nodeProfiler, Map<AbstractNode, StreamProfile> nodeToStreamProfileMap,
+            Map<BavetConstraint<Solution_>, Set<BavetAbstractConstraintStream<Solution_>>> constraintToStreamSetMap) {
+        AbstractNode[] nodes = nodeList.toArray(new AbstractNode[0]);
+        StreamProfile[] nodeStreamProfiles = new StreamProfile[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            nodeStreamProfiles[i] = nodeToStreamProfileMap.get(nodes[i]);
+        }
+        Runnable nodePropagator = () -> {
+            for (int i = 0; i < nodes.length; i++) {
+                long startNanos = nodeProfiler.start();
+                nodes[i].calculateScore();
+                nodeProfiler.stop(nodeStreamProfiles[i], startNanos);
+            }
+        };
+        Map<ForEachUniNode<Object>, StreamProfile> forEachNodeToStreamProfileMap =
+                new IdentityHashMap<>(declaredClassToNodeMap.size());
+        for (ForEachUniNode<Object> forEachNode : declaredClassToNodeMap.values()) {
+            forEachNodeToStreamProfileMap.put(forEachNode, nodeToStreamProfileMap.get(forEachNode));
+        }
+        // A stream shared by multiple constraints is counted in full for each of them.
+        Map<Constraint, StreamProfile[]> constraintToStreamProfilesMap = new LinkedHashMap<>(constraintToStreamSetMap.size());
+        constraintToStreamSetMap.forEach((constraint, streamSet) -> constraintToStreamProfilesMap.put(constraint,
+                streamSet.stream()
+                        .map(nodeProfiler::getStreamProfile)
+                        .toArray(StreamProfile[]::new)));
+        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodePropagator,
+                forEachNodeToStreamProfileMap, constraintToStreamProfilesMap);
+    }
+
+    private Runnable buildNodePropagator(List<AbstractNode> nodeList) {
+        AbstractNode[] nodes = nodeList.toArray(new AbstractNode[0]);
+        return () -> {
+            for (AbstractNode node : nodes) {
+                node.calculateScore();
+            }
+        };
+    }
+
+    /**
+     * Constraints that share any stream other than a forEach stream end up in the same partition.
+     * If there are more such groups than {@link #parallelism},
+     * they are spread over the partitions so that each partition has a similar number of streams.
+     *
+     * @param constraintToStreamSetMap never null
+     * @return never null, at most {@link #parallelism} partitions, none of them empty
+     */
+    private List<List<BavetConstraint<Solution_>>> partitionConstraints(
+            Map<BavetConstraint<Solution_>, Set<BavetAbstractConstraintStream<Solution_>>> constraintToStreamSetMap) {
+        List<BavetConstraint<Solution_>> activeConstraintList = new ArrayList<>(constraintToStreamSetMap.keySet());
+        int[] groupIndexes = new int[activeConstraintList.size()]; // Union-find
+        for (int i = 0; i < groupIndexes.length; i++) {
+            groupIndexes[i] = i;
+        }
+        Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToConstraintIndexMap = new HashMap<>();
+        for (int i = 0; i < activeConstraintList.size(); i++) {
+            for (BavetAbstractConstraintStream<Solution_> stream : constraintToStreamSetMap.get(
+                    activeConstraintList.get(i))) {
+                if (isPartitionFree(stream)) {
+                    continue;
+                }
+                Integer otherConstraintIndex = streamToConstraintIndexMap.putIfAbsent(stream, i);
+                if (otherConstraintIndex != null) {
+                    groupIndexes[findGroupIndex(groupIndexes, i)] = findGroupIndex(groupIndexes, otherConstraintIndex);
+                }
+            }
+        }
+        Map<Integer, List<BavetConstraint<Solution_>>> groupMap = new LinkedHashMap<>();
+        Map<Integer, Integer> groupStreamCountMap = new HashMap<>();
+        for (int i = 0; i < activeConstraintList.size(); i++) {
+            BavetConstraint<Solution_> constraint = activeConstraintList.get(i);
+            int groupIndex = findGroupIndex(groupIndexes, i);
+            groupMap.computeIfAbsent(groupIndex, k -> new ArrayList<>()).add(constraint);
+            groupStreamCountMap.merge(groupIndex, constraintToStreamSetMap.get(constraint).size(), Integer::sum);
+        }
+        // Greedy balancing: the largest group goes to the partition with the fewest streams.
+        List<Integer> groupIndexList = new ArrayList<>(groupMap.keySet());
+        groupIndexList.sort(Comparator.comparing(groupStreamCountMap::get, Comparator.reverseOrder()));
+        int partitionCount = Math.min(parallelism, groupIndexList.size());
+        List<List<BavetConstraint<Solution_>>> partitionList = new ArrayList<>(partitionCount);
+        int[] partitionStreamCounts = new int[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitionList.add(new ArrayList<>());
+        }
+        for (Integer groupIndex : groupIndexList) {
+            int lightestPartitionIndex = 0;
+            for (int i = 1; i < partitionCount; i++) {
+                if (partitionStreamCounts[i] < partitionStreamCounts[lightestPartitionIndex]) {
+                    lightestPartitionIndex = i;
+                }
+            }
+            partitionList.get(lightestPartitionIndex).addAll(groupMap.get(groupIndex));
+            partitionStreamCounts[lightestPartitionIndex] += groupStreamCountMap.get(groupIndex);
+        }
+        return partitionList;
+    }
+
+    /**
+     * The forEach nodes are propagated before the partitions, on the calling thread.
+     * Filter streams build no node, their predicates are evaluated by the node upstream of them,
+     * so a filter shared by multiple partitions is either evaluated by a forEach node
+     * or its upstream stream is shared by those partitions too.
+     *
+     * @param stream never null
+     * @return true if the stream does not need to be in the same partition as all of the constraints that use it
+     */
+    private static boolean isPartitionFree(BavetAbstractConstraintStream<?> stream) {
+        return stream instanceof BavetForEachUniConstraintStream
+                || stream instanceof BavetFilterUniConstraintStream
+                || stream instanceof BavetFilterBiConstraintStream
+                || stream instanceof BavetFilterTriConstraintStream
+                || stream instanceof BavetFilterQuadConstraintStream;
+    }
+
+    private static int findGroupIndex(int[] groupIndexes, int index) {
+        while (groupIndexes[index] != index) {
+            groupIndexes[index] = groupIndexes[groupIndexes[index]]; // Path halving
+            index = groupIndexes[index];
+        }
+        return index;
+    }
+
+    private static final class NodeNetworkPlan<Solution_, Score_ extends Score<Score_>> {
+
+        private final Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet;
+        private final Map<Constraint, Score_> activeConstraintWeightMap;
+        private final Map<BavetConstraint<Solution_>, Set<BavetAbstractConstraintStream<Solution_>>> constraintToStreamSetMap;
+        private final Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToPartitionMap;
+        private final Map<Constraint, Integer> constraintToPartitionMap;
+        private final int partitionCount;
+        private final List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList;
+
+        private NodeNetworkPlan(Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet,
+                Map<Constraint, Score_> activeConstraintWeightMap,
+                Map<BavetConstraint<Solution_>, Set<BavetAbstractConstraintStream<Solution_>>> constraintToStreamSetMap,
+                Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToPartitionMap,
+                Map<Constraint, Integer> constraintToPartitionMap, int partitionCount,
+                List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList) {
+            this.constraintStreamSet = constraintStreamSet;
+            this.activeConstraintWeightMap = activeConstraintWeightMap;
+            this.constraintToStreamSetMap = constraintToStreamSetMap;
+            this.streamToPartitionMap = streamToPartitionMap;
+            this.constraintToPartitionMap = constraintToPartitionMap;
+            this.partitionCount = partitionCount;
+            this.reversedConstraintStreamList = reversedConstraintStreamList;
+        }
+
     }
 
 }
@@ -11,6 +11,7 @@ import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
 
 /**
@@ -25,6 +26,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         extends AbstractScoreDirector<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
     protected BavetConstraintSession<Score_> session;
+    private final VariableValueTracker<Solution_> variableValueTracker = new VariableValueTracker<>();
 
     public BavetConstraintStreamScoreDirector(
             BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
@@ -39,11 +41,16 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     @Override
     public void setWorkingSolution(Solution_ workingSolution) {
         super.setWorkingSolution(workingSolution);
+        variableValueTracker.clear();
         resetConstraintStreamingSession();
     }
 
     private void resetConstraintStreamingSession() {
-        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, workingSolution);
+        if (session != null) {
+            session.close();
+        }
+        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, constraintProfilingEnabledPreference,
+                workingSolution);
         getSolutionDescriptor().visitAll(workingSolution, session::insert);
     }
 
@@ -78,6 +85,25 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return session.getIndictmentMap();
     }
 
+    @Override
+    public boolean isConstraintProfilingEnabled() {
+        return constraintProfilingEnabledPreference;
+    }
+
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getConstraintProfileMap().");
+        }
+        if (!session.isProfiled()) {
+            throw new IllegalStateException("When constraint profiling is disabled (" + constraintProfilingEnabledPreference
+                    + "), the method getConstraintProfileMap() must not be called.\n"
+                    + "Maybe call overwriteConstraintProfilingEnabledPreference(true) before setWorkingSolution().");
+        }
+        return session.getConstraintProfileMap();
+    }
+
     @Override
     public boolean requiresFlushing() {
         return true; // Tuple refresh happens during score calculation.
@@ -86,6 +112,9 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     @Override
     public void close() {
         super.close();
+        if (session != null) {
+            session.close();
+        }
         session = null;
     }
 
@@ -108,11 +137,17 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         super.afterEntityAdded(entityDescriptor, entity);
     }
 
-    // public void beforeVariableChanged(VariableDescriptor variableDescriptor, Object entity) // Do nothing
+    @Override
+    public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        variableValueTracker.beforeVariableChanged(variableDescriptor, entity);
+        super.beforeVariableChanged(variableDescriptor, entity);
+    }
 
     @Override
     public void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
-        session.update(entity);
+        if (!variableValueTracker.afterVariableChanged(variableDescriptor, entity)) {
+            session.update(entity);
+        }
         super.afterVariableChanged(variableDescriptor, entity);
     }
 
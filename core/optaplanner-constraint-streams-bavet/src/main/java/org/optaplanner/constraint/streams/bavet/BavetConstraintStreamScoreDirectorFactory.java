@@ -35,6 +35,11 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
         return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution);
     }
 
+    public BavetConstraintSession<Score_> newSession(boolean constraintMatchEnabled, boolean constraintProfilingEnabled,
+            Solution_ workingSolution) {
+        return constraintSessionFactory.buildSession(constraintMatchEnabled, constraintProfilingEnabled, workingSolution);
+    }
+
     @Override
     public AbstractScoreInliner<Score_> fireAndForget(Object... facts) {
         BavetConstraintSession<Score_> session = newSession(true, null);
@@ -0,0 +1,34 @@
+package org.optaplanner.constraint.streams.bavet;
+
+import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
+import org.optaplanner.core.api.score.Score;
+
+/**
+ * A part of the node network that shares no nodes with the other partitions,
+ * except for the {@link org.optaplanner.constraint.streams.bavet.uni.ForEachUniNode}s that feed it.
+ * It has its own {@link AbstractScoreInliner}, so it can be propagated on a different thread than the other partitions,
+ * once the {@link org.optaplanner.constraint.streams.bavet.uni.ForEachUniNode}s have been propagated.
+ */
+final class BavetNodeNetworkPartition<Score_ extends Score<Score_>> implements Runnable {
+
+    private final AbstractScoreInliner<Score_> scoreInliner;
+    /**
+     * Propagates the nodes in the same order as in the full node network.
+     */
+    private final Runnable nodePropagator;
+
+    BavetNodeNetworkPartition(AbstractScoreInliner<Score_> scoreInliner, Runnable nodePropagator) {
+        this.scoreInliner = scoreInliner;
+        this.nodePropagator = nodePropagator;
+    }
+
+    @Override
+    public void run() {
+        nodePropagator.run();
+    }
+
+    public AbstractScoreInliner<Score_> getScoreInliner() {
+        return scoreInliner;
+    }
+
+}
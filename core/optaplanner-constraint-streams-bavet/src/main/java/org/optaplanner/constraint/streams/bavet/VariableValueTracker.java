@@ -0,0 +1,89 @@
+package org.optaplanner.constraint.streams.bavet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.domain.solution.cloner.DeepCloningUtils;
+import org.optaplanner.core.impl.domain.variable.descriptor.BasicVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+
+/**
+ * Remembers the value of a variable between its before and after change notification,
+ * so that the {@link BavetConstraintSession} does not need to propagate an update of an entity
+ * whose variable was set to the value it already had.
+ * That happens for example when a variable listener recalculates a shadow variable to the same value.
+ * <p>
+ * A value counts as unchanged only if no constraint can observe the difference:
+ * <ul>
+ * <li>For a basic genuine variable, the value must be the same instance or an equal immutable value.
+ * The value itself is a problem fact or an entity, so its state is not part of this change.</li>
+ * <li>For any other variable, the value must be null or an equal immutable value,
+ * because a shadow variable or a list variable can be a mutable instance that is changed in place.</li>
+ * </ul>
+ * Not thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution}
+ *        annotation
+ */
+final class VariableValueTracker<Solution_> {
+
+    // Parallel lists, usually of size 1, because a move or variable listener calls before and after back to back.
+    private final List<VariableDescriptor<Solution_>> variableDescriptorList = new ArrayList<>();
+    private final List<Object> entityList = new ArrayList<>();
+    private final List<Object> valueList = new ArrayList<>();
+
+    public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        variableDescriptorList.add(variableDescriptor);
+        entityList.add(entity);
+        valueList.add(variableDescriptor.getValue(entity));
+    }
+
+    /**
+     * @param variableDescriptor never null
+     * @param entity never null
+     * @return true if the variable definitely has the same value as before it changed,
+     *         false if it might have changed or if its before change notification is missing
+     */
+    public boolean afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        for (int i = entityList.size() - 1; i >= 0; i--) {
+            if (entityList.get(i) == entity && variableDescriptorList.get(i) == variableDescriptor) {
+                Object oldValue = valueList.get(i);
+                remove(i);
+                return isUnchanged(variableDescriptor, oldValue, variableDescriptor.getValue(entity));
+            }
+        }
+        return false;
+    }
+
+    private void remove(int index) {
+        int lastIndex = entityList.size() - 1;
+        if (index != lastIndex) { // Order is irrelevant.
+            variableDescriptorList.set(index, variableDescriptorList.get(lastIndex));
+            entityList.set(index, entityList.get(lastIndex));
+            valueList.set(index, valueList.get(lastIndex));
+        }
+        variableDescriptorList.remove(lastIndex);
+        entityList.remove(lastIndex);
+        valueList.remove(lastIndex);
+    }
+
+    private static boolean isUnchanged(VariableDescriptor<?> variableDescriptor, Object oldValue, Object newValue) {
+        if (oldValue == newValue && (oldValue == null || variableDescriptor instanceof BasicVariableDescriptor)) {
+            return true;
+        } else if (oldValue == null || newValue == null) {
+            return false;
+        }
+        Class<?> valueClass = newValue.getClass();
+        return valueClass == oldValue.getClass() && DeepCloningUtils.isImmutable(valueClass) && newValue.equals(oldValue);
+    }
+
+    /**
+     * Forgets before change notifications that never got their after change notification.
+     */
+    public void clear() {
+        variableDescriptorList.clear();
+        entityList.clear();
+        valueList.clear();
+    }
+
+}
@@ -1,8 +1,10 @@
 package org.optaplanner.constraint.streams.bavet.bi;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractGroupNode;
+import org.optaplanner.constraint.streams.bavet.common.GroupKeyProbe;
 import org.optaplanner.constraint.streams.bavet.common.Tuple;
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.core.api.function.TriFunction;
@@ -14,6 +16,16 @@ abstract class AbstractGroupBiNode<OldA, OldB, OutTuple_ extends Tuple, MutableO
 
     private final TriFunction<ResultContainer_, OldA, OldB, Runnable> accumulator;
 
+    protected AbstractGroupBiNode(int groupStoreIndex, int undoStoreIndex,
+            BiConstraintCollector<OldA, OldB, ResultContainer_, Result_> collector,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, undoStoreIndex,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesTupleLifecycle, environmentMode);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
     protected AbstractGroupBiNode(int groupStoreIndex, int undoStoreIndex,
             Function<BiTuple<OldA, OldB>, GroupKey_> groupKeyFunction,
             BiConstraintCollector<OldA, OldB, ResultContainer_, Result_> collector,
@@ -31,6 +43,23 @@ abstract class AbstractGroupBiNode<OldA, OldB, OutTuple_ extends Tuple, MutableO
         accumulator = null;
     }
 
+    protected AbstractGroupBiNode(int groupStoreIndex, int undoStoreIndex,
+            BiConsumer<BiTuple<OldA, OldB>, GroupKeyProbe> groupKeyProbeFunction,
+            BiConstraintCollector<OldA, OldB, ResultContainer_, Result_> collector,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, undoStoreIndex, groupKeyProbeFunction,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesTupleLifecycle, environmentMode);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
+    protected AbstractGroupBiNode(int groupStoreIndex, BiConsumer<BiTuple<OldA, OldB>, GroupKeyProbe> groupKeyProbeFunction,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, groupKeyProbeFunction, nextNodesTupleLifecycle, environmentMode);
+        accumulator = null;
+    }
+
     @Override
     protected final Runnable accumulate(ResultContainer_ resultContainer, BiTuple<OldA, OldB> tuple) {
         return accumulator.apply(resultContainer, tuple.getFactA(), tuple.getFactB());
@@ -61,7 +61,7 @@ public final class BavetIfExistsBiConstraintStream<Solution_, A, B, C>
     @Override
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         TupleLifecycle<BiTuple<A, B>> downstream = buildHelper.getAggregatedTupleLifecycle(childStreamList);
-        IndexerFactory indexerFactory = new IndexerFactory(joiner);
+        IndexerFactory indexerFactory = new IndexerFactory(joiner, constraintFactory.getEnvironmentMode());
         AbstractIfExistsNode<BiTuple<A, B>, C> node = indexerFactory.hasJoiners()
                 ? (filtering == null ? new IndexedIfExistsBiNode<>(shouldExist,
                         JoinerUtils.combineLeftMappings(joiner), JoinerUtils.combineRightMappings(joiner),
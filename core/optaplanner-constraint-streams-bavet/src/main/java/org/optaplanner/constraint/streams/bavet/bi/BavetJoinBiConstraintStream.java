@@ -14,6 +14,7 @@ import org.optaplanner.constraint.streams.bavet.common.index.IndexerFactory;
 import org.optaplanner.constraint.streams.bavet.common.index.JoinerUtils;
 import org.optaplanner.constraint.streams.bavet.uni.BavetJoinBridgeUniConstraintStream;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.constraint.streams.common.LambdaEquality;
 import org.optaplanner.constraint.streams.common.bi.DefaultBiJoiner;
 import org.optaplanner.core.api.score.Score;
 
@@ -56,7 +57,7 @@ public final class BavetJoinBiConstraintStream<Solution_, A, B> extends BavetAbs
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         int outputStoreSize = buildHelper.extractTupleStoreSize(this);
         TupleLifecycle<BiTuple<A, B>> downstream = buildHelper.getAggregatedTupleLifecycle(childStreamList);
-        IndexerFactory indexerFactory = new IndexerFactory(joiner);
+        IndexerFactory indexerFactory = new IndexerFactory(joiner, constraintFactory.getEnvironmentMode());
         AbstractJoinNode<UniTuple<A>, B, BiTuple<A, B>, BiTupleImpl<A, B>> node = indexerFactory.hasJoiners()
                 ? new IndexedJoinBiNode<>(
                         JoinerUtils.combineLeftMappings(joiner), JoinerUtils.combineRightMappings(joiner),
@@ -68,14 +69,16 @@ public final class BavetJoinBiConstraintStream<Solution_, A, B> extends BavetAbs
                         buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                         downstream, filtering, outputStoreSize + 2,
                         outputStoreSize, outputStoreSize + 1,
-                        indexerFactory.buildIndexer(true), indexerFactory.buildIndexer(false))
+                        indexerFactory.buildIndexer(true), indexerFactory.buildIndexer(false),
+                        constraintFactory.getEnvironmentMode())
                 : new UnindexedJoinBiNode<>(
                         buildHelper.reserveTupleStoreIndex(leftParent.getTupleSource()),
                         buildHelper.reserveTupleStoreIndex(leftParent.getTupleSource()),
                         buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                         buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                         downstream, filtering, outputStoreSize + 2,
-                        outputStoreSize, outputStoreSize + 1);
+                        outputStoreSize, outputStoreSize + 1,
+                        constraintFactory.getEnvironmentMode());
         buildHelper.addNode(node, leftParent, rightParent);
     }
 
@@ -100,12 +103,13 @@ public final class BavetJoinBiConstraintStream<Solution_, A, B> extends BavetAbs
         return Objects.equals(leftParent.getParent(), other.leftParent.getParent())
                 && Objects.equals(rightParent.getParent(), other.rightParent.getParent())
                 && Objects.equals(joiner, other.joiner)
-                && Objects.equals(filtering, other.filtering);
+                && LambdaEquality.areEquivalent(filtering, other.filtering);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(leftParent.getParent(), rightParent.getParent(), joiner, filtering);
+        return Objects.hash(leftParent.getParent(), rightParent.getParent(), joiner,
+                LambdaEquality.hashCode(filtering));
     }
 
     @Override
@@ -2,6 +2,7 @@ package org.optaplanner.constraint.streams.bavet.bi;
 
 import java.util.function.BiFunction;
 
+import org.optaplanner.constraint.streams.bavet.common.GroupKeyProbe;
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.util.Pair;
@@ -14,18 +15,19 @@ final class Group2Mapping0CollectorBiNode<OldA, OldB, A, B>
     public Group2Mapping0CollectorBiNode(BiFunction<OldA, OldB, A> groupKeyMappingA, BiFunction<OldA, OldB, B> groupKeyMappingB,
             int groupStoreIndex, TupleLifecycle<BiTuple<A, B>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
-        super(groupStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), nextNodesTupleLifecycle,
-                environmentMode);
+        super(groupStoreIndex,
+                (tuple, groupKeyProbe) -> fillGroupKeyProbe(groupKeyMappingA, groupKeyMappingB, tuple, groupKeyProbe),
+                nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, OldA, OldB> Pair<A, B> createGroupKey(BiFunction<OldA, OldB, A> groupKeyMappingA,
-            BiFunction<OldA, OldB, B> groupKeyMappingB, BiTuple<OldA, OldB> tuple) {
+    static <A, B, OldA, OldB> void fillGroupKeyProbe(BiFunction<OldA, OldB, A> groupKeyMappingA,
+            BiFunction<OldA, OldB, B> groupKeyMappingB, BiTuple<OldA, OldB> tuple, GroupKeyProbe groupKeyProbe) {
         OldA oldA = tuple.getFactA();
         OldB oldB = tuple.getFactB();
         A a = groupKeyMappingA.apply(oldA, oldB);
         B b = groupKeyMappingB.apply(oldA, oldB);
-        return Pair.of(a, b);
+        groupKeyProbe.set(a, b);
     }
 
     @Override
@@ -1,6 +1,6 @@
 package org.optaplanner.constraint.streams.bavet.bi;
 
-import static org.optaplanner.constraint.streams.bavet.bi.Group2Mapping0CollectorBiNode.createGroupKey;
+import static org.optaplanner.constraint.streams.bavet.bi.Group2Mapping0CollectorBiNode.fillGroupKeyProbe;
 
 import java.util.function.BiFunction;
 
@@ -19,7 +19,9 @@ final class Group2Mapping1CollectorBiNode<OldA, OldB, A, B, C, ResultContainer_>
     public Group2Mapping1CollectorBiNode(BiFunction<OldA, OldB, A> groupKeyMappingA, BiFunction<OldA, OldB, B> groupKeyMappingB,
             int groupStoreIndex, int undoStoreIndex, BiConstraintCollector<OldA, OldB, ResultContainer_, C> collector,
             TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
-        super(groupStoreIndex, undoStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), collector,
+        super(groupStoreIndex, undoStoreIndex,
+                (tuple, groupKeyProbe) -> fillGroupKeyProbe(groupKeyMappingA, groupKeyMappingB, tuple, groupKeyProbe),
+                collector,
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
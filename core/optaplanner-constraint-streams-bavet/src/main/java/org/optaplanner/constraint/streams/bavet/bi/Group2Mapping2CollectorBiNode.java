@@ -1,7 +1,7 @@
 package org.optaplanner.constraint.streams.bavet.bi;
 
 import static org.optaplanner.constraint.streams.bavet.bi.Group0Mapping2CollectorBiNode.mergeCollectors;
-import static org.optaplanner.constraint.streams.bavet.bi.Group2Mapping0CollectorBiNode.createGroupKey;
+import static org.optaplanner.constraint.streams.bavet.bi.Group2Mapping0CollectorBiNode.fillGroupKeyProbe;
 
 import java.util.function.BiFunction;
 
@@ -24,7 +24,8 @@ final class Group2Mapping2CollectorBiNode<OldA, OldB, A, B, C, D, ResultContaine
             BiConstraintCollector<OldA, OldB, ResultContainerD_, D> collectorD,
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
-        super(groupStoreIndex, undoStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple),
+        super(groupStoreIndex, undoStoreIndex,
+                (tuple, groupKeyProbe) -> fillGroupKeyProbe(groupKeyMappingA, groupKeyMappingB, tuple, groupKeyProbe),
                 mergeCollectors(collectorC, collectorD), nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
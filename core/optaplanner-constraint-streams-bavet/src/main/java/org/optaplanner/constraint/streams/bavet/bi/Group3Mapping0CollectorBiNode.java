@@ -2,6 +2,7 @@ package org.optaplanner.constraint.streams.bavet.bi;
 
 import java.util.function.BiFunction;
 
+import org.optaplanner.constraint.streams.bavet.common.GroupKeyProbe;
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
 import org.optaplanner.constraint.streams.bavet.tri.TriTupleImpl;
@@ -16,20 +17,22 @@ final class Group3Mapping0CollectorBiNode<OldA, OldB, A, B, C>
     public Group3Mapping0CollectorBiNode(BiFunction<OldA, OldB, A> groupKeyMappingA, BiFunction<OldA, OldB, B> groupKeyMappingB,
             BiFunction<OldA, OldB, C> groupKeyMappingC, int groupStoreIndex,
             TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
-        super(groupStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple),
+        super(groupStoreIndex,
+                (tuple, groupKeyProbe) -> fillGroupKeyProbe(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple,
+                        groupKeyProbe),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, C, OldA, OldB> Triple<A, B, C> createGroupKey(BiFunction<OldA, OldB, A> groupKeyMappingA,
+    static <A, B, C, OldA, OldB> void fillGroupKeyProbe(BiFunction<OldA, OldB, A> groupKeyMappingA,
             BiFunction<OldA, OldB, B> groupKeyMappingB, BiFunction<OldA, OldB, C> groupKeyMappingC,
-            BiTuple<OldA, OldB> tuple) {
+            BiTuple<OldA, OldB> tuple, GroupKeyProbe groupKeyProbe) {
         OldA oldA = tuple.getFactA();
         OldB oldB = tuple.getFactB();
         A a = groupKeyMappingA.apply(oldA, oldB);
         B b = groupKeyMappingB.apply(oldA, oldB);
         C c = groupKeyMappingC.apply(oldA, oldB);
-        return Triple.of(a, b, c);
+        groupKeyProbe.set(a, b, c);
     }
 
     @Override
@@ -1,6 +1,6 @@
 package org.optaplanner.constraint.streams.bavet.bi;
 
-import static org.optaplanner.constraint.streams.bavet.bi.Group3Mapping0CollectorBiNode.createGroupKey;
+import static org.optaplanner.constraint.streams.bavet.bi.Group3Mapping0CollectorBiNode.fillGroupKeyProbe;
 
 import java.util.function.BiFunction;
 
@@ -23,7 +23,9 @@ final class Group3Mapping1CollectorBiNode<OldA, OldB, A, B, C, D, ResultContaine
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple), collector,
+                (tuple, groupKeyProbe) -> fillGroupKeyProbe(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple,
+                        groupKeyProbe),
+                collector,
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
@@ -2,6 +2,7 @@ package org.optaplanner.constraint.streams.bavet.bi;
 
 import java.util.function.BiFunction;
 
+import org.optaplanner.constraint.streams.bavet.common.GroupKeyProbe;
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.constraint.streams.bavet.quad.QuadTuple;
 import org.optaplanner.constraint.streams.bavet.quad.QuadTupleImpl;
@@ -19,22 +20,23 @@ final class Group4Mapping0CollectorBiNode<OldA, OldB, A, B, C, D>
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD, tuple),
+                (tuple, groupKeyProbe) -> fillGroupKeyProbe(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC,
+                        groupKeyMappingD, tuple, groupKeyProbe),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    private static <A, B, C, D, OldA, OldB> Quadruple<A, B, C, D> createGroupKey(
+    private static <A, B, C, D, OldA, OldB> void fillGroupKeyProbe(
             BiFunction<OldA, OldB, A> groupKeyMappingA, BiFunction<OldA, OldB, B> groupKeyMappingB,
             BiFunction<OldA, OldB, C> groupKeyMappingC, BiFunction<OldA, OldB, D> groupKeyMappingD,
-            BiTuple<OldA, OldB> tuple) {
+            BiTuple<OldA, OldB> tuple, GroupKeyProbe groupKeyProbe) {
         OldA oldA = tuple.getFactA();
         OldB oldB = tuple.getFactB();
         A a = groupKeyMappingA.apply(oldA, oldB);
         B b = groupKeyMappingB.apply(oldA, oldB);
         C c = groupKeyMappingC.apply(oldA, oldB);
         D d = groupKeyMappingD.apply(oldA, oldB);
-        return Quadruple.of(a, b, c, d);
+        groupKeyProbe.set(a, b, c, d);
     }
 
     @Override
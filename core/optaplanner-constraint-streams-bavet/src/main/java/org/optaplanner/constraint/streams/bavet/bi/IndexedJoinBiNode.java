@@ -8,6 +8,7 @@ import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.constraint.streams.bavet.common.index.IndexProperties;
 import org.optaplanner.constraint.streams.bavet.common.index.Indexer;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 final class IndexedJoinBiNode<A, B> extends AbstractIndexedJoinNode<UniTuple<A>, B, BiTuple<A, B>, BiTupleImpl<A, B>> {
 
@@ -22,13 +23,14 @@ final class IndexedJoinBiNode<A, B> extends AbstractIndexedJoinNode<UniTuple<A>,
             int outputStoreSize,
             int outputStoreIndexOutEntryA, int outputStoreIndexOutEntryB,
             Indexer<UniTuple<A>> indexerA,
-            Indexer<UniTuple<B>> indexerB) {
+            Indexer<UniTuple<B>> indexerB,
+            EnvironmentMode environmentMode) {
         super(mappingB,
                 inputStoreIndexA, inputStoreIndexEntryA, inputStoreIndexOutTupleListA,
                 inputStoreIndexB, inputStoreIndexEntryB, inputStoreIndexOutTupleListB,
                 nextNodesTupleLifecycle, filtering != null,
                 outputStoreIndexOutEntryA, outputStoreIndexOutEntryB,
-                indexerA, indexerB);
+                indexerA, indexerB, environmentMode);
         this.mappingA = mappingA;
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
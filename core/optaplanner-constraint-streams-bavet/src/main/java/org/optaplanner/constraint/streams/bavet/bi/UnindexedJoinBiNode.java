@@ -5,6 +5,7 @@ import java.util.function.BiPredicate;
 import org.optaplanner.constraint.streams.bavet.common.AbstractUnindexedJoinNode;
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 final class UnindexedJoinBiNode<A, B>
         extends AbstractUnindexedJoinNode<UniTuple<A>, B, BiTuple<A, B>, BiTupleImpl<A, B>> {
@@ -17,11 +18,11 @@ final class UnindexedJoinBiNode<A, B>
             int inputStoreIndexRightEntry, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<BiTuple<A, B>> nextNodesTupleLifecycle, BiPredicate<A, B> filtering,
             int outputStoreSize,
-            int outputStoreIndexLeftOutEntry, int outputStoreIndexRightOutEntry) {
+            int outputStoreIndexLeftOutEntry, int outputStoreIndexRightOutEntry, EnvironmentMode environmentMode) {
         super(inputStoreIndexLeftEntry, inputStoreIndexLeftOutTupleList,
                 inputStoreIndexRightEntry, inputStoreIndexRightOutTupleList,
                 nextNodesTupleLifecycle, filtering != null,
-                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry);
+                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry, environmentMode);
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
     }
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -20,9 +21,19 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
      */
     private final int undoStoreIndex;
     /**
-     * Unused when {@link #hasMultipleGroups} is false.
+     * Null when {@link #hasMultipleGroups} is false or when the group key is composite.
      */
     private final Function<InTuple_, GroupKey_> groupKeyFunction;
+    /**
+     * Null unless the group key is composite, such as a {@link org.optaplanner.core.impl.util.Pair}.
+     * Fills {@link #groupKeyProbe} with the components of the group key of a tuple.
+     */
+    private final BiConsumer<InTuple_, GroupKeyProbe> groupKeyProbeFunction;
+    /**
+     * Null unless the group key is composite.
+     * Reused for every tuple, so the composite group key is only created when a new group is created.
+     */
+    private final GroupKeyProbe groupKeyProbe;
     /**
      * Unused when {@link #hasCollector} is false.
      */
@@ -58,16 +69,24 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
     private AbstractGroup<MutableOutTuple_, ResultContainer_> singletonGroup;
     private final Queue<AbstractGroup<MutableOutTuple_, ResultContainer_>> dirtyGroupQueue;
     private final boolean useAssertingGroupKey;
+    /**
+     * True if the group map is probed by {@link #groupKeyProbe}.
+     * False in asserted modes, because then every group key is wrapped in an {@link AssertingGroupKey} anyway.
+     */
+    private final boolean useGroupKeyProbe;
 
-    protected AbstractGroupNode(int groupStoreIndex, int undoStoreIndex, Function<InTuple_, GroupKey_> groupKeyFunction,
+    private AbstractGroupNode(int groupStoreIndex, int undoStoreIndex, Function<InTuple_, GroupKey_> groupKeyFunction,
+            BiConsumer<InTuple_, GroupKeyProbe> groupKeyProbeFunction,
             Supplier<ResultContainer_> supplier, Function<ResultContainer_, Result_> finisher,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         this.groupStoreIndex = groupStoreIndex;
         this.undoStoreIndex = undoStoreIndex;
         this.groupKeyFunction = groupKeyFunction;
+        this.groupKeyProbeFunction = groupKeyProbeFunction;
+        this.groupKeyProbe = groupKeyProbeFunction == null ? null : new GroupKeyProbe();
         this.supplier = supplier;
         this.finisher = finisher;
-        this.hasMultipleGroups = groupKeyFunction != null;
+        this.hasMultipleGroups = groupKeyFunction != null || groupKeyProbeFunction != null;
         this.hasCollector = supplier != null;
         this.nextNodesTupleLifecycle = nextNodesTupleLifecycle;
         /*
@@ -78,11 +97,51 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
         this.groupMap = hasMultipleGroups ? new HashMap<>() : null;
         this.dirtyGroupQueue = new ArrayDeque<>();
         this.useAssertingGroupKey = environmentMode.isAsserted();
+        this.useGroupKeyProbe = groupKeyProbeFunction != null && !useAssertingGroupKey;
+    }
+
+    protected AbstractGroupNode(int groupStoreIndex, int undoStoreIndex, Function<InTuple_, GroupKey_> groupKeyFunction,
+            Supplier<ResultContainer_> supplier, Function<ResultContainer_, Result_> finisher,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        this(groupStoreIndex, undoStoreIndex, groupKeyFunction, null, supplier, finisher, nextNodesTupleLifecycle,
+                environmentMode);
+    }
+
+    /**
+     * For a composite group key, which is probed in the group map by its components.
+     *
+     * @param groupKeyProbeFunction never null, sets the components of the group key of a tuple on the probe
+     */
+    protected AbstractGroupNode(int groupStoreIndex, int undoStoreIndex,
+            BiConsumer<InTuple_, GroupKeyProbe> groupKeyProbeFunction,
+            Supplier<ResultContainer_> supplier, Function<ResultContainer_, Result_> finisher,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        this(groupStoreIndex, undoStoreIndex, null, Objects.requireNonNull(groupKeyProbeFunction), supplier, finisher,
+                nextNodesTupleLifecycle, environmentMode);
+    }
+
+    /**
+     * For a node with only one group.
+     */
+    protected AbstractGroupNode(int groupStoreIndex, int undoStoreIndex,
+            Supplier<ResultContainer_> supplier, Function<ResultContainer_, Result_> finisher,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        this(groupStoreIndex, undoStoreIndex, null, null, supplier, finisher, nextNodesTupleLifecycle, environmentMode);
     }
 
     protected AbstractGroupNode(int groupStoreIndex, Function<InTuple_, GroupKey_> groupKeyFunction,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
-        this(groupStoreIndex, -1, groupKeyFunction, null, null, nextNodesTupleLifecycle, environmentMode);
+        this(groupStoreIndex, -1, groupKeyFunction, null, null, null, nextNodesTupleLifecycle, environmentMode);
+    }
+
+    /**
+     * As defined by {@link #AbstractGroupNode(int, int, BiConsumer, Supplier, Function, TupleLifecycle, EnvironmentMode)},
+     * without a collector.
+     */
+    protected AbstractGroupNode(int groupStoreIndex, BiConsumer<InTuple_, GroupKeyProbe> groupKeyProbeFunction,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        this(groupStoreIndex, -1, null, Objects.requireNonNull(groupKeyProbeFunction), null, null,
+                nextNodesTupleLifecycle, environmentMode);
     }
 
     @Override
@@ -91,12 +150,28 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
             throw new IllegalStateException("Impossible state: the input for the tuple (" + tuple
                     + ") was already added in the tupleStore.");
         }
-        GroupKey_ userSuppliedKey = hasMultipleGroups ? groupKeyFunction.apply(tuple) : null;
-        createTuple(tuple, userSuppliedKey);
+        if (useGroupKeyProbe) {
+            groupKeyProbeFunction.accept(tuple, groupKeyProbe);
+            createTuple(tuple, getOrCreateGroupByProbe());
+        } else {
+            createTuple(tuple, getOrCreateGroup(extractGroupKey(tuple)));
+        }
     }
 
-    private void createTuple(InTuple_ tuple, GroupKey_ userSuppliedKey) {
-        AbstractGroup<MutableOutTuple_, ResultContainer_> newGroup = getOrCreateGroup(userSuppliedKey);
+    private GroupKey_ extractGroupKey(InTuple_ tuple) {
+        if (!hasMultipleGroups) {
+            return null;
+        } else if (groupKeyFunction != null) {
+            return groupKeyFunction.apply(tuple);
+        } else {
+            groupKeyProbeFunction.accept(tuple, groupKeyProbe);
+            GroupKey_ groupKey = (GroupKey_) groupKeyProbe.createGroupKey();
+            groupKeyProbe.clear();
+            return groupKey;
+        }
+    }
+
+    private void createTuple(InTuple_ tuple, AbstractGroup<MutableOutTuple_, ResultContainer_> newGroup) {
         OutTuple_ outTuple = accumulate(tuple, newGroup);
         switch (outTuple.getState()) {
             case CREATING:
@@ -150,6 +225,23 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
         }
     }
 
+    /**
+     * Expects {@link #groupKeyProbe} to be filled in for the tuple, and clears it.
+     */
+    private AbstractGroup<MutableOutTuple_, ResultContainer_> getOrCreateGroupByProbe() {
+        AbstractGroup<MutableOutTuple_, ResultContainer_> group = groupMap.get(groupKeyProbe);
+        if (group == null) {
+            // Only a new group needs an immutable group key.
+            Object groupMapKey = groupKeyProbe.createGroupKey();
+            group = createGroup(groupMapKey);
+            groupMap.put(groupMapKey, group);
+        } else {
+            group.parentCount++;
+        }
+        groupKeyProbe.clear();
+        return group;
+    }
+
     private AbstractGroup<MutableOutTuple_, ResultContainer_> createGroup(Object groupMapKey) {
         GroupKey_ userSuppliedKey = extractUserSuppliedKey(groupMapKey);
         MutableOutTuple_ outTuple = createOutTuple(userSuppliedKey);
@@ -178,29 +270,44 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
             undoAccumulator.run();
         }
 
+        if (useGroupKeyProbe) {
+            groupKeyProbeFunction.accept(tuple, groupKeyProbe);
+            if (groupKeyProbe.equals(oldGroup.groupKey)) {
+                groupKeyProbe.clear();
+                updateTupleInSameGroup(tuple, oldGroup);
+            } else {
+                killTuple(oldGroup);
+                createTuple(tuple, getOrCreateGroupByProbe());
+            }
+            return;
+        }
         GroupKey_ oldUserSuppliedGroupKey = extractUserSuppliedKey(oldGroup.groupKey);
-        GroupKey_ newUserSuppliedGroupKey = hasMultipleGroups ? groupKeyFunction.apply(tuple) : null;
+        GroupKey_ newUserSuppliedGroupKey = extractGroupKey(tuple);
         if (Objects.equals(newUserSuppliedGroupKey, oldUserSuppliedGroupKey)) {
-            // No need to change parentCount because it is the same group
-            OutTuple_ outTuple = accumulate(tuple, oldGroup);
-            switch (outTuple.getState()) {
-                case CREATING:
-                case UPDATING:
-                    break;
-                case OK:
-                    outTuple.setState(BavetTupleState.UPDATING);
-                    dirtyGroupQueue.add(oldGroup);
-                    break;
-                case DYING:
-                case ABORTING:
-                case DEAD:
-                default:
-                    throw new IllegalStateException("Impossible state: The group (" + oldGroup + ") in node (" +
-                            this + ") is in an unexpected state (" + outTuple.getState() + ").");
-            }
+            updateTupleInSameGroup(tuple, oldGroup);
         } else {
             killTuple(oldGroup);
-            createTuple(tuple, newUserSuppliedGroupKey);
+            createTuple(tuple, getOrCreateGroup(newUserSuppliedGroupKey));
+        }
+    }
+
+    private void updateTupleInSameGroup(InTuple_ tuple, AbstractGroup<MutableOutTuple_, ResultContainer_> oldGroup) {
+        // No need to change parentCount because it is the same group
+        OutTuple_ outTuple = accumulate(tuple, oldGroup);
+        switch (outTuple.getState()) {
+            case CREATING:
+            case UPDATING:
+                break;
+            case OK:
+                outTuple.setState(BavetTupleState.UPDATING);
+                dirtyGroupQueue.add(oldGroup);
+                break;
+            case DYING:
+            case ABORTING:
+            case DEAD:
+            default:
+                throw new IllegalStateException("Impossible state: The group (" + oldGroup + ") in node (" +
+                        this + ") is in an unexpected state (" + outTuple.getState() + ").");
         }
     }
 
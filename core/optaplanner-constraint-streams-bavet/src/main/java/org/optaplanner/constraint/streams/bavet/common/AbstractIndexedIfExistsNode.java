@@ -121,9 +121,12 @@ public abstract class AbstractIndexedIfExistsNode<LeftTuple_ extends Tuple, Righ
             // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
             return;
         }
-        TupleListEntry<ExistsCounter<LeftTuple_>> counterEntry = leftTuple.getStore(inputStoreIndexLeftCounterEntry);
+        TupleListEntry<ExistsCounter<LeftTuple_>> counterEntry = leftTuple.removeStore(inputStoreIndexLeftCounterEntry);
         ExistsCounter<LeftTuple_> counter = counterEntry.getElement();
         updateIndexerLeft(indexProperties, counterEntry, leftTuple);
+        if (isFiltering) {
+            leftTuple.removeStore(inputStoreIndexLeftTrackerList);
+        }
         killCounterLeft(counter);
     }
 
@@ -208,6 +211,7 @@ public abstract class AbstractIndexedIfExistsNode<LeftTuple_ extends Tuple, Righ
             indexerLeft.forEach(indexProperties, this::decrementCounterRight);
         } else {
             updateRightTrackerList(rightTuple);
+            rightTuple.removeStore(inputStoreIndexRightTrackerList);
         }
     }
 
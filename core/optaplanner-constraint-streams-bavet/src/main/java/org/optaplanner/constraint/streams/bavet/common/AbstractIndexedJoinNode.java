@@ -7,6 +7,7 @@ import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry
 import org.optaplanner.constraint.streams.bavet.common.index.IndexProperties;
 import org.optaplanner.constraint.streams.bavet.common.index.Indexer;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 /**
  * There is a strong likelihood that any change to this class, which is not related to indexing,
@@ -34,9 +35,10 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends Tuple, Right_,
             int inputStoreIndexLeftEntry, int inputStoreIndexLeftOutTupleList, int inputStoreIndexRightProperties,
             int inputStoreIndexRightEntry, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, boolean isFiltering, int outputStoreIndexLeftOutEntry,
-            int outputStoreIndexRightOutEntry, Indexer<LeftTuple_> indexerLeft, Indexer<UniTuple<Right_>> indexerRight) {
+            int outputStoreIndexRightOutEntry, Indexer<LeftTuple_> indexerLeft, Indexer<UniTuple<Right_>> indexerRight,
+            EnvironmentMode environmentMode) {
         super(inputStoreIndexLeftOutTupleList, inputStoreIndexRightOutTupleList, nextNodesTupleLifecycle, isFiltering,
-                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry);
+                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry, environmentMode);
         this.mappingRight = mappingRight;
         this.inputStoreIndexLeftProperties = inputStoreIndexLeftProperties;
         this.inputStoreIndexLeftEntry = inputStoreIndexLeftEntry;
@@ -54,7 +56,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends Tuple, Right_,
         }
         IndexProperties indexProperties = createIndexPropertiesLeft(leftTuple);
 
-        TupleList<MutableOutTuple_> outTupleListLeft = new TupleList<>();
+        TupleList<MutableOutTuple_> outTupleListLeft = outTupleListPool.newList();
         leftTuple.setStore(inputStoreIndexLeftOutTupleList, outTupleListLeft);
         indexAndPropagateLeft(leftTuple, indexProperties);
     }
@@ -101,6 +103,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends Tuple, Right_,
         TupleList<MutableOutTuple_> outTupleListLeft = leftTuple.removeStore(inputStoreIndexLeftOutTupleList);
         indexerLeft.remove(indexProperties, leftEntry);
         outTupleListLeft.forEach(this::retractOutTuple);
+        outTupleListPool.releaseList(outTupleListLeft);
     }
 
     @Override
@@ -111,7 +114,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends Tuple, Right_,
         }
         IndexProperties indexProperties = mappingRight.apply(rightTuple.getFactA());
 
-        TupleList<MutableOutTuple_> outTupleListRight = new TupleList<>();
+        TupleList<MutableOutTuple_> outTupleListRight = outTupleListPool.newList();
         rightTuple.setStore(inputStoreIndexRightOutTupleList, outTupleListRight);
         indexAndPropagateRight(rightTuple, indexProperties);
     }
@@ -158,6 +161,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends Tuple, Right_,
         TupleList<MutableOutTuple_> outTupleListRight = rightTuple.removeStore(inputStoreIndexRightOutTupleList);
         indexerRight.remove(indexProperties, rightEntry);
         outTupleListRight.forEach(this::retractOutTuple);
+        outTupleListPool.releaseList(outTupleListRight);
     }
 
     protected abstract IndexProperties createIndexPropertiesLeft(LeftTuple_ leftTuple);
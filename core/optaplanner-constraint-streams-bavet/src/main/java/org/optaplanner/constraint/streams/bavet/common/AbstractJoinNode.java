@@ -1,14 +1,19 @@
 package org.optaplanner.constraint.streams.bavet.common;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.function.Consumer;
 
 import org.optaplanner.constraint.streams.bavet.common.collection.TupleList;
 import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListPool;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 /**
  * This class has two direct children: {@link AbstractIndexedJoinNode} and {@link AbstractUnindexedJoinNode}.
@@ -23,6 +28,11 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
         extends AbstractNode
         implements LeftTupleLifecycle<LeftTuple_>, RightTupleLifecycle<UniTuple<Right_>> {
 
+    /**
+     * Bounds the memory held by the recycled out tuples after a large retraction.
+     */
+    private static final int MAX_RECYCLED_OUT_TUPLE_COUNT = 10_000;
+
     protected final int inputStoreIndexLeftOutTupleList;
     protected final int inputStoreIndexRightOutTupleList;
     /**
@@ -33,10 +43,26 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
     private final int outputStoreIndexLeftOutEntry;
     private final int outputStoreIndexRightOutEntry;
     protected final Queue<OutTuple_> dirtyTupleQueue;
+    /**
+     * Recycles the left and right out tuple lists and their entries.
+     */
+    protected final TupleListPool<MutableOutTuple_> outTupleListPool;
+    /**
+     * The out tuples that died during the last {@link #calculateScore()}.
+     * They can only be recycled during the next {@link #calculateScore()},
+     * because some downstream nodes (such as if exists nodes) only finish retracting them later in the same one.
+     */
+    private final List<MutableOutTuple_> deadOutTupleList = new ArrayList<>();
+    /**
+     * Dead out tuples, ready to be reused by {@link #insertOutTuple(Tuple, UniTuple)}
+     * instead of creating a new tuple (and its tupleStore array).
+     */
+    private final Deque<MutableOutTuple_> recycledOutTupleStack = new ArrayDeque<>();
+    private final boolean assertRecycledOutTuples;
 
     protected AbstractJoinNode(int inputStoreIndexLeftOutTupleList, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, boolean isFiltering,
-            int outputStoreIndexLeftOutEntry, int outputStoreIndexRightOutEntry) {
+            int outputStoreIndexLeftOutEntry, int outputStoreIndexRightOutEntry, EnvironmentMode environmentMode) {
         this.inputStoreIndexLeftOutTupleList = inputStoreIndexLeftOutTupleList;
         this.inputStoreIndexRightOutTupleList = inputStoreIndexRightOutTupleList;
         this.nextNodesTupleLifecycle = nextNodesTupleLifecycle;
@@ -44,6 +70,8 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
         this.outputStoreIndexLeftOutEntry = outputStoreIndexLeftOutEntry;
         this.outputStoreIndexRightOutEntry = outputStoreIndexRightOutEntry;
         dirtyTupleQueue = new ArrayDeque<>(1000);
+        this.outTupleListPool = new TupleListPool<>(environmentMode);
+        this.assertRecycledOutTuples = environmentMode.isAsserted();
     }
 
     protected abstract MutableOutTuple_ createOutTuple(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
@@ -55,7 +83,13 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
     protected abstract boolean testFiltering(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
 
     protected final void insertOutTuple(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple) {
-        MutableOutTuple_ outTuple = createOutTuple(leftTuple, rightTuple);
+        MutableOutTuple_ outTuple = recycledOutTupleStack.pollFirst();
+        if (outTuple == null) {
+            outTuple = createOutTuple(leftTuple, rightTuple);
+        } else {
+            setOutTupleLeftFacts(outTuple, leftTuple);
+            setOutTupleRightFact(outTuple, rightTuple);
+        }
         TupleList<MutableOutTuple_> outTupleListLeft = leftTuple.getStore(inputStoreIndexLeftOutTupleList);
         TupleListEntry<MutableOutTuple_> outEntryLeft = outTupleListLeft.add(outTuple);
         outTuple.setStore(outputStoreIndexLeftOutEntry, outEntryLeft);
@@ -188,6 +222,14 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
 
     @Override
     public final void calculateScore() {
+        for (MutableOutTuple_ deadOutTuple : deadOutTupleList) {
+            if (recycledOutTupleStack.size() >= MAX_RECYCLED_OUT_TUPLE_COUNT) {
+                break;
+            }
+            ((AbstractTuple) deadOutTuple).recycle(assertRecycledOutTuples);
+            recycledOutTupleStack.addFirst(deadOutTuple);
+        }
+        deadOutTupleList.clear();
         for (OutTuple_ tuple : dirtyTupleQueue) {
             switch (tuple.getState()) {
                 case CREATING:
@@ -201,9 +243,11 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
                 case DYING:
                     nextNodesTupleLifecycle.retract(tuple);
                     tuple.setState(BavetTupleState.DEAD);
+                    deadOutTupleList.add((MutableOutTuple_) tuple);
                     break;
                 case ABORTING:
                     tuple.setState(BavetTupleState.DEAD);
+                    deadOutTupleList.add((MutableOutTuple_) tuple);
                     break;
                 case OK:
                 case DEAD:
@@ -44,6 +44,40 @@ public abstract class AbstractTuple implements Tuple {
         store = value;
     }
 
+    /**
+     * Prepares a {@link BavetTupleState#DEAD} tuple to be reused by the node that created it,
+     * as if it was just created.
+     * Only the facts remain to be set.
+     *
+     * @param assertEmptyStore true if every node that used this tuple's store must have removed its value,
+     *        false if any remaining values are silently cleared
+     */
+    public final void recycle(boolean assertEmptyStore) {
+        if (state != BavetTupleState.DEAD) {
+            throw new IllegalStateException("Impossible state: the tuple (" + this
+                    + ") is recycled in an unexpected state (" + state + ").");
+        }
+        if (storeIsArray) {
+            Object[] array = (Object[]) store;
+            for (int i = 0; i < array.length; i++) {
+                if (assertEmptyStore && array[i] != null) {
+                    throw new IllegalStateException("Impossible state: the dead tuple (" + this
+                            + ") still has a value (" + array[i] + ") at tupleStore index (" + i + ").\n"
+                            + "Maybe a node did not remove its value when the tuple was retracted?");
+                }
+                array[i] = null;
+            }
+        } else {
+            if (assertEmptyStore && store != null) {
+                throw new IllegalStateException("Impossible state: the dead tuple (" + this
+                        + ") still has a value (" + store + ") in its tupleStore.\n"
+                        + "Maybe a node did not remove its value when the tuple was retracted?");
+            }
+            store = null;
+        }
+        state = BavetTupleState.CREATING;
+    }
+
     @Override
     public <Value_> Value_ removeStore(int index) {
         Value_ value;
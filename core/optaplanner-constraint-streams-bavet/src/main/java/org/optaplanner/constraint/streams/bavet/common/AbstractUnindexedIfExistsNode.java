@@ -86,7 +86,7 @@ public abstract class AbstractUnindexedIfExistsNode<LeftTuple_ extends Tuple, Ri
         ExistsCounter<LeftTuple_> counter = counterEntry.getElement();
         counterEntry.remove();
         if (isFiltering) {
-            TupleList<FilteringTracker<LeftTuple_>> leftTrackerList = leftTuple.getStore(inputStoreIndexLeftTrackerList);
+            TupleList<FilteringTracker<LeftTuple_>> leftTrackerList = leftTuple.removeStore(inputStoreIndexLeftTrackerList);
             leftTrackerList.forEach(FilteringTracker::remove);
         }
         killCounterLeft(counter);
@@ -135,6 +135,7 @@ public abstract class AbstractUnindexedIfExistsNode<LeftTuple_ extends Tuple, Ri
             leftCounterList.forEach(this::decrementCounterRight);
         } else {
             updateRightTrackerList(rightTuple);
+            rightTuple.removeStore(inputStoreIndexRightTrackerList);
         }
     }
 
@@ -2,7 +2,9 @@ package org.optaplanner.constraint.streams.bavet.common;
 
 import org.optaplanner.constraint.streams.bavet.common.collection.TupleList;
 import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListPool;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 /**
  * There is a strong likelihood that any change made to this class
@@ -17,17 +19,19 @@ public abstract class AbstractUnindexedJoinNode<LeftTuple_ extends Tuple, Right_
 
     private final int inputStoreIndexLeftEntry;
     private final int inputStoreIndexRightEntry;
-    private final TupleList<LeftTuple_> leftTupleList = new TupleList<>();
-    private final TupleList<UniTuple<Right_>> rightTupleList = new TupleList<>();
+    private final TupleList<LeftTuple_> leftTupleList;
+    private final TupleList<UniTuple<Right_>> rightTupleList;
 
     protected AbstractUnindexedJoinNode(int inputStoreIndexLeftEntry, int inputStoreIndexLeftOutTupleList,
             int inputStoreIndexRightEntry, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, boolean isFiltering, int outputStoreIndexLeftOutEntry,
-            int outputStoreIndexRightOutEntry) {
+            int outputStoreIndexRightOutEntry, EnvironmentMode environmentMode) {
         super(inputStoreIndexLeftOutTupleList, inputStoreIndexRightOutTupleList, nextNodesTupleLifecycle, isFiltering,
-                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry);
+                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry, environmentMode);
         this.inputStoreIndexLeftEntry = inputStoreIndexLeftEntry;
         this.inputStoreIndexRightEntry = inputStoreIndexRightEntry;
+        this.leftTupleList = new TupleList<>(new TupleListPool<>(environmentMode));
+        this.rightTupleList = new TupleList<>(new TupleListPool<>(environmentMode));
     }
 
     @Override
@@ -38,7 +42,7 @@ public abstract class AbstractUnindexedJoinNode<LeftTuple_ extends Tuple, Right_
         }
         TupleListEntry<LeftTuple_> leftEntry = leftTupleList.add(leftTuple);
         leftTuple.setStore(inputStoreIndexLeftEntry, leftEntry);
-        TupleList<MutableOutTuple_> outTupleListLeft = new TupleList<>();
+        TupleList<MutableOutTuple_> outTupleListLeft = outTupleListPool.newList();
         leftTuple.setStore(inputStoreIndexLeftOutTupleList, outTupleListLeft);
         rightTupleList.forEach(rightTuple -> insertOutTupleFiltered(leftTuple, rightTuple));
     }
@@ -64,6 +68,7 @@ public abstract class AbstractUnindexedJoinNode<LeftTuple_ extends Tuple, Right_
         TupleList<MutableOutTuple_> outTupleListLeft = leftTuple.removeStore(inputStoreIndexLeftOutTupleList);
         leftEntry.remove();
         outTupleListLeft.forEach(this::retractOutTuple);
+        outTupleListPool.releaseList(outTupleListLeft);
     }
 
     @Override
@@ -74,7 +79,7 @@ public abstract class AbstractUnindexedJoinNode<LeftTuple_ extends Tuple, Right_
         }
         TupleListEntry<UniTuple<Right_>> rightEntry = rightTupleList.add(rightTuple);
         rightTuple.setStore(inputStoreIndexRightEntry, rightEntry);
-        TupleList<MutableOutTuple_> outTupleListRight = new TupleList<>();
+        TupleList<MutableOutTuple_> outTupleListRight = outTupleListPool.newList();
         rightTuple.setStore(inputStoreIndexRightOutTupleList, outTupleListRight);
         leftTupleList.forEach(leftTuple -> insertOutTupleFiltered(leftTuple, rightTuple));
     }
@@ -100,6 +105,7 @@ public abstract class AbstractUnindexedJoinNode<LeftTuple_ extends Tuple, Right_
         TupleList<MutableOutTuple_> outTupleListRight = rightTuple.removeStore(inputStoreIndexRightOutTupleList);
         rightEntry.remove();
         outTupleListRight.forEach(this::retractOutTuple);
+        outTupleListPool.releaseList(outTupleListRight);
     }
 
 }
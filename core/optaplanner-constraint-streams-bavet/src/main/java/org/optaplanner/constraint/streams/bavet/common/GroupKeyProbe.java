@@ -0,0 +1,137 @@
+package org.optaplanner.constraint.streams.bavet.common;
+
+import java.util.Objects;
+
+import org.optaplanner.core.impl.util.Pair;
+import org.optaplanner.core.impl.util.Quadruple;
+import org.optaplanner.core.impl.util.Triple;
+
+/**
+ * A mutable composite group key, reused by an {@link AbstractGroupNode} for every incoming tuple.
+ * It looks up the group in the group map by the individual key components,
+ * so that a {@link Pair}, {@link Triple} or {@link Quadruple} is only created when a new group is created.
+ * <p>
+ * It is equal to the {@link Pair}, {@link Triple} or {@link Quadruple} of the same components
+ * and has the same {@link #hashCode()}, but not the other way around.
+ * Therefore it must never be used as a key in the group map itself.
+ * <p>
+ * Not thread-safe.
+ */
+public final class GroupKeyProbe {
+
+    private int componentCount = 0;
+    private Object a;
+    private Object b;
+    private Object c;
+    private Object d;
+
+    public void set(Object a, Object b) {
+        this.componentCount = 2;
+        this.a = a;
+        this.b = b;
+    }
+
+    public void set(Object a, Object b, Object c) {
+        this.componentCount = 3;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+    }
+
+    public void set(Object a, Object b, Object c, Object d) {
+        this.componentCount = 4;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+    }
+
+    /**
+     * @return never null, an immutable composite key with the current components
+     */
+    Object createGroupKey() {
+        switch (componentCount) {
+            case 2:
+                return Pair.of(a, b);
+            case 3:
+                return Triple.of(a, b, c);
+            case 4:
+                return Quadruple.of(a, b, c, d);
+            default:
+                throw new IllegalStateException("Impossible state: the group key probe has no components ("
+                        + componentCount + ").");
+        }
+    }
+
+    /**
+     * Releases the components, so the probe does not keep facts or their mapped values from being garbage collected.
+     */
+    void clear() {
+        componentCount = 0;
+        a = null;
+        b = null;
+        c = null;
+        d = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        switch (componentCount) {
+            case 2:
+                if (o instanceof Pair) {
+                    Pair<?, ?> other = (Pair<?, ?>) o;
+                    return Objects.equals(a, other.getKey())
+                            && Objects.equals(b, other.getValue());
+                }
+                return false;
+            case 3:
+                if (o instanceof Triple) {
+                    Triple<?, ?, ?> other = (Triple<?, ?, ?>) o;
+                    return Objects.equals(a, other.getA())
+                            && Objects.equals(b, other.getB())
+                            && Objects.equals(c, other.getC());
+                }
+                return false;
+            case 4:
+                if (o instanceof Quadruple) {
+                    Quadruple<?, ?, ?, ?> other = (Quadruple<?, ?, ?, ?>) o;
+                    return Objects.equals(a, other.getA())
+                            && Objects.equals(b, other.getB())
+                            && Objects.equals(c, other.getC())
+                            && Objects.equals(d, other.getD());
+                }
+                return false;
+            default:
+                throw new IllegalStateException("Impossible state: the group key probe has no components ("
+                        + componentCount + ").");
+        }
+    }
+
+    @Override
+    public int hashCode() { // Must be the same as the hashCode() of Pair, Triple and Quadruple.
+        int result = Objects.hashCode(a);
+        result = 31 * result + Objects.hashCode(b);
+        if (componentCount > 2) {
+            result = 31 * result + Objects.hashCode(c);
+        }
+        if (componentCount > 3) {
+            result = 31 * result + Objects.hashCode(d);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        switch (componentCount) {
+            case 2:
+                return "(" + a + ", " + b + ")";
+            case 3:
+                return "(" + a + ", " + b + ", " + c + ")";
+            case 4:
+                return "(" + a + ", " + b + ", " + c + ", " + d + ")";
+            default:
+                return "()";
+        }
+    }
+
+}
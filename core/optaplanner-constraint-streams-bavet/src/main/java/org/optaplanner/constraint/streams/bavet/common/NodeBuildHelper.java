@@ -19,6 +19,8 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
     private final Set<? extends ConstraintStream> activeStreamSet;
     private final Map<Constraint, Score_> constraintWeightMap;
     private final AbstractScoreInliner<Score_> scoreInliner;
+    private final Map<Constraint, AbstractScoreInliner<Score_>> constraintScoreInlinerMap;
+    private final NodeProfiler nodeProfiler;
     private final Map<ConstraintStream, TupleLifecycle<? extends Tuple>> tupleLifecycleMap;
     private final Map<ConstraintStream, Integer> storeIndexMap;
 
@@ -26,9 +28,25 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
 
     public NodeBuildHelper(Set<? extends ConstraintStream> activeStreamSet, Map<Constraint, Score_> constraintWeightMap,
             AbstractScoreInliner<Score_> scoreInliner) {
+        this(activeStreamSet, constraintWeightMap, scoreInliner, Collections.emptyMap(), null);
+    }
+
+    /**
+     * @param activeStreamSet never null
+     * @param constraintWeightMap never null
+     * @param scoreInliner never null, used by every constraint absent from {@code constraintScoreInlinerMap}
+     * @param constraintScoreInlinerMap never null, the score inliner per constraint, if it differs from
+     *        {@code scoreInliner}
+     * @param nodeProfiler null if profiling is disabled, otherwise every {@link TupleLifecycle} reports to it
+     */
+    public NodeBuildHelper(Set<? extends ConstraintStream> activeStreamSet, Map<Constraint, Score_> constraintWeightMap,
+            AbstractScoreInliner<Score_> scoreInliner,
+            Map<Constraint, AbstractScoreInliner<Score_>> constraintScoreInlinerMap, NodeProfiler nodeProfiler) {
         this.activeStreamSet = activeStreamSet;
         this.constraintWeightMap = constraintWeightMap;
         this.scoreInliner = scoreInliner;
+        this.constraintScoreInlinerMap = constraintScoreInlinerMap;
+        this.nodeProfiler = nodeProfiler;
         int activeStreamSetSize = activeStreamSet.size();
         this.tupleLifecycleMap = new HashMap<>(Math.max(16, activeStreamSetSize));
         this.storeIndexMap = new HashMap<>(Math.max(16, activeStreamSetSize / 2));
@@ -39,14 +57,26 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
         return activeStreamSet.contains(stream);
     }
 
-    public AbstractScoreInliner<Score_> getScoreInliner() {
-        return scoreInliner;
+    public AbstractScoreInliner<Score_> getScoreInliner(Constraint constraint) {
+        return constraintScoreInlinerMap.getOrDefault(constraint, scoreInliner);
     }
 
     public Score_ getConstraintWeight(Constraint constraint) {
         return constraintWeightMap.get(constraint);
     }
 
+    public int getNodeCount() {
+        return reversedNodeList.size();
+    }
+
+    /**
+     * @param index the order in which the node was added, so upstream nodes have a higher index
+     * @return never null
+     */
+    public AbstractNode getNode(int index) {
+        return reversedNodeList.get(index);
+    }
+
     public void addNode(AbstractNode node) {
         reversedNodeList.add(node);
     }
@@ -63,7 +93,7 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
     }
 
     public <Tuple_ extends Tuple> void putInsertUpdateRetract(ConstraintStream stream, TupleLifecycle<Tuple_> tupleLifecycle) {
-        tupleLifecycleMap.put(stream, tupleLifecycle);
+        tupleLifecycleMap.put(stream, nodeProfiler == null ? tupleLifecycle : nodeProfiler.profile(stream, tupleLifecycle));
     }
 
     public <Tuple_ extends Tuple> void putInsertUpdateRetract(ConstraintStream stream,
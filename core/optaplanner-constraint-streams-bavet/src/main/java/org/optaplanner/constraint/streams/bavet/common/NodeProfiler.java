@@ -0,0 +1,59 @@
+package org.optaplanner.constraint.streams.bavet.common;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.stream.ConstraintStream;
+
+/**
+ * Measures the work done by every node of a profiled session, attributed to the stream that feeds that node.
+ * Node propagation is nested: a node calls the {@link TupleLifecycle} of its downstream nodes
+ * while it calculates its own score.
+ * Every timed section therefore reports its elapsed time to its enclosing section,
+ * so each {@link StreamProfile} only gets the time spent in its own node.
+ * <p>
+ * Only used if profiling is enabled; an unprofiled session has no profiler and pays no overhead.
+ * Not thread-safe, so a profiled session never propagates its nodes in parallel.
+ */
+public final class NodeProfiler {
+
+    private final Map<ConstraintStream, StreamProfile> streamProfileMap = new HashMap<>();
+    private long[] nestedNanosStack = new long[16];
+    private int depth = 0;
+
+    public StreamProfile getStreamProfile(ConstraintStream stream) {
+        return streamProfileMap.computeIfAbsent(stream, k -> new StreamProfile());
+    }
+
+    <Tuple_ extends Tuple> TupleLifecycle<Tuple_> profile(ConstraintStream stream,
+            TupleLifecycle<Tuple_> tupleLifecycle) {
+        return new ProfilingTupleLifecycle<>(this, getStreamProfile(stream), tupleLifecycle);
+    }
+
+    /**
+     * @return never negative, to be passed to {@link #stop(StreamProfile, long)}
+     */
+    public long start() {
+        if (depth == nestedNanosStack.length) {
+            nestedNanosStack = Arrays.copyOf(nestedNanosStack, depth * 2);
+        }
+        nestedNanosStack[depth++] = 0L;
+        return System.nanoTime();
+    }
+
+    /**
+     * @param streamProfile never null, gets the time since {@code startNanos},
+     *        minus the time spent in the sections nested inside it
+     * @param startNanos the return value of the matching {@link #start()}
+     */
+    public void stop(StreamProfile streamProfile, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long nestedNanos = nestedNanosStack[--depth];
+        streamProfile.addNanos(elapsedNanos - nestedNanos);
+        if (depth > 0) {
+            nestedNanosStack[depth - 1] += elapsedNanos;
+        }
+    }
+
+}
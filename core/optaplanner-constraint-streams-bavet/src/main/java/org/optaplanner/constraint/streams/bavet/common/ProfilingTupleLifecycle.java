@@ -0,0 +1,45 @@
+package org.optaplanner.constraint.streams.bavet.common;
+
+final class ProfilingTupleLifecycle<Tuple_ extends Tuple> implements TupleLifecycle<Tuple_> {
+
+    private final NodeProfiler nodeProfiler;
+    private final StreamProfile streamProfile;
+    private final TupleLifecycle<Tuple_> tupleLifecycle;
+
+    ProfilingTupleLifecycle(NodeProfiler nodeProfiler, StreamProfile streamProfile,
+            TupleLifecycle<Tuple_> tupleLifecycle) {
+        this.nodeProfiler = nodeProfiler;
+        this.streamProfile = streamProfile;
+        this.tupleLifecycle = tupleLifecycle;
+    }
+
+    @Override
+    public void insert(Tuple_ tuple) {
+        streamProfile.countInsert();
+        long startNanos = nodeProfiler.start();
+        tupleLifecycle.insert(tuple);
+        nodeProfiler.stop(streamProfile, startNanos);
+    }
+
+    @Override
+    public void update(Tuple_ tuple) {
+        streamProfile.countUpdate();
+        long startNanos = nodeProfiler.start();
+        tupleLifecycle.update(tuple);
+        nodeProfiler.stop(streamProfile, startNanos);
+    }
+
+    @Override
+    public void retract(Tuple_ tuple) {
+        streamProfile.countRetract();
+        long startNanos = nodeProfiler.start();
+        tupleLifecycle.retract(tuple);
+        nodeProfiler.stop(streamProfile, startNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "profiled " + tupleLifecycle;
+    }
+
+}
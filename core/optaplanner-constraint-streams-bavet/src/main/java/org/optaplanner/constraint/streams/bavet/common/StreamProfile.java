@@ -0,0 +1,56 @@
+package org.optaplanner.constraint.streams.bavet.common;
+
+/**
+ * The work done on behalf of a single {@link BavetAbstractConstraintStream}:
+ * the tuples inserted, updated and retracted into the node it feeds
+ * and the time spent in its node, excluding the time spent in downstream nodes.
+ * Only exists if the session is profiled, see {@link NodeProfiler}.
+ * <p>
+ * Not thread-safe.
+ */
+public final class StreamProfile {
+
+    private long insertCount = 0L;
+    private long updateCount = 0L;
+    private long retractCount = 0L;
+    private long nanos = 0L;
+
+    public void countInsert() {
+        insertCount++;
+    }
+
+    public void countUpdate() {
+        updateCount++;
+    }
+
+    public void countRetract() {
+        retractCount++;
+    }
+
+    void addNanos(long nanos) {
+        this.nanos += nanos;
+    }
+
+    public long getInsertCount() {
+        return insertCount;
+    }
+
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    public long getRetractCount() {
+        return retractCount;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "(inserts: " + insertCount + ", updates: " + updateCount + ", retracts: " + retractCount
+                + ", nanos: " + nanos + ")";
+    }
+
+}
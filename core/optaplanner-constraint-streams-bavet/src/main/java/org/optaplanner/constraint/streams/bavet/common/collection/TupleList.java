@@ -9,17 +9,35 @@ import java.util.function.Consumer;
  * to directly reference {@link TupleListEntry} instances
  * to avoid the lookup by index cost.
  * Also doesn't implement the {@link List} interface.
+ * <p>
+ * If created with a {@link TupleListPool}, removed entries are handed back to that pool
+ * and reused by subsequent {@link #add(Object)} calls on any list of the same pool.
+ * Therefore an entry must not be used after it has been removed.
  *
  * @param <T> The element type. Often a tuple.
  */
 public final class TupleList<T> {
 
+    private final TupleListPool<T> pool;
     private int size = 0;
     private TupleListEntry<T> first = null;
     private TupleListEntry<T> last = null;
+    TupleList<T> nextFreeList = null;
+
+    public TupleList() {
+        this(null);
+    }
+
+    /**
+     * @param pool null if the entries should not be recycled
+     */
+    public TupleList(TupleListPool<T> pool) {
+        this.pool = pool;
+    }
 
     public TupleListEntry<T> add(T tuple) {
-        TupleListEntry<T> entry = new TupleListEntry<>(this, tuple, last);
+        TupleListEntry<T> entry = pool == null ? new TupleListEntry<>(this, tuple, last)
+                : pool.obtainEntry(this, tuple, last);
         if (first == null) {
             first = entry;
         } else {
@@ -44,6 +62,9 @@ public final class TupleList<T> {
         entry.previous = null;
         entry.next = null;
         size--;
+        if (pool != null) {
+            pool.releaseEntry(entry);
+        }
     }
 
     public TupleListEntry<T> first() {
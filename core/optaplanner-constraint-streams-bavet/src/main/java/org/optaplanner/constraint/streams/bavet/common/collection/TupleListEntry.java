@@ -8,7 +8,7 @@ package org.optaplanner.constraint.streams.bavet.common.collection;
 public final class TupleListEntry<T> {
 
     private TupleList<T> list;
-    private final T element;
+    private T element;
     TupleListEntry<T> previous;
     TupleListEntry<T> next;
 
@@ -19,6 +19,13 @@ public final class TupleListEntry<T> {
         this.next = null;
     }
 
+    void reset(TupleList<T> list, T element, TupleListEntry<T> previous) {
+        this.list = list;
+        this.element = element;
+        this.previous = previous;
+        this.next = null;
+    }
+
     public TupleListEntry<T> next() {
         return next;
     }
@@ -33,8 +40,9 @@ public final class TupleListEntry<T> {
         if (list == null) {
             throw new IllegalStateException("The element (" + element + ") was already removed.");
         }
-        list.remove(this);
-        list = null;
+        TupleList<T> list = this.list;
+        this.list = null;
+        list.remove(this); // May recycle this entry.
     }
 
     public T getElement() {
@@ -47,7 +55,7 @@ public final class TupleListEntry<T> {
 
     @Override
     public String toString() {
-        return element.toString();
+        return String.valueOf(element);
     }
 
 }
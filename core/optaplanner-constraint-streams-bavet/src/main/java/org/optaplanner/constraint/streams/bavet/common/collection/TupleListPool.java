@@ -0,0 +1,108 @@
+package org.optaplanner.constraint.streams.bavet.common.collection;
+
+import org.optaplanner.core.config.solver.EnvironmentMode;
+
+/**
+ * Recycles the {@link TupleListEntry entries} of the {@link TupleList lists} that use it,
+ * and optionally those lists themselves, so that adding to a list does not allocate in steady state.
+ * <p>
+ * A pool is meant to be owned by a single node (or a single indexer) and is not thread-safe.
+ * The free entries and free lists are chained through their own fields, so pooling itself allocates nothing.
+ * The number of pooled instances is capped, so a temporary spike in tuples doesn't retain memory forever.
+ * <p>
+ * A recycled entry can't tell a stale handle from the handle of its new tuple,
+ * so removing an entry twice would silently unlink another tuple.
+ * Therefore, if the {@link EnvironmentMode#isAsserted() environment mode is asserted}, entries are not recycled,
+ * so such a second {@link TupleListEntry#remove()} fails fast instead.
+ *
+ * @param <T> The element type. Often a tuple.
+ */
+public final class TupleListPool<T> {
+
+    private static final int DEFAULT_MAX_POOLED_COUNT = 1024;
+
+    private final int maxPooledCount;
+    private final boolean recycleEntries;
+    private TupleListEntry<T> freeEntry = null;
+    private int freeEntryCount = 0;
+    private TupleList<T> freeList = null;
+    private int freeListCount = 0;
+
+    public TupleListPool() {
+        this(DEFAULT_MAX_POOLED_COUNT);
+    }
+
+    public TupleListPool(EnvironmentMode environmentMode) {
+        this(DEFAULT_MAX_POOLED_COUNT, !environmentMode.isAsserted());
+    }
+
+    public TupleListPool(int maxPooledCount) {
+        this(maxPooledCount, true);
+    }
+
+    /**
+     * @param maxPooledCount the maximum number of free entries and the maximum number of free lists
+     * @param recycleEntries false to detect the use of an entry after it has been removed
+     */
+    public TupleListPool(int maxPooledCount, boolean recycleEntries) {
+        this.maxPooledCount = maxPooledCount;
+        this.recycleEntries = recycleEntries;
+    }
+
+    /**
+     * @return never null, an empty list whose entries are recycled by this pool
+     */
+    public TupleList<T> newList() {
+        TupleList<T> list = freeList;
+        if (list == null) {
+            return new TupleList<>(this);
+        }
+        freeList = list.nextFreeList;
+        list.nextFreeList = null;
+        freeListCount--;
+        return list;
+    }
+
+    /**
+     * Hands a list back to the pool. The list must not be used by the caller afterwards.
+     *
+     * @param list never null, must be empty and created by {@link #newList()} of this pool
+     */
+    public void releaseList(TupleList<T> list) {
+        if (list.size() != 0) {
+            throw new IllegalStateException("Impossible state: the list (" + list + ") is released while not empty.");
+        }
+        if (freeListCount < maxPooledCount) {
+            list.nextFreeList = freeList;
+            freeList = list;
+            freeListCount++;
+        }
+    }
+
+    TupleListEntry<T> obtainEntry(TupleList<T> list, T element, TupleListEntry<T> previous) {
+        TupleListEntry<T> entry = freeEntry;
+        if (entry == null) {
+            return new TupleListEntry<>(list, element, previous);
+        }
+        freeEntry = entry.next;
+        freeEntryCount--;
+        entry.reset(list, element, previous);
+        return entry;
+    }
+
+    void releaseEntry(TupleListEntry<T> entry) {
+        // If not recycled, the entry keeps no list, so a stale TupleListEntry.remove() fails fast.
+        if (recycleEntries && freeEntryCount < maxPooledCount) {
+            entry.reset(null, null, null);
+            entry.next = freeEntry;
+            freeEntry = entry;
+            freeEntryCount++;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "free entries = " + freeEntryCount + ", free lists = " + freeListCount;
+    }
+
+}
@@ -0,0 +1,140 @@
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+/**
+ * An AVL tree in which every node can also hold an augmentation:
+ * information derived from the subtree of that node, such as a count or a maximum.
+ * <p>
+ * Subclasses define the order of the nodes in {@link #compare(Node, Node)}
+ * and keep the augmentation up to date in {@link #updateAugmentation(Node)}.
+ *
+ * @param <Node_> The node type.
+ */
+abstract class AbstractAugmentedAvlTree<Node_ extends AbstractAugmentedAvlTree.Node<Node_>> {
+
+    protected Node_ root = null;
+
+    /**
+     * @param a never null
+     * @param b never null
+     * @return negative if a sorts before b, zero if they sort the same, positive otherwise
+     */
+    protected abstract int compare(Node_ a, Node_ b);
+
+    /**
+     * Called bottom-up on every node of which the subtree changed,
+     * so the children of the node are already up to date.
+     *
+     * @param node never null
+     */
+    protected abstract void updateAugmentation(Node_ node);
+
+    /**
+     * @param newNode never null, must not sort the same as any node already in the tree
+     */
+    protected final void insert(Node_ newNode) {
+        root = insert(root, newNode);
+    }
+
+    /**
+     * @param node never null, must be in the tree
+     */
+    protected final void delete(Node_ node) {
+        root = delete(root, node);
+    }
+
+    private Node_ insert(Node_ node, Node_ newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode, node) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        return rebalance(node);
+    }
+
+    private Node_ delete(Node_ node, Node_ deletedNode) {
+        int comparison = compare(deletedNode, node);
+        if (comparison < 0) {
+            node.left = delete(node.left, deletedNode);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, deletedNode);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            Node_ successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node_ deleteMin(Node_ node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private Node_ rebalance(Node_ node) {
+        recalculate(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node_ rotateRight(Node_ node) {
+        Node_ newParent = node.left;
+        node.left = newParent.right;
+        newParent.right = node;
+        recalculate(node);
+        recalculate(newParent);
+        return newParent;
+    }
+
+    private Node_ rotateLeft(Node_ node) {
+        Node_ newParent = node.right;
+        node.right = newParent.left;
+        newParent.left = node;
+        recalculate(node);
+        recalculate(newParent);
+        return newParent;
+    }
+
+    private void recalculate(Node_ node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        updateAugmentation(node);
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    abstract static class Node<Node_ extends Node<Node_>> {
+
+        Node_ left = null;
+        Node_ right = null;
+        int height = 1;
+
+    }
+
+}
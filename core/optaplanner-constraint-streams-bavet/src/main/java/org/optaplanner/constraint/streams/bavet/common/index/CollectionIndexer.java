@@ -0,0 +1,303 @@
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleList;
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.core.impl.score.stream.JoinerType;
+
+/**
+ * Indexes {@link JoinerType#CONTAINING}, {@link JoinerType#INTERSECTING} and {@link JoinerType#DISJOINT} joiners
+ * with an inverted index, which maps every element to the tuples whose property contains that element.
+ * A probe only visits the buckets of the query elements, instead of testing every stored tuple.
+ * <p>
+ * Always at the bottom of the indexer hierarchy, in place of a {@link NoneIndexer}.
+ * If there are multiple collection joiners, the first one is indexed and the others are tested on every tuple it visits.
+ * <p>
+ * The elements of a stored tuple are captured when it is put,
+ * so mutating a collection after it has been indexed requires the tuple to be removed and put again.
+ *
+ * @param <T> The element type. Often a tuple.
+ */
+final class CollectionIndexer<T> implements Indexer<T> {
+
+    private final int indexKeyPosition;
+    private final boolean isStoredCollection;
+    private final boolean isQueryCollection;
+    private final boolean isComplement;
+    private final int[] filterKeyPositions;
+    private final JoinerType[] filterJoinerTypes;
+    private final boolean isLeftBridge;
+
+    private final TupleList<T> tupleList = new TupleList<>();
+    private final TupleList<Record<T>> recordList = new TupleList<>();
+    private final Map<TupleListEntry<T>, Record<T>> entryToRecordMap = new IdentityHashMap<>();
+    private final Map<Object, TupleList<Record<T>>> elementToRecordListMap = new HashMap<>();
+    /**
+     * Incremented on every probe, so records can be deduplicated without allocating a visited set.
+     * A long, so it never wraps around to a stale mark that a record still holds.
+     */
+    private long visitMark = 0L;
+
+    /**
+     * @param joinerType {@link JoinerType#CONTAINING}, {@link JoinerType#INTERSECTING} or {@link JoinerType#DISJOINT}
+     * @param indexKeyPosition the position of the index property to index
+     * @param filterJoinerTypes the other collection joiners, never null
+     * @param filterKeyPositions the positions of the index properties of {@code filterJoinerTypes}, never null
+     * @param isLeftBridge true if the stored tuples are the left side of the joiner
+     */
+    public CollectionIndexer(JoinerType joinerType, int indexKeyPosition, JoinerType[] filterJoinerTypes,
+            int[] filterKeyPositions, boolean isLeftBridge) {
+        this.indexKeyPosition = indexKeyPosition;
+        switch (joinerType) {
+            case CONTAINING:
+                // The left property is the collection, the right property the element.
+                this.isStoredCollection = isLeftBridge;
+                this.isQueryCollection = !isLeftBridge;
+                this.isComplement = false;
+                break;
+            case INTERSECTING:
+                this.isStoredCollection = true;
+                this.isQueryCollection = true;
+                this.isComplement = false;
+                break;
+            case DISJOINT:
+                this.isStoredCollection = true;
+                this.isQueryCollection = true;
+                this.isComplement = true;
+                break;
+            default:
+                throw new IllegalArgumentException("Impossible state: the joiner type (" + joinerType
+                        + ") is not a collection joiner type.");
+        }
+        this.filterJoinerTypes = filterJoinerTypes;
+        this.filterKeyPositions = filterKeyPositions;
+        this.isLeftBridge = isLeftBridge;
+    }
+
+    static boolean isCollectionJoinerType(JoinerType joinerType) {
+        switch (joinerType) {
+            case CONTAINING:
+            case INTERSECTING:
+            case DISJOINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public TupleListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        TupleListEntry<T> entry = tupleList.add(tuple);
+        Record<T> record = new Record<>(tuple, indexProperties);
+        record.recordEntry = recordList.add(record);
+        Object key = indexProperties.toKey(indexKeyPosition);
+        if (isStoredCollection) {
+            Collection<?> elements = (Collection<?>) key;
+            int elementCount = elements.size();
+            record.bucketElements = new Object[elementCount];
+            record.bucketEntries = new TupleListEntry[elementCount];
+            for (Object element : elements) {
+                TupleList<Record<T>> bucket = getOrCreateBucket(element);
+                TupleListEntry<Record<T>> last = bucket.last();
+                if (last != null && last.getElement() == record) {
+                    continue; // Duplicate element; the record was just added to this bucket.
+                }
+                record.bucketElements[record.bucketCount] = element;
+                record.bucketEntries[record.bucketCount] = bucket.add(record);
+                record.bucketCount++;
+            }
+        } else {
+            record.bucketElements = new Object[] { key };
+            record.bucketEntries = new TupleListEntry[] { getOrCreateBucket(key).add(record) };
+            record.bucketCount = 1;
+        }
+        entryToRecordMap.put(entry, record);
+        return entry;
+    }
+
+    private TupleList<Record<T>> getOrCreateBucket(Object element) {
+        // Avoids computeIfAbsent in order to not create lambdas on the hot path.
+        TupleList<Record<T>> bucket = elementToRecordListMap.get(element);
+        if (bucket == null) {
+            bucket = new TupleList<>();
+            elementToRecordListMap.put(element, bucket);
+        }
+        return bucket;
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, TupleListEntry<T> entry) {
+        Record<T> record = entryToRecordMap.remove(entry);
+        if (record == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        for (int i = 0; i < record.bucketCount; i++) {
+            TupleListEntry<Record<T>> bucketEntry = record.bucketEntries[i];
+            TupleList<Record<T>> bucket = bucketEntry.getList();
+            bucketEntry.remove();
+            if (bucket.size() == 0) {
+                elementToRecordListMap.remove(record.bucketElements[i]);
+            }
+        }
+        record.recordEntry.remove();
+        entry.remove();
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        if (recordList.size() == 0) {
+            return 0;
+        }
+        long mark = ++visitMark;
+        Object key = indexProperties.toKey(indexKeyPosition);
+        int size = 0;
+        if (!isComplement) {
+            if (isQueryCollection) {
+                for (Object element : (Collection<?>) key) {
+                    size += countBucket(indexProperties, element, mark);
+                }
+            } else {
+                TupleList<Record<T>> bucket = elementToRecordListMap.get(key);
+                if (bucket == null) {
+                    return 0;
+                } else if (filterJoinerTypes.length == 0) {
+                    // A record is in a bucket at most once, so it needs no deduplication either.
+                    return bucket.size();
+                }
+                size = countBucket(indexProperties, key, mark);
+            }
+        } else {
+            markIntersectingRecords((Collection<?>) key, mark);
+            for (TupleListEntry<Record<T>> entry = recordList.first(); entry != null; entry = entry.next()) {
+                Record<T> record = entry.getElement();
+                if (record.visitMark != mark && testFilters(record, indexProperties)) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    private int countBucket(IndexProperties indexProperties, Object element, long mark) {
+        TupleList<Record<T>> bucket = elementToRecordListMap.get(element);
+        if (bucket == null) {
+            return 0;
+        }
+        int size = 0;
+        for (TupleListEntry<Record<T>> entry = bucket.first(); entry != null; entry = entry.next()) {
+            Record<T> record = entry.getElement();
+            if (record.visitMark != mark) { // Not yet visited through another element.
+                record.visitMark = mark;
+                if (testFilters(record, indexProperties)) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        if (recordList.size() == 0) {
+            return;
+        }
+        long mark = ++visitMark;
+        Object key = indexProperties.toKey(indexKeyPosition);
+        if (!isComplement) {
+            if (isQueryCollection) {
+                for (Object element : (Collection<?>) key) {
+                    visitBucket(indexProperties, element, mark, tupleConsumer);
+                }
+            } else {
+                visitBucket(indexProperties, key, mark, tupleConsumer);
+            }
+        } else {
+            markIntersectingRecords((Collection<?>) key, mark);
+            for (TupleListEntry<Record<T>> entry = recordList.first(); entry != null; entry = entry.next()) {
+                Record<T> record = entry.getElement();
+                if (record.visitMark != mark && testFilters(record, indexProperties)) {
+                    tupleConsumer.accept(record.tuple);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks every intersecting record, so that all the other records can be visited.
+     */
+    private void markIntersectingRecords(Collection<?> elements, long mark) {
+        for (Object element : elements) {
+            TupleList<Record<T>> bucket = elementToRecordListMap.get(element);
+            if (bucket != null) {
+                for (TupleListEntry<Record<T>> entry = bucket.first(); entry != null; entry = entry.next()) {
+                    entry.getElement().visitMark = mark;
+                }
+            }
+        }
+    }
+
+    private void visitBucket(IndexProperties indexProperties, Object element, long mark, Consumer<T> tupleConsumer) {
+        TupleList<Record<T>> bucket = elementToRecordListMap.get(element);
+        if (bucket == null) {
+            return;
+        }
+        for (TupleListEntry<Record<T>> entry = bucket.first(); entry != null; entry = entry.next()) {
+            Record<T> record = entry.getElement();
+            if (record.visitMark != mark) { // Not yet visited through another element.
+                record.visitMark = mark;
+                if (testFilters(record, indexProperties)) {
+                    tupleConsumer.accept(record.tuple);
+                }
+            }
+        }
+    }
+
+    private boolean testFilters(Record<T> record, IndexProperties queryIndexProperties) {
+        for (int i = 0; i < filterJoinerTypes.length; i++) {
+            int keyPosition = filterKeyPositions[i];
+            Object storedKey = record.indexProperties.toKey(keyPosition);
+            Object queryKey = queryIndexProperties.toKey(keyPosition);
+            boolean matches = isLeftBridge ? filterJoinerTypes[i].matches(storedKey, queryKey)
+                    : filterJoinerTypes[i].matches(queryKey, storedKey);
+            if (!matches) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tupleList.size() == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + tupleList.size();
+    }
+
+    private static final class Record<T> {
+
+        final T tuple;
+        final IndexProperties indexProperties;
+        TupleListEntry<Record<T>> recordEntry;
+        Object[] bucketElements;
+        TupleListEntry<Record<T>>[] bucketEntries;
+        int bucketCount = 0;
+        long visitMark = 0L;
+
+        Record(T tuple, IndexProperties indexProperties) {
+            this.tuple = tuple;
+            this.indexProperties = indexProperties;
+        }
+
+    }
+
+}
@@ -1,23 +1,31 @@
 package org.optaplanner.constraint.streams.bavet.common.index;
 
 import java.util.Comparator;
-import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
 import org.optaplanner.core.impl.score.stream.JoinerType;
 
-final class ComparisonIndexer<T, Key_ extends Comparable<Key_>> implements Indexer<T> {
+/**
+ * The keys are kept in an AVL tree, in which every node also knows the number of tuples in its subtree.
+ * <p>
+ * The keys in range of a query always form a prefix of the tree in iteration order
+ * (for GT/GTE, the iteration order is reversed),
+ * so {@link #forEach(IndexProperties, Consumer)} descends directly into that prefix
+ * and {@link #size(IndexProperties)} sums the subtree counts along a single root-to-leaf path,
+ * without creating head/tail sub maps or iterating over the keys one by one.
+ */
+final class ComparisonIndexer<T, Key_ extends Comparable<Key_>>
+        extends AbstractAugmentedAvlTree<ComparisonIndexer.Node<T, Key_>>
+        implements Indexer<T> {
 
     private final int indexKeyPosition;
     private final Supplier<Indexer<T>> downstreamIndexerSupplier;
     private final Comparator<Key_> keyComparator;
     private final boolean hasOrEquals;
-    private final NavigableMap<Key_, Indexer<T>> comparisonMap;
+    private int nodeCount = 0;
 
     public ComparisonIndexer(JoinerType comparisonJoinerType, Supplier<Indexer<T>> downstreamIndexerSupplier) {
         this(comparisonJoinerType, 0, downstreamIndexerSupplier);
@@ -29,8 +37,8 @@ final class ComparisonIndexer<T, Key_ extends Comparable<Key_>> implements Index
         this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
         /*
          * For GT/GTE, the iteration order is reversed.
-         * This allows us to iterate over the entire map, stopping when the threshold is reached.
-         * This is done so that we can avoid using head/tail sub maps, which are expensive.
+         * This allows us to always look for the keys in range at the start of the iteration order,
+         * stopping when the threshold is reached.
          */
         this.keyComparator =
                 (comparisonJoinerType == JoinerType.GREATER_THAN || comparisonJoinerType == JoinerType.GREATER_THAN_OR_EQUAL)
@@ -38,120 +46,188 @@ final class ComparisonIndexer<T, Key_ extends Comparable<Key_>> implements Index
                         : KeyComparator.INSTANCE;
         this.hasOrEquals = comparisonJoinerType == JoinerType.GREATER_THAN_OR_EQUAL
                 || comparisonJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
-        this.comparisonMap = new TreeMap<>(keyComparator);
     }
 
     @Override
     public TupleListEntry<T> put(IndexProperties indexProperties, T tuple) {
         Key_ indexKey = indexProperties.toKey(indexKeyPosition);
-        // Avoids computeIfAbsent in order to not create lambdas on the hot path.
-        Indexer<T> downstreamIndexer = comparisonMap.get(indexKey);
-        if (downstreamIndexer == null) {
-            downstreamIndexer = downstreamIndexerSupplier.get();
-            comparisonMap.put(indexKey, downstreamIndexer);
+        Node<T, Key_> node = find(indexKey);
+        if (node == null) {
+            node = new Node<>(indexKey, downstreamIndexerSupplier.get());
+            insert(node);
+            nodeCount++;
         }
-        return downstreamIndexer.put(indexProperties, tuple);
+        TupleListEntry<T> entry = node.downstreamIndexer.put(indexProperties, tuple);
+        addTupleCount(indexKey, 1);
+        return entry;
     }
 
     @Override
     public void remove(IndexProperties indexProperties, TupleListEntry<T> entry) {
         Key_ indexKey = indexProperties.toKey(indexKeyPosition);
-        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexProperties, indexKey, entry);
-        downstreamIndexer.remove(indexProperties, entry);
-        if (downstreamIndexer.isEmpty()) {
-            comparisonMap.remove(indexKey);
-        }
-    }
-
-    private Indexer<T> getDownstreamIndexer(IndexProperties indexProperties, Key_ indexerKey,
-            TupleListEntry<T> entry) {
-        Indexer<T> downstreamIndexer = comparisonMap.get(indexerKey);
-        if (downstreamIndexer == null) {
+        Node<T, Key_> node = find(indexKey);
+        if (node == null) {
             throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
                     + ") with indexProperties (" + indexProperties
                     + ") doesn't exist in the indexer " + this + ".");
         }
-        return downstreamIndexer;
+        node.downstreamIndexer.remove(indexProperties, entry);
+        if (node.downstreamIndexer.isEmpty()) {
+            delete(node);
+            nodeCount--;
+        } else {
+            addTupleCount(indexKey, -1);
+        }
     }
 
-    // TODO clean up DRY
     @Override
     public int size(IndexProperties indexProperties) {
-        int mapSize = comparisonMap.size();
-        if (mapSize == 0) {
+        if (root == null) {
             return 0;
         }
         Key_ indexKey = indexProperties.toKey(indexKeyPosition);
-        if (mapSize == 1) { // Avoid creation of the entry set and iterator.
-            Map.Entry<Key_, Indexer<T>> entry = comparisonMap.firstEntry();
-            int comparison = keyComparator.compare(entry.getKey(), indexKey);
-            if (comparison >= 0) { // Possibility of reaching the boundary condition.
-                if (comparison > 0 || !hasOrEquals) {
-                    // Boundary condition reached when we're out of bounds entirely, or when GTE/LTE is not allowed.
-                    return 0;
-                }
-            }
-            return entry.getValue().size(indexProperties);
-        } else {
+        if (root.downstreamIndexer instanceof NoneIndexer) {
+            // The downstream indexers match all of their tuples, so the subtree counts are exact.
             int size = 0;
-            for (Map.Entry<Key_, Indexer<T>> entry : comparisonMap.entrySet()) {
-                int comparison = keyComparator.compare(entry.getKey(), indexKey);
-                if (comparison >= 0) { // Possibility of reaching the boundary condition.
-                    if (comparison > 0 || !hasOrEquals) {
-                        // Boundary condition reached when we're out of bounds entirely, or when GTE/LTE is not allowed.
-                        break;
-                    }
+            Node<T, Key_> node = root;
+            while (node != null) {
+                if (isInRange(node.key, indexKey)) {
+                    size += tupleCount(node.left) + node.tupleCount;
+                    node = node.right;
+                } else {
+                    node = node.left;
                 }
-                // Boundary condition not yet reached; include the indexer in the range.
-                size += entry.getValue().size(indexProperties);
             }
             return size;
         }
+        return size(root, indexProperties, indexKey);
+    }
+
+    private int size(Node<T, Key_> node, IndexProperties indexProperties, Key_ indexKey) {
+        int size = 0;
+        while (node != null) {
+            if (!isInRange(node.key, indexKey)) {
+                // The right subtree is out of range too.
+                node = node.left;
+                continue;
+            }
+            // The entire left subtree is in range.
+            size += size(node.left, indexProperties, indexKey) + node.downstreamIndexer.size(indexProperties);
+            node = node.right;
+        }
+        return size;
     }
 
     @Override
     public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
-        int size = comparisonMap.size();
-        if (size == 0) {
+        if (root == null) {
             return;
         }
         Key_ indexKey = indexProperties.toKey(indexKeyPosition);
-        if (size == 1) { // Avoid creation of the entry set and iterator.
-            Map.Entry<Key_, Indexer<T>> entry = comparisonMap.firstEntry();
-            visitEntry(indexProperties, tupleConsumer, indexKey, entry);
-        } else {
-            for (Map.Entry<Key_, Indexer<T>> entry : comparisonMap.entrySet()) {
-                boolean boundaryReached = visitEntry(indexProperties, tupleConsumer, indexKey, entry);
-                if (boundaryReached) {
-                    return;
-                }
-            }
-        }
+        forEach(root, indexProperties, indexKey, tupleConsumer);
     }
 
-    private boolean visitEntry(IndexProperties indexProperties, Consumer<T> tupleConsumer,
-            Key_ indexKey, Map.Entry<Key_, Indexer<T>> entry) {
-        // Comparator matches the order of iteration of the map, so the boundary is always found from the bottom up.
-        int comparison = keyComparator.compare(entry.getKey(), indexKey);
-        if (comparison >= 0) { // Possibility of reaching the boundary condition.
-            if (comparison > 0 || !hasOrEquals) {
-                // Boundary condition reached when we're out of bounds entirely, or when GTE/LTE is not allowed.
+    /**
+     * Visits the keys in iteration order, so the tuples are visited in the same order as a sorted map would.
+     *
+     * @return true if the boundary was reached
+     */
+    private boolean forEach(Node<T, Key_> node, IndexProperties indexProperties, Key_ indexKey,
+            Consumer<T> tupleConsumer) {
+        while (node != null) {
+            if (forEach(node.left, indexProperties, indexKey, tupleConsumer)) {
+                return true;
+            }
+            if (!isInRange(node.key, indexKey)) {
                 return true;
             }
+            node.downstreamIndexer.forEach(indexProperties, tupleConsumer);
+            node = node.right;
         }
-        // Boundary condition not yet reached; include the indexer in the range.
-        entry.getValue().forEach(indexProperties, tupleConsumer);
         return false;
     }
 
+    private boolean isInRange(Key_ key, Key_ indexKey) {
+        // Comparator matches the order of iteration, so the boundary is always found from the bottom up.
+        int comparison = keyComparator.compare(key, indexKey);
+        // Boundary condition reached when we're out of bounds entirely, or when GTE/LTE is not allowed.
+        return comparison < 0 || (hasOrEquals && comparison == 0);
+    }
+
     @Override
     public boolean isEmpty() {
-        return comparisonMap.isEmpty();
+        return root == null;
     }
 
     @Override
     public String toString() {
-        return "size = " + comparisonMap.size();
+        return "size = " + nodeCount;
+    }
+
+    // ************************************************************************
+    // AVL tree
+    // ************************************************************************
+
+    private Node<T, Key_> find(Key_ key) {
+        Node<T, Key_> node = root;
+        while (node != null) {
+            int comparison = keyComparator.compare(key, node.key);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Updates the tuple counts on the path from the root to the node of the key, which must exist.
+     */
+    private void addTupleCount(Key_ key, int delta) {
+        Node<T, Key_> node = root;
+        while (true) {
+            node.subtreeTupleCount += delta;
+            int comparison = keyComparator.compare(key, node.key);
+            if (comparison == 0) {
+                node.tupleCount += delta;
+                return;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+    }
+
+    @Override
+    protected int compare(Node<T, Key_> a, Node<T, Key_> b) {
+        return keyComparator.compare(a.key, b.key);
+    }
+
+    @Override
+    protected void updateAugmentation(Node<T, Key_> node) {
+        node.subtreeTupleCount = tupleCount(node.left) + node.tupleCount + tupleCount(node.right);
+    }
+
+    private static int tupleCount(Node<?, ?> node) {
+        return node == null ? 0 : node.subtreeTupleCount;
+    }
+
+    static final class Node<T, Key_> extends AbstractAugmentedAvlTree.Node<Node<T, Key_>> {
+
+        final Key_ key;
+        final Indexer<T> downstreamIndexer;
+        /**
+         * The number of tuples put into {@link #downstreamIndexer}.
+         */
+        int tupleCount = 0;
+        /**
+         * The sum of {@link #tupleCount} over this node and all of its descendants.
+         */
+        int subtreeTupleCount = 0;
+
+        Node(Key_ key, Indexer<T> downstreamIndexer) {
+            this.key = key;
+            this.downstreamIndexer = downstreamIndexer;
+        }
+
     }
 
     private static final class KeyComparator<Key_ extends Comparable<Key_>> implements Comparator<Key_> {
@@ -1,19 +1,43 @@
 package org.optaplanner.constraint.streams.bavet.common.index;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
 
+/**
+ * Maps index keys to downstream indexers using an open-addressing (linear probing) hash table.
+ * <p>
+ * Unlike a {@link java.util.HashMap}, a downstream indexer is not discarded when it becomes empty.
+ * It stays in the table as a pooled bucket, so a key that disappears and reappears
+ * (which happens all the time during move evaluation) reuses a downstream indexer
+ * and the put/remove cycle allocates nothing.
+ * A pooled bucket forgets its key, so it doesn't keep the key object (and whatever it references) reachable,
+ * and it is reused by the next key that is put in its probe sequence.
+ * Pooled buckets are only purged when the table needs to grow
+ * and they make up at least half of all buckets, so the memory they hold is bounded by the peak key count.
+ *
+ * @param <T> The element type. Often a tuple.
+ * @param <Key_> The index key type.
+ */
 final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
+    private static final int INITIAL_CAPACITY = 16; // Must be a power of 2.
+    private static final Object NULL_KEY = new Object();
+    /**
+     * Replaces the key of a pooled bucket, so that the probe sequences that pass through it still continue.
+     */
+    private static final Object POOLED_KEY = new Object();
+
     private final int indexKeyFrom;
     private final int indexKeyTo;
     private final Supplier<Indexer<T>> downstreamIndexerSupplier;
-    private final Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>();
+
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+    private Indexer<T>[] downstreamIndexers = new Indexer[INITIAL_CAPACITY];
+    private int bucketCount = 0; // Includes the pooled empty buckets.
+    private int nonEmptyBucketCount = 0;
 
     public EqualsIndexer(Supplier<Indexer<T>> downstreamIndexerSupplier) {
         this(0, 1, downstreamIndexerSupplier);
@@ -28,41 +52,48 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     @Override
     public TupleListEntry<T> put(IndexProperties indexProperties, T tuple) {
-        Key_ indexKey = indexProperties.toKey(indexKeyFrom, indexKeyTo);
-        // Avoids computeIfAbsent in order to not create lambdas on the hot path.
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
-        if (downstreamIndexer == null) {
+        Object indexKey = toIndexKey(indexProperties);
+        int slot = findSlot(keys, indexKey);
+        Indexer<T> downstreamIndexer = downstreamIndexers[slot];
+        if (keys[slot] == POOLED_KEY) {
+            keys[slot] = indexKey;
+        } else if (downstreamIndexer == null) {
+            if ((bucketCount + 1) * 2 > keys.length) { // Keep the load factor at or below 0.5.
+                rehash();
+                slot = findSlot(keys, indexKey);
+            }
             downstreamIndexer = downstreamIndexerSupplier.get();
-            downstreamIndexerMap.put(indexKey, downstreamIndexer);
+            keys[slot] = indexKey;
+            downstreamIndexers[slot] = downstreamIndexer;
+            bucketCount++;
+        }
+        if (downstreamIndexer.isEmpty()) {
+            nonEmptyBucketCount++;
         }
         return downstreamIndexer.put(indexProperties, tuple);
     }
 
     @Override
     public void remove(IndexProperties indexProperties, TupleListEntry<T> entry) {
-        Key_ indexKey = indexProperties.toKey(indexKeyFrom, indexKeyTo);
-        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexProperties, indexKey, entry);
-        downstreamIndexer.remove(indexProperties, entry);
-        if (downstreamIndexer.isEmpty()) {
-            downstreamIndexerMap.remove(indexKey);
-        }
-    }
-
-    private Indexer<T> getDownstreamIndexer(IndexProperties indexProperties, Key_ indexerKey,
-            TupleListEntry<T> entry) {
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexerKey);
-        if (downstreamIndexer == null) {
+        Object indexKey = toIndexKey(indexProperties);
+        int slot = findSlot(keys, indexKey);
+        Indexer<T> downstreamIndexer = downstreamIndexers[slot];
+        if (downstreamIndexer == null || downstreamIndexer.isEmpty()) {
             throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
                     + ") with indexProperties (" + indexProperties
                     + ") doesn't exist in the indexer " + this + ".");
         }
-        return downstreamIndexer;
+        downstreamIndexer.remove(indexProperties, entry);
+        if (downstreamIndexer.isEmpty()) {
+            // The bucket is kept in the table, to be reused by the next key put in this slot.
+            keys[slot] = POOLED_KEY;
+            nonEmptyBucketCount--;
+        }
     }
 
     @Override
     public int size(IndexProperties indexProperties) {
-        Key_ indexKey = indexProperties.toKey(indexKeyFrom, indexKeyTo);
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
+        Indexer<T> downstreamIndexer = downstreamIndexers[findSlot(keys, toIndexKey(indexProperties))];
         if (downstreamIndexer == null) {
             return 0;
         }
@@ -71,8 +102,7 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     @Override
     public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
-        Key_ indexKey = indexProperties.toKey(indexKeyFrom, indexKeyTo);
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
+        Indexer<T> downstreamIndexer = downstreamIndexers[findSlot(keys, toIndexKey(indexProperties))];
         if (downstreamIndexer == null || downstreamIndexer.isEmpty()) {
             return;
         }
@@ -81,12 +111,68 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     @Override
     public boolean isEmpty() {
-        return downstreamIndexerMap.isEmpty();
+        return nonEmptyBucketCount == 0;
+    }
+
+    private Object toIndexKey(IndexProperties indexProperties) {
+        Key_ indexKey = indexProperties.toKey(indexKeyFrom, indexKeyTo);
+        return indexKey == null ? NULL_KEY : indexKey;
+    }
+
+    /**
+     * @return the slot holding the key, or else the slot where the key would be inserted:
+     *         the first pooled bucket of its probe sequence, or else the free slot that ends it
+     */
+    private static int findSlot(Object[] keys, Object indexKey) {
+        int mask = keys.length - 1;
+        int hash = indexKey.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        int pooledSlot = -1;
+        while (true) {
+            Object key = keys[slot];
+            if (key == null) {
+                return pooledSlot >= 0 ? pooledSlot : slot;
+            } else if (key == POOLED_KEY) {
+                if (pooledSlot < 0) {
+                    pooledSlot = slot;
+                }
+            } else if (key == indexKey || key.equals(indexKey)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Drops the pooled empty buckets.
+     * Only grows the table if the remaining buckets would still exceed the load factor.
+     */
+    private void rehash() {
+        int newCapacity = keys.length;
+        if (nonEmptyBucketCount * 2 >= bucketCount) { // The pooled buckets are the minority; purging them is not enough.
+            newCapacity *= 2;
+        }
+        Object[] oldKeys = keys;
+        Indexer<T>[] oldDownstreamIndexers = downstreamIndexers;
+        keys = new Object[newCapacity];
+        downstreamIndexers = new Indexer[newCapacity];
+        bucketCount = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            Indexer<T> downstreamIndexer = oldDownstreamIndexers[i];
+            if (downstreamIndexer == null || downstreamIndexer.isEmpty()) {
+                continue;
+            }
+            Object key = oldKeys[i];
+            int slot = findSlot(keys, key);
+            keys[slot] = key;
+            downstreamIndexers[slot] = downstreamIndexer;
+            bucketCount++;
+        }
     }
 
     @Override
     public String toString() {
-        return "size = " + downstreamIndexerMap.size();
+        return "size = " + nonEmptyBucketCount;
     }
 
 }
@@ -1,18 +1,26 @@
 package org.optaplanner.constraint.streams.bavet.common.index;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Supplier;
 
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListPool;
 import org.optaplanner.constraint.streams.common.AbstractJoiner;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.score.stream.JoinerType;
 
 public class IndexerFactory {
 
     private final JoinerType[] joinerTypes;
+    private final EnvironmentMode environmentMode;
 
-    public IndexerFactory(AbstractJoiner joiner) {
+    public IndexerFactory(AbstractJoiner joiner, EnvironmentMode environmentMode) {
+        this.environmentMode = environmentMode;
         int joinerCount = joiner.getJoinerCount();
         joinerTypes = new JoinerType[joinerCount];
         for (int i = 0; i < joinerCount; i++) {
@@ -23,6 +31,9 @@ public class IndexerFactory {
                 case LESS_THAN_OR_EQUAL:
                 case GREATER_THAN:
                 case GREATER_THAN_OR_EQUAL:
+                case CONTAINING:
+                case INTERSECTING:
+                case DISJOINT:
                     break;
                 default:
                     throw new UnsupportedOperationException("Unsupported joiner type (" + joinerType + ").");
@@ -44,15 +55,24 @@ public class IndexerFactory {
          *
          * Note that if creating indexer for a right bridge node, the joiner type has to be flipped.
          * (<A, B> becomes <B, A>.)
+         *
+         * All NoneIndexers of the hierarchy share a single pool, so that a tuple moving between them recycles its entry.
+         *
+         * Collection joiners (CONTAINING, INTERSECTING, DISJOINT) do not take part in the hierarchy.
+         * Instead, a CollectionIndexer takes the place of the NoneIndexer at the bottom of it.
+         * Example 2: EQUAL+CONTAINING joiner will become EqualsIndexer -> CollectionIndexer.
          */
+        Supplier<Indexer<T>> bottomIndexerSupplier = buildBottomIndexerSupplier(isLeftBridge);
         if (joinerTypes.length == 0) { // NoneJoiner results in NoneIndexer.
-            return new NoneIndexer<>();
+            return bottomIndexerSupplier.get();
         } else if (joinerTypes.length == 1) { // Single joiner maps directly to EqualsIndexer or ComparisonIndexer.
             JoinerType joinerType = joinerTypes[0];
             if (joinerType == JoinerType.EQUAL) {
-                return new EqualsIndexer<>(NoneIndexer::new);
+                return new EqualsIndexer<>(bottomIndexerSupplier);
+            } else if (CollectionIndexer.isCollectionJoinerType(joinerType)) {
+                return bottomIndexerSupplier.get();
             } else {
-                return new ComparisonIndexer<>(isLeftBridge ? joinerType : joinerType.flip(), NoneIndexer::new);
+                return new ComparisonIndexer<>(isLeftBridge ? joinerType : joinerType.flip(), bottomIndexerSupplier);
             }
         }
         /*
@@ -65,24 +85,34 @@ public class IndexerFactory {
          * the joiner on the right results in an indexer that is a child to the indexer of the joiner on the left.
          * Example: EQUAL+LESS_THAN+EQUAL results in EqualsIndexer -> ComparisonIndexer -> EqualsIndexer.
          *
+         * Rule 3: Two consecutive comparison joiners that compare in opposite directions become a single IntervalIndexer.
+         * Example: LESS_THAN+GREATER_THAN (which is what overlapping() decomposes into) results in IntervalIndexer,
+         * instead of ComparisonIndexer -> ComparisonIndexer.
+         *
          * The following code builds the children first, so it needs to iterate over the joiners in reverse order.
          */
         NavigableMap<Integer, JoinerType> joinerTypeMap = new TreeMap<>();
+        Set<Integer> intervalEndingPropertySet = new HashSet<>();
         for (int i = 1; i <= joinerTypes.length; i++) {
             JoinerType joinerType = i < joinerTypes.length ? joinerTypes[i] : null;
             JoinerType previousJoinerType = joinerTypes[i - 1];
-            if (joinerType != JoinerType.EQUAL || previousJoinerType != joinerType) {
+            if (CollectionIndexer.isCollectionJoinerType(previousJoinerType)) {
+                continue; // Handled by the bottom indexer.
+            } else if (isIntervalPair(previousJoinerType, joinerType)) {
+                joinerTypeMap.put(i + 1, previousJoinerType);
+                intervalEndingPropertySet.add(i + 1);
+                i++; // The next joiner is already covered by the interval.
+            } else if (joinerType != JoinerType.EQUAL || previousJoinerType != joinerType) {
                 joinerTypeMap.put(i, previousJoinerType);
             }
         }
         NavigableMap<Integer, JoinerType> descendingJoinerTypeMap = joinerTypeMap.descendingMap();
-        Supplier<Indexer<T>> downstreamIndexerSupplier = NoneIndexer::new;
+        Supplier<Indexer<T>> downstreamIndexerSupplier = bottomIndexerSupplier;
         for (Map.Entry<Integer, JoinerType> entry : descendingJoinerTypeMap.entrySet()) {
-            Integer endingPropertyExclusive = entry.getKey();
-            Integer previousEndingPropertyExclusiveOrNull = descendingJoinerTypeMap.higherKey(endingPropertyExclusive);
-            int previousEndingPropertyExclusive =
-                    previousEndingPropertyExclusiveOrNull == null ? 0 : previousEndingPropertyExclusiveOrNull;
+            int endingPropertyExclusive = entry.getKey();
             JoinerType joinerType = entry.getValue();
+            int previousEndingPropertyExclusive = findStartingProperty(endingPropertyExclusive,
+                    intervalEndingPropertySet.contains(endingPropertyExclusive));
             Supplier<Indexer<T>> actualDownstreamIndexerSupplier = downstreamIndexerSupplier;
             if (joinerType == JoinerType.EQUAL) {
                 /*
@@ -97,6 +127,17 @@ public class IndexerFactory {
                 }
                 downstreamIndexerSupplier = () -> new EqualsIndexer<>(previousEndingPropertyExclusive, endingPropertyExclusive,
                         actualDownstreamIndexerSupplier);
+            } else if (intervalEndingPropertySet.contains(endingPropertyExclusive)) {
+                /*
+                 * Interval indexers have two comparison keys, on two consecutive positions.
+                 *
+                 * Example: For an EQUAL+LESS_THAN+GREATER_THAN joiner, the comparison keys are on position 1 and 2.
+                 */
+                JoinerType actualFirstJoinerType = isLeftBridge ? joinerType : joinerType.flip();
+                JoinerType secondJoinerType = joinerTypes[previousEndingPropertyExclusive + 1];
+                JoinerType actualSecondJoinerType = isLeftBridge ? secondJoinerType : secondJoinerType.flip();
+                downstreamIndexerSupplier = () -> new IntervalIndexer<>(actualFirstJoinerType, actualSecondJoinerType,
+                        previousEndingPropertyExclusive, actualDownstreamIndexerSupplier);
             } else {
                 JoinerType actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
                 /*
@@ -114,4 +155,58 @@ public class IndexerFactory {
         return downstreamIndexerSupplier.get();
     }
 
+    /**
+     * Not simply the ending position of the previous indexer in the hierarchy,
+     * because collection joiners in between are skipped.
+     */
+    private int findStartingProperty(int endingPropertyExclusive, boolean isInterval) {
+        if (isInterval) {
+            return endingPropertyExclusive - 2;
+        }
+        int startingPropertyInclusive = endingPropertyExclusive - 1;
+        if (joinerTypes[startingPropertyInclusive] == JoinerType.EQUAL) {
+            while (startingPropertyInclusive > 0 && joinerTypes[startingPropertyInclusive - 1] == JoinerType.EQUAL) {
+                startingPropertyInclusive--;
+            }
+        }
+        return startingPropertyInclusive;
+    }
+
+    private <T> Supplier<Indexer<T>> buildBottomIndexerSupplier(boolean isLeftBridge) {
+        int indexKeyPosition = -1;
+        List<Integer> filterKeyPositionList = new ArrayList<>();
+        for (int i = 0; i < joinerTypes.length; i++) {
+            if (CollectionIndexer.isCollectionJoinerType(joinerTypes[i])) {
+                if (indexKeyPosition < 0) {
+                    indexKeyPosition = i;
+                } else {
+                    filterKeyPositionList.add(i);
+                }
+            }
+        }
+        if (indexKeyPosition < 0) {
+            TupleListPool<T> tupleListPool = new TupleListPool<>(environmentMode);
+            return () -> new NoneIndexer<>(tupleListPool);
+        }
+        JoinerType joinerType = joinerTypes[indexKeyPosition];
+        int actualIndexKeyPosition = indexKeyPosition;
+        int[] filterKeyPositions = filterKeyPositionList.stream().mapToInt(i -> i).toArray();
+        JoinerType[] filterJoinerTypes = filterKeyPositionList.stream()
+                .map(i -> joinerTypes[i])
+                .toArray(JoinerType[]::new);
+        return () -> new CollectionIndexer<>(joinerType, actualIndexKeyPosition, filterJoinerTypes, filterKeyPositions,
+                isLeftBridge);
+    }
+
+    private static boolean isIntervalPair(JoinerType firstJoinerType, JoinerType secondJoinerType) {
+        if (!isComparison(firstJoinerType) || secondJoinerType == null || !isComparison(secondJoinerType)) {
+            return false;
+        }
+        return IntervalIndexer.isLessThan(firstJoinerType) != IntervalIndexer.isLessThan(secondJoinerType);
+    }
+
+    private static boolean isComparison(JoinerType joinerType) {
+        return joinerType != JoinerType.EQUAL && !CollectionIndexer.isCollectionJoinerType(joinerType);
+    }
+
 }
@@ -0,0 +1,244 @@
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.core.impl.score.stream.JoinerType;
+
+/**
+ * Indexes a pair of opposite comparison joiners on two consecutive index properties,
+ * such as the pair {@link org.optaplanner.core.api.score.stream.Joiners#overlapping(java.util.function.Function,
+ * java.util.function.Function)} decomposes into.
+ * <p>
+ * The property on the {@link JoinerType#LESS_THAN less than} side is called the start,
+ * the property on the {@link JoinerType#GREATER_THAN greater than} side is called the end.
+ * A stored tuple matches if its start is less than the query property at the start position
+ * and its end is greater than the query property at the end position.
+ * <p>
+ * The stored (start, end) pairs are kept in an AVL tree, sorted by start and then end,
+ * in which every node also knows the greatest end of its subtree.
+ * That allows {@link #forEach(IndexProperties, Consumer)} to skip every subtree that cannot contain a match,
+ * which makes it O(log(n) + k) for intervals, instead of visiting all n starts as nested comparison indexers would.
+ *
+ * @param <T> The element type. Often a tuple.
+ * @param <Key_> The type of both the start and end properties.
+ */
+final class IntervalIndexer<T, Key_ extends Comparable<Key_>>
+        extends AbstractAugmentedAvlTree<IntervalIndexer.Node<T, Key_>>
+        implements Indexer<T> {
+
+    private final int startKeyPosition;
+    private final int endKeyPosition;
+    private final boolean startHasOrEquals;
+    private final boolean endHasOrEquals;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private int nodeCount = 0;
+
+    /**
+     * @param firstJoinerType the comparison joiner type on the index property at position {@code indexKeyPosition}
+     * @param secondJoinerType the comparison joiner type on the index property at position {@code indexKeyPosition + 1},
+     *        must compare in the opposite direction to {@code firstJoinerType}
+     * @param indexKeyPosition the position of the first of the two index properties
+     * @param downstreamIndexerSupplier never null
+     */
+    public IntervalIndexer(JoinerType firstJoinerType, JoinerType secondJoinerType, int indexKeyPosition,
+            Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        boolean isFirstStart = isLessThan(firstJoinerType);
+        if (isFirstStart == isLessThan(secondJoinerType)) {
+            throw new IllegalArgumentException("Impossible state: the joiner types (" + firstJoinerType + ", "
+                    + secondJoinerType + ") do not compare in opposite directions.");
+        }
+        JoinerType startJoinerType = isFirstStart ? firstJoinerType : secondJoinerType;
+        JoinerType endJoinerType = isFirstStart ? secondJoinerType : firstJoinerType;
+        this.startKeyPosition = isFirstStart ? indexKeyPosition : indexKeyPosition + 1;
+        this.endKeyPosition = isFirstStart ? indexKeyPosition + 1 : indexKeyPosition;
+        this.startHasOrEquals = startJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+        this.endHasOrEquals = endJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    static boolean isLessThan(JoinerType joinerType) {
+        switch (joinerType) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                return true;
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return false;
+            default:
+                throw new IllegalArgumentException("Impossible state: the joiner type (" + joinerType
+                        + ") is not a comparison.");
+        }
+    }
+
+    @Override
+    public TupleListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        Key_ start = indexProperties.toKey(startKeyPosition);
+        Key_ end = indexProperties.toKey(endKeyPosition);
+        Node<T, Key_> node = find(start, end);
+        if (node == null) {
+            node = new Node<>(start, end, downstreamIndexerSupplier.get());
+            insert(node);
+            nodeCount++;
+        }
+        return node.downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, TupleListEntry<T> entry) {
+        Key_ start = indexProperties.toKey(startKeyPosition);
+        Key_ end = indexProperties.toKey(endKeyPosition);
+        Node<T, Key_> node = find(start, end);
+        if (node == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        node.downstreamIndexer.remove(indexProperties, entry);
+        if (node.downstreamIndexer.isEmpty()) {
+            delete(node);
+            nodeCount--;
+        }
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        if (root == null) {
+            return 0;
+        }
+        Key_ queryStart = indexProperties.toKey(startKeyPosition);
+        Key_ queryEnd = indexProperties.toKey(endKeyPosition);
+        return size(root, indexProperties, queryStart, queryEnd);
+    }
+
+    private int size(Node<T, Key_> node, IndexProperties indexProperties, Key_ queryStart, Key_ queryEnd) {
+        int size = 0;
+        while (node != null && isEndInRange(node.maxEnd, queryEnd)) {
+            size += size(node.left, indexProperties, queryStart, queryEnd);
+            if (!isStartInRange(node.start, queryStart)) {
+                // All starts in the right subtree are at least as large, so none of them are in range.
+                break;
+            }
+            if (isEndInRange(node.end, queryEnd)) {
+                size += node.downstreamIndexer.size(indexProperties);
+            }
+            node = node.right;
+        }
+        return size;
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        if (root == null) {
+            return;
+        }
+        Key_ queryStart = indexProperties.toKey(startKeyPosition);
+        Key_ queryEnd = indexProperties.toKey(endKeyPosition);
+        forEach(root, indexProperties, queryStart, queryEnd, tupleConsumer);
+    }
+
+    private void forEach(Node<T, Key_> node, IndexProperties indexProperties, Key_ queryStart, Key_ queryEnd,
+            Consumer<T> tupleConsumer) {
+        while (node != null && isEndInRange(node.maxEnd, queryEnd)) {
+            forEach(node.left, indexProperties, queryStart, queryEnd, tupleConsumer);
+            if (!isStartInRange(node.start, queryStart)) {
+                // All starts in the right subtree are at least as large, so none of them are in range.
+                return;
+            }
+            if (isEndInRange(node.end, queryEnd)) {
+                node.downstreamIndexer.forEach(indexProperties, tupleConsumer);
+            }
+            node = node.right;
+        }
+    }
+
+    private boolean isStartInRange(Key_ start, Key_ queryStart) {
+        int comparison = compare(start, queryStart);
+        return comparison < 0 || (startHasOrEquals && comparison == 0);
+    }
+
+    private boolean isEndInRange(Key_ end, Key_ queryEnd) {
+        int comparison = compare(end, queryEnd);
+        return comparison > 0 || (endHasOrEquals && comparison == 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + nodeCount;
+    }
+
+    // ************************************************************************
+    // AVL tree
+    // ************************************************************************
+
+    private static <Key_ extends Comparable<Key_>> int compare(Key_ a, Key_ b) {
+        if (a == b) {
+            return 0;
+        }
+        return a.compareTo(b);
+    }
+
+    private static <Key_ extends Comparable<Key_>> int compare(Key_ startA, Key_ endA, Key_ startB, Key_ endB) {
+        int comparison = compare(startA, startB);
+        if (comparison != 0) {
+            return comparison;
+        }
+        return compare(endA, endB);
+    }
+
+    private Node<T, Key_> find(Key_ start, Key_ end) {
+        Node<T, Key_> node = root;
+        while (node != null) {
+            int comparison = compare(start, end, node.start, node.end);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    @Override
+    protected int compare(Node<T, Key_> a, Node<T, Key_> b) {
+        return compare(a.start, a.end, b.start, b.end);
+    }
+
+    @Override
+    protected void updateAugmentation(Node<T, Key_> node) {
+        Key_ maxEnd = node.end;
+        if (node.left != null && compare(node.left.maxEnd, maxEnd) > 0) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && compare(node.right.maxEnd, maxEnd) > 0) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    static final class Node<T, Key_ extends Comparable<Key_>> extends AbstractAugmentedAvlTree.Node<Node<T, Key_>> {
+
+        final Key_ start;
+        final Key_ end;
+        final Indexer<T> downstreamIndexer;
+        /**
+         * The greatest {@link #end} over this node and all of its descendants.
+         */
+        Key_ maxEnd;
+
+        Node(Key_ start, Key_ end, Indexer<T> downstreamIndexer) {
+            this.start = start;
+            this.end = end;
+            this.downstreamIndexer = downstreamIndexer;
+            this.maxEnd = end;
+        }
+
+    }
+
+}
@@ -4,10 +4,22 @@ import java.util.function.Consumer;
 
 import org.optaplanner.constraint.streams.bavet.common.collection.TupleList;
 import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListPool;
 
 final class NoneIndexer<T, Value_> implements Indexer<T> {
 
-    private final TupleList<T> tupleList = new TupleList<>();
+    private final TupleList<T> tupleList;
+
+    public NoneIndexer() {
+        this(null);
+    }
+
+    /**
+     * @param tupleListPool null if the entries should not be recycled
+     */
+    public NoneIndexer(TupleListPool<T> tupleListPool) {
+        this.tupleList = new TupleList<>(tupleListPool);
+    }
 
     @Override
     public TupleListEntry<T> put(IndexProperties indexProperties, T tuple) {
@@ -1,8 +1,10 @@
 package org.optaplanner.constraint.streams.bavet.quad;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractGroupNode;
+import org.optaplanner.constraint.streams.bavet.common.GroupKeyProbe;
 import org.optaplanner.constraint.streams.bavet.common.Tuple;
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.core.api.function.PentaFunction;
@@ -15,6 +17,16 @@ abstract class AbstractGroupQuadNode<OldA, OldB, OldC, OldD, OutTuple_ extends T
 
     private final PentaFunction<ResultContainer_, OldA, OldB, OldC, OldD, Runnable> accumulator;
 
+    protected AbstractGroupQuadNode(int groupStoreIndex, int undoStoreIndex,
+            QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainer_, Result_> collector,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, undoStoreIndex,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesTupleLifecycle, environmentMode);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
     protected AbstractGroupQuadNode(int groupStoreIndex, int undoStoreIndex,
             Function<QuadTuple<OldA, OldB, OldC, OldD>, GroupKey_> groupKeyFunction,
             QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainer_, Result_> collector,
@@ -33,6 +45,24 @@ abstract class AbstractGroupQuadNode<OldA, OldB, OldC, OldD, OutTuple_ extends T
         accumulator = null;
     }
 
+    protected AbstractGroupQuadNode(int groupStoreIndex, int undoStoreIndex,
+            BiConsumer<QuadTuple<OldA, OldB, OldC, OldD>, GroupKeyProbe> groupKeyProbeFunction,
+            QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainer_, Result_> collector,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, undoStoreIndex, groupKeyProbeFunction,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesTupleLifecycle, environmentMode);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
+    protected AbstractGroupQuadNode(int groupStoreIndex,
+            BiConsumer<QuadTuple<OldA, OldB, OldC, OldD>, GroupKeyProbe> groupKeyProbeFunction,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, groupKeyProbeFunction, nextNodesTupleLifecycle, environmentMode);
+        accumulator = null;
+    }
+
     @Override
     protected final Runnable accumulate(ResultContainer_ resultContainer, QuadTuple<OldA, OldB, OldC, OldD> tuple) {
         return accumulator.apply(resultContainer, tuple.getFactA(), tuple.getFactB(), tuple.getFactC(), tuple.getFactD());
@@ -6,6 +6,7 @@ import java.util.Set;
 import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
+import org.optaplanner.constraint.streams.common.LambdaEquality;
 import org.optaplanner.core.api.function.QuadPredicate;
 import org.optaplanner.core.api.score.Score;
 
@@ -58,7 +59,7 @@ public final class BavetFilterQuadConstraintStream<Solution_, A, B, C, D>
 
     @Override
     public int hashCode() {
-        return Objects.hash(parent, predicate);
+        return Objects.hash(parent, LambdaEquality.hashCode(predicate));
     }
 
     @Override
@@ -68,7 +69,7 @@ public final class BavetFilterQuadConstraintStream<Solution_, A, B, C, D>
         } else if (o instanceof BavetFilterQuadConstraintStream) {
             BavetFilterQuadConstraintStream<?, ?, ?, ?, ?> other = (BavetFilterQuadConstraintStream<?, ?, ?, ?, ?>) o;
             return parent == other.parent
-                    && predicate == other.predicate;
+                    && LambdaEquality.areEquivalent(predicate, other.predicate);
         } else {
             return false;
         }
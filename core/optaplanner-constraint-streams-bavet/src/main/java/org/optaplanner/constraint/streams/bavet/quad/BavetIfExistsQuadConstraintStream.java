@@ -61,7 +61,7 @@ final class BavetIfExistsQuadConstraintStream<Solution_, A, B, C, D, E>
     @Override
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         TupleLifecycle<QuadTuple<A, B, C, D>> downstream = buildHelper.getAggregatedTupleLifecycle(childStreamList);
-        IndexerFactory indexerFactory = new IndexerFactory(joiner);
+        IndexerFactory indexerFactory = new IndexerFactory(joiner, constraintFactory.getEnvironmentMode());
         AbstractIfExistsNode<QuadTuple<A, B, C, D>, E> node = indexerFactory.hasJoiners()
                 ? (filtering == null ? new IndexedIfExistsQuadNode<>(shouldExist,
                         JoinerUtils.combineLeftMappings(joiner), JoinerUtils.combineRightMappings(joiner),
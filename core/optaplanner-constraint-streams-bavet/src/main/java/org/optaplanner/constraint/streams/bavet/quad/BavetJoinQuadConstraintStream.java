@@ -14,6 +14,7 @@ import org.optaplanner.constraint.streams.bavet.common.index.JoinerUtils;
 import org.optaplanner.constraint.streams.bavet.tri.BavetJoinBridgeTriConstraintStream;
 import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
 import org.optaplanner.constraint.streams.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.constraint.streams.common.LambdaEquality;
 import org.optaplanner.constraint.streams.common.quad.DefaultQuadJoiner;
 import org.optaplanner.core.api.function.QuadPredicate;
 import org.optaplanner.core.api.score.Score;
@@ -59,7 +60,7 @@ public final class BavetJoinQuadConstraintStream<Solution_, A, B, C, D>
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         int outputStoreSize = buildHelper.extractTupleStoreSize(this);
         TupleLifecycle<QuadTuple<A, B, C, D>> downstream = buildHelper.getAggregatedTupleLifecycle(childStreamList);
-        IndexerFactory indexerFactory = new IndexerFactory(joiner);
+        IndexerFactory indexerFactory = new IndexerFactory(joiner, constraintFactory.getEnvironmentMode());
         AbstractJoinNode<TriTuple<A, B, C>, D, QuadTuple<A, B, C, D>, QuadTupleImpl<A, B, C, D>> node =
                 indexerFactory.hasJoiners()
                         ? new IndexedJoinQuadNode<>(
@@ -72,14 +73,16 @@ public final class BavetJoinQuadConstraintStream<Solution_, A, B, C, D>
                                 buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                                 downstream, filtering, outputStoreSize + 2,
                                 outputStoreSize, outputStoreSize + 1,
-                                indexerFactory.buildIndexer(true), indexerFactory.buildIndexer(false))
+                                indexerFactory.buildIndexer(true), indexerFactory.buildIndexer(false),
+                                constraintFactory.getEnvironmentMode())
                         : new UnindexedJoinQuadNode<>(
                                 buildHelper.reserveTupleStoreIndex(leftParent.getTupleSource()),
                                 buildHelper.reserveTupleStoreIndex(leftParent.getTupleSource()),
                                 buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                                 buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                                 downstream, filtering, outputStoreSize + 2,
-                                outputStoreSize, outputStoreSize + 1);
+                                outputStoreSize, outputStoreSize + 1,
+                                constraintFactory.getEnvironmentMode());
         buildHelper.addNode(node, leftParent, rightParent);
     }
 
@@ -104,12 +107,13 @@ public final class BavetJoinQuadConstraintStream<Solution_, A, B, C, D>
         return Objects.equals(leftParent.getParent(), other.leftParent.getParent())
                 && Objects.equals(rightParent.getParent(), other.rightParent.getParent())
                 && Objects.equals(joiner, other.joiner)
-                && Objects.equals(filtering, other.filtering);
+                && LambdaEquality.areEquivalent(filtering, other.filtering);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(leftParent.getParent(), rightParent.getParent(), joiner, filtering);
+        return Objects.hash(leftParent.getParent(), rightParent.getParent(), joiner,
+                LambdaEquality.hashCode(filtering));
     }
 
     @Override
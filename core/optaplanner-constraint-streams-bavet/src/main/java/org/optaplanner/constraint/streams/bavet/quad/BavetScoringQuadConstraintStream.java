@@ -10,6 +10,7 @@ import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.BavetScoringConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
+import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
 import org.optaplanner.constraint.streams.common.inliner.JustificationsSupplier;
 import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
 import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
@@ -101,9 +102,10 @@ public final class BavetScoringQuadConstraintStream<Solution_, A, B, C, D>
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's an endpoint.");
         }
         Score_ constraintWeight = buildHelper.getConstraintWeight(constraint);
+        AbstractScoreInliner<Score_> scoreInliner = buildHelper.getScoreInliner(constraint);
         WeightedScoreImpacter<Score_, ?> weightedScoreImpacter =
-                buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint, constraintWeight);
-        boolean constraintMatchEnabled = buildHelper.getScoreInliner().isConstraintMatchEnabled();
+                scoreInliner.buildWeightedScoreImpacter(constraint, constraintWeight);
+        boolean constraintMatchEnabled = scoreInliner.isConstraintMatchEnabled();
         QuadFunction<A, B, C, D, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
             if (constraintMatchEnabled) {
@@ -1,5 +1,6 @@
 package org.optaplanner.constraint.streams.bavet.quad;
 
+import org.optaplanner.constraint.streams.bavet.common.GroupKeyProbe;
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
 import org.optaplanner.constraint.streams.bavet.tri.TriTupleImpl;
@@ -17,16 +18,18 @@ final class Group3Mapping0CollectorQuadNode<OldA, OldB, OldC, OldD, A, B, C>
             QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB, QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyMappingC,
             int groupStoreIndex, TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
-        super(groupStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple),
+        super(groupStoreIndex,
+                (tuple, groupKeyProbe) -> fillGroupKeyProbe(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple,
+                        groupKeyProbe),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, C, OldA, OldB, OldC, OldD> Triple<A, B, C> createGroupKey(
+    static <A, B, C, OldA, OldB, OldC, OldD> void fillGroupKeyProbe(
             QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
             QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB,
             QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyMappingC,
-            QuadTuple<OldA, OldB, OldC, OldD> tuple) {
+            QuadTuple<OldA, OldB, OldC, OldD> tuple, GroupKeyProbe groupKeyProbe) {
         OldA oldA = tuple.getFactA();
         OldB oldB = tuple.getFactB();
         OldC oldC = tuple.getFactC();
@@ -34,7 +37,7 @@ final class Group3Mapping0CollectorQuadNode<OldA, OldB, OldC, OldD, A, B, C>
         A a = groupKeyMappingA.apply(oldA, oldB, oldC, oldD);
         B b = groupKeyMappingB.apply(oldA, oldB, oldC, oldD);
         C c = groupKeyMappingC.apply(oldA, oldB, oldC, oldD);
-        return Triple.of(a, b, c);
+        groupKeyProbe.set(a, b, c);
     }
 
     @Override
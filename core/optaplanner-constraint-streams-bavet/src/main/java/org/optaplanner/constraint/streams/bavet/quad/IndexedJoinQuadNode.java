@@ -10,6 +10,7 @@ import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
 import org.optaplanner.core.api.function.QuadPredicate;
 import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 final class IndexedJoinQuadNode<A, B, C, D>
         extends AbstractIndexedJoinNode<TriTuple<A, B, C>, D, QuadTuple<A, B, C, D>, QuadTupleImpl<A, B, C, D>> {
@@ -25,13 +26,14 @@ final class IndexedJoinQuadNode<A, B, C, D>
             int outputStoreSize,
             int outputStoreIndexOutEntryABC, int outputStoreIndexOutEntryD,
             Indexer<TriTuple<A, B, C>> indexerABC,
-            Indexer<UniTuple<D>> indexerD) {
+            Indexer<UniTuple<D>> indexerD,
+            EnvironmentMode environmentMode) {
         super(mappingD,
                 inputStoreIndexABC, inputStoreIndexEntryABC, inputStoreIndexOutTupleListABC,
                 inputStoreIndexD, inputStoreIndexEntryD, inputStoreIndexOutTupleListD,
                 nextNodesTupleLifecycle, filtering != null,
                 outputStoreIndexOutEntryABC, outputStoreIndexOutEntryD,
-                indexerABC, indexerD);
+                indexerABC, indexerD, environmentMode);
         this.mappingABC = mappingABC;
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
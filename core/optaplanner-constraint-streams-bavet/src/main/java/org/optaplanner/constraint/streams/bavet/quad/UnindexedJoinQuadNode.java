@@ -5,6 +5,7 @@ import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
 import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 final class UnindexedJoinQuadNode<A, B, C, D>
         extends AbstractUnindexedJoinNode<TriTuple<A, B, C>, D, QuadTuple<A, B, C, D>, QuadTupleImpl<A, B, C, D>> {
@@ -17,11 +18,11 @@ final class UnindexedJoinQuadNode<A, B, C, D>
             int inputStoreIndexRightEntry, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, QuadPredicate<A, B, C, D> filtering,
             int outputStoreSize,
-            int outputStoreIndexLeftOutEntry, int outputStoreIndexRightOutEntry) {
+            int outputStoreIndexLeftOutEntry, int outputStoreIndexRightOutEntry, EnvironmentMode environmentMode) {
         super(inputStoreIndexLeftEntry, inputStoreIndexLeftOutTupleList,
                 inputStoreIndexRightEntry, inputStoreIndexRightOutTupleList,
                 nextNodesTupleLifecycle, filtering != null,
-                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry);
+                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry, environmentMode);
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
     }
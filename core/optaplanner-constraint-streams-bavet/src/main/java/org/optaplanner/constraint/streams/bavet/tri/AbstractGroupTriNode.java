@@ -1,8 +1,10 @@
 package org.optaplanner.constraint.streams.bavet.tri;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractGroupNode;
+import org.optaplanner.constraint.streams.bavet.common.GroupKeyProbe;
 import org.optaplanner.constraint.streams.bavet.common.Tuple;
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.core.api.function.QuadFunction;
@@ -15,6 +17,16 @@ abstract class AbstractGroupTriNode<OldA, OldB, OldC, OutTuple_ extends Tuple, M
 
     private final QuadFunction<ResultContainer_, OldA, OldB, OldC, Runnable> accumulator;
 
+    protected AbstractGroupTriNode(int groupStoreIndex, int undoStoreIndex,
+            TriConstraintCollector<OldA, OldB, OldC, ResultContainer_, Result_> collector,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, undoStoreIndex,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesTupleLifecycle, environmentMode);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
     protected AbstractGroupTriNode(int groupStoreIndex, int undoStoreIndex,
             Function<TriTuple<OldA, OldB, OldC>, GroupKey_> groupKeyFunction,
             TriConstraintCollector<OldA, OldB, OldC, ResultContainer_, Result_> collector,
@@ -32,6 +44,24 @@ abstract class AbstractGroupTriNode<OldA, OldB, OldC, OutTuple_ extends Tuple, M
         accumulator = null;
     }
 
+    protected AbstractGroupTriNode(int groupStoreIndex, int undoStoreIndex,
+            BiConsumer<TriTuple<OldA, OldB, OldC>, GroupKeyProbe> groupKeyProbeFunction,
+            TriConstraintCollector<OldA, OldB, OldC, ResultContainer_, Result_> collector,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, undoStoreIndex, groupKeyProbeFunction,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesTupleLifecycle, environmentMode);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
+    protected AbstractGroupTriNode(int groupStoreIndex,
+            BiConsumer<TriTuple<OldA, OldB, OldC>, GroupKeyProbe> groupKeyProbeFunction,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, groupKeyProbeFunction, nextNodesTupleLifecycle, environmentMode);
+        accumulator = null;
+    }
+
     @Override
     protected final Runnable accumulate(ResultContainer_ resultContainer, TriTuple<OldA, OldB, OldC> tuple) {
         return accumulator.apply(resultContainer, tuple.getFactA(), tuple.getFactB(), tuple.getFactC());
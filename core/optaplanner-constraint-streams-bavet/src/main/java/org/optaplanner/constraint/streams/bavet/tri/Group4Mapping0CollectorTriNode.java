@@ -1,5 +1,6 @@
 package org.optaplanner.constraint.streams.bavet.tri;
 
+import org.optaplanner.constraint.streams.bavet.common.GroupKeyProbe;
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.constraint.streams.bavet.quad.QuadTuple;
 import org.optaplanner.constraint.streams.bavet.quad.QuadTupleImpl;
@@ -19,17 +20,18 @@ final class Group4Mapping0CollectorTriNode<OldA, OldB, OldC, A, B, C, D>
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD, tuple),
+                (tuple, groupKeyProbe) -> fillGroupKeyProbe(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC,
+                        groupKeyMappingD, tuple, groupKeyProbe),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    private static <A, B, C, D, OldA, OldB, OldC> Quadruple<A, B, C, D> createGroupKey(
+    private static <A, B, C, D, OldA, OldB, OldC> void fillGroupKeyProbe(
             TriFunction<OldA, OldB, OldC, A> groupKeyMappingA,
             TriFunction<OldA, OldB, OldC, B> groupKeyMappingB,
             TriFunction<OldA, OldB, OldC, C> groupKeyMappingC,
             TriFunction<OldA, OldB, OldC, D> groupKeyMappingD,
-            TriTuple<OldA, OldB, OldC> tuple) {
+            TriTuple<OldA, OldB, OldC> tuple, GroupKeyProbe groupKeyProbe) {
         OldA oldA = tuple.getFactA();
         OldB oldB = tuple.getFactB();
         OldC oldC = tuple.getFactC();
@@ -37,7 +39,7 @@ final class Group4Mapping0CollectorTriNode<OldA, OldB, OldC, A, B, C, D>
         B b = groupKeyMappingB.apply(oldA, oldB, oldC);
         C c = groupKeyMappingC.apply(oldA, oldB, oldC);
         D d = groupKeyMappingD.apply(oldA, oldB, oldC);
-        return Quadruple.of(a, b, c, d);
+        groupKeyProbe.set(a, b, c, d);
     }
 
     @Override
@@ -10,6 +10,7 @@ import org.optaplanner.constraint.streams.bavet.common.index.IndexProperties;
 import org.optaplanner.constraint.streams.bavet.common.index.Indexer;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
 import org.optaplanner.core.api.function.TriPredicate;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 final class IndexedJoinTriNode<A, B, C>
         extends AbstractIndexedJoinNode<BiTuple<A, B>, C, TriTuple<A, B, C>, TriTupleImpl<A, B, C>> {
@@ -25,13 +26,14 @@ final class IndexedJoinTriNode<A, B, C>
             int outputStoreSize,
             int outputStoreIndexOutEntryAB, int outputStoreIndexOutEntryC,
             Indexer<BiTuple<A, B>> indexerAB,
-            Indexer<UniTuple<C>> indexerC) {
+            Indexer<UniTuple<C>> indexerC,
+            EnvironmentMode environmentMode) {
         super(mappingC,
                 inputStoreIndexAB, inputStoreIndexEntryAB, inputStoreIndexOutTupleListAB,
                 inputStoreIndexC, inputStoreIndexEntryC, inputStoreIndexOutTupleListC,
                 nextNodesTupleLifecycle, filtering != null,
                 outputStoreIndexOutEntryAB, outputStoreIndexOutEntryC,
-                indexerAB, indexerC);
+                indexerAB, indexerC, environmentMode);
         this.mappingAB = mappingAB;
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
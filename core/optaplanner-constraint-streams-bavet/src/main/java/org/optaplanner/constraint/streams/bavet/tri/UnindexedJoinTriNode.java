@@ -5,6 +5,7 @@ import org.optaplanner.constraint.streams.bavet.common.AbstractUnindexedJoinNode
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
 import org.optaplanner.core.api.function.TriPredicate;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 final class UnindexedJoinTriNode<A, B, C>
         extends AbstractUnindexedJoinNode<BiTuple<A, B>, C, TriTuple<A, B, C>, TriTupleImpl<A, B, C>> {
@@ -17,11 +18,11 @@ final class UnindexedJoinTriNode<A, B, C>
             int inputStoreIndexRightEntry, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, TriPredicate<A, B, C> filtering,
             int outputStoreSize,
-            int outputStoreIndexLeftOutEntry, int outputStoreIndexRightOutEntry) {
+            int outputStoreIndexLeftOutEntry, int outputStoreIndexRightOutEntry, EnvironmentMode environmentMode) {
         super(inputStoreIndexLeftEntry, inputStoreIndexLeftOutTupleList,
                 inputStoreIndexRightEntry, inputStoreIndexRightOutTupleList,
                 nextNodesTupleLifecycle, filtering != null,
-                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry);
+                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry, environmentMode);
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
     }
@@ -1,9 +1,11 @@
 package org.optaplanner.constraint.streams.bavet.uni;
 
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractGroupNode;
+import org.optaplanner.constraint.streams.bavet.common.GroupKeyProbe;
 import org.optaplanner.constraint.streams.bavet.common.Tuple;
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
@@ -14,6 +16,16 @@ abstract class AbstractGroupUniNode<OldA, OutTuple_ extends Tuple, MutableOutTup
 
     private final BiFunction<ResultContainer_, OldA, Runnable> accumulator;
 
+    protected AbstractGroupUniNode(int groupStoreIndex, int undoStoreIndex,
+            UniConstraintCollector<OldA, ResultContainer_, Result_> collector,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, undoStoreIndex,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesTupleLifecycle, environmentMode);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
     protected AbstractGroupUniNode(int groupStoreIndex, int undoStoreIndex,
             Function<UniTuple<OldA>, GroupKey_> groupKeyFunction,
             UniConstraintCollector<OldA, ResultContainer_, Result_> collector,
@@ -31,6 +43,23 @@ abstract class AbstractGroupUniNode<OldA, OutTuple_ extends Tuple, MutableOutTup
         accumulator = null;
     }
 
+    protected AbstractGroupUniNode(int groupStoreIndex, int undoStoreIndex,
+            BiConsumer<UniTuple<OldA>, GroupKeyProbe> groupKeyProbeFunction,
+            UniConstraintCollector<OldA, ResultContainer_, Result_> collector,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, undoStoreIndex, groupKeyProbeFunction,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesTupleLifecycle, environmentMode);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
+    protected AbstractGroupUniNode(int groupStoreIndex, BiConsumer<UniTuple<OldA>, GroupKeyProbe> groupKeyProbeFunction,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, groupKeyProbeFunction, nextNodesTupleLifecycle, environmentMode);
+        accumulator = null;
+    }
+
     @Override
     protected final Runnable accumulate(ResultContainer_ resultContainer, UniTuple<OldA> tuple) {
         return accumulator.apply(resultContainer, tuple.getFactA());
@@ -7,6 +7,7 @@ import java.util.function.Predicate;
 import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
+import org.optaplanner.constraint.streams.common.LambdaEquality;
 import org.optaplanner.core.api.score.Score;
 
 public final class BavetFilterUniConstraintStream<Solution_, A> extends BavetAbstractUniConstraintStream<Solution_, A> {
@@ -56,7 +57,7 @@ public final class BavetFilterUniConstraintStream<Solution_, A> extends BavetAbs
 
     @Override
     public int hashCode() {
-        return Objects.hash(parent, predicate);
+        return Objects.hash(parent, LambdaEquality.hashCode(predicate));
     }
 
     @Override
@@ -66,7 +67,7 @@ public final class BavetFilterUniConstraintStream<Solution_, A> extends BavetAbs
         } else if (o instanceof BavetFilterUniConstraintStream) {
             BavetFilterUniConstraintStream<?, ?> other = (BavetFilterUniConstraintStream<?, ?>) o;
             return parent == other.parent
-                    && predicate == other.predicate;
+                    && LambdaEquality.areEquivalent(predicate, other.predicate);
         } else {
             return false;
         }
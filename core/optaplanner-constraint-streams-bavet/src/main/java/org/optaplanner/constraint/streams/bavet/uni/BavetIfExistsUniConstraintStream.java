@@ -59,7 +59,7 @@ public final class BavetIfExistsUniConstraintStream<Solution_, A, B> extends Bav
     @Override
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         TupleLifecycle<UniTuple<A>> downstream = buildHelper.getAggregatedTupleLifecycle(childStreamList);
-        IndexerFactory indexerFactory = new IndexerFactory(joiner);
+        IndexerFactory indexerFactory = new IndexerFactory(joiner, constraintFactory.getEnvironmentMode());
         AbstractIfExistsNode<UniTuple<A>, B> node = indexerFactory.hasJoiners()
                 ? (filtering == null ? new IndexedIfExistsUniNode<>(shouldExist,
                         JoinerUtils.combineLeftMappings(joiner), JoinerUtils.combineRightMappings(joiner),
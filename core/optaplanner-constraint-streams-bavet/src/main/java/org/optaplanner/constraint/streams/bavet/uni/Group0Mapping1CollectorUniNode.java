@@ -12,7 +12,7 @@ final class Group0Mapping1CollectorUniNode<OldA, A, ResultContainer_>
     public Group0Mapping1CollectorUniNode(int groupStoreIndex, int undoStoreIndex,
             UniConstraintCollector<OldA, ResultContainer_, A> collector,
             TupleLifecycle<UniTuple<A>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
-        super(groupStoreIndex, undoStoreIndex, null, collector, nextNodesTupleLifecycle, environmentMode);
+        super(groupStoreIndex, undoStoreIndex, collector, nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
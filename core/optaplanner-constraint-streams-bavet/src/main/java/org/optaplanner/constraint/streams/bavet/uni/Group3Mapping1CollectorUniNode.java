@@ -1,6 +1,6 @@
 package org.optaplanner.constraint.streams.bavet.uni;
 
-import static org.optaplanner.constraint.streams.bavet.uni.Group3Mapping0CollectorUniNode.createGroupKey;
+import static org.optaplanner.constraint.streams.bavet.uni.Group3Mapping0CollectorUniNode.fillGroupKeyProbe;
 
 import java.util.function.Function;
 
@@ -23,7 +23,9 @@ final class Group3Mapping1CollectorUniNode<OldA, A, B, C, D, ResultContainer_>
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple), collector,
+                (tuple, groupKeyProbe) -> fillGroupKeyProbe(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple,
+                        groupKeyProbe),
+                collector,
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
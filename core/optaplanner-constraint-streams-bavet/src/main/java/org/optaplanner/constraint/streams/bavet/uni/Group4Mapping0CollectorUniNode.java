@@ -2,6 +2,7 @@ package org.optaplanner.constraint.streams.bavet.uni;
 
 import java.util.function.Function;
 
+import org.optaplanner.constraint.streams.bavet.common.GroupKeyProbe;
 import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
 import org.optaplanner.constraint.streams.bavet.quad.QuadTuple;
 import org.optaplanner.constraint.streams.bavet.quad.QuadTupleImpl;
@@ -19,20 +20,21 @@ final class Group4Mapping0CollectorUniNode<OldA, A, B, C, D>
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD, tuple),
+                (tuple, groupKeyProbe) -> fillGroupKeyProbe(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC,
+                        groupKeyMappingD, tuple, groupKeyProbe),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    private static <A, B, C, D, OldA> Quadruple<A, B, C, D> createGroupKey(Function<OldA, A> groupKeyMappingA,
+    private static <A, B, C, D, OldA> void fillGroupKeyProbe(Function<OldA, A> groupKeyMappingA,
             Function<OldA, B> groupKeyMappingB, Function<OldA, C> groupKeyMappingC, Function<OldA, D> groupKeyMappingD,
-            UniTuple<OldA> tuple) {
+            UniTuple<OldA> tuple, GroupKeyProbe groupKeyProbe) {
         OldA oldA = tuple.getFactA();
         A a = groupKeyMappingA.apply(oldA);
         B b = groupKeyMappingB.apply(oldA);
         C c = groupKeyMappingC.apply(oldA);
         D d = groupKeyMappingD.apply(oldA);
-        return Quadruple.of(a, b, c, d);
+        groupKeyProbe.set(a, b, c, d);
     }
 
     @Override
@@ -0,0 +1,10 @@
+package org.optaplanner.constraint.streams.bavet;
+
+import org.optaplanner.constraint.streams.common.AbstractConstraintProfilingTest;
+
+final class BavetConstraintProfilingTest extends AbstractConstraintProfilingTest {
+
+    public BavetConstraintProfilingTest() {
+        super(new BavetConstraintStreamImplSupport(false));
+    }
+}
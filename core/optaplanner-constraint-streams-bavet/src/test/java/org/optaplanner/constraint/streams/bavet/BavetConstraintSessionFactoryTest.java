@@ -0,0 +1,273 @@
+package org.optaplanner.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.count;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+class BavetConstraintSessionFactoryTest {
+
+    private final SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+
+    @Test
+    void invalidParallelism() {
+        List<BavetConstraint<TestdataSolution>> constraintList = buildConstraintList();
+        assertThatThrownBy(() -> new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parallelPropagationMatchesSequentialPropagation() {
+        List<BavetConstraint<TestdataSolution>> constraintList = buildConstraintList();
+        BavetConstraintSession<SimpleScore> sequentialSession =
+                new BavetConstraintSessionFactory<TestdataSolution, SimpleScore>(solutionDescriptor, constraintList, 1)
+                        .buildSession(false, null);
+        BavetConstraintSession<SimpleScore> parallelSession =
+                new BavetConstraintSessionFactory<TestdataSolution, SimpleScore>(solutionDescriptor, constraintList, 3)
+                        .buildSession(false, null);
+
+        Random random = new Random(37);
+        List<TestdataValue> valueList = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            TestdataValue value = new TestdataValue("v" + i);
+            valueList.add(value);
+            sequentialSession.insert(value);
+            parallelSession.insert(value);
+        }
+        List<TestdataEntity> entityList = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            TestdataEntity entity = new TestdataEntity("e" + i, valueList.get(random.nextInt(valueList.size())));
+            entityList.add(entity);
+            sequentialSession.insert(entity);
+            parallelSession.insert(entity);
+        }
+        assertThat(parallelSession.calculateScore(-1)).isEqualTo(sequentialSession.calculateScore(-1));
+        for (int i = 0; i < 1000; i++) {
+            TestdataEntity entity = entityList.get(random.nextInt(entityList.size()));
+            entity.setValue(valueList.get(random.nextInt(valueList.size())));
+            sequentialSession.update(entity);
+            parallelSession.update(entity);
+            if (random.nextInt(10) == 0) {
+                sequentialSession.retract(entity);
+                parallelSession.retract(entity);
+                sequentialSession.insert(entity);
+                parallelSession.insert(entity);
+            }
+            if (random.nextBoolean()) {
+                assertThat(parallelSession.calculateScore(0)).isEqualTo(sequentialSession.calculateScore(0));
+            }
+        }
+        assertThat(parallelSession.calculateScore(0)).isEqualTo(sequentialSession.calculateScore(0));
+    }
+
+    @Test
+    void parallelSessionHasNoSingleScoreInliner() {
+        BavetConstraintSession<SimpleScore> parallelSession =
+                new BavetConstraintSessionFactory<TestdataSolution, SimpleScore>(solutionDescriptor, buildConstraintList(), 3)
+                        .buildSession(false, null);
+        assertThatThrownBy(parallelSession::getScoreInliner).isInstanceOf(IllegalStateException.class);
+        assertThat(parallelSession.getConstraintMatchTotalMap()).isNull();
+        assertThat(parallelSession.getIndictmentMap()).isNull();
+        parallelSession.close();
+    }
+
+    @Test
+    void parallelSessionRethrowsTheFailureOfAnyPartition() {
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(solutionDescriptor, EnvironmentMode.REPRODUCIBLE);
+        List<BavetConstraint<TestdataSolution>> constraintList =
+                constraintFactory.buildConstraints(factory -> IntStream.range(0, 3)
+                        .mapToObj(i -> factory.forEach(TestdataEntity.class)
+                                .filter(entity -> {
+                                    if (entity.getValue().getCode().equals("fail" + i)) {
+                                        throw new IllegalStateException("Constraint " + i + " failed.");
+                                    }
+                                    return true;
+                                })
+                                .penalize(SimpleScore.ONE)
+                                .asConstraint("Constraint " + i))
+                        .toArray(Constraint[]::new));
+        BavetConstraintSessionFactory<TestdataSolution, SimpleScore> sessionFactory =
+                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList, 3);
+        for (int i = 0; i < 3; i++) {
+            BavetConstraintSession<SimpleScore> session = sessionFactory.buildSession(false, null);
+            TestdataValue value = new TestdataValue("v0");
+            TestdataEntity entity = new TestdataEntity("e0", value);
+            session.insert(value);
+            session.insert(entity);
+            assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-3));
+            entity.setValue(new TestdataValue("fail" + i));
+            session.update(entity);
+            assertThatThrownBy(() -> session.calculateScore(0))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Constraint " + i + " failed.");
+            session.close();
+        }
+    }
+
+    @Test
+    void recycledJoinTuplesMatchFromScratchScore() {
+        List<BavetConstraint<TestdataSolution>> constraintList = buildConstraintList(EnvironmentMode.FULL_ASSERT);
+        BavetConstraintSessionFactory<TestdataSolution, SimpleScore> sessionFactory =
+                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList, 1);
+        BavetConstraintSession<SimpleScore> session = sessionFactory.buildSession(false, null);
+
+        Random random = new Random(37);
+        List<TestdataValue> valueList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            TestdataValue value = new TestdataValue("v" + i);
+            valueList.add(value);
+            session.insert(value);
+        }
+        List<TestdataEntity> entityList = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            TestdataEntity entity = new TestdataEntity("e" + i, valueList.get(random.nextInt(valueList.size())));
+            entityList.add(entity);
+            session.insert(entity);
+        }
+        for (int i = 0; i < 500; i++) {
+            TestdataEntity entity = entityList.get(random.nextInt(entityList.size()));
+            entity.setValue(valueList.get(random.nextInt(valueList.size())));
+            session.update(entity);
+            if (random.nextInt(3) == 0) {
+                // Leave a calculation with dead tuples that are not recycled yet.
+                continue;
+            }
+            BavetConstraintSession<SimpleScore> fromScratchSession = sessionFactory.buildSession(false, null);
+            valueList.forEach(fromScratchSession::insert);
+            entityList.forEach(fromScratchSession::insert);
+            assertThat(session.calculateScore(0)).isEqualTo(fromScratchSession.calculateScore(0));
+        }
+    }
+
+    @Test
+    void partitionedAndUnpartitionedSessionsAlternate() {
+        List<BavetConstraint<TestdataSolution>> constraintList = buildConstraintList();
+        BavetConstraintSessionFactory<TestdataSolution, SimpleScore> sessionFactory =
+                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList, 3);
+        TestdataValue value = new TestdataValue("v0");
+        List<Object> factList = List.of(value, new TestdataEntity("e0", value), new TestdataEntity("e1", value));
+        // Alternate between partitioned sessions and unpartitioned sessions, which have different node network plans.
+        for (boolean constraintMatchEnabled : new boolean[] { false, false, true, false, true, true }) {
+            BavetConstraintSession<SimpleScore> session = sessionFactory.buildSession(constraintMatchEnabled, null);
+            factList.forEach(session::insert);
+            assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-1));
+            if (constraintMatchEnabled) {
+                assertThat(session.getConstraintMatchTotalMap()).hasSize(3); // Only the constraints that match.
+            }
+        }
+    }
+
+    @Test
+    void profiledSession() {
+        List<BavetConstraint<TestdataSolution>> constraintList = buildConstraintList();
+        BavetConstraintSessionFactory<TestdataSolution, SimpleScore> sessionFactory =
+                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList, 3);
+        BavetConstraintSession<SimpleScore> unprofiledSession = sessionFactory.buildSession(false, null);
+        BavetConstraintSession<SimpleScore> profiledSession = sessionFactory.buildSession(false, true, null);
+        assertThat(unprofiledSession.isProfiled()).isFalse();
+        assertThatThrownBy(unprofiledSession::getConstraintProfileMap).isInstanceOf(IllegalStateException.class);
+        assertThat(profiledSession.isProfiled()).isTrue();
+
+        TestdataValue v0 = new TestdataValue("v0");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        List<Object> factList = List.of(v0, v1, new TestdataEntity("e0", v0), new TestdataEntity("e1", v0), e2);
+        factList.forEach(unprofiledSession::insert);
+        factList.forEach(profiledSession::insert);
+        assertThat(profiledSession.calculateScore(0)).isEqualTo(unprofiledSession.calculateScore(0));
+
+        Map<String, ConstraintProfile> constraintProfileMap = profiledSession.getConstraintProfileMap();
+        assertThat(constraintProfileMap).hasSize(constraintList.size());
+        // The forEach node gets 3 entities, it passes them through the initialized filter to the "v0" filter,
+        // which passes 2 of them to the scorer.
+        ConstraintProfile firstValueProfile = constraintProfileMap.get(
+                ConstraintMatchTotal.composeConstraintId(constraintList.get(3).getConstraintPackage(), "First value"));
+        assertThat(firstValueProfile.getInsertCount()).isEqualTo(11L);
+        assertThat(firstValueProfile.getUpdateCount()).isZero();
+        assertThat(firstValueProfile.getRetractCount()).isZero();
+        assertThat(firstValueProfile.getTupleCount()).isEqualTo(11L);
+        assertThat(firstValueProfile.getNanos()).isPositive();
+
+        e2.setValue(v0);
+        unprofiledSession.update(e2);
+        profiledSession.update(e2);
+        assertThat(profiledSession.calculateScore(0)).isEqualTo(unprofiledSession.calculateScore(0));
+        // The filter now passes the update to the scorer as well.
+        firstValueProfile = profiledSession.getConstraintProfileMap().get(firstValueProfile.getConstraintId());
+        assertThat(firstValueProfile.getInsertCount()).isEqualTo(11L);
+        assertThat(firstValueProfile.getUpdateCount()).isEqualTo(4L);
+        assertThat(firstValueProfile.getRetractCount()).isZero();
+    }
+
+    private List<BavetConstraint<TestdataSolution>> buildConstraintList() {
+        return buildConstraintList(EnvironmentMode.REPRODUCIBLE);
+    }
+
+    private List<BavetConstraint<TestdataSolution>> buildConstraintList(EnvironmentMode environmentMode) {
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(solutionDescriptor, environmentMode);
+        return constraintFactory.buildConstraints(factory -> new Constraint[] {
+                sameValue(factory),
+                sameValueCount(factory),
+                unusedValue(factory),
+                firstValue(factory),
+                sameValueTriple(factory)
+        });
+    }
+
+    private static Constraint sameValue(ConstraintFactory factory) {
+        return factory.forEachUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                .penalize(SimpleScore.ONE)
+                .asConstraint("Same value");
+    }
+
+    private static Constraint sameValueTriple(ConstraintFactory factory) {
+        return factory.forEachUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                .ifExists(TestdataEntity.class,
+                        Joiners.equal((a, b) -> a.getValue(), TestdataEntity::getValue),
+                        Joiners.filtering((a, b, c) -> c != a && c != b))
+                .penalize(SimpleScore.of(5))
+                .asConstraint("Same value triple");
+    }
+
+    private static Constraint sameValueCount(ConstraintFactory factory) {
+        return factory.forEach(TestdataEntity.class)
+                .groupBy(TestdataEntity::getValue, count())
+                .penalize(SimpleScore.ONE, (value, count) -> count * count)
+                .asConstraint("Same value count");
+    }
+
+    private static Constraint unusedValue(ConstraintFactory factory) {
+        return factory.forEach(TestdataValue.class)
+                .ifNotExists(TestdataEntity.class, Joiners.equal(value -> value, TestdataEntity::getValue))
+                .penalize(SimpleScore.of(3))
+                .asConstraint("Unused value");
+    }
+
+    private static Constraint firstValue(ConstraintFactory factory) {
+        return factory.forEach(TestdataEntity.class)
+                .filter(entity -> entity.getValue().getCode().equals("v0"))
+                .reward(SimpleScore.of(2))
+                .asConstraint("First value");
+    }
+
+}
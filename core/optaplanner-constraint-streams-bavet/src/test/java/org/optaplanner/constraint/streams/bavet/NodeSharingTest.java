@@ -2,11 +2,14 @@ package org.optaplanner.constraint.streams.bavet;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.Serializable;
+import java.util.Objects;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.function.TriPredicate;
+import org.optaplanner.core.api.score.stream.Joiners;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
@@ -64,4 +67,49 @@ class NodeSharingTest {
         assertThat(filteredStream1).isSameAs(filteredStream2);
     }
 
-}
\ No newline at end of file
+    private static Predicate<TestdataEntity> hasCode(String code) {
+        return entity -> entity.getCode().equals(code);
+    }
+
+    private static BiPredicate<TestdataEntity, TestdataEntity> haveSameCodeAs(String code) {
+        return (a, b) -> a.getCode().equals(code) && b.getCode().equals(code);
+    }
+
+    @Test
+    void nodeSharingFilterWithEquivalentCapturingLambda() {
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor(), EnvironmentMode.REPRODUCIBLE);
+        UniConstraintStream<TestdataEntity> filteredStream1 = constraintFactory.forEach(TestdataEntity.class)
+                .filter(hasCode("A"));
+        UniConstraintStream<TestdataEntity> filteredStream2 = constraintFactory.forEach(TestdataEntity.class)
+                .filter(hasCode("A"));
+        assertThat(filteredStream1).isSameAs(filteredStream2);
+
+        UniConstraintStream<TestdataEntity> filteredStream3 = constraintFactory.forEach(TestdataEntity.class)
+                .filter(hasCode("B"));
+        assertThat(filteredStream1).isNotSameAs(filteredStream3);
+    }
+
+    @Test
+    void nodeSharingFilterWithSerializableMethodReference() {
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor(), EnvironmentMode.REPRODUCIBLE);
+        UniConstraintStream<TestdataEntity> filteredStream1 = constraintFactory.forEach(TestdataEntity.class)
+                .filter((Predicate<TestdataEntity> & Serializable) Objects::nonNull);
+        UniConstraintStream<TestdataEntity> filteredStream2 = constraintFactory.forEach(TestdataEntity.class)
+                .filter((Predicate<TestdataEntity> & Serializable) Objects::nonNull);
+        assertThat(filteredStream1).isSameAs(filteredStream2);
+    }
+
+    @Test
+    void nodeSharingJoinWithEquivalentCapturingLambda() {
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor(), EnvironmentMode.REPRODUCIBLE);
+        BiConstraintStream<TestdataEntity, TestdataEntity> stream1 = constraintFactory.forEach(TestdataEntity.class)
+                .join(TestdataEntity.class, Joiners.filtering(haveSameCodeAs("A")));
+        BiConstraintStream<TestdataEntity, TestdataEntity> stream2 = constraintFactory.forEach(TestdataEntity.class)
+                .join(TestdataEntity.class, Joiners.filtering(haveSameCodeAs("A")));
+        assertThat(stream1).isSameAs(stream2);
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.optaplanner.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.shadow.TestdataShadowedEntity;
+import org.optaplanner.core.impl.testdata.domain.shadow.TestdataShadowedSolution;
+import org.optaplanner.core.impl.testdata.domain.shadow.inverserelation.TestdataInverseRelationEntity;
+import org.optaplanner.core.impl.testdata.domain.shadow.inverserelation.TestdataInverseRelationSolution;
+import org.optaplanner.core.impl.testdata.domain.shadow.inverserelation.TestdataInverseRelationValue;
+
+class VariableValueTrackerTest {
+
+    @Test
+    void genuineVariable() {
+        GenuineVariableDescriptor<TestdataShadowedSolution> variableDescriptor =
+                TestdataShadowedEntity.buildVariableDescriptorForValue();
+        VariableValueTracker<TestdataShadowedSolution> tracker = new VariableValueTracker<>();
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataShadowedEntity entity = new TestdataShadowedEntity("e1", v1);
+
+        tracker.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(v1);
+        assertThat(tracker.afterVariableChanged(variableDescriptor, entity)).isTrue();
+
+        tracker.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(new TestdataValue("v1"));
+        assertThat(tracker.afterVariableChanged(variableDescriptor, entity)).isFalse();
+
+        entity.setValue(null);
+        tracker.beforeVariableChanged(variableDescriptor, entity);
+        assertThat(tracker.afterVariableChanged(variableDescriptor, entity)).isTrue();
+    }
+
+    @Test
+    void shadowVariable() {
+        ShadowVariableDescriptor<TestdataShadowedSolution> variableDescriptor =
+                TestdataShadowedEntity.buildEntityDescriptor().getShadowVariableDescriptor("firstShadow");
+        VariableValueTracker<TestdataShadowedSolution> tracker = new VariableValueTracker<>();
+        TestdataShadowedEntity entity = new TestdataShadowedEntity("e1");
+        entity.setFirstShadow("a");
+
+        tracker.beforeVariableChanged(variableDescriptor, entity);
+        entity.setFirstShadow(new String("a"));
+        assertThat(tracker.afterVariableChanged(variableDescriptor, entity)).isTrue();
+
+        tracker.beforeVariableChanged(variableDescriptor, entity);
+        entity.setFirstShadow("b");
+        assertThat(tracker.afterVariableChanged(variableDescriptor, entity)).isFalse();
+    }
+
+    @Test
+    void mutableShadowVariable() {
+        ShadowVariableDescriptor<TestdataInverseRelationSolution> variableDescriptor =
+                TestdataInverseRelationSolution.buildSolutionDescriptor()
+                        .findEntityDescriptorOrFail(TestdataInverseRelationValue.class)
+                        .getShadowVariableDescriptor("entities");
+        VariableValueTracker<TestdataInverseRelationSolution> tracker = new VariableValueTracker<>();
+        TestdataInverseRelationValue value = new TestdataInverseRelationValue("v1");
+
+        // The collection is changed in place, so the same instance does not mean the same value.
+        tracker.beforeVariableChanged(variableDescriptor, value);
+        value.getEntities().add(new TestdataInverseRelationEntity("e1"));
+        assertThat(tracker.afterVariableChanged(variableDescriptor, value)).isFalse();
+    }
+
+    @Test
+    void missingOrInterleavedBeforeVariableChanged() {
+        GenuineVariableDescriptor<TestdataShadowedSolution> variableDescriptor =
+                TestdataShadowedEntity.buildVariableDescriptorForValue();
+        VariableValueTracker<TestdataShadowedSolution> tracker = new VariableValueTracker<>();
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataShadowedEntity e1 = new TestdataShadowedEntity("e1", v1);
+        TestdataShadowedEntity e2 = new TestdataShadowedEntity("e2", v1);
+
+        assertThat(tracker.afterVariableChanged(variableDescriptor, e1)).isFalse();
+
+        tracker.beforeVariableChanged(variableDescriptor, e1);
+        tracker.beforeVariableChanged(variableDescriptor, e2);
+        e1.setValue(new TestdataValue("v2"));
+        assertThat(tracker.afterVariableChanged(variableDescriptor, e1)).isFalse();
+        assertThat(tracker.afterVariableChanged(variableDescriptor, e2)).isTrue();
+
+        tracker.beforeVariableChanged(variableDescriptor, e1);
+        tracker.clear();
+        assertThat(tracker.afterVariableChanged(variableDescriptor, e1)).isFalse();
+    }
+
+}
@@ -0,0 +1,66 @@
+package org.optaplanner.constraint.streams.bavet.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.util.Pair;
+import org.optaplanner.core.impl.util.Quadruple;
+import org.optaplanner.core.impl.util.Triple;
+
+class GroupKeyProbeTest {
+
+    @Test
+    void equalsAndHashCodeOfPair() {
+        GroupKeyProbe probe = new GroupKeyProbe();
+        probe.set("a", null);
+        Pair<String, Object> pair = Pair.of("a", null);
+        assertThat(probe).isEqualTo(pair);
+        assertThat(probe).hasSameHashCodeAs(pair);
+        assertThat(probe).isNotEqualTo(Pair.of("a", "b"));
+        assertThat(probe).isNotEqualTo(Triple.of("a", null, null));
+        assertThat(probe.createGroupKey()).isEqualTo(pair);
+    }
+
+    @Test
+    void equalsAndHashCodeOfTriple() {
+        GroupKeyProbe probe = new GroupKeyProbe();
+        probe.set("a", 1, 2L);
+        Triple<String, Integer, Long> triple = Triple.of("a", 1, 2L);
+        assertThat(probe).isEqualTo(triple);
+        assertThat(probe).hasSameHashCodeAs(triple);
+        assertThat(probe).isNotEqualTo(Triple.of("a", 1, 3L));
+        assertThat(probe).isNotEqualTo(Pair.of("a", 1));
+        assertThat(probe.createGroupKey()).isEqualTo(triple);
+    }
+
+    @Test
+    void equalsAndHashCodeOfQuadruple() {
+        GroupKeyProbe probe = new GroupKeyProbe();
+        probe.set("a", 1, 2L, null);
+        Quadruple<String, Integer, Long, Object> quadruple = Quadruple.of("a", 1, 2L, null);
+        assertThat(probe).isEqualTo(quadruple);
+        assertThat(probe).hasSameHashCodeAs(quadruple);
+        assertThat(probe).isNotEqualTo(Quadruple.of("a", 1, 2L, "d"));
+        assertThat(probe.createGroupKey()).isEqualTo(quadruple);
+    }
+
+    @Test
+    void probeHashMap() {
+        Map<Object, String> map = new HashMap<>();
+        map.put(Pair.of("a", 1), "a1");
+        map.put(Pair.of("b", 2), "b2");
+        GroupKeyProbe probe = new GroupKeyProbe();
+        probe.set("a", 1);
+        assertThat(map.get(probe)).isEqualTo("a1");
+        probe.set("b", 1);
+        assertThat(map.get(probe)).isNull();
+        probe.set("b", 2);
+        assertThat(map.get(probe)).isEqualTo("b2");
+        probe.clear();
+        assertThat(probe).hasToString("()");
+    }
+
+}
@@ -1,10 +1,12 @@
 package org.optaplanner.constraint.streams.bavet.common.collection;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
 import org.optaplanner.constraint.streams.bavet.uni.UniTupleImpl;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 class TupleListTest {
 
@@ -46,4 +48,68 @@ class TupleListTest {
         assertThat(tupleList.last()).isNull();
     }
 
+    @Test
+    void recycleEntries() {
+        TupleListPool<UniTuple<String>> pool = new TupleListPool<>();
+        TupleList<UniTuple<String>> tupleList = pool.newList();
+        TupleListEntry<UniTuple<String>> entryA = tupleList.add(new UniTupleImpl<>("A", 0));
+        TupleListEntry<UniTuple<String>> entryB = tupleList.add(new UniTupleImpl<>("B", 0));
+        entryA.remove();
+        assertThat(entryA.getElement()).isNull();
+        assertThat(entryA.getList()).isNull();
+        assertThatThrownBy(entryA::remove).isInstanceOf(IllegalStateException.class);
+
+        TupleList<UniTuple<String>> otherTupleList = pool.newList();
+        TupleListEntry<UniTuple<String>> entryC = otherTupleList.add(new UniTupleImpl<>("C", 0));
+        assertThat(entryC).isSameAs(entryA);
+        assertThat(entryC.getElement().getFactA()).isEqualTo("C");
+        assertThat(entryC.getList()).isSameAs(otherTupleList);
+        assertThat(entryC.previous).isNull();
+        assertThat(entryC.next).isNull();
+        assertThat(tupleList.first()).isEqualTo(entryB);
+        assertThat(tupleList.size()).isEqualTo(1);
+    }
+
+    @Test
+    void staleEntryFailsFastIfAsserted() {
+        TupleListPool<UniTuple<String>> pool = new TupleListPool<>(EnvironmentMode.FULL_ASSERT);
+        TupleList<UniTuple<String>> tupleList = pool.newList();
+        TupleListEntry<UniTuple<String>> entryA = tupleList.add(new UniTupleImpl<>("A", 0));
+        entryA.remove();
+
+        TupleListEntry<UniTuple<String>> entryB = tupleList.add(new UniTupleImpl<>("B", 0));
+        assertThat(entryB).isNotSameAs(entryA);
+        assertThatThrownBy(entryA::remove)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("A");
+        assertThat(tupleList.first()).isSameAs(entryB);
+        assertThat(tupleList.size()).isEqualTo(1);
+    }
+
+    @Test
+    void recycleLists() {
+        TupleListPool<UniTuple<String>> pool = new TupleListPool<>();
+        TupleList<UniTuple<String>> tupleList = pool.newList();
+        TupleListEntry<UniTuple<String>> entryA = tupleList.add(new UniTupleImpl<>("A", 0));
+        assertThatThrownBy(() -> pool.releaseList(tupleList)).isInstanceOf(IllegalStateException.class);
+
+        entryA.remove();
+        pool.releaseList(tupleList);
+        assertThat(pool.newList()).isSameAs(tupleList);
+        assertThat(pool.newList()).isNotSameAs(tupleList);
+    }
+
+    @Test
+    void maxPooledCount() {
+        TupleListPool<UniTuple<String>> pool = new TupleListPool<>(1);
+        TupleList<UniTuple<String>> tupleList = pool.newList();
+        TupleListEntry<UniTuple<String>> entryA = tupleList.add(new UniTupleImpl<>("A", 0));
+        TupleListEntry<UniTuple<String>> entryB = tupleList.add(new UniTupleImpl<>("B", 0));
+        entryA.remove();
+        entryB.remove(); // Exceeds the max pooled count, so it is not recycled.
+        assertThat(entryB.getElement().getFactA()).isEqualTo("B");
+        assertThat(tupleList.add(new UniTupleImpl<>("C", 0))).isSameAs(entryA);
+        assertThat(tupleList.add(new UniTupleImpl<>("D", 0))).isNotSameAs(entryB);
+    }
+
 }
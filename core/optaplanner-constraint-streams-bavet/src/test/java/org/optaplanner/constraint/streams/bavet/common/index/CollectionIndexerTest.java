@@ -0,0 +1,178 @@
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.constraint.streams.bavet.uni.UniTupleImpl;
+import org.optaplanner.constraint.streams.common.bi.DefaultBiJoiner;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.score.stream.JoinerType;
+
+class CollectionIndexerTest extends AbstractIndexerTest {
+
+    @Test
+    void containingLeft() {
+        Indexer<UniTuple<String>> indexer = buildIndexer(JoinerType.CONTAINING, true);
+        assertThat(indexer).isInstanceOf(CollectionIndexer.class);
+        UniTuple<String> ann = newTuple("Ann");
+        indexer.put(new SingleIndexProperties(Set.of("Java", "SQL")), ann);
+        UniTuple<String> beth = newTuple("Beth");
+        indexer.put(new SingleIndexProperties(List.of("Java", "Java")), beth);
+
+        assertThat(getTuples(indexer, "Java")).containsExactlyInAnyOrder(ann, beth);
+        assertThat(getTuples(indexer, "SQL")).containsExactly(ann);
+        assertThat(getTuples(indexer, "C")).isEmpty();
+        assertThat(indexer.size(new SingleIndexProperties("Java"))).isEqualTo(2);
+    }
+
+    @Test
+    void containingRight() {
+        Indexer<UniTuple<String>> indexer = buildIndexer(JoinerType.CONTAINING, false);
+        UniTuple<String> java = newTuple("Java");
+        indexer.put(new SingleIndexProperties("Java"), java);
+        UniTuple<String> sql = newTuple("SQL");
+        indexer.put(new SingleIndexProperties("SQL"), sql);
+
+        assertThat(getTuples(indexer, List.of("Java", "Java", "SQL"))).containsExactlyInAnyOrder(java, sql);
+        assertThat(getTuples(indexer, Set.of("SQL", "C"))).containsExactly(sql);
+        assertThat(getTuples(indexer, Set.of())).isEmpty();
+    }
+
+    @Test
+    void intersectingAndDisjoint() {
+        Indexer<UniTuple<String>> intersectingIndexer = buildIndexer(JoinerType.INTERSECTING, true);
+        Indexer<UniTuple<String>> disjointIndexer = buildIndexer(JoinerType.DISJOINT, true);
+        UniTuple<String> ann = newTuple("Ann");
+        UniTuple<String> beth = newTuple("Beth");
+        UniTuple<String> carl = newTuple("Carl");
+        for (Indexer<UniTuple<String>> indexer : List.of(intersectingIndexer, disjointIndexer)) {
+            indexer.put(new SingleIndexProperties(Set.of("Java", "SQL")), ann);
+            indexer.put(new SingleIndexProperties(Set.of("SQL", "C")), beth);
+            indexer.put(new SingleIndexProperties(Set.of()), carl);
+        }
+
+        assertThat(getTuples(intersectingIndexer, Set.of("Java", "SQL"))).containsExactlyInAnyOrder(ann, beth);
+        assertThat(getTuples(intersectingIndexer, Set.of("C"))).containsExactly(beth);
+        assertThat(getTuples(intersectingIndexer, Set.of())).isEmpty();
+        assertThat(getTuples(disjointIndexer, Set.of("Java", "SQL"))).containsExactly(carl);
+        assertThat(getTuples(disjointIndexer, Set.of("C"))).containsExactlyInAnyOrder(ann, carl);
+        assertThat(getTuples(disjointIndexer, Set.of())).containsExactlyInAnyOrder(ann, beth, carl);
+        assertThat(disjointIndexer.size(new SingleIndexProperties(Set.of("C")))).isEqualTo(2);
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>> indexer = buildIndexer(JoinerType.INTERSECTING, true);
+        IndexProperties properties = new SingleIndexProperties(Set.of("Java", "SQL"));
+        TupleListEntry<UniTuple<String>> entry = indexer.put(properties, newTuple("Ann"));
+        assertThat(indexer.isEmpty()).isFalse();
+
+        indexer.remove(properties, entry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, Set.of("Java"))).isEmpty();
+        assertThatThrownBy(() -> indexer.remove(properties, entry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void equalAndContaining() {
+        DefaultBiJoiner<Object, Object> joiner = (DefaultBiJoiner<Object, Object>) Joiners.equal(a -> a)
+                .and(new DefaultBiJoiner<>(a -> a, JoinerType.CONTAINING, b -> b));
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
+        assertThat(indexer).isInstanceOf(EqualsIndexer.class);
+        UniTuple<String> ann = newTuple("Ann");
+        indexer.put(new ManyIndexProperties("F", Set.of("Java", "SQL")), ann);
+        indexer.put(new ManyIndexProperties("M", Set.of("Java")), newTuple("Carl"));
+
+        assertThat(getTuples(indexer, "F", "Java")).containsExactly(ann);
+        assertThat(getTuples(indexer, "F", "C")).isEmpty();
+    }
+
+    @Test
+    void multipleCollectionJoiners() {
+        DefaultBiJoiner<Object, Object> joiner = new DefaultBiJoiner<>(a -> a, JoinerType.CONTAINING, b -> b)
+                .and(new DefaultBiJoiner<>(a -> a, JoinerType.EQUAL, b -> b))
+                .and(new DefaultBiJoiner<>(a -> a, JoinerType.DISJOINT, b -> b));
+        Indexer<UniTuple<String>> leftIndexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
+        Indexer<UniTuple<String>> rightIndexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(false);
+        UniTuple<String> ann = newTuple("Ann");
+        leftIndexer.put(new ManyIndexProperties(Set.of("Java"), "F", Set.of("Monday")), ann);
+        UniTuple<String> java = newTuple("Java");
+        rightIndexer.put(new ManyIndexProperties("Java", "F", Set.of("Tuesday")), java);
+
+        assertThat(getTuples(leftIndexer, "Java", "F", Set.of("Tuesday"))).containsExactly(ann);
+        assertThat(getTuples(leftIndexer, "Java", "F", Set.of("Monday"))).isEmpty();
+        assertThat(getTuples(leftIndexer, "Java", "M", Set.of("Tuesday"))).isEmpty();
+        assertThat(getTuples(rightIndexer, Set.of("Java", "SQL"), "F", Set.of("Monday"))).containsExactly(java);
+        assertThat(getTuples(rightIndexer, Set.of("Java", "SQL"), "F", Set.of("Tuesday"))).isEmpty();
+    }
+
+    @Test
+    void matchesBruteForce() {
+        for (JoinerType joinerType : List.of(JoinerType.CONTAINING, JoinerType.INTERSECTING, JoinerType.DISJOINT)) {
+            for (boolean isLeftBridge : new boolean[] { true, false }) {
+                assertMatchesBruteForce(joinerType, isLeftBridge);
+            }
+        }
+    }
+
+    private void assertMatchesBruteForce(JoinerType joinerType, boolean isLeftBridge) {
+        Random random = new Random(37);
+        boolean isStoredCollection = joinerType != JoinerType.CONTAINING || isLeftBridge;
+        Indexer<UniTuple<Object>> indexer = buildIndexer(joinerType, isLeftBridge);
+        List<UniTuple<Object>> tupleList = new ArrayList<>();
+        List<TupleListEntry<UniTuple<Object>>> entryList = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            if (tupleList.isEmpty() || random.nextInt(3) != 0) {
+                Object key = isStoredCollection ? randomCollection(random) : random.nextInt(10);
+                UniTuple<Object> tuple = new UniTupleImpl<>(key, 0);
+                tupleList.add(tuple);
+                entryList.add(indexer.put(new SingleIndexProperties(key), tuple));
+            } else {
+                int index = random.nextInt(tupleList.size());
+                UniTuple<Object> tuple = tupleList.remove(index);
+                indexer.remove(new SingleIndexProperties(tuple.getFactA()), entryList.remove(index));
+            }
+            Object query = isStoredCollection && joinerType == JoinerType.CONTAINING ? random.nextInt(10)
+                    : randomCollection(random);
+            List<UniTuple<Object>> expected = new ArrayList<>();
+            for (UniTuple<Object> tuple : tupleList) {
+                Object stored = tuple.getFactA();
+                if (isLeftBridge ? joinerType.matches(stored, query) : joinerType.matches(query, stored)) {
+                    expected.add(tuple);
+                }
+            }
+            assertThat(getTuples(indexer, query)).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(indexer.size(new SingleIndexProperties(query))).isEqualTo(expected.size());
+        }
+    }
+
+    private static Collection<Integer> randomCollection(Random random) {
+        Integer[] elements = new Integer[random.nextInt(4)];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = random.nextInt(10);
+        }
+        return Arrays.asList(elements); // May contain duplicates.
+    }
+
+    private static <T> Indexer<T> buildIndexer(JoinerType joinerType, boolean isLeftBridge) {
+        DefaultBiJoiner<Object, Object> joiner = new DefaultBiJoiner<>(a -> a, joinerType, b -> b);
+        return new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(isLeftBridge);
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTupleImpl<>(factA, 0);
+    }
+
+}
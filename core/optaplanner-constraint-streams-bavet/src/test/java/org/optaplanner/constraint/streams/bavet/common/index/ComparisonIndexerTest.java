@@ -0,0 +1,88 @@
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.core.impl.score.stream.JoinerType;
+
+class ComparisonIndexerTest extends AbstractIndexerTest {
+
+    @Test
+    void removeTwice() {
+        Indexer<String> indexer = new ComparisonIndexer<>(JoinerType.LESS_THAN, NoneIndexer::new);
+        TupleListEntry<String> entry = indexer.put(new SingleIndexProperties(1), "A");
+        assertThat(indexer.isEmpty()).isFalse();
+        indexer.remove(new SingleIndexProperties(1), entry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new SingleIndexProperties(1), entry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visitInKeyOrder() {
+        Indexer<String> indexer = new ComparisonIndexer<>(JoinerType.GREATER_THAN_OR_EQUAL, NoneIndexer::new);
+        for (int key : new int[] { 3, 1, 4, 5, 9, 2, 6 }) {
+            indexer.put(new SingleIndexProperties(key), Integer.toString(key));
+        }
+        // Stored GTE query; iterates from the largest key down.
+        assertThat(getTuples(indexer, 4)).containsExactly("9", "6", "5", "4");
+        assertThat(indexer.size(new SingleIndexProperties(4))).isEqualTo(4);
+        assertThat(getTuples(indexer, 10)).isEmpty();
+        assertThat(indexer.size(new SingleIndexProperties(0))).isEqualTo(7);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = JoinerType.class,
+            names = { "LESS_THAN", "LESS_THAN_OR_EQUAL", "GREATER_THAN", "GREATER_THAN_OR_EQUAL" })
+    void randomAgainstBruteForce(JoinerType joinerType) {
+        Random random = new Random(37);
+        // Downstream equals indexer, so the size is not taken from the subtree counts.
+        Indexer<int[]> indexer = new ComparisonIndexer<>(joinerType, 0,
+                () -> new EqualsIndexer<>(1, 2, NoneIndexer::new));
+        Indexer<int[]> countingIndexer = new ComparisonIndexer<>(joinerType, 0, NoneIndexer::new);
+        List<int[]> storedList = new ArrayList<>();
+        List<TupleListEntry<int[]>> entryList = new ArrayList<>();
+        List<TupleListEntry<int[]>> countingEntryList = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (storedList.isEmpty() || random.nextInt(3) != 0) {
+                int[] stored = { random.nextInt(50), random.nextInt(2) };
+                storedList.add(stored);
+                entryList.add(indexer.put(new ManyIndexProperties(stored[0], stored[1]), stored));
+                countingEntryList.add(countingIndexer.put(new ManyIndexProperties(stored[0], stored[1]), stored));
+            } else {
+                int index = random.nextInt(storedList.size());
+                int[] stored = storedList.remove(index);
+                indexer.remove(new ManyIndexProperties(stored[0], stored[1]), entryList.remove(index));
+                countingIndexer.remove(new ManyIndexProperties(stored[0], stored[1]), countingEntryList.remove(index));
+            }
+            int queryKey = random.nextInt(52) - 1;
+            int queryGroup = random.nextInt(2);
+            List<int[]> expectedList = new ArrayList<>();
+            List<int[]> expectedCountingList = new ArrayList<>();
+            for (int[] stored : storedList) {
+                if (joinerType.matches(stored[0], queryKey)) {
+                    expectedCountingList.add(stored);
+                    if (stored[1] == queryGroup) {
+                        expectedList.add(stored);
+                    }
+                }
+            }
+            IndexProperties queryProperties = new ManyIndexProperties(queryKey, queryGroup);
+            assertThat(getTuples(indexer, queryKey, queryGroup)).containsExactlyInAnyOrderElementsOf(expectedList);
+            assertThat(indexer.size(queryProperties)).isEqualTo(expectedList.size());
+            assertThat(getTuples(countingIndexer, queryKey, queryGroup))
+                    .containsExactlyInAnyOrderElementsOf(expectedCountingList);
+            assertThat(countingIndexer.size(queryProperties)).isEqualTo(expectedCountingList.size());
+            assertThat(indexer.isEmpty()).isEqualTo(storedList.isEmpty());
+        }
+    }
+
+}
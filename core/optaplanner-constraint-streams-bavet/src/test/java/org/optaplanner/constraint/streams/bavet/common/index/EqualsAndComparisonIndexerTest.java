@@ -9,6 +9,7 @@ import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
 import org.optaplanner.constraint.streams.bavet.uni.UniTupleImpl;
 import org.optaplanner.constraint.streams.common.bi.DefaultBiJoiner;
 import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 class EqualsAndComparisonIndexerTest extends AbstractIndexerTest {
 
@@ -18,13 +19,13 @@ class EqualsAndComparisonIndexerTest extends AbstractIndexerTest {
 
     @Test
     void iEmpty() {
-        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
         assertThat(getTuples(indexer, "F", 40)).isEmpty();
     }
 
     @Test
     void put() {
-        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
         UniTuple<String> annTuple = newTuple("Ann-F-40");
         assertThat(indexer.size(new ManyIndexProperties("F", 40))).isEqualTo(0);
         indexer.put(new ManyIndexProperties("F", 40), annTuple);
@@ -33,7 +34,7 @@ class EqualsAndComparisonIndexerTest extends AbstractIndexerTest {
 
     @Test
     void removeTwice() {
-        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
         UniTuple<String> annTuple = newTuple("Ann-F-40");
         TupleListEntry<UniTuple<String>> annEntry = indexer.put(new ManyIndexProperties("F", 40), annTuple);
 
@@ -44,7 +45,7 @@ class EqualsAndComparisonIndexerTest extends AbstractIndexerTest {
 
     @Test
     void visit() {
-        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
 
         UniTuple<String> annTuple = newTuple("Ann-F-40");
         indexer.put(new ManyIndexProperties("F", 40), annTuple);
@@ -3,12 +3,17 @@ package org.optaplanner.constraint.streams.bavet.common.index;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListPool;
 import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
 import org.optaplanner.constraint.streams.bavet.uni.UniTupleImpl;
 import org.optaplanner.constraint.streams.common.bi.DefaultBiJoiner;
 import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 
 class EqualsIndexerTest extends AbstractIndexerTest {
 
@@ -18,13 +23,13 @@ class EqualsIndexerTest extends AbstractIndexerTest {
 
     @Test
     void isEmpty() {
-        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
         assertThat(getTuples(indexer, "F", 40)).isEmpty();
     }
 
     @Test
     void put() {
-        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
         UniTuple<String> annTuple = newTuple("Ann-F-40");
         assertThat(indexer.size(new ManyIndexProperties("F", 40))).isEqualTo(0);
         indexer.put(new ManyIndexProperties("F", 40), annTuple);
@@ -33,7 +38,7 @@ class EqualsIndexerTest extends AbstractIndexerTest {
 
     @Test
     void removeTwice() {
-        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
         UniTuple<String> annTuple = newTuple("Ann-F-40");
         TupleListEntry<UniTuple<String>> annEntry = indexer.put(new ManyIndexProperties("F", 40), annTuple);
 
@@ -44,7 +49,7 @@ class EqualsIndexerTest extends AbstractIndexerTest {
 
     @Test
     void visit() {
-        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
 
         UniTuple<String> annTuple = newTuple("Ann-F-40");
         indexer.put(new ManyIndexProperties("F", 40), annTuple);
@@ -60,8 +65,111 @@ class EqualsIndexerTest extends AbstractIndexerTest {
         assertThat(getTuples(indexer, "F", 20)).isEmpty();
     }
 
+    @Test
+    void reuseEmptiedBucket() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        TupleListEntry<UniTuple<String>> annEntry = indexer.put(new ManyIndexProperties("F", 40), annTuple);
+        indexer.remove(new ManyIndexProperties("F", 40), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(indexer.size(new ManyIndexProperties("F", 40))).isEqualTo(0);
+        assertThat(getTuples(indexer, "F", 40)).isEmpty();
+
+        UniTuple<String> ednaTuple = newTuple("Edna-F-40");
+        indexer.put(new ManyIndexProperties("F", 40), ednaTuple);
+        assertThat(indexer.isEmpty()).isFalse();
+        assertThat(getTuples(indexer, "F", 40)).containsOnly(ednaTuple);
+    }
+
+    @Test
+    void reuseEmptiedBucketForAnotherKey() {
+        Indexer<UniTuple<String>> indexer = new EqualsIndexer<>(() -> new NoneIndexer<>(new TupleListPool<>()));
+        // All the keys collide, so they share a single probe sequence.
+        CollidingKey a = new CollidingKey("A");
+        CollidingKey b = new CollidingKey("B");
+        CollidingKey c = new CollidingKey("C");
+        TupleListEntry<UniTuple<String>> aEntry = indexer.put(new SingleIndexProperties(a), newTuple("A"));
+        TupleListEntry<UniTuple<String>> bEntry = indexer.put(new SingleIndexProperties(b), newTuple("B"));
+        UniTuple<String> cTuple = newTuple("C");
+        indexer.put(new SingleIndexProperties(c), cTuple);
+        indexer.remove(new SingleIndexProperties(a), aEntry);
+        indexer.remove(new SingleIndexProperties(b), bEntry);
+        assertThat(getTuples(indexer, a)).isEmpty();
+        assertThat(getTuples(indexer, b)).isEmpty();
+        assertThat(getTuples(indexer, c)).containsOnly(cTuple);
+        assertThatThrownBy(() -> indexer.remove(new SingleIndexProperties(a), aEntry))
+                .isInstanceOf(IllegalStateException.class);
+
+        UniTuple<String> dTuple = newTuple("D");
+        CollidingKey d = new CollidingKey("D");
+        indexer.put(new SingleIndexProperties(d), dTuple);
+        UniTuple<String> bTuple = newTuple("B");
+        indexer.put(new SingleIndexProperties(b), bTuple);
+        assertThat(getTuples(indexer, a)).isEmpty();
+        assertThat(getTuples(indexer, b)).containsOnly(bTuple);
+        assertThat(getTuples(indexer, c)).containsOnly(cTuple);
+        assertThat(getTuples(indexer, d)).containsOnly(dTuple);
+    }
+
+    @Test
+    void manyKeys() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
+        int keyCount = 1_000;
+        List<TupleListEntry<UniTuple<String>>> entryList = new ArrayList<>(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            entryList.add(indexer.put(new ManyIndexProperties("F", i), newTuple("F-" + i)));
+        }
+        for (int i = 0; i < keyCount; i += 2) { // Empty every other bucket.
+            indexer.remove(new ManyIndexProperties("F", i), entryList.get(i));
+        }
+        for (int i = keyCount; i < 3 * keyCount; i++) { // Forces the emptied buckets to be purged.
+            indexer.put(new ManyIndexProperties("M", i), newTuple("M-" + i));
+        }
+        for (int i = 0; i < keyCount; i++) {
+            assertThat(getTuples(indexer, "F", i)).hasSize(i % 2 == 0 ? 0 : 1);
+        }
+        for (int i = keyCount; i < 3 * keyCount; i++) {
+            assertThat(indexer.size(new ManyIndexProperties("M", i))).isEqualTo(1);
+        }
+        assertThat(getTuples(indexer, "M", 0)).isEmpty();
+    }
+
+    @Test
+    void nullKey() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-null-40");
+        indexer.put(new ManyIndexProperties(null, 40), annTuple);
+        assertThat(getTuples(indexer, null, 40)).containsOnly(annTuple);
+        assertThat(getTuples(indexer, "F", 40)).isEmpty();
+    }
+
     private static UniTuple<String> newTuple(String factA) {
         return new UniTupleImpl<>(factA, 0);
     }
 
+    private static final class CollidingKey {
+
+        private final String code;
+
+        CollidingKey(String code) {
+            this.code = code;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).code.equals(code);
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return code;
+        }
+
+    }
+
 }
@@ -0,0 +1,163 @@
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.constraint.streams.bavet.common.collection.TupleListEntry;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.constraint.streams.bavet.uni.UniTupleImpl;
+import org.optaplanner.constraint.streams.common.bi.DefaultBiJoiner;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+
+class IntervalIndexerTest extends AbstractIndexerTest {
+
+    private final DefaultBiJoiner<Shift, Shift> joiner =
+            (DefaultBiJoiner<Shift, Shift>) Joiners.overlapping((Shift s) -> s.start, s -> s.end);
+
+    @Test
+    void isEmpty() {
+        Indexer<UniTuple<Shift>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
+        assertThat(indexer).isInstanceOf(IntervalIndexer.class);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<Shift>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
+        Shift shift = new Shift(0, 10);
+        TupleListEntry<UniTuple<Shift>> entry = indexer.put(leftProperties(shift), new UniTupleImpl<>(shift, 0));
+        assertThat(indexer.isEmpty()).isFalse();
+        indexer.remove(leftProperties(shift), entry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(leftProperties(shift), entry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visitLeft() {
+        Indexer<UniTuple<Shift>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
+        UniTuple<Shift> morning = put(indexer, new Shift(6, 14), true);
+        UniTuple<Shift> afternoon = put(indexer, new Shift(14, 22), true);
+        UniTuple<Shift> night = put(indexer, new Shift(22, 30), true);
+
+        // Left tuples are probed with the right properties: end first, then start.
+        assertThat(getTuples(indexer, 14, 6)).containsOnly(morning);
+        assertThat(getTuples(indexer, 15, 13)).containsOnly(morning, afternoon);
+        assertThat(getTuples(indexer, 40, 0)).containsOnly(morning, afternoon, night);
+        assertThat(getTuples(indexer, 6, 0)).isEmpty();
+        assertThat(indexer.size(new ManyIndexProperties(15, 13))).isEqualTo(2);
+    }
+
+    @Test
+    void visitRight() {
+        Indexer<UniTuple<Shift>> indexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(false);
+        UniTuple<Shift> morning = put(indexer, new Shift(6, 14), false);
+        UniTuple<Shift> afternoon = put(indexer, new Shift(14, 22), false);
+        UniTuple<Shift> night = put(indexer, new Shift(22, 30), false);
+
+        // Right tuples are probed with the left properties: start first, then end.
+        assertThat(getTuples(indexer, 6, 14)).containsOnly(morning);
+        assertThat(getTuples(indexer, 13, 15)).containsOnly(morning, afternoon);
+        assertThat(getTuples(indexer, 0, 40)).containsOnly(morning, afternoon, night);
+        assertThat(getTuples(indexer, 0, 6)).isEmpty();
+        assertThat(indexer.size(new ManyIndexProperties(13, 15))).isEqualTo(2);
+    }
+
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(37);
+        Indexer<UniTuple<Shift>> leftIndexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
+        Indexer<UniTuple<Shift>> rightIndexer = new IndexerFactory(joiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(false);
+        List<UniTuple<Shift>> tupleList = new ArrayList<>();
+        List<TupleListEntry<UniTuple<Shift>>> leftEntryList = new ArrayList<>();
+        List<TupleListEntry<UniTuple<Shift>>> rightEntryList = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            if (tupleList.isEmpty() || random.nextInt(3) != 0) {
+                int start = random.nextInt(100);
+                Shift shift = new Shift(start, start + 1 + random.nextInt(20));
+                UniTuple<Shift> tuple = new UniTupleImpl<>(shift, 0);
+                tupleList.add(tuple);
+                leftEntryList.add(leftIndexer.put(leftProperties(shift), tuple));
+                rightEntryList.add(rightIndexer.put(rightProperties(shift), tuple));
+            } else {
+                int index = random.nextInt(tupleList.size());
+                Shift shift = tupleList.remove(index).getFactA();
+                leftIndexer.remove(leftProperties(shift), leftEntryList.remove(index));
+                rightIndexer.remove(rightProperties(shift), rightEntryList.remove(index));
+            }
+            int queryStart = random.nextInt(110);
+            Shift query = new Shift(queryStart, queryStart + 1 + random.nextInt(20));
+            List<UniTuple<Shift>> expected = new ArrayList<>();
+            for (UniTuple<Shift> tuple : tupleList) {
+                Shift shift = tuple.getFactA();
+                if (shift.start < query.end && query.start < shift.end) {
+                    expected.add(tuple);
+                }
+            }
+            assertThat(getTuples(leftIndexer, query.end, query.start)).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(leftIndexer.size(rightProperties(query))).isEqualTo(expected.size());
+            assertThat(getTuples(rightIndexer, query.start, query.end)).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(rightIndexer.size(leftProperties(query))).isEqualTo(expected.size());
+        }
+    }
+
+    @Test
+    void equalAndOverlapping() {
+        DefaultBiJoiner<Shift, Shift> equalJoiner = (DefaultBiJoiner<Shift, Shift>) Joiners.equal((Shift s) -> s.employee)
+                .and(joiner);
+        Indexer<UniTuple<Shift>> indexer = new IndexerFactory(equalJoiner, EnvironmentMode.REPRODUCIBLE).buildIndexer(true);
+        Shift annShift = new Shift("Ann", 6, 14);
+        UniTuple<Shift> annTuple = new UniTupleImpl<>(annShift, 0);
+        indexer.put(new ManyIndexProperties("Ann", 6, 14), annTuple);
+        indexer.put(new ManyIndexProperties("Beth", 6, 14), new UniTupleImpl<>(new Shift("Beth", 6, 14), 0));
+
+        assertThat(getTuples(indexer, "Ann", 10, 8)).containsOnly(annTuple);
+        assertThat(getTuples(indexer, "Ann", 20, 14)).isEmpty();
+        assertThat(getTuples(indexer, "Carl", 10, 8)).isEmpty();
+    }
+
+    private static UniTuple<Shift> put(Indexer<UniTuple<Shift>> indexer, Shift shift, boolean isLeftBridge) {
+        UniTuple<Shift> tuple = new UniTupleImpl<>(shift, 0);
+        indexer.put(isLeftBridge ? leftProperties(shift) : rightProperties(shift), tuple);
+        return tuple;
+    }
+
+    private static IndexProperties leftProperties(Shift shift) {
+        return new ManyIndexProperties(shift.start, shift.end);
+    }
+
+    private static IndexProperties rightProperties(Shift shift) {
+        return new ManyIndexProperties(shift.end, shift.start);
+    }
+
+    static final class Shift {
+
+        final String employee;
+        final int start;
+        final int end;
+
+        Shift(int start, int end) {
+            this(null, start, end);
+        }
+
+        Shift(String employee, int start, int end) {
+            this.employee = employee;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String toString() {
+            return employee + "[" + start + "-" + end + "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package org.optaplanner.constraint.streams.common;
+
+import java.io.Serializable;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Structural equality of the functions (predicates, mappings, ...) passed to constraint streams,
+ * so that node sharing also works for lambdas and method references that are not the same instance.
+ * <p>
+ * Two functions are equivalent if they are {@link Object#equals(Object) equal}, or if they are both lambdas and:
+ * <ul>
+ * <li>they are both {@link Serializable} and have the same implementation method and equivalent captured arguments,
+ * for example the method reference {@code Shift::isNight} cast to {@code (Predicate<Shift> & Serializable)}
+ * at two different call sites, or</li>
+ * <li>they come from the same call site (and therefore the same lambda class) and have equivalent captured arguments,
+ * for example {@code shift -> shift.getType() == type} in a helper method called twice with the same {@code type}.</li>
+ * </ul>
+ * The JVM does not expose the implementation method of a lambda that is not {@link Serializable},
+ * so non-serializable lambdas from different call sites are never equivalent,
+ * even if they refer to the same method.
+ * Likewise, the captured arguments of a lambda in a module that is not open (such as {@code Predicate.and(...)})
+ * cannot be read, so such a lambda is only equivalent to itself.
+ * <p>
+ * Captured arguments are compared once, when the constraint streams are built.
+ * A captured argument that is mutated afterwards could make two shared nodes diverge,
+ * so constraint providers should only capture immutable values.
+ */
+public final class LambdaEquality {
+
+    public static boolean areEquivalent(Object a, Object b) {
+        if (a == b) {
+            return true;
+        } else if (a == null || b == null) {
+            return false;
+        }
+        Class<?> aClass = a.getClass();
+        Class<?> bClass = b.getClass();
+        if (!isLambda(aClass) || !isLambda(bClass)) {
+            return a.equals(b);
+        }
+        SerializedLambda aSerializedLambda = serialize(a);
+        SerializedLambda bSerializedLambda = serialize(b);
+        if (aSerializedLambda != null && bSerializedLambda != null) {
+            return aSerializedLambda.getFunctionalInterfaceClass().equals(bSerializedLambda.getFunctionalInterfaceClass())
+                    && aSerializedLambda.getImplMethodKind() == bSerializedLambda.getImplMethodKind()
+                    && aSerializedLambda.getImplClass().equals(bSerializedLambda.getImplClass())
+                    && aSerializedLambda.getImplMethodName().equals(bSerializedLambda.getImplMethodName())
+                    && aSerializedLambda.getImplMethodSignature().equals(bSerializedLambda.getImplMethodSignature())
+                    && areEquivalent(getCapturedArgs(aSerializedLambda), getCapturedArgs(bSerializedLambda));
+        } else if (aClass != bClass) {
+            return false;
+        }
+        Object[] aCapturedArgs = readCapturedArgs(a);
+        Object[] bCapturedArgs = readCapturedArgs(b);
+        if (aCapturedArgs == null || bCapturedArgs == null) { // Inaccessible, fall back to identity.
+            return false;
+        }
+        return areEquivalent(aCapturedArgs, bCapturedArgs);
+    }
+
+    public static boolean areEquivalent(Object[] a, Object[] b) {
+        if (a == b) {
+            return true;
+        } else if (a == null || b == null || a.length != b.length) {
+            return false;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (!areEquivalent(a[i], b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param function sometimes null
+     * @return the same for all functions that are {@link #areEquivalent(Object, Object) equivalent}
+     */
+    public static int hashCode(Object function) {
+        if (function == null) {
+            return 0;
+        }
+        Class<?> functionClass = function.getClass();
+        if (!isLambda(functionClass)) {
+            return function.hashCode();
+        }
+        SerializedLambda serializedLambda = serialize(function);
+        if (serializedLambda != null) {
+            return Objects.hash(serializedLambda.getImplClass(), serializedLambda.getImplMethodName(),
+                    serializedLambda.getImplMethodSignature());
+        }
+        // Captured arguments are ignored, their hashCode() might not be consistent with their equivalence.
+        return functionClass.hashCode();
+    }
+
+    public static int hashCode(Object[] functions) {
+        if (functions == null) {
+            return 0;
+        }
+        int result = 1;
+        for (Object function : functions) {
+            result = 31 * result + hashCode(function);
+        }
+        return result;
+    }
+
+    private static boolean isLambda(Class<?> functionClass) {
+        return functionClass.isSynthetic() && functionClass.getName().contains("$$Lambda");
+    }
+
+    private static SerializedLambda serialize(Object function) {
+        if (!(function instanceof Serializable)) {
+            return null;
+        }
+        try {
+            Method writeReplace = function.getClass().getDeclaredMethod("writeReplace");
+            writeReplace.setAccessible(true);
+            Object replacement = writeReplace.invoke(function);
+            return replacement instanceof SerializedLambda ? (SerializedLambda) replacement : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object[] getCapturedArgs(SerializedLambda serializedLambda) {
+        Object[] capturedArgs = new Object[serializedLambda.getCapturedArgCount()];
+        for (int i = 0; i < capturedArgs.length; i++) {
+            capturedArgs[i] = serializedLambda.getCapturedArg(i);
+        }
+        return capturedArgs;
+    }
+
+    private static Object[] readCapturedArgs(Object function) {
+        Field[] fields = Arrays.stream(function.getClass().getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .toArray(Field[]::new);
+        Object[] capturedArgs = new Object[fields.length];
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                fields[i].setAccessible(true);
+                capturedArgs[i] = fields[i].get(function);
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+        return capturedArgs;
+    }
+
+    private LambdaEquality() {
+    }
+
+}
@@ -1,8 +1,8 @@
 package org.optaplanner.constraint.streams.common.bi;
 
-import java.util.Objects;
 import java.util.function.BiPredicate;
 
+import org.optaplanner.constraint.streams.common.LambdaEquality;
 import org.optaplanner.core.api.score.stream.bi.BiJoiner;
 
 public final class FilteringBiJoiner<A, B> implements BiJoiner<A, B> {
@@ -32,11 +32,11 @@ public final class FilteringBiJoiner<A, B> implements BiJoiner<A, B> {
             return false;
         }
         FilteringBiJoiner<?, ?> other = (FilteringBiJoiner<?, ?>) o;
-        return Objects.equals(filter, other.filter);
+        return LambdaEquality.areEquivalent(filter, other.filter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(filter);
+        return LambdaEquality.hashCode(filter);
     }
 }
@@ -2,9 +2,7 @@ package org.optaplanner.constraint.streams.common.inliner;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
@@ -96,13 +94,22 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
     }
 
     protected final boolean constraintMatchEnabled;
-    private final Map<String, DefaultConstraintMatchTotal<Score_>> constraintMatchTotalMap;
-    private final Map<Object, DefaultIndictment<Score_>> indictmentMap;
+    /**
+     * Sentinel of a circular doubly linked list of the current constraint matches, in the order they were added.
+     * Adding or undoing a match only links or unlinks a {@link ConstraintMatchCarrier},
+     * the {@link ConstraintMatch}es, {@link ConstraintMatchTotal}s and {@link Indictment}s
+     * are only created when they are requested.
+     */
+    private final ConstraintMatchCarrier<Score_> constraintMatchCarrierSentinel;
+    /**
+     * Null if outdated, see {@link #materializeConstraintMatches()}.
+     */
+    private Map<String, DefaultConstraintMatchTotal<Score_>> constraintMatchTotalMap = null;
+    private Map<Object, DefaultIndictment<Score_>> indictmentMap = null;
 
     protected AbstractScoreInliner(boolean constraintMatchEnabled) {
         this.constraintMatchEnabled = constraintMatchEnabled;
-        this.constraintMatchTotalMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
-        this.indictmentMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
+        this.constraintMatchCarrierSentinel = constraintMatchEnabled ? new ConstraintMatchCarrier<>(this) : null;
     }
 
     public abstract Score_ extractScore(int initScore);
@@ -118,38 +125,50 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     protected final Runnable addConstraintMatch(Constraint constraint, Score_ constraintWeight, Score_ score,
             JustificationsSupplier justificationsSupplier) {
-        String constraintPackage = constraint.getConstraintPackage();
-        String constraintName = constraint.getConstraintName();
-        DefaultConstraintMatchTotal<Score_> constraintMatchTotal = constraintMatchTotalMap.computeIfAbsent(
-                constraint.getConstraintId(),
-                key -> new DefaultConstraintMatchTotal<>(constraintPackage, constraintName, constraintWeight));
-        ConstraintMatch<Score_> constraintMatch = constraintMatchTotal.addConstraintMatch(
-                justificationsSupplier.createConstraintJustification(score),
-                justificationsSupplier.createIndictedObjects(), score);
-        List<DefaultIndictment<Score_>> indictments = constraintMatch.getIndictedObjectList()
-                .stream()
-                .distinct() // One match might have the same justification twice
-                .map(justificationPart -> processJustification(constraintMatch, justificationPart))
-                .collect(Collectors.toList());
-        return () -> {
-            constraintMatchTotal.removeConstraintMatch(constraintMatch);
-            if (constraintMatchTotal.getConstraintMatchSet().isEmpty()) {
-                constraintMatchTotalMap.remove(constraint.getConstraintId());
-            }
-            for (DefaultIndictment<Score_> indictment : indictments) {
-                indictment.removeConstraintMatch(constraintMatch);
-                if (indictment.getConstraintMatchSet().isEmpty()) {
-                    indictmentMap.remove(indictment.getIndictedObject());
-                }
-            }
-        };
+        ConstraintMatchCarrier<Score_> carrier =
+                new ConstraintMatchCarrier<>(this, constraint, constraintWeight, score, justificationsSupplier);
+        carrier.linkBefore(constraintMatchCarrierSentinel);
+        invalidateConstraintMatches();
+        return carrier;
+    }
+
+    private void invalidateConstraintMatches() {
+        constraintMatchTotalMap = null;
+        indictmentMap = null;
     }
 
-    private DefaultIndictment<Score_> processJustification(ConstraintMatch<Score_> constraintMatch, Object indictedObject) {
+    /**
+     * Only called when the constraint matches are requested,
+     * typically to explain the score of a best solution,
+     * so solving with constraint matching enabled only pays for matches that are actually looked at.
+     */
+    private void materializeConstraintMatches() {
+        constraintMatchTotalMap = new LinkedHashMap<>();
+        indictmentMap = new LinkedHashMap<>();
+        for (ConstraintMatchCarrier<Score_> carrier =
+                constraintMatchCarrierSentinel.next; carrier != constraintMatchCarrierSentinel; carrier = carrier.next) {
+            Constraint constraint = carrier.constraint;
+            Score_ constraintWeight = carrier.constraintWeight;
+            Score_ score = carrier.score;
+            JustificationsSupplier justificationsSupplier = carrier.justificationsSupplier;
+            DefaultConstraintMatchTotal<Score_> constraintMatchTotal = constraintMatchTotalMap.computeIfAbsent(
+                    constraint.getConstraintId(),
+                    key -> new DefaultConstraintMatchTotal<>(constraint.getConstraintPackage(),
+                            constraint.getConstraintName(), constraintWeight));
+            ConstraintMatch<Score_> constraintMatch = constraintMatchTotal.addConstraintMatch(
+                    justificationsSupplier.createConstraintJustification(score),
+                    justificationsSupplier.createIndictedObjects(), score);
+            constraintMatch.getIndictedObjectList()
+                    .stream()
+                    .distinct() // One match might have the same justification twice
+                    .forEach(justificationPart -> processJustification(constraintMatch, justificationPart));
+        }
+    }
+
+    private void processJustification(ConstraintMatch<Score_> constraintMatch, Object indictedObject) {
         DefaultIndictment<Score_> indictment = indictmentMap.computeIfAbsent(indictedObject,
                 key -> new DefaultIndictment<>(indictedObject, constraintMatch.getScore().zero()));
         indictment.addConstraintMatch(constraintMatch);
-        return indictment;
     }
 
     public boolean isConstraintMatchEnabled() {
@@ -157,11 +176,23 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
     }
 
     public final Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
+        if (!constraintMatchEnabled) {
+            return null;
+        }
+        if (constraintMatchTotalMap == null) {
+            materializeConstraintMatches();
+        }
         // Unchecked assignment necessary as CMT and DefaultCMT incompatible in the Map generics.
         return (Map) constraintMatchTotalMap;
     }
 
     public final Map<Object, Indictment<Score_>> getIndictmentMap() {
+        if (!constraintMatchEnabled) {
+            return null;
+        }
+        if (indictmentMap == null) {
+            materializeConstraintMatches();
+        }
         // Unchecked assignment necessary as Indictment and DefaultIndictment incompatible in the Map generics.
         return (Map) indictmentMap;
     }
@@ -174,4 +205,58 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         }
     }
 
+    /**
+     * Holds what is needed to create a {@link ConstraintMatch} later.
+     * Running it undoes the match.
+     */
+    private static final class ConstraintMatchCarrier<Score_ extends Score<Score_>> implements Runnable {
+
+        private final AbstractScoreInliner<Score_> parent;
+        private final Constraint constraint;
+        private final Score_ constraintWeight;
+        private final Score_ score;
+        private final JustificationsSupplier justificationsSupplier;
+        private ConstraintMatchCarrier<Score_> previous;
+        private ConstraintMatchCarrier<Score_> next;
+
+        /**
+         * Creates the sentinel of an empty list.
+         */
+        ConstraintMatchCarrier(AbstractScoreInliner<Score_> parent) {
+            this(parent, null, null, null, null);
+            this.previous = this;
+            this.next = this;
+        }
+
+        ConstraintMatchCarrier(AbstractScoreInliner<Score_> parent, Constraint constraint, Score_ constraintWeight,
+                Score_ score, JustificationsSupplier justificationsSupplier) {
+            this.parent = parent;
+            this.constraint = constraint;
+            this.constraintWeight = constraintWeight;
+            this.score = score;
+            this.justificationsSupplier = justificationsSupplier;
+        }
+
+        void linkBefore(ConstraintMatchCarrier<Score_> successor) {
+            previous = successor.previous;
+            next = successor;
+            previous.next = this;
+            successor.previous = this;
+        }
+
+        @Override
+        public void run() {
+            if (next == null) {
+                throw new IllegalStateException("Impossible state: the constraint match of constraint ("
+                        + constraint.getConstraintId() + ") with score (" + score + ") was already undone.");
+            }
+            previous.next = next;
+            next.previous = previous;
+            previous = null;
+            next = null;
+            parent.invalidateConstraintMatches();
+        }
+
+    }
+
 }
@@ -11,6 +11,9 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore> {
     private final long scoreLevelWeight;
     private final IntLongConsumer softScoreLevelUpdater;
     private final IntLongConsumer hardScoreLevelUpdater;
+    private final UndoScoreImpacterCache softUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache hardUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache undoScoreImpacterCache;
 
     public BendableLongScoreContext(AbstractScoreInliner<BendableLongScore> parent, Constraint constraint,
             BendableLongScore constraintWeight, int hardScoreLevelCount, int softScoreLevelCount, int scoreLevel,
@@ -22,6 +25,22 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore> {
         this.scoreLevelWeight = scoreLevelWeight;
         this.softScoreLevelUpdater = softScoreLevelUpdater;
         this.hardScoreLevelUpdater = hardScoreLevelUpdater;
+        this.softUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            long softImpact = scoreLevelWeight * matchWeight;
+            return () -> softScoreLevelUpdater.accept(scoreLevel, -softImpact);
+        });
+        this.hardUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            long hardImpact = scoreLevelWeight * matchWeight;
+            return () -> hardScoreLevelUpdater.accept(scoreLevel, -hardImpact);
+        });
+        this.undoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> () -> {
+            for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
+                hardScoreLevelUpdater.accept(hardScoreLevel, -constraintWeight.hardScore(hardScoreLevel) * matchWeight);
+            }
+            for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
+                softScoreLevelUpdater.accept(softScoreLevel, -constraintWeight.softScore(softScoreLevel) * matchWeight);
+            }
+        });
     }
 
     public BendableLongScoreContext(AbstractScoreInliner<BendableLongScore> parent, Constraint constraint,
@@ -34,7 +53,7 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore> {
     public UndoScoreImpacter changeSoftScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long softImpact = scoreLevelWeight * matchWeight;
         softScoreLevelUpdater.accept(scoreLevel, softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> softScoreLevelUpdater.accept(scoreLevel, -softImpact);
+        UndoScoreImpacter undoScoreImpact = softUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -46,7 +65,7 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore> {
     public UndoScoreImpacter changeHardScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = scoreLevelWeight * matchWeight;
         hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
-        UndoScoreImpacter undoScoreImpact = () -> hardScoreLevelUpdater.accept(scoreLevel, -hardImpact);
+        UndoScoreImpacter undoScoreImpact = hardUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -56,29 +75,25 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore> {
     }
 
     public UndoScoreImpacter changeScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
-        long[] hardImpacts = new long[hardScoreLevelCount];
-        long[] softImpacts = new long[softScoreLevelCount];
         for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
-            long hardImpact = constraintWeight.hardScore(hardScoreLevel) * matchWeight;
-            hardImpacts[hardScoreLevel] = hardImpact;
-            hardScoreLevelUpdater.accept(hardScoreLevel, hardImpact);
+            hardScoreLevelUpdater.accept(hardScoreLevel, constraintWeight.hardScore(hardScoreLevel) * matchWeight);
         }
         for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
-            long softImpact = constraintWeight.softScore(softScoreLevel) * matchWeight;
-            softImpacts[softScoreLevel] = softImpact;
-            softScoreLevelUpdater.accept(softScoreLevel, softImpact);
+            softScoreLevelUpdater.accept(softScoreLevel, constraintWeight.softScore(softScoreLevel) * matchWeight);
         }
-        UndoScoreImpacter undoScoreImpact = () -> {
-            for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
-                hardScoreLevelUpdater.accept(hardScoreLevel, -hardImpacts[hardScoreLevel]);
-            }
-            for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
-                softScoreLevelUpdater.accept(softScoreLevel, -softImpacts[softScoreLevel]);
-            }
-        };
+        UndoScoreImpacter undoScoreImpact = undoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
+        // Only materialize the impacts per level when they are needed for the constraint match.
+        long[] hardImpacts = new long[hardScoreLevelCount];
+        long[] softImpacts = new long[softScoreLevelCount];
+        for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
+            hardImpacts[hardScoreLevel] = constraintWeight.hardScore(hardScoreLevel) * matchWeight;
+        }
+        for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
+            softImpacts[softScoreLevel] = constraintWeight.softScore(softScoreLevel) * matchWeight;
+        }
         return impactWithConstraintMatch(undoScoreImpact, BendableLongScore.of(hardImpacts, softImpacts),
                 justificationsSupplier);
     }
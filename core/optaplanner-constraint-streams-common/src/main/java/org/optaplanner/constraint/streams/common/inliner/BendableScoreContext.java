@@ -11,6 +11,9 @@ final class BendableScoreContext extends ScoreContext<BendableScore> {
     private final int scoreLevelWeight;
     private final IntBiConsumer softScoreLevelUpdater;
     private final IntBiConsumer hardScoreLevelUpdater;
+    private final UndoScoreImpacterCache softUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache hardUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache undoScoreImpacterCache;
 
     public BendableScoreContext(AbstractScoreInliner<BendableScore> parent, Constraint constraint,
             BendableScore constraintWeight, int hardScoreLevelCount, int softScoreLevelCount, int scoreLevel,
@@ -22,6 +25,22 @@ final class BendableScoreContext extends ScoreContext<BendableScore> {
         this.scoreLevelWeight = scoreLevelWeight;
         this.softScoreLevelUpdater = softScoreLevelUpdater;
         this.hardScoreLevelUpdater = hardScoreLevelUpdater;
+        this.softUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            int softImpact = scoreLevelWeight * (int) matchWeight;
+            return () -> softScoreLevelUpdater.accept(scoreLevel, -softImpact);
+        });
+        this.hardUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            int hardImpact = scoreLevelWeight * (int) matchWeight;
+            return () -> hardScoreLevelUpdater.accept(scoreLevel, -hardImpact);
+        });
+        this.undoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> () -> {
+            for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
+                hardScoreLevelUpdater.accept(hardScoreLevel, -constraintWeight.hardScore(hardScoreLevel) * (int) matchWeight);
+            }
+            for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
+                softScoreLevelUpdater.accept(softScoreLevel, -constraintWeight.softScore(softScoreLevel) * (int) matchWeight);
+            }
+        });
     }
 
     public BendableScoreContext(AbstractScoreInliner<BendableScore> parent, Constraint constraint,
@@ -34,7 +53,7 @@ final class BendableScoreContext extends ScoreContext<BendableScore> {
     public UndoScoreImpacter changeSoftScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int softImpact = scoreLevelWeight * matchWeight;
         softScoreLevelUpdater.accept(scoreLevel, softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> softScoreLevelUpdater.accept(scoreLevel, -softImpact);
+        UndoScoreImpacter undoScoreImpact = softUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -45,7 +64,7 @@ final class BendableScoreContext extends ScoreContext<BendableScore> {
     public UndoScoreImpacter changeHardScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = scoreLevelWeight * matchWeight;
         hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
-        UndoScoreImpacter undoScoreImpact = () -> hardScoreLevelUpdater.accept(scoreLevel, -hardImpact);
+        UndoScoreImpacter undoScoreImpact = hardUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -54,29 +73,25 @@ final class BendableScoreContext extends ScoreContext<BendableScore> {
     }
 
     public UndoScoreImpacter changeScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
-        int[] hardImpacts = new int[hardScoreLevelCount];
-        int[] softImpacts = new int[softScoreLevelCount];
         for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
-            int hardImpact = constraintWeight.hardScore(hardScoreLevel) * matchWeight;
-            hardImpacts[hardScoreLevel] = hardImpact;
-            hardScoreLevelUpdater.accept(hardScoreLevel, hardImpact);
+            hardScoreLevelUpdater.accept(hardScoreLevel, constraintWeight.hardScore(hardScoreLevel) * matchWeight);
         }
         for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
-            int softImpact = constraintWeight.softScore(softScoreLevel) * matchWeight;
-            softImpacts[softScoreLevel] = softImpact;
-            softScoreLevelUpdater.accept(softScoreLevel, softImpact);
+            softScoreLevelUpdater.accept(softScoreLevel, constraintWeight.softScore(softScoreLevel) * matchWeight);
         }
-        UndoScoreImpacter undoScoreImpact = () -> {
-            for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
-                hardScoreLevelUpdater.accept(hardScoreLevel, -hardImpacts[hardScoreLevel]);
-            }
-            for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
-                softScoreLevelUpdater.accept(softScoreLevel, -softImpacts[softScoreLevel]);
-            }
-        };
+        UndoScoreImpacter undoScoreImpact = undoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
+        // Only materialize the impacts per level when they are needed for the constraint match.
+        int[] hardImpacts = new int[hardScoreLevelCount];
+        int[] softImpacts = new int[softScoreLevelCount];
+        for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
+            hardImpacts[hardScoreLevel] = constraintWeight.hardScore(hardScoreLevel) * matchWeight;
+        }
+        for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
+            softImpacts[softScoreLevel] = constraintWeight.softScore(softScoreLevel) * matchWeight;
+        }
         return impactWithConstraintMatch(undoScoreImpact, BendableScore.of(hardImpacts, softImpacts), justificationsSupplier);
     }
 
@@ -10,6 +10,10 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
     private final LongConsumer softScoreUpdater;
     private final LongConsumer mediumScoreUpdater;
     private final LongConsumer hardScoreUpdater;
+    private final UndoScoreImpacterCache softUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache mediumUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache hardUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache undoScoreImpacterCache;
 
     public HardMediumSoftLongScoreContext(AbstractScoreInliner<HardMediumSoftLongScore> parent, Constraint constraint,
             HardMediumSoftLongScore constraintWeight, LongConsumer hardScoreUpdater, LongConsumer mediumScoreUpdater,
@@ -18,12 +22,34 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
         this.softScoreUpdater = softScoreUpdater;
         this.mediumScoreUpdater = mediumScoreUpdater;
         this.hardScoreUpdater = hardScoreUpdater;
+        this.softUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            long softImpact = constraintWeight.softScore() * matchWeight;
+            return () -> softScoreUpdater.accept(-softImpact);
+        });
+        this.mediumUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            long mediumImpact = constraintWeight.mediumScore() * matchWeight;
+            return () -> mediumScoreUpdater.accept(-mediumImpact);
+        });
+        this.hardUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            long hardImpact = constraintWeight.hardScore() * matchWeight;
+            return () -> hardScoreUpdater.accept(-hardImpact);
+        });
+        this.undoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            long hardImpact = constraintWeight.hardScore() * matchWeight;
+            long mediumImpact = constraintWeight.mediumScore() * matchWeight;
+            long softImpact = constraintWeight.softScore() * matchWeight;
+            return () -> {
+                hardScoreUpdater.accept(-hardImpact);
+                mediumScoreUpdater.accept(-mediumImpact);
+                softScoreUpdater.accept(-softImpact);
+            };
+        });
     }
 
     public UndoScoreImpacter changeSoftScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long softImpact = constraintWeight.softScore() * matchWeight;
         softScoreUpdater.accept(softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> softScoreUpdater.accept(-softImpact);
+        UndoScoreImpacter undoScoreImpact = softUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -33,7 +59,7 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
     public UndoScoreImpacter changeMediumScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long mediumImpact = constraintWeight.mediumScore() * matchWeight;
         mediumScoreUpdater.accept(mediumImpact);
-        UndoScoreImpacter undoScoreImpact = () -> mediumScoreUpdater.accept(-mediumImpact);
+        UndoScoreImpacter undoScoreImpact = mediumUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -44,7 +70,7 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
     public UndoScoreImpacter changeHardScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
-        UndoScoreImpacter undoScoreImpact = () -> hardScoreUpdater.accept(-hardImpact);
+        UndoScoreImpacter undoScoreImpact = hardUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -58,11 +84,7 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
         hardScoreUpdater.accept(hardImpact);
         mediumScoreUpdater.accept(mediumImpact);
         softScoreUpdater.accept(softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> {
-            hardScoreUpdater.accept(-hardImpact);
-            mediumScoreUpdater.accept(-mediumImpact);
-            softScoreUpdater.accept(-softImpact);
-        };
+        UndoScoreImpacter undoScoreImpact = undoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -8,6 +8,8 @@ final class HardMediumSoftLongScoreInliner extends AbstractScoreInliner<HardMedi
     private long hardScore;
     private long mediumScore;
     private long softScore;
+    // Reused as long as the score levels do not change, such as after an undone move.
+    private HardMediumSoftLongScore lastExtractedScore = null;
 
     HardMediumSoftLongScoreInliner(boolean constraintMatchEnabled) {
         super(constraintMatchEnabled);
@@ -44,7 +46,12 @@ final class HardMediumSoftLongScoreInliner extends AbstractScoreInliner<HardMedi
 
     @Override
     public HardMediumSoftLongScore extractScore(int initScore) {
-        return HardMediumSoftLongScore.ofUninitialized(initScore, hardScore, mediumScore, softScore);
+        if (lastExtractedScore == null || lastExtractedScore.initScore() != initScore
+                || lastExtractedScore.hardScore() != hardScore || lastExtractedScore.mediumScore() != mediumScore
+                || lastExtractedScore.softScore() != softScore) {
+            lastExtractedScore = HardMediumSoftLongScore.ofUninitialized(initScore, hardScore, mediumScore, softScore);
+        }
+        return lastExtractedScore;
     }
 
     @Override
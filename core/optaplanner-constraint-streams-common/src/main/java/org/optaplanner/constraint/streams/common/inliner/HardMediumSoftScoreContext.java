@@ -10,6 +10,10 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
     private final IntConsumer softScoreUpdater;
     private final IntConsumer mediumScoreUpdater;
     private final IntConsumer hardScoreUpdater;
+    private final UndoScoreImpacterCache softUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache mediumUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache hardUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache undoScoreImpacterCache;
 
     public HardMediumSoftScoreContext(AbstractScoreInliner<HardMediumSoftScore> parent, Constraint constraint,
             HardMediumSoftScore constraintWeight, IntConsumer hardScoreUpdater, IntConsumer mediumScoreUpdater,
@@ -18,12 +22,34 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
         this.softScoreUpdater = softScoreUpdater;
         this.mediumScoreUpdater = mediumScoreUpdater;
         this.hardScoreUpdater = hardScoreUpdater;
+        this.softUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            int softImpact = constraintWeight.softScore() * (int) matchWeight;
+            return () -> softScoreUpdater.accept(-softImpact);
+        });
+        this.mediumUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            int mediumImpact = constraintWeight.mediumScore() * (int) matchWeight;
+            return () -> mediumScoreUpdater.accept(-mediumImpact);
+        });
+        this.hardUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            int hardImpact = constraintWeight.hardScore() * (int) matchWeight;
+            return () -> hardScoreUpdater.accept(-hardImpact);
+        });
+        this.undoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            int hardImpact = constraintWeight.hardScore() * (int) matchWeight;
+            int mediumImpact = constraintWeight.mediumScore() * (int) matchWeight;
+            int softImpact = constraintWeight.softScore() * (int) matchWeight;
+            return () -> {
+                hardScoreUpdater.accept(-hardImpact);
+                mediumScoreUpdater.accept(-mediumImpact);
+                softScoreUpdater.accept(-softImpact);
+            };
+        });
     }
 
     public UndoScoreImpacter changeSoftScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int softImpact = constraintWeight.softScore() * matchWeight;
         softScoreUpdater.accept(softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> softScoreUpdater.accept(-softImpact);
+        UndoScoreImpacter undoScoreImpact = softUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -33,7 +59,7 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
     public UndoScoreImpacter changeMediumScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int mediumImpact = constraintWeight.mediumScore() * matchWeight;
         mediumScoreUpdater.accept(mediumImpact);
-        UndoScoreImpacter undoScoreImpact = () -> mediumScoreUpdater.accept(-mediumImpact);
+        UndoScoreImpacter undoScoreImpact = mediumUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -43,7 +69,7 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
     public UndoScoreImpacter changeHardScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
-        UndoScoreImpacter undoScoreImpact = () -> hardScoreUpdater.accept(-hardImpact);
+        UndoScoreImpacter undoScoreImpact = hardUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -57,11 +83,7 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
         hardScoreUpdater.accept(hardImpact);
         mediumScoreUpdater.accept(mediumImpact);
         softScoreUpdater.accept(softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> {
-            hardScoreUpdater.accept(-hardImpact);
-            mediumScoreUpdater.accept(-mediumImpact);
-            softScoreUpdater.accept(-softImpact);
-        };
+        UndoScoreImpacter undoScoreImpact = undoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
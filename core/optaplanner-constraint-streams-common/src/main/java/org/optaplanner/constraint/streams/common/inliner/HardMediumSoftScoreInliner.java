@@ -8,6 +8,8 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
     private int hardScore;
     private int mediumScore;
     private int softScore;
+    // Reused as long as the score levels do not change, such as after an undone move.
+    private HardMediumSoftScore lastExtractedScore = null;
 
     HardMediumSoftScoreInliner(boolean constraintMatchEnabled) {
         super(constraintMatchEnabled);
@@ -37,7 +39,12 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
 
     @Override
     public HardMediumSoftScore extractScore(int initScore) {
-        return HardMediumSoftScore.ofUninitialized(initScore, hardScore, mediumScore, softScore);
+        if (lastExtractedScore == null || lastExtractedScore.initScore() != initScore
+                || lastExtractedScore.hardScore() != hardScore || lastExtractedScore.mediumScore() != mediumScore
+                || lastExtractedScore.softScore() != softScore) {
+            lastExtractedScore = HardMediumSoftScore.ofUninitialized(initScore, hardScore, mediumScore, softScore);
+        }
+        return lastExtractedScore;
     }
 
     @Override
@@ -9,18 +9,37 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore> {
 
     private final LongConsumer softScoreUpdater;
     private final LongConsumer hardScoreUpdater;
+    private final UndoScoreImpacterCache softUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache hardUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache undoScoreImpacterCache;
 
     public HardSoftLongScoreContext(AbstractScoreInliner<HardSoftLongScore> parent, Constraint constraint,
             HardSoftLongScore constraintWeight, LongConsumer hardScoreUpdater, LongConsumer softScoreUpdater) {
         super(parent, constraint, constraintWeight);
         this.softScoreUpdater = softScoreUpdater;
         this.hardScoreUpdater = hardScoreUpdater;
+        this.softUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            long softImpact = constraintWeight.softScore() * matchWeight;
+            return () -> softScoreUpdater.accept(-softImpact);
+        });
+        this.hardUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            long hardImpact = constraintWeight.hardScore() * matchWeight;
+            return () -> hardScoreUpdater.accept(-hardImpact);
+        });
+        this.undoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            long hardImpact = constraintWeight.hardScore() * matchWeight;
+            long softImpact = constraintWeight.softScore() * matchWeight;
+            return () -> {
+                hardScoreUpdater.accept(-hardImpact);
+                softScoreUpdater.accept(-softImpact);
+            };
+        });
     }
 
     public UndoScoreImpacter changeSoftScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long softImpact = constraintWeight.softScore() * matchWeight;
         softScoreUpdater.accept(softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> softScoreUpdater.accept(-softImpact);
+        UndoScoreImpacter undoScoreImpact = softUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -30,7 +49,7 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore> {
     public UndoScoreImpacter changeHardScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
-        UndoScoreImpacter undoScoreImpact = () -> hardScoreUpdater.accept(-hardImpact);
+        UndoScoreImpacter undoScoreImpact = hardUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -42,10 +61,7 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore> {
         long softImpact = constraintWeight.softScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
         softScoreUpdater.accept(softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> {
-            hardScoreUpdater.accept(-hardImpact);
-            softScoreUpdater.accept(-softImpact);
-        };
+        UndoScoreImpacter undoScoreImpact = undoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
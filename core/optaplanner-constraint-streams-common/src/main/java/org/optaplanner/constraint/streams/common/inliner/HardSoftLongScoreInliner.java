@@ -7,6 +7,8 @@ final class HardSoftLongScoreInliner extends AbstractScoreInliner<HardSoftLongSc
 
     private long hardScore;
     private long softScore;
+    // Reused as long as the score levels do not change, such as after an undone move.
+    private HardSoftLongScore lastExtractedScore = null;
 
     HardSoftLongScoreInliner(boolean constraintMatchEnabled) {
         super(constraintMatchEnabled);
@@ -36,7 +38,11 @@ final class HardSoftLongScoreInliner extends AbstractScoreInliner<HardSoftLongSc
 
     @Override
     public HardSoftLongScore extractScore(int initScore) {
-        return HardSoftLongScore.ofUninitialized(initScore, hardScore, softScore);
+        if (lastExtractedScore == null || lastExtractedScore.initScore() != initScore
+                || lastExtractedScore.hardScore() != hardScore || lastExtractedScore.softScore() != softScore) {
+            lastExtractedScore = HardSoftLongScore.ofUninitialized(initScore, hardScore, softScore);
+        }
+        return lastExtractedScore;
     }
 
     @Override
@@ -9,18 +9,37 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore> {
 
     private final IntConsumer softScoreUpdater;
     private final IntConsumer hardScoreUpdater;
+    private final UndoScoreImpacterCache softUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache hardUndoScoreImpacterCache;
+    private final UndoScoreImpacterCache undoScoreImpacterCache;
 
     public HardSoftScoreContext(AbstractScoreInliner<HardSoftScore> parent, Constraint constraint,
             HardSoftScore constraintWeight, IntConsumer hardScoreUpdater, IntConsumer softScoreUpdater) {
         super(parent, constraint, constraintWeight);
         this.softScoreUpdater = softScoreUpdater;
         this.hardScoreUpdater = hardScoreUpdater;
+        this.softUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            int softImpact = constraintWeight.softScore() * (int) matchWeight;
+            return () -> softScoreUpdater.accept(-softImpact);
+        });
+        this.hardUndoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            int hardImpact = constraintWeight.hardScore() * (int) matchWeight;
+            return () -> hardScoreUpdater.accept(-hardImpact);
+        });
+        this.undoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            int hardImpact = constraintWeight.hardScore() * (int) matchWeight;
+            int softImpact = constraintWeight.softScore() * (int) matchWeight;
+            return () -> {
+                hardScoreUpdater.accept(-hardImpact);
+                softScoreUpdater.accept(-softImpact);
+            };
+        });
     }
 
     public UndoScoreImpacter changeSoftScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int softImpact = constraintWeight.softScore() * matchWeight;
         softScoreUpdater.accept(softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> softScoreUpdater.accept(-softImpact);
+        UndoScoreImpacter undoScoreImpact = softUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -30,7 +49,7 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore> {
     public UndoScoreImpacter changeHardScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
-        UndoScoreImpacter undoScoreImpact = () -> hardScoreUpdater.accept(-hardImpact);
+        UndoScoreImpacter undoScoreImpact = hardUndoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -42,10 +61,7 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore> {
         int softImpact = constraintWeight.softScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
         softScoreUpdater.accept(softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> {
-            hardScoreUpdater.accept(-hardImpact);
-            softScoreUpdater.accept(-softImpact);
-        };
+        UndoScoreImpacter undoScoreImpact = undoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
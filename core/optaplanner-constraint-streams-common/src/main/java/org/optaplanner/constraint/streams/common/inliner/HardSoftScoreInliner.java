@@ -7,6 +7,8 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
 
     private int hardScore;
     private int softScore;
+    // Reused as long as the score levels do not change, such as after an undone move.
+    private HardSoftScore lastExtractedScore = null;
 
     HardSoftScoreInliner(boolean constraintMatchEnabled) {
         super(constraintMatchEnabled);
@@ -29,7 +31,11 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
 
     @Override
     public HardSoftScore extractScore(int initScore) {
-        return HardSoftScore.ofUninitialized(initScore, hardScore, softScore);
+        if (lastExtractedScore == null || lastExtractedScore.initScore() != initScore
+                || lastExtractedScore.hardScore() != hardScore || lastExtractedScore.softScore() != softScore) {
+            lastExtractedScore = HardSoftScore.ofUninitialized(initScore, hardScore, softScore);
+        }
+        return lastExtractedScore;
     }
 
     @Override
@@ -8,17 +8,22 @@ import org.optaplanner.core.api.score.stream.Constraint;
 final class SimpleLongScoreContext extends ScoreContext<SimpleLongScore> {
 
     private final LongConsumer scoreUpdater;
+    private final UndoScoreImpacterCache undoScoreImpacterCache;
 
     public SimpleLongScoreContext(AbstractScoreInliner<SimpleLongScore> parent, Constraint constraint,
             SimpleLongScore constraintWeight, LongConsumer scoreUpdater) {
         super(parent, constraint, constraintWeight);
         this.scoreUpdater = scoreUpdater;
+        this.undoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            long impact = constraintWeight.score() * matchWeight;
+            return () -> scoreUpdater.accept(-impact);
+        });
     }
 
     public UndoScoreImpacter changeScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long impact = constraintWeight.score() * matchWeight;
         scoreUpdater.accept(impact);
-        UndoScoreImpacter undoScoreImpact = () -> scoreUpdater.accept(-impact);
+        UndoScoreImpacter undoScoreImpact = undoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -6,6 +6,8 @@ import org.optaplanner.core.api.score.stream.Constraint;
 final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore> {
 
     private long score;
+    // Reused as long as the score levels do not change, such as after an undone move.
+    private SimpleLongScore lastExtractedScore = null;
 
     SimpleLongScoreInliner(boolean constraintMatchEnabled) {
         super(constraintMatchEnabled);
@@ -24,7 +26,10 @@ final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore>
 
     @Override
     public SimpleLongScore extractScore(int initScore) {
-        return SimpleLongScore.ofUninitialized(initScore, score);
+        if (lastExtractedScore == null || lastExtractedScore.initScore() != initScore || lastExtractedScore.score() != score) {
+            lastExtractedScore = SimpleLongScore.ofUninitialized(initScore, score);
+        }
+        return lastExtractedScore;
     }
 
     @Override
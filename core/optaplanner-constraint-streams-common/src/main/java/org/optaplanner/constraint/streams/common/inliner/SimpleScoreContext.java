@@ -8,17 +8,22 @@ import org.optaplanner.core.api.score.stream.Constraint;
 final class SimpleScoreContext extends ScoreContext<SimpleScore> {
 
     private final IntConsumer scoreUpdater;
+    private final UndoScoreImpacterCache undoScoreImpacterCache;
 
     public SimpleScoreContext(AbstractScoreInliner<SimpleScore> parent, Constraint constraint, SimpleScore constraintWeight,
             IntConsumer scoreUpdater) {
         super(parent, constraint, constraintWeight);
         this.scoreUpdater = scoreUpdater;
+        this.undoScoreImpacterCache = new UndoScoreImpacterCache(matchWeight -> {
+            int impact = constraintWeight.score() * (int) matchWeight;
+            return () -> scoreUpdater.accept(-impact);
+        });
     }
 
     public UndoScoreImpacter changeScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int impact = constraintWeight.score() * matchWeight;
         scoreUpdater.accept(impact);
-        UndoScoreImpacter undoScoreImpact = () -> scoreUpdater.accept(-impact);
+        UndoScoreImpacter undoScoreImpact = undoScoreImpacterCache.get(matchWeight);
         if (!constraintMatchEnabled) {
             return undoScoreImpact;
         }
@@ -6,6 +6,8 @@ import org.optaplanner.core.api.score.stream.Constraint;
 final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
 
     private int score;
+    // Reused as long as the score levels do not change, such as after an undone move.
+    private SimpleScore lastExtractedScore = null;
 
     SimpleScoreInliner(boolean constraintMatchEnabled) {
         super(constraintMatchEnabled);
@@ -22,7 +24,10 @@ final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
 
     @Override
     public SimpleScore extractScore(int initScore) {
-        return SimpleScore.ofUninitialized(initScore, score);
+        if (lastExtractedScore == null || lastExtractedScore.initScore() != initScore || lastExtractedScore.score() != score) {
+            lastExtractedScore = SimpleScore.ofUninitialized(initScore, score);
+        }
+        return lastExtractedScore;
     }
 
     @Override
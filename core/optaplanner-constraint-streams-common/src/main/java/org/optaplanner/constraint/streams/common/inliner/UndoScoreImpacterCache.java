@@ -0,0 +1,46 @@
+package org.optaplanner.constraint.streams.common.inliner;
+
+import java.util.function.LongFunction;
+
+/**
+ * Reuses the {@link UndoScoreImpacter} of small match weights.
+ * <p>
+ * For int and long scores, the undo of an impact only depends on the match weight,
+ * and most constraints only ever use a handful of small match weights (usually just 1).
+ * Sharing the undo between all matches of the same weight means that
+ * scoring such a match does not allocate anything if constraint matching is disabled.
+ * <p>
+ * Not thread-safe, just like the {@link AbstractScoreInliner} that owns it.
+ */
+final class UndoScoreImpacterCache {
+
+    static final int CACHED_MATCH_WEIGHT_LIMIT = 64;
+
+    private final LongFunction<UndoScoreImpacter> undoScoreImpacterFactory;
+    private UndoScoreImpacter[] undoScoreImpacters = null;
+
+    /**
+     * @param undoScoreImpacterFactory never null, creates the undo of the impact of a match weight
+     */
+    UndoScoreImpacterCache(LongFunction<UndoScoreImpacter> undoScoreImpacterFactory) {
+        this.undoScoreImpacterFactory = undoScoreImpacterFactory;
+    }
+
+    UndoScoreImpacter get(long matchWeight) {
+        if (matchWeight < 0L || matchWeight >= CACHED_MATCH_WEIGHT_LIMIT) {
+            return undoScoreImpacterFactory.apply(matchWeight);
+        }
+        if (undoScoreImpacters == null) {
+            // Lazily, because most contexts have several caches of which only one is used.
+            undoScoreImpacters = new UndoScoreImpacter[CACHED_MATCH_WEIGHT_LIMIT];
+        }
+        int index = (int) matchWeight;
+        UndoScoreImpacter undoScoreImpacter = undoScoreImpacters[index];
+        if (undoScoreImpacter == null) {
+            undoScoreImpacter = undoScoreImpacterFactory.apply(matchWeight);
+            undoScoreImpacters[index] = undoScoreImpacter;
+        }
+        return undoScoreImpacter;
+    }
+
+}
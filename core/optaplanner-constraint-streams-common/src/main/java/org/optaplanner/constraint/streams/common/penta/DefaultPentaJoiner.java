@@ -6,6 +6,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import org.optaplanner.constraint.streams.common.AbstractJoiner;
+import org.optaplanner.constraint.streams.common.LambdaEquality;
 import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.score.stream.penta.PentaJoiner;
 import org.optaplanner.core.impl.score.stream.JoinerType;
@@ -80,12 +81,13 @@ public final class DefaultPentaJoiner<A, B, C, D, E> extends AbstractJoiner<E> i
         }
         DefaultPentaJoiner<?, ?, ?, ?, ?> other = (DefaultPentaJoiner<?, ?, ?, ?, ?>) o;
         return Arrays.equals(joinerTypes, other.joinerTypes)
-                && Arrays.equals(leftMappings, other.leftMappings)
-                && Arrays.equals(rightMappings, other.rightMappings);
+                && LambdaEquality.areEquivalent(leftMappings, other.leftMappings)
+                && LambdaEquality.areEquivalent(rightMappings, other.rightMappings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(Arrays.hashCode(joinerTypes), Arrays.hashCode(leftMappings), Arrays.hashCode(rightMappings));
+        return Objects.hash(Arrays.hashCode(joinerTypes), LambdaEquality.hashCode(leftMappings),
+                LambdaEquality.hashCode(rightMappings));
     }
 }
@@ -1,7 +1,6 @@
 package org.optaplanner.constraint.streams.common.penta;
 
-import java.util.Objects;
-
+import org.optaplanner.constraint.streams.common.LambdaEquality;
 import org.optaplanner.core.api.function.PentaPredicate;
 import org.optaplanner.core.api.score.stream.penta.PentaJoiner;
 
@@ -32,11 +31,11 @@ public final class FilteringPentaJoiner<A, B, C, D, E> implements PentaJoiner<A,
             return false;
         }
         FilteringPentaJoiner<?, ?, ?, ?, ?> other = (FilteringPentaJoiner<?, ?, ?, ?, ?>) o;
-        return Objects.equals(filter, other.filter);
+        return LambdaEquality.areEquivalent(filter, other.filter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(filter);
+        return LambdaEquality.hashCode(filter);
     }
 }
@@ -6,6 +6,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import org.optaplanner.constraint.streams.common.AbstractJoiner;
+import org.optaplanner.constraint.streams.common.LambdaEquality;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.stream.quad.QuadJoiner;
 import org.optaplanner.core.impl.score.stream.JoinerType;
@@ -81,13 +82,14 @@ public final class DefaultQuadJoiner<A, B, C, D> extends AbstractJoiner<D> imple
         }
         DefaultQuadJoiner<?, ?, ?, ?> other = (DefaultQuadJoiner<?, ?, ?, ?>) o;
         return Arrays.equals(joinerTypes, other.joinerTypes)
-                && Arrays.equals(leftMappings, other.leftMappings)
-                && Arrays.equals(rightMappings, other.rightMappings);
+                && LambdaEquality.areEquivalent(leftMappings, other.leftMappings)
+                && LambdaEquality.areEquivalent(rightMappings, other.rightMappings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(Arrays.hashCode(joinerTypes), Arrays.hashCode(leftMappings), Arrays.hashCode(rightMappings));
+        return Objects.hash(Arrays.hashCode(joinerTypes), LambdaEquality.hashCode(leftMappings),
+                LambdaEquality.hashCode(rightMappings));
     }
 
 }
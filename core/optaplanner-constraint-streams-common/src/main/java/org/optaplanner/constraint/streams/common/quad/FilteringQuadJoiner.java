@@ -1,7 +1,6 @@
 package org.optaplanner.constraint.streams.common.quad;
 
-import java.util.Objects;
-
+import org.optaplanner.constraint.streams.common.LambdaEquality;
 import org.optaplanner.core.api.function.QuadPredicate;
 import org.optaplanner.core.api.score.stream.quad.QuadJoiner;
 
@@ -32,11 +31,11 @@ public final class FilteringQuadJoiner<A, B, C, D> implements QuadJoiner<A, B, C
             return false;
         }
         FilteringQuadJoiner<?, ?, ?, ?> other = (FilteringQuadJoiner<?, ?, ?, ?>) o;
-        return Objects.equals(filter, other.filter);
+        return LambdaEquality.areEquivalent(filter, other.filter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getFilter());
+        return LambdaEquality.hashCode(filter);
     }
 }
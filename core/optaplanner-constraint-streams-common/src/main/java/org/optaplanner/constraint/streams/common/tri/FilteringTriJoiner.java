@@ -1,7 +1,6 @@
 package org.optaplanner.constraint.streams.common.tri;
 
-import java.util.Objects;
-
+import org.optaplanner.constraint.streams.common.LambdaEquality;
 import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.stream.tri.TriJoiner;
 
@@ -32,11 +31,11 @@ public final class FilteringTriJoiner<A, B, C> implements TriJoiner<A, B, C> {
             return false;
         }
         FilteringTriJoiner<?, ?, ?> other = (FilteringTriJoiner<?, ?, ?>) o;
-        return Objects.equals(filter, other.filter);
+        return LambdaEquality.areEquivalent(filter, other.filter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(filter);
+        return LambdaEquality.hashCode(filter);
     }
 }
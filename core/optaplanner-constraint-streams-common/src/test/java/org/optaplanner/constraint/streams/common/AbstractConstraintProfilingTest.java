@@ -0,0 +1,97 @@
+package org.optaplanner.constraint.streams.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public abstract class AbstractConstraintProfilingTest {
+
+    private static final String CONSTRAINT_PACKAGE = TestdataSolution.class.getPackageName();
+
+    private final ConstraintStreamImplSupport implSupport;
+
+    protected AbstractConstraintProfilingTest(ConstraintStreamImplSupport implSupport) {
+        this.implSupport = implSupport;
+    }
+
+    @Test
+    void disabledByDefault() {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        assertThat(scoreDirector.isConstraintProfilingEnabled()).isFalse();
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution());
+        scoreDirector.calculateScore();
+        assertThatIllegalStateException().isThrownBy(scoreDirector::getConstraintProfileMap);
+    }
+
+    @Test
+    void profilePerConstraint() {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        scoreDirector.overwriteConstraintProfilingEnabledPreference(true);
+        assertThat(scoreDirector.isConstraintProfilingEnabled()).isTrue();
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 4);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+
+        Map<String, ConstraintProfile> constraintProfileMap = scoreDirector.getConstraintProfileMap();
+        assertThat(constraintProfileMap).containsOnlyKeys(
+                ConstraintMatchTotal.composeConstraintId(CONSTRAINT_PACKAGE, "Same value"),
+                ConstraintMatchTotal.composeConstraintId(CONSTRAINT_PACKAGE, "Unused value"));
+        ConstraintProfile sameValueProfile =
+                constraintProfileMap.get(ConstraintMatchTotal.composeConstraintId(CONSTRAINT_PACKAGE, "Same value"));
+        assertThat(sameValueProfile.getConstraintName()).isEqualTo("Same value");
+        assertThat(sameValueProfile.getInsertCount()).isPositive();
+        assertThat(sameValueProfile.getUpdateCount()).isZero();
+        assertThat(sameValueProfile.getNanos()).isPositive();
+
+        // The entities of the second value move to the first one, so it has 6 pairs and the second value is unused.
+        for (TestdataEntity entity : solution.getEntityList()) {
+            TestdataValue firstValue = solution.getValueList().get(0);
+            if (entity.getValue() != firstValue) {
+                scoreDirector.beforeVariableChanged(entity, "value");
+                entity.setValue(firstValue);
+                scoreDirector.afterVariableChanged(entity, "value");
+            }
+        }
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-9));
+        ConstraintProfile updatedSameValueProfile = scoreDirector.getConstraintProfileMap()
+                .get(sameValueProfile.getConstraintId());
+        assertThat(updatedSameValueProfile.getInsertCount()).isGreaterThan(sameValueProfile.getInsertCount());
+        assertThat(updatedSameValueProfile.getNanos()).isGreaterThanOrEqualTo(sameValueProfile.getNanos());
+    }
+
+    private InnerScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector() {
+        return implSupport.buildScoreDirector(TestdataSolution.buildSolutionDescriptor(),
+                new ProfiledConstraintProvider());
+    }
+
+    public static class ProfiledConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint(CONSTRAINT_PACKAGE, "Same value"),
+                    constraintFactory.forEach(TestdataValue.class)
+                            .ifNotExists(TestdataEntity.class, Joiners.equal(value -> value, TestdataEntity::getValue))
+                            .penalize(SimpleScore.of(3))
+                            .asConstraint(CONSTRAINT_PACKAGE, "Unused value")
+            };
+        }
+    }
+
+}
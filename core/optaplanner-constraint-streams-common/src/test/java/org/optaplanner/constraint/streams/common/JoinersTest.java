@@ -4,8 +4,10 @@ import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.constraint.streams.common.bi.DefaultBiJoiner;
@@ -302,6 +304,108 @@ class JoinersTest {
         });
     }
 
+    @Test
+    void containingBi() {
+        Function<String, Set<Integer>> leftMapping = left -> Set.of(left.length(), left.length() * 2);
+        Function<Integer, Integer> rightMapping = right -> right;
+        DefaultBiJoiner<String, Integer> joiner =
+                (DefaultBiJoiner<String, Integer>) Joiners.containing(leftMapping, rightMapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches("abc", 3)).isTrue();
+            softly.assertThat(joiner.matches("abc", 6)).isTrue();
+            softly.assertThat(joiner.matches("abc", 4)).isFalse();
+        });
+    }
+
+    @Test
+    void containingTri() {
+        BiFunction<String, String, Set<String>> leftMapping = Set::of;
+        Function<String, String> rightMapping = right -> right;
+        DefaultTriJoiner<String, String, String> joiner =
+                (DefaultTriJoiner<String, String, String>) Joiners.containing(leftMapping, rightMapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches("a", "b", "b")).isTrue();
+            softly.assertThat(joiner.matches("a", "b", "c")).isFalse();
+        });
+    }
+
+    @Test
+    void containingQuad() {
+        TriFunction<String, String, String, Set<String>> leftMapping = Set::of;
+        Function<String, String> rightMapping = right -> right;
+        DefaultQuadJoiner<String, String, String, String> joiner =
+                (DefaultQuadJoiner<String, String, String, String>) Joiners.containing(leftMapping, rightMapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches("a", "b", "c", "c")).isTrue();
+            softly.assertThat(joiner.matches("a", "b", "c", "d")).isFalse();
+        });
+    }
+
+    @Test
+    void containingPenta() {
+        QuadFunction<String, String, String, String, Set<String>> leftMapping = Set::of;
+        Function<String, String> rightMapping = right -> right;
+        DefaultPentaJoiner<String, String, String, String, String> joiner =
+                (DefaultPentaJoiner<String, String, String, String, String>) Joiners.containing(leftMapping,
+                        rightMapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches("a", "b", "c", "d", "d")).isTrue();
+            softly.assertThat(joiner.matches("a", "b", "c", "d", "e")).isFalse();
+        });
+    }
+
+    @Test
+    void intersectingBi() {
+        Function<String, Set<Character>> mapping = JoinersTest::toCharacterSet;
+        DefaultBiJoiner<String, String> joiner = (DefaultBiJoiner<String, String>) Joiners.intersecting(mapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches("abc", "cde")).isTrue();
+            softly.assertThat(joiner.matches("abc", "def")).isFalse();
+            softly.assertThat(joiner.matches("abc", "")).isFalse();
+        });
+    }
+
+    @Test
+    void intersectingTri() {
+        BiFunction<String, String, Set<Character>> leftMapping = (a, b) -> toCharacterSet(a + b);
+        Function<String, Set<Character>> rightMapping = JoinersTest::toCharacterSet;
+        DefaultTriJoiner<String, String, String> joiner =
+                (DefaultTriJoiner<String, String, String>) Joiners.intersecting(leftMapping, rightMapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches("ab", "cd", "de")).isTrue();
+            softly.assertThat(joiner.matches("ab", "cd", "ef")).isFalse();
+        });
+    }
+
+    @Test
+    void disjointBi() {
+        Function<String, Set<Character>> mapping = JoinersTest::toCharacterSet;
+        DefaultBiJoiner<String, String> joiner = (DefaultBiJoiner<String, String>) Joiners.disjoint(mapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches("abc", "def")).isTrue();
+            softly.assertThat(joiner.matches("abc", "")).isTrue();
+            softly.assertThat(joiner.matches("abc", "cde")).isFalse();
+        });
+    }
+
+    @Test
+    void disjointTri() {
+        BiFunction<String, String, Set<Character>> leftMapping = (a, b) -> toCharacterSet(a + b);
+        Function<String, Set<Character>> rightMapping = JoinersTest::toCharacterSet;
+        DefaultTriJoiner<String, String, String> joiner =
+                (DefaultTriJoiner<String, String, String>) Joiners.disjoint(leftMapping, rightMapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches("ab", "cd", "ef")).isTrue();
+            softly.assertThat(joiner.matches("ab", "cd", "de")).isFalse();
+        });
+    }
+
+    private static Set<Character> toCharacterSet(String string) {
+        return string.chars()
+                .mapToObj(c -> (char) c)
+                .collect(Collectors.toSet());
+    }
+
     private static final class Interval<A, B> {
         final A start;
         final A end;
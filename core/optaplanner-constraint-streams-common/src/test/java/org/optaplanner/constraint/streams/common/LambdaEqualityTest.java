@@ -0,0 +1,83 @@
+package org.optaplanner.constraint.streams.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.constraint.streams.common.bi.DefaultBiJoiner;
+import org.optaplanner.core.api.score.stream.Joiners;
+
+class LambdaEqualityTest {
+
+    private static Predicate<String> startsWith(String prefix) {
+        return s -> s.startsWith(prefix);
+    }
+
+    private static Predicate<String> both(Predicate<String> a, Predicate<String> b) {
+        return s -> a.test(s) && b.test(s);
+    }
+
+    private static Predicate<String> isEmptySerializable() {
+        return (Predicate<String> & Serializable) String::isEmpty;
+    }
+
+    @Test
+    void sameCallSiteWithEqualCapturedArgs() {
+        Predicate<String> a = startsWith(new String("a"));
+        Predicate<String> otherA = startsWith(new String("a"));
+        assertThat(a).isNotSameAs(otherA);
+        assertThat(LambdaEquality.areEquivalent(a, otherA)).isTrue();
+        assertThat(LambdaEquality.hashCode(a)).isEqualTo(LambdaEquality.hashCode(otherA));
+        assertThat(LambdaEquality.areEquivalent(a, startsWith("b"))).isFalse();
+    }
+
+    @Test
+    void capturedLambdas() {
+        Predicate<String> a = both(startsWith("a"), startsWith("b"));
+        Predicate<String> otherA = both(startsWith("a"), startsWith("b"));
+        assertThat(LambdaEquality.areEquivalent(a, otherA)).isTrue();
+        assertThat(LambdaEquality.areEquivalent(a, both(startsWith("a"), startsWith("c")))).isFalse();
+    }
+
+    @Test
+    void serializableMethodReferencesAtDifferentCallSites() {
+        Predicate<String> a = (Predicate<String> & Serializable) String::isEmpty;
+        Predicate<String> b = isEmptySerializable();
+        assertThat(a.getClass()).isNotSameAs(b.getClass());
+        assertThat(LambdaEquality.areEquivalent(a, b)).isTrue();
+        assertThat(LambdaEquality.hashCode(a)).isEqualTo(LambdaEquality.hashCode(b));
+        Predicate<String> c = (Predicate<String> & Serializable) String::isBlank;
+        assertThat(LambdaEquality.areEquivalent(a, c)).isFalse();
+    }
+
+    @Test
+    void nonSerializableMethodReferencesAtDifferentCallSites() {
+        Predicate<String> a = String::isEmpty;
+        Predicate<String> b = String::isEmpty;
+        assertThat(LambdaEquality.areEquivalent(a, b)).isFalse();
+    }
+
+    @Test
+    void nonLambdas() {
+        assertThat(LambdaEquality.areEquivalent("a", new String("a"))).isTrue();
+        assertThat(LambdaEquality.areEquivalent("a", null)).isFalse();
+        assertThat(LambdaEquality.areEquivalent(null, null)).isTrue();
+        assertThat(LambdaEquality.hashCode((Object) null)).isZero();
+        assertThat(LambdaEquality.areEquivalent(Function.identity(), startsWith("a"))).isFalse();
+    }
+
+    @Test
+    void joiners() {
+        Function<String, Integer> length = (Function<String, Integer> & Serializable) String::length;
+        DefaultBiJoiner<String, String> joiner = (DefaultBiJoiner<String, String>) Joiners.equal(length);
+        DefaultBiJoiner<String, String> otherJoiner = (DefaultBiJoiner<String, String>) Joiners.equal(
+                (Function<String, Integer> & Serializable) String::length);
+        assertThat(joiner).isEqualTo(otherJoiner);
+        assertThat(joiner).hasSameHashCodeAs(otherJoiner);
+        assertThat(joiner).isNotEqualTo(Joiners.lessThan(length));
+    }
+
+}
@@ -1,9 +1,16 @@
 package org.optaplanner.constraint.streams.common.inliner;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.DefaultConstraintJustification;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftScoreSolution;
 
@@ -91,6 +98,43 @@ class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoft
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    void constraintMatchesAreMaterializedOnDemand() {
+        HardSoftScoreInliner scoreInliner =
+                new HardSoftScoreInliner(constraintMatchEnabled);
+
+        HardSoftScore constraintWeight = HardSoftScore.ofSoft(10);
+        TestConstraint<TestdataHardSoftScoreSolution, HardSoftScore> constraint = buildConstraint(constraintWeight);
+        WeightedScoreImpacter<HardSoftScore, HardSoftScoreContext> impacter =
+                scoreInliner.buildWeightedScoreImpacter(constraint, constraintWeight);
+        UndoScoreImpacter undo1 = impacter.impactScore(1, buildJustificationsSupplier(constraint, "A"));
+        UndoScoreImpacter undo2 = impacter.impactScore(2, buildJustificationsSupplier(constraint, "B"));
+
+        Map<String, ConstraintMatchTotal<HardSoftScore>> constraintMatchTotalMap =
+                scoreInliner.getConstraintMatchTotalMap();
+        assertThat(constraintMatchTotalMap).containsOnlyKeys(constraint.getConstraintId());
+        assertThat(constraintMatchTotalMap.get(constraint.getConstraintId()).getScore())
+                .isEqualTo(HardSoftScore.ofSoft(30));
+        assertThat(scoreInliner.getIndictmentMap()).containsOnlyKeys("A", "B");
+        // Unchanged, so not materialized again.
+        assertThat(scoreInliner.getConstraintMatchTotalMap()).isSameAs(constraintMatchTotalMap);
+
+        undo1.run();
+        assertThat(scoreInliner.getConstraintMatchTotalMap().get(constraint.getConstraintId()).getScore())
+                .isEqualTo(HardSoftScore.ofSoft(20));
+        assertThat(scoreInliner.getIndictmentMap()).containsOnlyKeys("B");
+        assertThatThrownBy(undo1::run).isInstanceOf(IllegalStateException.class);
+
+        undo2.run();
+        assertThat(scoreInliner.getConstraintMatchTotalMap()).isEmpty();
+        assertThat(scoreInliner.getIndictmentMap()).isEmpty();
+    }
+
+    private static JustificationsSupplier buildJustificationsSupplier(Constraint constraint, String fact) {
+        return JustificationsSupplier.of(constraint, (a, score) -> DefaultConstraintJustification.of(score, a),
+                List::of, fact);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftScoreSolution.buildSolutionDescriptor();
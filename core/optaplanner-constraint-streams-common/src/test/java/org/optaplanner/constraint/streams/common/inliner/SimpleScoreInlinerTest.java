@@ -41,6 +41,29 @@ class SimpleScoreInlinerTest extends AbstractScoreInlinerTest<TestdataSolution,
                 .isEqualTo(SimpleScore.of(0));
     }
 
+    @Test
+    void impactWithoutConstraintMatchReusesUndoAndScore() {
+        SimpleScoreInliner scoreInliner = new SimpleScoreInliner(false);
+
+        SimpleScore constraintWeight = SimpleScore.of(10);
+        WeightedScoreImpacter<SimpleScore, SimpleScoreContext> impacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        UndoScoreImpacter undo1 = impacter.impactScore(1, null);
+        UndoScoreImpacter undo2 = impacter.impactScore(1, null);
+        UndoScoreImpacter undo3 = impacter.impactScore(1_000, null);
+        assertThat(undo2).isSameAs(undo1);
+        SimpleScore score = scoreInliner.extractScore(0);
+        assertThat(score).isEqualTo(SimpleScore.of(10_020));
+        assertThat(scoreInliner.extractScore(0)).isSameAs(score);
+        assertThat(scoreInliner.extractScore(-1)).isEqualTo(SimpleScore.ofUninitialized(-1, 10_020));
+
+        undo3.run();
+        undo1.run();
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleScore.of(10));
+        undo2.run();
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleScore.ZERO);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataSolution> buildSolutionDescriptor() {
         return TestdataSolution.buildSolutionDescriptor();
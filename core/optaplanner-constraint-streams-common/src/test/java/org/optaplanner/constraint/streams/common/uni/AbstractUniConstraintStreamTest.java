@@ -4,13 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.consecutive;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.count;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countDistinct;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.max;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.min;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.toSet;
+import static org.optaplanner.core.api.score.stream.Joiners.containing;
+import static org.optaplanner.core.api.score.stream.Joiners.disjoint;
 import static org.optaplanner.core.api.score.stream.Joiners.equal;
 import static org.optaplanner.core.api.score.stream.Joiners.filtering;
+import static org.optaplanner.core.api.score.stream.Joiners.intersecting;
+import static org.optaplanner.core.api.score.stream.Joiners.lessThan;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -40,6 +45,8 @@ import org.optaplanner.core.api.score.stream.ConstraintCollectors;
 import org.optaplanner.core.api.score.stream.ConstraintJustification;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.core.api.score.stream.DefaultConstraintJustification;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveInfo;
+import org.optaplanner.core.api.score.stream.common.Sequence;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
@@ -282,6 +289,98 @@ public abstract class AbstractUniConstraintStreamTest
                 assertMatch(entity3, entity3));
     }
 
+    @TestTemplate
+    public void join_1Containing() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
+        TestdataLavishValue value1 = solution.getFirstValue();
+        TestdataLavishValue value2 = new TestdataLavishValue("MyValue 2", solution.getFirstValueGroup());
+        TestdataLavishEntity entity1 = solution.getFirstEntity();
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(),
+                value2);
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", solution.getFirstEntityGroup(),
+                value1);
+        solution.getEntityList().add(entity3);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(factory -> factory.forEach(TestdataLavishEntity.class)
+                        .join(TestdataLavishEntity.class,
+                                containing(entity -> List.of(entity.getValue(), value2), TestdataLavishEntity::getValue),
+                                lessThan(TestdataLavishEntity::getCode))
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint(TEST_CONSTRAINT_NAME));
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity1, entity3));
+
+        // Incremental
+        scoreDirector.beforeVariableChanged(entity3, "value");
+        entity3.setValue(value2);
+        scoreDirector.afterVariableChanged(entity3, "value");
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity1, entity3),
+                assertMatch(entity2, entity3));
+
+        scoreDirector.beforeVariableChanged(entity3, "value");
+        entity3.setValue(value1);
+        scoreDirector.afterVariableChanged(entity3, "value");
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity1, entity3));
+    }
+
+    @TestTemplate
+    public void join_1IntersectingAndDisjoint() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
+        TestdataLavishValue value1 = solution.getFirstValue();
+        TestdataLavishValue value2 = new TestdataLavishValue("MyValue 2", solution.getFirstValueGroup());
+        TestdataLavishEntity entity1 = solution.getFirstEntity();
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(),
+                value2);
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", solution.getFirstEntityGroup(),
+                value1);
+        solution.getEntityList().add(entity3);
+
+        Function<TestdataLavishEntity, Set<TestdataLavishValue>> valueSetMapping = entity -> Set.of(entity.getValue());
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataLavishSolution.buildSolutionDescriptor(),
+                        factory -> new Constraint[] {
+                                factory.forEach(TestdataLavishEntity.class)
+                                        .join(TestdataLavishEntity.class,
+                                                intersecting(valueSetMapping),
+                                                lessThan(TestdataLavishEntity::getCode))
+                                        .penalize(SimpleScore.ONE)
+                                        .asConstraint("intersectingConstraint"),
+                                factory.forEach(TestdataLavishEntity.class)
+                                        .join(TestdataLavishEntity.class,
+                                                disjoint(valueSetMapping),
+                                                lessThan(TestdataLavishEntity::getCode))
+                                        .penalize(SimpleScore.ONE)
+                                        .asConstraint("disjointConstraint")
+                        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch("intersectingConstraint", entity1, entity3),
+                assertMatch("disjointConstraint", entity1, entity2),
+                assertMatch("disjointConstraint", entity2, entity3));
+
+        // Incremental
+        scoreDirector.beforeVariableChanged(entity3, "value");
+        entity3.setValue(value2);
+        scoreDirector.afterVariableChanged(entity3, "value");
+        assertScore(scoreDirector,
+                assertMatch("intersectingConstraint", entity2, entity3),
+                assertMatch("disjointConstraint", entity1, entity2),
+                assertMatch("disjointConstraint", entity1, entity3));
+    }
+
     /**
      * A join must not presume that left inserts/retracts always happen before right inserts/retracts,
      * if node sharing is active.
@@ -1426,6 +1525,51 @@ public abstract class AbstractUniConstraintStreamTest
                 assertMatchWithScore(-1, 2, 1));
     }
 
+    @TestTemplate
+    public void groupBy_0Mapping1Collector_consecutive() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
+        TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
+        solution.getEntityGroupList().add(entityGroup1);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", entityGroup1, solution.getFirstValue());
+        entity1.setIntegerProperty(1);
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", entityGroup1, solution.getFirstValue());
+        entity2.setIntegerProperty(2);
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", entityGroup1, solution.getFirstValue());
+        entity3.setIntegerProperty(4);
+        solution.getEntityList().add(entity3);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(factory -> factory.forEach(TestdataLavishEntity.class)
+                        .filter(entity -> entity.getEntityGroup() == entityGroup1)
+                        .groupBy(consecutive(TestdataLavishEntity::getIntegerProperty))
+                        .flattenLast(ConsecutiveInfo::getConsecutiveSequences)
+                        .map(Sequence::getCount)
+                        .penalize(SimpleScore.ONE, count -> count)
+                        .asConstraint(TEST_CONSTRAINT_NAME));
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, 2),
+                assertMatchWithScore(-1, 1));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(3);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-3, 3));
+
+        scoreDirector.beforeEntityRemoved(entity2);
+        solution.getEntityList().remove(entity2);
+        scoreDirector.afterEntityRemoved(entity2);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, 1),
+                assertMatchWithScore(-1, 1));
+    }
+
     @Override
     @TestTemplate
     public void groupBy_2Mapping0Collector() {
@@ -0,0 +1,116 @@
+package org.optaplanner.constraint.streams.drools;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.kie.api.definition.rule.Rule;
+import org.kie.api.runtime.rule.Match;
+import org.kie.internal.event.rule.RuleEventListener;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
+
+/**
+ * Records the work done per {@link Constraint} in a single {@link org.kie.api.runtime.KieSession}.
+ * Every constraint is a rule, so this is tracked per rule:
+ * a new match fires its rule, an updated match is refired and a deleted match undoes its score impact.
+ * <p>
+ * Drools evaluates its node network lazily and shares those nodes between rules,
+ * so unlike Bavet, only the time spent in the rule consequences (the score impact) is measured.
+ * Only registered on a session if profiling is enabled; an unprofiled session pays no overhead.
+ * <p>
+ * Not thread-safe.
+ */
+public final class DroolsConstraintProfiler implements RuleEventListener {
+
+    private final Map<String, RuleProfile> constraintIdToRuleProfileMap = new LinkedHashMap<>();
+    private final Map<Rule, RuleProfile> ruleProfileCache = new HashMap<>();
+    private RuleProfile firingRuleProfile = null;
+    private long firingStartNanos = 0L;
+
+    /**
+     * @param constraint never null, is reported even if its rule never fires
+     */
+    void addConstraint(Constraint constraint) {
+        constraintIdToRuleProfileMap.put(constraint.getConstraintId(),
+                new RuleProfile(constraint.getConstraintPackage(), constraint.getConstraintName()));
+    }
+
+    private RuleProfile getRuleProfile(Match match) {
+        // Map.computeIfAbsent() would have created lambdas on the hot path, this will not.
+        Rule rule = match.getRule();
+        RuleProfile ruleProfile = ruleProfileCache.get(rule);
+        if (ruleProfile == null) {
+            String constraintId = ConstraintMatchTotal.composeConstraintId(rule.getPackageName(), rule.getName());
+            ruleProfile = constraintIdToRuleProfileMap.get(constraintId);
+            if (ruleProfile == null) {
+                ruleProfile = new RuleProfile(rule.getPackageName(), rule.getName());
+                constraintIdToRuleProfileMap.put(constraintId, ruleProfile);
+            }
+            ruleProfileCache.put(rule, ruleProfile);
+        }
+        return ruleProfile;
+    }
+
+    @Override
+    public void onBeforeMatchFire(Match match) {
+        firingRuleProfile = getRuleProfile(match);
+        firingStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void onAfterMatchFire(Match match) {
+        long elapsedNanos = System.nanoTime() - firingStartNanos;
+        if (firingRuleProfile == null) {
+            throw new IllegalStateException("Impossible state: the match (" + match + ") fired without being started.");
+        }
+        firingRuleProfile.fireCount++;
+        firingRuleProfile.nanos += elapsedNanos;
+        firingRuleProfile = null;
+    }
+
+    @Override
+    public void onUpdateMatch(Match match) {
+        getRuleProfile(match).updateCount++;
+    }
+
+    @Override
+    public void onDeleteMatch(Match match) {
+        getRuleProfile(match).retractCount++;
+    }
+
+    /**
+     * @return never null, the key is the {@link ConstraintProfile#getConstraintId() constraintId}
+     */
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        Map<String, ConstraintProfile> constraintProfileMap = new LinkedHashMap<>(constraintIdToRuleProfileMap.size());
+        constraintIdToRuleProfileMap.forEach((constraintId, ruleProfile) -> constraintProfileMap.put(constraintId,
+                ruleProfile.toConstraintProfile()));
+        return constraintProfileMap;
+    }
+
+    private static final class RuleProfile {
+
+        private final String constraintPackage;
+        private final String constraintName;
+        private long fireCount = 0L;
+        private long updateCount = 0L;
+        private long retractCount = 0L;
+        private long nanos = 0L;
+
+        private RuleProfile(String constraintPackage, String constraintName) {
+            this.constraintPackage = constraintPackage;
+            this.constraintName = constraintName;
+        }
+
+        private ConstraintProfile toConstraintProfile() {
+            // Every updated match fires again, so the other fired matches are new ones.
+            long insertCount = Math.max(0L, fireCount - updateCount);
+            return new ConstraintProfile(constraintPackage, constraintName, insertCount, updateCount, retractCount,
+                    nanos);
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@ import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
 
 /**
@@ -34,6 +35,7 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
     private KieSession session;
     private AgendaFilter agendaFilter;
     private AbstractScoreInliner<Score_> scoreInliner;
+    private DroolsConstraintProfiler constraintProfiler;
 
     public DroolsConstraintStreamScoreDirector(
             DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
@@ -57,10 +59,12 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
             session.dispose();
         }
         SessionDescriptor<Score_> sessionDescriptor =
-                scoreDirectorFactory.newSession(constraintMatchEnabledPreference, workingSolution);
+                scoreDirectorFactory.newSession(constraintMatchEnabledPreference, constraintProfilingEnabledPreference,
+                        workingSolution);
         session = sessionDescriptor.getSession();
         agendaFilter = sessionDescriptor.getAgendaFilter();
         scoreInliner = sessionDescriptor.getScoreInliner();
+        constraintProfiler = sessionDescriptor.getConstraintProfiler();
         getSolutionDescriptor().visitAll(workingSolution, session::insert);
     }
 
@@ -98,6 +102,26 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
         return scoreInliner.getIndictmentMap();
     }
 
+    @Override
+    public boolean isConstraintProfilingEnabled() {
+        return constraintProfilingEnabledPreference;
+    }
+
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getConstraintProfileMap().");
+        }
+        if (constraintProfiler == null) {
+            throw new IllegalStateException("When constraint profiling is disabled (" + constraintProfilingEnabledPreference
+                    + "), the method getConstraintProfileMap() must not be called.\n"
+                    + "Maybe call overwriteConstraintProfilingEnabledPreference(true) before setWorkingSolution().");
+        }
+        session.fireAllRules(agendaFilter);
+        return constraintProfiler.getConstraintProfileMap();
+    }
+
     @Override
     public boolean requiresFlushing() {
         return true; // Drools propagation queue is only flushed during fireAllRules().
@@ -111,6 +135,7 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
             session = null;
             agendaFilter = null;
             scoreInliner = null;
+            constraintProfiler = null;
         }
     }
 
@@ -99,6 +99,11 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
     }
 
     public SessionDescriptor<Score_> newSession(boolean constraintMatchEnabled, Solution_ workingSolution) {
+        return newSession(constraintMatchEnabled, false, workingSolution);
+    }
+
+    public SessionDescriptor<Score_> newSession(boolean constraintMatchEnabled, boolean constraintProfilingEnabled,
+            Solution_ workingSolution) {
         // Extract constraint weights.
         Map<DroolsConstraint<Solution_>, Score_> constraintToWeightMap = kieBaseDescriptor.getConstraintToGlobalMap()
                 .keySet()
@@ -107,6 +112,11 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
         // Create the session itself.
         KieSession kieSession = buildKieSessionFromKieBase(kieBaseDescriptor.get());
         ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener()); // Enables undo in rules.
+        DroolsConstraintProfiler constraintProfiler = null;
+        if (constraintProfilingEnabled) {
+            constraintProfiler = new DroolsConstraintProfiler();
+            ((RuleEventManager) kieSession).addEventListener(constraintProfiler);
+        }
         // Build and set the impacters for each constraint; this locks in the constraint weights.
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         AbstractScoreInliner<Score_> scoreInliner = AbstractScoreInliner.buildScoreInliner(scoreDefinition,
@@ -120,12 +130,15 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
             } else {
                 String globalName = kieBaseDescriptor.getConstraintToGlobalMap().get(constraint).getName();
                 kieSession.setGlobal(globalName, scoreInliner.buildWeightedScoreImpacter(constraint, constraintWeight));
+                if (constraintProfiler != null) {
+                    constraintProfiler.addConstraint(constraint);
+                }
             }
         }
         // Return only the inliner as that holds the work product of the individual impacters.
         AgendaFilter agendaFilter =
                 disabledConstraints.isEmpty() ? null : new ConstraintDisablingAgendaFilter(Set.copyOf(disabledConstraints));
-        return new SessionDescriptor<>(kieSession, scoreInliner, agendaFilter);
+        return new SessionDescriptor<>(kieSession, scoreInliner, agendaFilter, constraintProfiler);
     }
 
     @Override
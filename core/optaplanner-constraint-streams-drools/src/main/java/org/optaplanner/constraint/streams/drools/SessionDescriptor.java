@@ -12,11 +12,18 @@ public final class SessionDescriptor<Score_ extends Score<Score_>> {
     private final KieSession session;
     private final AgendaFilter agendaFilter;
     private final AbstractScoreInliner<Score_> scoreInliner;
+    private final DroolsConstraintProfiler constraintProfiler;
 
     public SessionDescriptor(KieSession session, AbstractScoreInliner<Score_> scoreInliner, AgendaFilter agendaFilter) {
+        this(session, scoreInliner, agendaFilter, null);
+    }
+
+    public SessionDescriptor(KieSession session, AbstractScoreInliner<Score_> scoreInliner, AgendaFilter agendaFilter,
+            DroolsConstraintProfiler constraintProfiler) {
         this.session = Objects.requireNonNull(session);
         this.scoreInliner = Objects.requireNonNull(scoreInliner);
         this.agendaFilter = agendaFilter;
+        this.constraintProfiler = constraintProfiler;
     }
 
     /**
@@ -47,4 +54,13 @@ public final class SessionDescriptor<Score_ extends Score<Score_>> {
         return agendaFilter;
     }
 
+    /**
+     * Listens to the session returned by {@link #getSession()}.
+     *
+     * @return null when constraint profiling is disabled
+     */
+    public DroolsConstraintProfiler getConstraintProfiler() {
+        return constraintProfiler;
+    }
+
 }
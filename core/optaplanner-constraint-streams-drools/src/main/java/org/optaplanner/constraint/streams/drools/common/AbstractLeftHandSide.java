@@ -41,6 +41,27 @@ abstract class AbstractLeftHandSide {
         }
     }
 
+    /**
+     * Drools has no beta index for collection membership,
+     * so {@link JoinerType#CONTAINING}, {@link JoinerType#INTERSECTING} and {@link JoinerType#DISJOINT}
+     * are joined without one.
+     *
+     * @param type never null
+     * @return true if {@link #getConstraintType(JoinerType)} supports the type
+     */
+    protected static boolean isBetaIndexable(JoinerType type) {
+        switch (type) {
+            case EQUAL:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     protected static ViewItem<?> joinViewItemsWithLogicalAnd(PatternVariable<?, ?, ?>... patternVariables) {
         List<ViewItem<?>> viewItemList = mergeViewItems(patternVariables);
         int viewItemListSize = viewItemList.size();
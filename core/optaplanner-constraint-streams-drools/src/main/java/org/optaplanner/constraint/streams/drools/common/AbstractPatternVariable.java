@@ -2,6 +2,7 @@ package org.optaplanner.constraint.streams.drools.common;
 
 import static org.drools.model.PatternDSL.betaIndexedBy;
 import static org.optaplanner.constraint.streams.drools.common.AbstractLeftHandSide.getConstraintType;
+import static org.optaplanner.constraint.streams.drools.common.AbstractLeftHandSide.isBetaIndexable;
 
 import java.util.List;
 import java.util.function.BiFunction;
@@ -141,6 +142,9 @@ abstract class AbstractPatternVariable<A, PatternVar_, Child_ extends AbstractPa
 
     private <LeftJoinVar_> BetaIndex<PatternVar_, LeftJoinVar_, ?> createBetaIndex(JoinerType joinerType, int mappingIndex,
             Function<LeftJoinVar_, Object> leftMapping, Function1<PatternVar_, Object> rightExtractor) {
+        if (!isBetaIndexable(joinerType)) {
+            return null; // Only tested by the join predicate.
+        }
         if (joinerType == JoinerType.EQUAL) {
             return betaIndexedBy(Object.class, getConstraintType(joinerType), mappingIndex, rightExtractor, leftMapping::apply,
                     Object.class);
@@ -170,6 +174,9 @@ abstract class AbstractPatternVariable<A, PatternVar_, Child_ extends AbstractPa
             JoinerType joinerType,
             int mappingIndex, BiFunction<LeftJoinVarA_, LeftJoinVarB_, Object> leftMapping,
             Function1<PatternVar_, Object> rightExtractor) {
+        if (!isBetaIndexable(joinerType)) {
+            return null; // Only tested by the join predicate.
+        }
         if (joinerType == JoinerType.EQUAL) {
             return betaIndexedBy(Object.class, getConstraintType(joinerType), mappingIndex, rightExtractor, leftMapping::apply,
                     Object.class);
@@ -202,6 +209,9 @@ abstract class AbstractPatternVariable<A, PatternVar_, Child_ extends AbstractPa
             BetaIndex3<PatternVar_, LeftJoinVarA_, LeftJoinVarB_, LeftJoinVarC_, ?> createBetaIndex(JoinerType joinerType,
                     int mappingIndex, TriFunction<LeftJoinVarA_, LeftJoinVarB_, LeftJoinVarC_, Object> leftMapping,
                     Function1<PatternVar_, Object> rightExtractor) {
+        if (!isBetaIndexable(joinerType)) {
+            return null; // Only tested by the join predicate.
+        }
         if (joinerType == JoinerType.EQUAL) {
             return betaIndexedBy(Object.class, getConstraintType(joinerType), mappingIndex, rightExtractor, leftMapping::apply,
                     Object.class);
@@ -129,6 +129,9 @@ public final class BiLeftHandSide<A, B> extends AbstractLeftHandSide {
         JoinerType joinerType = joiner.getJoinerType(mappingIndex);
         BiFunction<A, B, Object> leftMapping = joiner.getLeftMapping(mappingIndex);
         Function<C, Object> rightMapping = joiner.getRightMapping(mappingIndex);
+        if (!isBetaIndexable(joinerType)) {
+            return null; // Only tested by the join predicate.
+        }
         if (joinerType == JoinerType.EQUAL) {
             return betaIndexedBy(Object.class, getConstraintType(joinerType), mappingIndex, rightMapping::apply,
                     leftMapping::apply, Object.class);
@@ -113,6 +113,9 @@ public final class QuadLeftHandSide<A, B, C, D> extends AbstractLeftHandSide {
         JoinerType joinerType = joiner.getJoinerType(mappingIndex);
         QuadFunction<A, B, C, D, Object> leftMapping = joiner.getLeftMapping(mappingIndex);
         Function<E, Object> rightMapping = joiner.getRightMapping(mappingIndex);
+        if (!isBetaIndexable(joinerType)) {
+            return null; // Only tested by the join predicate.
+        }
         if (joinerType == JoinerType.EQUAL) {
             return betaIndexedBy(Object.class, getConstraintType(joinerType), mappingIndex, rightMapping::apply,
                     leftMapping::apply, Object.class);
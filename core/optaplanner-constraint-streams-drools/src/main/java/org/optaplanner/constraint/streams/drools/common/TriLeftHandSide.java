@@ -106,6 +106,9 @@ public final class TriLeftHandSide<A, B, C> extends AbstractLeftHandSide {
         JoinerType joinerType = joiner.getJoinerType(mappingIndex);
         TriFunction<A, B, C, Object> leftMapping = joiner.getLeftMapping(mappingIndex);
         Function<D, Object> rightMapping = joiner.getRightMapping(mappingIndex);
+        if (!isBetaIndexable(joinerType)) {
+            return null; // Only tested by the join predicate.
+        }
         if (joinerType == JoinerType.EQUAL) {
             return betaIndexedBy(Object.class, getConstraintType(joinerType), mappingIndex, rightMapping::apply,
                     leftMapping::apply, Object.class);
@@ -135,6 +135,9 @@ public final class UniLeftHandSide<A> extends AbstractLeftHandSide {
         JoinerType joinerType = joiner.getJoinerType(mappingIndex);
         Function<A, Object> leftMapping = joiner.getLeftMapping(mappingIndex);
         Function<B, Object> rightMapping = joiner.getRightMapping(mappingIndex);
+        if (!isBetaIndexable(joinerType)) {
+            return null; // Only tested by the join predicate.
+        }
         if (joinerType == JoinerType.EQUAL) {
             return betaIndexedBy(Object.class, getConstraintType(joinerType), mappingIndex, rightMapping::apply,
                     leftMapping::apply, Object.class);
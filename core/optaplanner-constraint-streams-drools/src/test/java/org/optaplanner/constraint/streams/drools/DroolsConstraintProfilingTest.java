@@ -0,0 +1,10 @@
+package org.optaplanner.constraint.streams.drools;
+
+import org.optaplanner.constraint.streams.common.AbstractConstraintProfilingTest;
+
+final class DroolsConstraintProfilingTest extends AbstractConstraintProfilingTest {
+
+    public DroolsConstraintProfilingTest() {
+        super(new DroolsConstraintStreamImplSupport(false));
+    }
+}
@@ -5,8 +5,10 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Period;
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -29,6 +31,7 @@ import java.util.function.ToIntBiFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongBiFunction;
 import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -42,10 +45,17 @@ import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveInfo;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveIntervalInfo;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+import org.optaplanner.core.impl.score.stream.collector.ConsecutiveSetTree;
+import org.optaplanner.core.impl.score.stream.collector.IndexedHeap;
+import org.optaplanner.core.impl.score.stream.collector.IndexedLongHeap;
+import org.optaplanner.core.impl.score.stream.collector.Interval;
+import org.optaplanner.core.impl.score.stream.collector.IntervalTree;
 import org.optaplanner.core.impl.util.MutableInt;
 import org.optaplanner.core.impl.util.MutableLong;
 import org.optaplanner.core.impl.util.MutableReference;
@@ -784,6 +794,104 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, true);
     }
 
+    /**
+     * Returns a collector that finds the smallest int value in a group,
+     * as defined by {@link #min(Function)}, but without boxing every value in the group.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30), Eric(age = 20)]} with
+     * {@code .groupBy(minInt(Person::getAge))} returns {@code 20}.
+     * <p>
+     * The default result of the collector (e.g. when never called) is {@code null}.
+     *
+     * @param <A> type of the matched fact
+     * @param groupValueMapping never null, maps facts from the matched type to an int
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, Integer> minInt(ToIntFunction<? super A> groupValueMapping) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new IndexedLongHeap(false),
+                (resultContainer, a) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsInt(a)),
+                ConstraintCollectors::getMinOrMaxInt);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}, only for long values.
+     */
+    public static <A> UniConstraintCollector<A, ?, Long> minLong(ToLongFunction<? super A> groupValueMapping) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new IndexedLongHeap(false),
+                (resultContainer, a) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsLong(a)),
+                ConstraintCollectors::getMinOrMaxLong);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Integer> minInt(
+            ToIntBiFunction<? super A, ? super B> groupValueMapping) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new IndexedLongHeap(false),
+                (resultContainer, a, b) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsInt(a, b)),
+                ConstraintCollectors::getMinOrMaxInt);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}, only for long values.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Long> minLong(
+            ToLongBiFunction<? super A, ? super B> groupValueMapping) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new IndexedLongHeap(false),
+                (resultContainer, a, b) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsLong(a, b)),
+                ConstraintCollectors::getMinOrMaxLong);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> minInt(
+            ToIntTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new IndexedLongHeap(false),
+                (resultContainer, a, b, c) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsInt(a, b, c)),
+                ConstraintCollectors::getMinOrMaxInt);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}, only for long values.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> minLong(
+            ToLongTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new IndexedLongHeap(false),
+                (resultContainer, a, b, c) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsLong(a, b, c)),
+                ConstraintCollectors::getMinOrMaxLong);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> minInt(
+            ToIntQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new IndexedLongHeap(false),
+                (resultContainer, a, b, c, d) -> minOrMaxLongAccumulator(resultContainer,
+                        groupValueMapping.applyAsInt(a, b, c, d)),
+                ConstraintCollectors::getMinOrMaxInt);
+    }
+
+    /**
+     * As defined by {@link #minInt(ToIntFunction)}, only for long values.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> minLong(
+            ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new IndexedLongHeap(false),
+                (resultContainer, a, b, c, d) -> minOrMaxLongAccumulator(resultContainer,
+                        groupValueMapping.applyAsLong(a, b, c, d)),
+                ConstraintCollectors::getMinOrMaxLong);
+    }
+
     // ************************************************************************
     // max
     // ************************************************************************
@@ -851,23 +959,21 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, Mapped> UniConstraintCollector<A, SortedMap<Mapped, MutableLong>, Mapped> minOrMax(
+    private static <A, Mapped> UniConstraintCollector<A, IndexedHeap<Mapped>, Mapped> minOrMax(
             Function<A, Mapped> groupValueMapping, Comparator<? super Mapped> comparator, boolean min) {
         return new DefaultUniConstraintCollector<>(
-                () -> new TreeMap<>(comparator),
-                (resultContainer, a) -> {
-                    Mapped mapped = groupValueMapping.apply(a);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                getMinOrMaxFinisher(min));
+                () -> buildMinOrMaxHeap(comparator, min),
+                (resultContainer, a) -> minOrMaxAccumulator(resultContainer, groupValueMapping.apply(a)),
+                IndexedHeap::peek);
     }
 
-    private static <Value_> Function<SortedMap<Value_, MutableLong>, Value_> getMinOrMaxFinisher(boolean returnMinimum) {
-        if (returnMinimum) {
-            return resultContainer -> resultContainer.isEmpty() ? null : resultContainer.firstKey();
-        } else {
-            return resultContainer -> resultContainer.isEmpty() ? null : resultContainer.lastKey();
-        }
+    private static <Mapped> IndexedHeap<Mapped> buildMinOrMaxHeap(Comparator<? super Mapped> comparator, boolean min) {
+        return new IndexedHeap<>(min ? comparator : comparator.reversed());
+    }
+
+    private static <Mapped> Runnable minOrMaxAccumulator(IndexedHeap<Mapped> resultContainer, Mapped mapped) {
+        int handle = resultContainer.insert(mapped);
+        return () -> resultContainer.remove(handle);
     }
 
     /**
@@ -886,15 +992,12 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, B, Mapped> BiConstraintCollector<A, B, SortedMap<Mapped, MutableLong>, Mapped> minOrMax(
+    private static <A, B, Mapped> BiConstraintCollector<A, B, IndexedHeap<Mapped>, Mapped> minOrMax(
             BiFunction<A, B, Mapped> groupValueMapping, Comparator<? super Mapped> comparator, boolean min) {
         return new DefaultBiConstraintCollector<>(
-                () -> new TreeMap<>(comparator),
-                (resultContainer, a, b) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                getMinOrMaxFinisher(min));
+                () -> buildMinOrMaxHeap(comparator, min),
+                (resultContainer, a, b) -> minOrMaxAccumulator(resultContainer, groupValueMapping.apply(a, b)),
+                IndexedHeap::peek);
     }
 
     /**
@@ -913,15 +1016,12 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, B, C, Mapped> TriConstraintCollector<A, B, C, SortedMap<Mapped, MutableLong>, Mapped> minOrMax(
+    private static <A, B, C, Mapped> TriConstraintCollector<A, B, C, IndexedHeap<Mapped>, Mapped> minOrMax(
             TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<? super Mapped> comparator, boolean min) {
         return new DefaultTriConstraintCollector<>(
-                () -> new TreeMap<>(comparator),
-                (resultContainer, a, b, c) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b, c);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                getMinOrMaxFinisher(min));
+                () -> buildMinOrMaxHeap(comparator, min),
+                (resultContainer, a, b, c) -> minOrMaxAccumulator(resultContainer, groupValueMapping.apply(a, b, c)),
+                IndexedHeap::peek);
     }
 
     /**
@@ -940,15 +1040,123 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, SortedMap<Mapped, MutableLong>, Mapped> minOrMax(
+    private static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, IndexedHeap<Mapped>, Mapped> minOrMax(
             QuadFunction<A, B, C, D, Mapped> groupValueMapping, Comparator<? super Mapped> comparator, boolean min) {
         return new DefaultQuadConstraintCollector<>(
-                () -> new TreeMap<>(comparator),
-                (resultContainer, a, b, c, d) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b, c, d);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                getMinOrMaxFinisher(min));
+                () -> buildMinOrMaxHeap(comparator, min),
+                (resultContainer, a, b, c, d) -> minOrMaxAccumulator(resultContainer, groupValueMapping.apply(a, b, c, d)),
+                IndexedHeap::peek);
+    }
+
+    /**
+     * Returns a collector that finds the largest int value in a group,
+     * as defined by {@link #max(Function)}, but without boxing every value in the group.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30), Eric(age = 20)]} with
+     * {@code .groupBy(maxInt(Person::getAge))} returns {@code 30}.
+     * <p>
+     * The default result of the collector (e.g. when never called) is {@code null}.
+     *
+     * @param <A> type of the matched fact
+     * @param groupValueMapping never null, maps facts from the matched type to an int
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, Integer> maxInt(ToIntFunction<? super A> groupValueMapping) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new IndexedLongHeap(true),
+                (resultContainer, a) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsInt(a)),
+                ConstraintCollectors::getMinOrMaxInt);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}, only for long values.
+     */
+    public static <A> UniConstraintCollector<A, ?, Long> maxLong(ToLongFunction<? super A> groupValueMapping) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new IndexedLongHeap(true),
+                (resultContainer, a) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsLong(a)),
+                ConstraintCollectors::getMinOrMaxLong);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Integer> maxInt(
+            ToIntBiFunction<? super A, ? super B> groupValueMapping) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new IndexedLongHeap(true),
+                (resultContainer, a, b) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsInt(a, b)),
+                ConstraintCollectors::getMinOrMaxInt);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}, only for long values.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Long> maxLong(
+            ToLongBiFunction<? super A, ? super B> groupValueMapping) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new IndexedLongHeap(true),
+                (resultContainer, a, b) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsLong(a, b)),
+                ConstraintCollectors::getMinOrMaxLong);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> maxInt(
+            ToIntTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new IndexedLongHeap(true),
+                (resultContainer, a, b, c) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsInt(a, b, c)),
+                ConstraintCollectors::getMinOrMaxInt);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}, only for long values.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> maxLong(
+            ToLongTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new IndexedLongHeap(true),
+                (resultContainer, a, b, c) -> minOrMaxLongAccumulator(resultContainer, groupValueMapping.applyAsLong(a, b, c)),
+                ConstraintCollectors::getMinOrMaxLong);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> maxInt(
+            ToIntQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new IndexedLongHeap(true),
+                (resultContainer, a, b, c, d) -> minOrMaxLongAccumulator(resultContainer,
+                        groupValueMapping.applyAsInt(a, b, c, d)),
+                ConstraintCollectors::getMinOrMaxInt);
+    }
+
+    /**
+     * As defined by {@link #maxInt(ToIntFunction)}, only for long values.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> maxLong(
+            ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new IndexedLongHeap(true),
+                (resultContainer, a, b, c, d) -> minOrMaxLongAccumulator(resultContainer,
+                        groupValueMapping.applyAsLong(a, b, c, d)),
+                ConstraintCollectors::getMinOrMaxLong);
+    }
+
+    private static Runnable minOrMaxLongAccumulator(IndexedLongHeap resultContainer, long value) {
+        int handle = resultContainer.insert(value);
+        return () -> resultContainer.remove(handle);
+    }
+
+    private static Integer getMinOrMaxInt(IndexedLongHeap resultContainer) {
+        return resultContainer.isEmpty() ? null : (int) resultContainer.peek();
+    }
+
+    private static Long getMinOrMaxLong(IndexedLongHeap resultContainer) {
+        return resultContainer.isEmpty() ? null : resultContainer.peek();
     }
 
     /**
@@ -1267,6 +1475,8 @@ public final class ConstraintCollectors {
      * For stable iteration order, use {@link #toSortedSet()}.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link Set}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param <A> type of the matched fact
      * @return never null
@@ -1280,6 +1490,8 @@ public final class ConstraintCollectors {
      * {@link ConstraintStream}.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link SortedSet}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param <A> type of the matched fact
      * @return never null
@@ -1301,6 +1513,8 @@ public final class ConstraintCollectors {
      * For stable iteration order, use {@link #toSortedSet()}.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link List}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param <A> type of the matched fact
      * @return never null
@@ -1335,12 +1549,72 @@ public final class ConstraintCollectors {
         return collection;
     }
 
+    private static <Mapped> UnmodifiableResultContainer<List<Mapped>, List<Mapped>> buildToListResultContainer() {
+        return new UnmodifiableResultContainer<>(new ArrayList<>(), Collections::unmodifiableList);
+    }
+
+    private static <Mapped> Runnable toListAccumulator(UnmodifiableResultContainer<List<Mapped>, ?> resultContainer,
+            Mapped mapped) {
+        List<Mapped> list = resultContainer.getAccumulator();
+        list.add(mapped);
+        return () -> list.remove(mapped);
+    }
+
+    private static <Mapped> UnmodifiableResultContainer<Map<Mapped, MutableLong>, Set<Mapped>>
+            buildToSetResultContainer() {
+        return new UnmodifiableResultContainer<>(new HashMap<>(),
+                counts -> Collections.unmodifiableSet(counts.keySet()));
+    }
+
+    private static <Mapped> UnmodifiableResultContainer<TreeMap<Mapped, MutableLong>, SortedSet<Mapped>>
+            buildToSortedSetResultContainer(Comparator<? super Mapped> comparator) {
+        return new UnmodifiableResultContainer<>(new TreeMap<>(comparator),
+                counts -> Collections.unmodifiableSortedSet(counts.navigableKeySet()));
+    }
+
+    private static <Mapped> Runnable toSetAccumulator(
+            UnmodifiableResultContainer<? extends Map<Mapped, MutableLong>, ?> resultContainer, Mapped mapped) {
+        return innerCountDistinctLong(resultContainer.getAccumulator(), mapped);
+    }
+
+    /**
+     * Holds the mutable accumulator of a collector together with an unmodifiable view on it.
+     * The finisher hands out that view, so it neither copies the accumulated elements
+     * nor allocates anything when a group changes.
+     * Users can not modify the result, but it does reflect later changes to the group.
+     *
+     * @param <Accumulator_> the mutable collection that the accumulator adds to and removes from
+     * @param <Result_> the unmodifiable view returned by the finisher
+     */
+    private static final class UnmodifiableResultContainer<Accumulator_, Result_> {
+
+        private final Accumulator_ accumulator;
+        private final Result_ result;
+
+        public UnmodifiableResultContainer(Accumulator_ accumulator,
+                Function<Accumulator_, Result_> unmodifiableViewFunction) {
+            this.accumulator = accumulator;
+            this.result = unmodifiableViewFunction.apply(accumulator);
+        }
+
+        public Accumulator_ getAccumulator() {
+            return accumulator;
+        }
+
+        public Result_ getResult() {
+            return result;
+        }
+
+    }
+
     /**
      * Creates constraint collector that returns {@link Set} of the same element type as the {@link ConstraintStream}.
      * Makes no guarantees on iteration order.
      * For stable iteration order, use {@link #toSortedSet()}.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link Set}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param groupValueMapping never null, converts matched facts to elements of the resulting set
      * @param <A> type of the matched fact
@@ -1349,12 +1623,9 @@ public final class ConstraintCollectors {
      */
     public static <A, Mapped> UniConstraintCollector<A, ?, Set<Mapped>> toSet(Function<A, Mapped> groupValueMapping) {
         return new DefaultUniConstraintCollector<>(
-                (Supplier<HashMap<Mapped, MutableLong>>) HashMap::new,
-                (resultContainer, a) -> {
-                    Mapped mapped = groupValueMapping.apply(a);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                HashMap::keySet);
+                ConstraintCollectors::<Mapped> buildToSetResultContainer,
+                (resultContainer, a) -> toSetAccumulator(resultContainer, groupValueMapping.apply(a)),
+                UnmodifiableResultContainer::getResult);
     }
 
     /**
@@ -1362,6 +1633,8 @@ public final class ConstraintCollectors {
      * {@link ConstraintStream}.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link SortedSet}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param groupValueMapping never null, converts matched facts to elements of the resulting set
      * @param <A> type of the matched fact
@@ -1378,13 +1651,10 @@ public final class ConstraintCollectors {
      */
     public static <A, Mapped> UniConstraintCollector<A, ?, SortedSet<Mapped>> toSortedSet(
             Function<A, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
-        return new DefaultUniConstraintCollector<A, TreeMap<Mapped, MutableLong>, SortedSet<Mapped>>(
-                () -> new TreeMap<>(comparator),
-                (resultContainer, a) -> {
-                    Mapped mapped = groupValueMapping.apply(a);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                TreeMap::navigableKeySet);
+        return new DefaultUniConstraintCollector<>(
+                () -> ConstraintCollectors.<Mapped> buildToSortedSetResultContainer(comparator),
+                (resultContainer, a) -> toSetAccumulator(resultContainer, groupValueMapping.apply(a)),
+                UnmodifiableResultContainer::getResult);
     }
 
     /**
@@ -1393,6 +1663,8 @@ public final class ConstraintCollectors {
      * For stable iteration order, use {@link #toSortedSet(Function)}.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link List}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param groupValueMapping never null, converts matched facts to elements of the resulting collection
      * @param <A> type of the matched fact
@@ -1401,13 +1673,9 @@ public final class ConstraintCollectors {
      */
     public static <A, Mapped> UniConstraintCollector<A, ?, List<Mapped>> toList(Function<A, Mapped> groupValueMapping) {
         return new DefaultUniConstraintCollector<>(
-                ArrayList::new,
-                (resultContainer, a) -> {
-                    Mapped mapped = groupValueMapping.apply(a);
-                    resultContainer.add(mapped);
-                    return () -> resultContainer.remove(mapped);
-                },
-                Function.identity());
+                ConstraintCollectors::<Mapped> buildToListResultContainer,
+                (resultContainer, a) -> toListAccumulator(resultContainer, groupValueMapping.apply(a)),
+                UnmodifiableResultContainer::getResult);
     }
 
     /**
@@ -1433,12 +1701,9 @@ public final class ConstraintCollectors {
     public static <A, B, Mapped> BiConstraintCollector<A, B, ?, Set<Mapped>> toSet(
             BiFunction<A, B, Mapped> groupValueMapping) {
         return new DefaultBiConstraintCollector<>(
-                (Supplier<HashMap<Mapped, MutableLong>>) HashMap::new,
-                (resultContainer, a, b) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                HashMap::keySet);
+                ConstraintCollectors::<Mapped> buildToSetResultContainer,
+                (resultContainer, a, b) -> toSetAccumulator(resultContainer, groupValueMapping.apply(a, b)),
+                UnmodifiableResultContainer::getResult);
     }
 
     /**
@@ -1455,13 +1720,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, Mapped> BiConstraintCollector<A, B, ?, SortedSet<Mapped>> toSortedSet(
             BiFunction<A, B, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
-        return new DefaultBiConstraintCollector<A, B, TreeMap<Mapped, MutableLong>, SortedSet<Mapped>>(
-                () -> new TreeMap<>(comparator),
-                (resultContainer, a, b) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                TreeMap::navigableKeySet);
+        return new DefaultBiConstraintCollector<>(
+                () -> ConstraintCollectors.<Mapped> buildToSortedSetResultContainer(comparator),
+                (resultContainer, a, b) -> toSetAccumulator(resultContainer, groupValueMapping.apply(a, b)),
+                UnmodifiableResultContainer::getResult);
     }
 
     /**
@@ -1470,13 +1732,9 @@ public final class ConstraintCollectors {
     public static <A, B, Mapped> BiConstraintCollector<A, B, ?, List<Mapped>> toList(
             BiFunction<A, B, Mapped> groupValueMapping) {
         return new DefaultBiConstraintCollector<>(
-                ArrayList::new,
-                (resultContainer, a, b) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b);
-                    resultContainer.add(mapped);
-                    return () -> resultContainer.remove(mapped);
-                },
-                Function.identity());
+                ConstraintCollectors::<Mapped> buildToListResultContainer,
+                (resultContainer, a, b) -> toListAccumulator(resultContainer, groupValueMapping.apply(a, b)),
+                UnmodifiableResultContainer::getResult);
     }
 
     /**
@@ -1502,12 +1760,9 @@ public final class ConstraintCollectors {
     public static <A, B, C, Mapped> TriConstraintCollector<A, B, C, ?, Set<Mapped>> toSet(
             TriFunction<A, B, C, Mapped> groupValueMapping) {
         return new DefaultTriConstraintCollector<>(
-                (Supplier<HashMap<Mapped, MutableLong>>) HashMap::new,
-                (resultContainer, a, b, c) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b, c);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                HashMap::keySet);
+                ConstraintCollectors::<Mapped> buildToSetResultContainer,
+                (resultContainer, a, b, c) -> toSetAccumulator(resultContainer, groupValueMapping.apply(a, b, c)),
+                UnmodifiableResultContainer::getResult);
     }
 
     /**
@@ -1523,13 +1778,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, Mapped> TriConstraintCollector<A, B, C, ?, SortedSet<Mapped>> toSortedSet(
             TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
-        return new DefaultTriConstraintCollector<A, B, C, TreeMap<Mapped, MutableLong>, SortedSet<Mapped>>(
-                () -> new TreeMap<>(comparator),
-                (resultContainer, a, b, c) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b, c);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                TreeMap::navigableKeySet);
+        return new DefaultTriConstraintCollector<>(
+                () -> ConstraintCollectors.<Mapped> buildToSortedSetResultContainer(comparator),
+                (resultContainer, a, b, c) -> toSetAccumulator(resultContainer, groupValueMapping.apply(a, b, c)),
+                UnmodifiableResultContainer::getResult);
     }
 
     /**
@@ -1538,13 +1790,9 @@ public final class ConstraintCollectors {
     public static <A, B, C, Mapped> TriConstraintCollector<A, B, C, ?, List<Mapped>> toList(
             TriFunction<A, B, C, Mapped> groupValueMapping) {
         return new DefaultTriConstraintCollector<>(
-                ArrayList::new,
-                (resultContainer, a, b, c) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b, c);
-                    resultContainer.add(mapped);
-                    return () -> resultContainer.remove(mapped);
-                },
-                Function.identity());
+                ConstraintCollectors::<Mapped> buildToListResultContainer,
+                (resultContainer, a, b, c) -> toListAccumulator(resultContainer, groupValueMapping.apply(a, b, c)),
+                UnmodifiableResultContainer::getResult);
     }
 
     /**
@@ -1570,12 +1818,9 @@ public final class ConstraintCollectors {
     public static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, ?, Set<Mapped>> toSet(
             QuadFunction<A, B, C, D, Mapped> groupValueMapping) {
         return new DefaultQuadConstraintCollector<>(
-                (Supplier<HashMap<Mapped, MutableLong>>) HashMap::new,
-                (resultContainer, a, b, c, d) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b, c, d);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                HashMap::keySet);
+                ConstraintCollectors::<Mapped> buildToSetResultContainer,
+                (resultContainer, a, b, c, d) -> toSetAccumulator(resultContainer, groupValueMapping.apply(a, b, c, d)),
+                UnmodifiableResultContainer::getResult);
     }
 
     /**
@@ -1592,13 +1837,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, ?, SortedSet<Mapped>> toSortedSet(
             QuadFunction<A, B, C, D, Mapped> groupValueMapping, Comparator<? super Mapped> comparator) {
-        return new DefaultQuadConstraintCollector<A, B, C, D, TreeMap<Mapped, MutableLong>, SortedSet<Mapped>>(
-                () -> new TreeMap<>(comparator),
-                (resultContainer, a, b, c, d) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b, c, d);
-                    return innerCountDistinctLong(resultContainer, mapped);
-                },
-                TreeMap::navigableKeySet);
+        return new DefaultQuadConstraintCollector<>(
+                () -> ConstraintCollectors.<Mapped> buildToSortedSetResultContainer(comparator),
+                (resultContainer, a, b, c, d) -> toSetAccumulator(resultContainer, groupValueMapping.apply(a, b, c, d)),
+                UnmodifiableResultContainer::getResult);
     }
 
     /**
@@ -1607,13 +1849,9 @@ public final class ConstraintCollectors {
     public static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, ?, List<Mapped>> toList(
             QuadFunction<A, B, C, D, Mapped> groupValueMapping) {
         return new DefaultQuadConstraintCollector<>(
-                ArrayList::new,
-                (resultContainer, a, b, c, d) -> {
-                    Mapped mapped = groupValueMapping.apply(a, b, c, d);
-                    resultContainer.add(mapped);
-                    return () -> resultContainer.remove(mapped);
-                },
-                Function.identity());
+                ConstraintCollectors::<Mapped> buildToListResultContainer,
+                (resultContainer, a, b, c, d) -> toListAccumulator(resultContainer, groupValueMapping.apply(a, b, c, d)),
+                UnmodifiableResultContainer::getResult);
     }
 
     // ************************************************************************
@@ -1632,6 +1870,8 @@ public final class ConstraintCollectors {
      * For stable iteration order, use {@link #toSortedMap(Function, Function, IntFunction)}.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link Map}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param keyMapper map matched fact to a map key
      * @param valueMapper map matched fact to a value
@@ -1658,6 +1898,8 @@ public final class ConstraintCollectors {
      * for that.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link Map}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param keyMapper map matched fact to a map key
      * @param valueMapper map matched fact to a value
@@ -1672,7 +1914,8 @@ public final class ConstraintCollectors {
             Function<? super A, ? extends Key> keyMapper, Function<? super A, ? extends Value> valueMapper,
             IntFunction<ValueSet> valueSetFunction) {
         return new DefaultUniConstraintCollector<>(
-                () -> new ToMultiMapResultContainer<>((IntFunction<HashMap<Key, ValueSet>>) HashMap::new, valueSetFunction),
+                () -> new ToMultiMapResultContainer<Key, Value, ValueSet, Map<Key, ValueSet>>(HashMap::new,
+                        Collections::unmodifiableMap, valueSetFunction),
                 (resultContainer, a) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a),
                 ToMultiMapResultContainer::getResult);
     }
@@ -1733,16 +1976,14 @@ public final class ConstraintCollectors {
 
         private final BinaryOperator<Value> mergeFunction;
         private final Result_ result;
+        private final Result_ unmodifiableResult;
         private final Map<Key, ToMapPerKeyCounter<Value>> valueCounts = new HashMap<>(0);
 
-        public ToSimpleMapResultContainer(Supplier<Result_> resultSupplier, BinaryOperator<Value> mergeFunction) {
+        public ToSimpleMapResultContainer(Supplier<Result_> resultSupplier, UnaryOperator<Result_> unmodifiableViewFunction,
+                BinaryOperator<Value> mergeFunction) {
             this.mergeFunction = Objects.requireNonNull(mergeFunction);
             this.result = Objects.requireNonNull(resultSupplier).get();
-        }
-
-        public ToSimpleMapResultContainer(IntFunction<Result_> resultSupplier, BinaryOperator<Value> mergeFunction) {
-            this.mergeFunction = Objects.requireNonNull(mergeFunction);
-            this.result = Objects.requireNonNull(resultSupplier).apply(0);
+            this.unmodifiableResult = unmodifiableViewFunction.apply(result);
         }
 
         @Override
@@ -1772,7 +2013,7 @@ public final class ConstraintCollectors {
 
         @Override
         public Result_ getResult() {
-            return result;
+            return unmodifiableResult;
         }
 
     }
@@ -1782,18 +2023,15 @@ public final class ConstraintCollectors {
 
         private final Supplier<Set_> setSupplier;
         private final Result_ result;
+        private final Result_ unmodifiableResult;
         private final Map<Key, ToMapPerKeyCounter<Value>> valueCounts = new HashMap<>(0);
 
-        public ToMultiMapResultContainer(Supplier<Result_> resultSupplier, IntFunction<Set_> setFunction) {
+        public ToMultiMapResultContainer(Supplier<Result_> resultSupplier, UnaryOperator<Result_> unmodifiableViewFunction,
+                IntFunction<Set_> setFunction) {
             IntFunction<Set_> nonNullSetFunction = Objects.requireNonNull(setFunction);
             this.setSupplier = () -> nonNullSetFunction.apply(0);
             this.result = Objects.requireNonNull(resultSupplier).get();
-        }
-
-        public ToMultiMapResultContainer(IntFunction<Result_> resultFunction, IntFunction<Set_> setFunction) {
-            IntFunction<Set_> nonNullSetFunction = Objects.requireNonNull(setFunction);
-            this.setSupplier = () -> nonNullSetFunction.apply(0);
-            this.result = Objects.requireNonNull(resultFunction).apply(0);
+            this.unmodifiableResult = unmodifiableViewFunction.apply(result);
         }
 
         @Override
@@ -1819,7 +2057,7 @@ public final class ConstraintCollectors {
 
         @Override
         public Result_ getResult() {
-            return result;
+            return unmodifiableResult;
         }
 
     }
@@ -1849,6 +2087,8 @@ public final class ConstraintCollectors {
      * For stable iteration order, use {@link #toSortedMap(Function, Function, BinaryOperator)}.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link Map}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param keyMapper map matched fact to a map key
      * @param valueMapper map matched fact to a value
@@ -1862,7 +2102,8 @@ public final class ConstraintCollectors {
             Function<? super A, ? extends Key> keyMapper, Function<? super A, ? extends Value> valueMapper,
             BinaryOperator<Value> mergeFunction) {
         return new DefaultUniConstraintCollector<>(
-                () -> new ToSimpleMapResultContainer<>((IntFunction<HashMap<Key, Value>>) HashMap::new, mergeFunction),
+                () -> new ToSimpleMapResultContainer<Key, Value, Map<Key, Value>>(HashMap::new,
+                        Collections::unmodifiableMap, mergeFunction),
                 (resultContainer, a) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a),
                 ToMapResultContainer::getResult);
     }
@@ -1879,6 +2120,8 @@ public final class ConstraintCollectors {
      * {@link #toSortedMap(Function, Function, IntFunction)} for that.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link SortedMap}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param keyMapper map matched fact to a map key
      * @param valueMapper map matched fact to a value
@@ -1904,6 +2147,8 @@ public final class ConstraintCollectors {
      * Iteration order of value collections depends on the {@link Set} provided.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link SortedMap}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param keyMapper map matched fact to a map key
      * @param valueMapper map matched fact to a value
@@ -1919,7 +2164,8 @@ public final class ConstraintCollectors {
                     Function<? super A, ? extends Key> keyMapper,
                     Function<? super A, ? extends Value> valueMapper, IntFunction<ValueSet> valueSetFunction) {
         return new DefaultUniConstraintCollector<>(
-                () -> new ToMultiMapResultContainer<>((Supplier<TreeMap<Key, ValueSet>>) TreeMap::new, valueSetFunction),
+                () -> new ToMultiMapResultContainer<Key, Value, ValueSet, SortedMap<Key, ValueSet>>(TreeMap::new,
+                        Collections::unmodifiableSortedMap, valueSetFunction),
                 (resultContainer, a) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a),
                 ToMultiMapResultContainer::getResult);
     }
@@ -1932,6 +2178,8 @@ public final class ConstraintCollectors {
      * {@code {20: "Ann and Eric", 25: "Beth", 30: "Cathy and David"}}.
      * <p>
      * The default result of the collector (e.g. when never called) is an empty {@link SortedMap}.
+     * <p>
+     * The result is an unmodifiable view of the group, which is not copied when the group changes.
      *
      * @param keyMapper map matched fact to a map key
      * @param valueMapper map matched fact to a value
@@ -1946,7 +2194,8 @@ public final class ConstraintCollectors {
                     Function<? super A, ? extends Key> keyMapper, Function<? super A, ? extends Value> valueMapper,
                     BinaryOperator<Value> mergeFunction) {
         return new DefaultUniConstraintCollector<>(
-                () -> new ToSimpleMapResultContainer<>((Supplier<TreeMap<Key, Value>>) TreeMap::new, mergeFunction),
+                () -> new ToSimpleMapResultContainer<Key, Value, SortedMap<Key, Value>>(TreeMap::new,
+                        Collections::unmodifiableSortedMap, mergeFunction),
                 (resultContainer, a) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a),
                 ToSimpleMapResultContainer::getResult);
     }
@@ -1967,7 +2216,8 @@ public final class ConstraintCollectors {
             BiFunction<? super A, ? super B, ? extends Key> keyMapper,
             BiFunction<? super A, ? super B, ? extends Value> valueMapper, IntFunction<ValueSet> valueSetFunction) {
         return new DefaultBiConstraintCollector<>(
-                () -> new ToMultiMapResultContainer<>((IntFunction<HashMap<Key, ValueSet>>) HashMap::new, valueSetFunction),
+                () -> new ToMultiMapResultContainer<Key, Value, ValueSet, Map<Key, ValueSet>>(HashMap::new,
+                        Collections::unmodifiableMap, valueSetFunction),
                 (resultContainer, a, b) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b),
                 ToMultiMapResultContainer::getResult);
     }
@@ -1988,7 +2238,8 @@ public final class ConstraintCollectors {
             BiFunction<? super A, ? super B, ? extends Key> keyMapper,
             BiFunction<? super A, ? super B, ? extends Value> valueMapper, BinaryOperator<Value> mergeFunction) {
         return new DefaultBiConstraintCollector<>(
-                () -> new ToSimpleMapResultContainer<>((IntFunction<HashMap<Key, Value>>) HashMap::new, mergeFunction),
+                () -> new ToSimpleMapResultContainer<Key, Value, Map<Key, Value>>(HashMap::new,
+                        Collections::unmodifiableMap, mergeFunction),
                 (resultContainer, a, b) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b),
                 ToSimpleMapResultContainer::getResult);
     }
@@ -2010,7 +2261,8 @@ public final class ConstraintCollectors {
                     BiFunction<? super A, ? super B, ? extends Key> keyMapper,
                     BiFunction<? super A, ? super B, ? extends Value> valueMapper, IntFunction<ValueSet> valueSetFunction) {
         return new DefaultBiConstraintCollector<>(
-                () -> new ToMultiMapResultContainer<>((Supplier<TreeMap<Key, ValueSet>>) TreeMap::new, valueSetFunction),
+                () -> new ToMultiMapResultContainer<Key, Value, ValueSet, SortedMap<Key, ValueSet>>(TreeMap::new,
+                        Collections::unmodifiableSortedMap, valueSetFunction),
                 (resultContainer, a, b) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b),
                 ToMultiMapResultContainer::getResult);
     }
@@ -2023,7 +2275,8 @@ public final class ConstraintCollectors {
                     BiFunction<? super A, ? super B, ? extends Key> keyMapper,
                     BiFunction<? super A, ? super B, ? extends Value> valueMapper, BinaryOperator<Value> mergeFunction) {
         return new DefaultBiConstraintCollector<>(
-                () -> new ToSimpleMapResultContainer<>((Supplier<TreeMap<Key, Value>>) TreeMap::new, mergeFunction),
+                () -> new ToSimpleMapResultContainer<Key, Value, SortedMap<Key, Value>>(TreeMap::new,
+                        Collections::unmodifiableSortedMap, mergeFunction),
                 (resultContainer, a, b) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b),
                 ToSimpleMapResultContainer::getResult);
     }
@@ -2045,7 +2298,8 @@ public final class ConstraintCollectors {
                     TriFunction<? super A, ? super B, ? super C, ? extends Value> valueMapper,
                     IntFunction<ValueSet> valueSetFunction) {
         return new DefaultTriConstraintCollector<>(
-                () -> new ToMultiMapResultContainer<>((IntFunction<HashMap<Key, ValueSet>>) HashMap::new, valueSetFunction),
+                () -> new ToMultiMapResultContainer<Key, Value, ValueSet, Map<Key, ValueSet>>(HashMap::new,
+                        Collections::unmodifiableMap, valueSetFunction),
                 (resultContainer, a, b, c) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b, c),
                 ToMultiMapResultContainer::getResult);
     }
@@ -2067,7 +2321,8 @@ public final class ConstraintCollectors {
             TriFunction<? super A, ? super B, ? super C, ? extends Value> valueMapper,
             BinaryOperator<Value> mergeFunction) {
         return new DefaultTriConstraintCollector<>(
-                () -> new ToSimpleMapResultContainer<>((IntFunction<HashMap<Key, Value>>) HashMap::new, mergeFunction),
+                () -> new ToSimpleMapResultContainer<Key, Value, Map<Key, Value>>(HashMap::new,
+                        Collections::unmodifiableMap, mergeFunction),
                 (resultContainer, a, b, c) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b, c),
                 ToSimpleMapResultContainer::getResult);
     }
@@ -2091,7 +2346,8 @@ public final class ConstraintCollectors {
                     TriFunction<? super A, ? super B, ? super C, ? extends Value> valueMapper,
                     IntFunction<ValueSet> valueSetFunction) {
         return new DefaultTriConstraintCollector<>(
-                () -> new ToMultiMapResultContainer<>((Supplier<TreeMap<Key, ValueSet>>) TreeMap::new, valueSetFunction),
+                () -> new ToMultiMapResultContainer<Key, Value, ValueSet, SortedMap<Key, ValueSet>>(TreeMap::new,
+                        Collections::unmodifiableSortedMap, valueSetFunction),
                 (resultContainer, a, b, c) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b, c),
                 ToMultiMapResultContainer::getResult);
     }
@@ -2105,7 +2361,8 @@ public final class ConstraintCollectors {
                     TriFunction<? super A, ? super B, ? super C, ? extends Value> valueMapper,
                     BinaryOperator<Value> mergeFunction) {
         return new DefaultTriConstraintCollector<>(
-                () -> new ToSimpleMapResultContainer<>((Supplier<TreeMap<Key, Value>>) TreeMap::new, mergeFunction),
+                () -> new ToSimpleMapResultContainer<Key, Value, SortedMap<Key, Value>>(TreeMap::new,
+                        Collections::unmodifiableSortedMap, mergeFunction),
                 (resultContainer, a, b, c) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b, c),
                 ToSimpleMapResultContainer::getResult);
     }
@@ -2128,7 +2385,8 @@ public final class ConstraintCollectors {
                     QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Value> valueMapper,
                     IntFunction<ValueSet> valueSetFunction) {
         return new DefaultQuadConstraintCollector<>(
-                () -> new ToMultiMapResultContainer<>((IntFunction<HashMap<Key, ValueSet>>) HashMap::new, valueSetFunction),
+                () -> new ToMultiMapResultContainer<Key, Value, ValueSet, Map<Key, ValueSet>>(HashMap::new,
+                        Collections::unmodifiableMap, valueSetFunction),
                 (resultContainer, a, b, c, d) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b, c, d),
                 ToMultiMapResultContainer::getResult);
     }
@@ -2150,7 +2408,8 @@ public final class ConstraintCollectors {
             QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Value> valueMapper,
             BinaryOperator<Value> mergeFunction) {
         return new DefaultQuadConstraintCollector<>(
-                () -> new ToSimpleMapResultContainer<>((IntFunction<HashMap<Key, Value>>) HashMap::new, mergeFunction),
+                () -> new ToSimpleMapResultContainer<Key, Value, Map<Key, Value>>(HashMap::new,
+                        Collections::unmodifiableMap, mergeFunction),
                 (resultContainer, a, b, c, d) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b, c, d),
                 ToSimpleMapResultContainer::getResult);
     }
@@ -2174,7 +2433,8 @@ public final class ConstraintCollectors {
                     QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Value> valueMapper,
                     IntFunction<ValueSet> valueSetFunction) {
         return new DefaultQuadConstraintCollector<>(
-                () -> new ToMultiMapResultContainer<>((Supplier<TreeMap<Key, ValueSet>>) TreeMap::new, valueSetFunction),
+                () -> new ToMultiMapResultContainer<Key, Value, ValueSet, SortedMap<Key, ValueSet>>(TreeMap::new,
+                        Collections::unmodifiableSortedMap, valueSetFunction),
                 (resultContainer, a, b, c, d) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b, c, d),
                 ToMultiMapResultContainer::getResult);
     }
@@ -2188,11 +2448,388 @@ public final class ConstraintCollectors {
                     QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Value> valueMapper,
                     BinaryOperator<Value> mergeFunction) {
         return new DefaultQuadConstraintCollector<>(
-                () -> new ToSimpleMapResultContainer<>((Supplier<TreeMap<Key, Value>>) TreeMap::new, mergeFunction),
+                () -> new ToSimpleMapResultContainer<Key, Value, SortedMap<Key, Value>>(TreeMap::new,
+                        Collections::unmodifiableSortedMap, mergeFunction),
                 (resultContainer, a, b, c, d) -> toMapAccumulator(keyMapper, valueMapper, resultContainer, a, b, c, d),
                 ToSimpleMapResultContainer::getResult);
     }
 
+    // ************************************************************************
+    // consecutive collectors
+    // ************************************************************************
+
+    /**
+     * Creates a constraint collector that returns {@link ConsecutiveInfo} about the first fact.
+     * <p>
+     * For instance, {@code [Shift slot=1] [Shift slot=2] [Shift slot=4] [Shift slot=6]}
+     * returns the following information:
+     *
+     * <pre>
+     * {@code
+     * Consecutive Lengths: 2, 1, 1
+     * Break Lengths: 1, 2
+     * Consecutive Items: [[Shift slot=1] [Shift slot=2]], [[Shift slot=4]], [[Shift slot=6]]
+     * }
+     * </pre>
+     * <p>
+     * The sequences and breaks are maintained incrementally:
+     * inserting or retracting a fact costs {@code O(log n)}, where n is the number of facts in the group.
+     * The returned {@link ConsecutiveInfo} is a live view of that state, not a copy.
+     *
+     * @param indexMap Maps the fact to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, ConsecutiveInfo<A, Integer>> consecutive(ToIntFunction<A> indexMap) {
+        return new DefaultUniConstraintCollector<>(
+                ConstraintCollectors::<A> buildConsecutiveSetTree,
+                (resultContainer, a) -> consecutiveAccumulator(resultContainer, a, indexMap),
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * As defined by {@link #consecutive(ToIntFunction)}.
+     *
+     * @param resultMap Maps both facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <Result> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, Result> BiConstraintCollector<A, B, ?, ConsecutiveInfo<Result, Integer>> consecutive(
+            BiFunction<A, B, Result> resultMap, ToIntFunction<Result> indexMap) {
+        return new DefaultBiConstraintCollector<>(
+                ConstraintCollectors::<Result> buildConsecutiveSetTree,
+                (resultContainer, a, b) -> consecutiveAccumulator(resultContainer, resultMap.apply(a, b), indexMap),
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * As defined by {@link #consecutive(ToIntFunction)}.
+     *
+     * @param resultMap Maps the three facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <Result> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, C, Result> TriConstraintCollector<A, B, C, ?, ConsecutiveInfo<Result, Integer>> consecutive(
+            TriFunction<A, B, C, Result> resultMap, ToIntFunction<Result> indexMap) {
+        return new DefaultTriConstraintCollector<>(
+                ConstraintCollectors::<Result> buildConsecutiveSetTree,
+                (resultContainer, a, b, c) -> consecutiveAccumulator(resultContainer, resultMap.apply(a, b, c), indexMap),
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * As defined by {@link #consecutive(ToIntFunction)}.
+     *
+     * @param resultMap Maps the four facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <Result> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, C, D, Result> QuadConstraintCollector<A, B, C, D, ?, ConsecutiveInfo<Result, Integer>>
+            consecutive(QuadFunction<A, B, C, D, Result> resultMap, ToIntFunction<Result> indexMap) {
+        return new DefaultQuadConstraintCollector<>(
+                ConstraintCollectors::<Result> buildConsecutiveSetTree,
+                (resultContainer, a, b, c, d) -> consecutiveAccumulator(resultContainer, resultMap.apply(a, b, c, d),
+                        indexMap),
+                resultContainer -> resultContainer);
+    }
+
+    private static <Value_> ConsecutiveSetTree<Value_, Integer, Integer> buildConsecutiveSetTree() {
+        return new ConsecutiveSetTree<>((Integer a, Integer b) -> b - a, Integer::sum, 1, 0);
+    }
+
+    private static <Value_> Runnable consecutiveAccumulator(ConsecutiveSetTree<Value_, Integer, Integer> resultContainer,
+            Value_ value, ToIntFunction<Value_> indexMap) {
+        resultContainer.add(value, indexMap.applyAsInt(value));
+        return () -> resultContainer.remove(value);
+    }
+
+    /**
+     * Creates a constraint collector that returns {@link ConsecutiveIntervalInfo} about the first fact.
+     * <p>
+     * For instance, {@code [Shift from=2, to=4] [Shift from=3, to=5] [Shift from=6, to=7] [Shift from=7, to=8]}
+     * returns the following information:
+     *
+     * <pre>
+     * {@code
+     * IntervalClusters: [[Shift from=2, to=4] [Shift from=3, to=5]], [[Shift from=6, to=7] [Shift from=7, to=8]]
+     * Breaks: [[Break from=5, to=6, length=1]]
+     * }
+     * </pre>
+     * <p>
+     * The interval clusters and breaks are maintained incrementally:
+     * inserting or retracting a fact costs {@code O(log n)}, where n is the number of facts in the group,
+     * plus the number of clusters it merges or splits.
+     * The returned {@link ConsecutiveIntervalInfo} is a live view of that state, not a copy.
+     *
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <PointType_> type of the fact endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            UniConstraintCollector<A, ?, ConsecutiveIntervalInfo<A, PointType_, DifferenceType_>>
+            consecutiveIntervals(Function<A, PointType_> startMap, Function<A, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                ConstraintCollectors::intervalAccumulator,
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    /**
+     * Specialized version of {@link #consecutiveIntervals(Function,Function,BiFunction)} for
+     * {@link Temporal} types.
+     *
+     * @param <A> type of the first mapped fact
+     * @param <PointType_> temporal type of the endpoints
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @return never null
+     */
+    public static <A, PointType_ extends Temporal & Comparable<PointType_>>
+            UniConstraintCollector<A, ?, ConsecutiveIntervalInfo<A, PointType_, Duration>>
+            consecutiveTemporalIntervals(Function<A, PointType_> startMap, Function<A, PointType_> endMap) {
+        return consecutiveIntervals(startMap, endMap, Duration::between);
+    }
+
+    /**
+     * Specialized version of {@link #consecutiveIntervals(Function,Function,BiFunction)} for Long.
+     *
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, ConsecutiveIntervalInfo<A, Long, Long>>
+            consecutiveIntervals(ToLongFunction<A> startMap, ToLongFunction<A> endMap) {
+        return consecutiveIntervals(startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps both facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            BiConstraintCollector<A, B, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, DifferenceType_>>
+            consecutiveIntervals(BiFunction<A, B, IntervalType_> intervalMap, Function<IntervalType_, PointType_> startMap,
+                    Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                (resultContainer, a, b) -> intervalAccumulator(resultContainer, intervalMap.apply(a, b)),
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    /**
+     * As defined by {@link #consecutiveTemporalIntervals(Function,Function)}.
+     *
+     * @param intervalMap Maps both facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            BiConstraintCollector<A, B, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, Duration>>
+            consecutiveTemporalIntervals(BiFunction<A, B, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap Maps both facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @return never null
+     */
+    public static <A, B, IntervalType_>
+            BiConstraintCollector<A, B, ?, ConsecutiveIntervalInfo<IntervalType_, Long, Long>>
+            consecutiveIntervals(BiFunction<A, B, IntervalType_> intervalMap, ToLongFunction<IntervalType_> startMap,
+                    ToLongFunction<IntervalType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps the three facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            TriConstraintCollector<A, B, C, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, DifferenceType_>>
+            consecutiveIntervals(TriFunction<A, B, C, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                (resultContainer, a, b, c) -> intervalAccumulator(resultContainer, intervalMap.apply(a, b, c)),
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    /**
+     * As defined by {@link #consecutiveTemporalIntervals(Function,Function)}.
+     *
+     * @param intervalMap Maps the three facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            TriConstraintCollector<A, B, C, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, Duration>>
+            consecutiveTemporalIntervals(TriFunction<A, B, C, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap Maps the three facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_>
+            TriConstraintCollector<A, B, C, ?, ConsecutiveIntervalInfo<IntervalType_, Long, Long>>
+            consecutiveIntervals(TriFunction<A, B, C, IntervalType_> intervalMap, ToLongFunction<IntervalType_> startMap,
+                    ToLongFunction<IntervalType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps the four facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            QuadConstraintCollector<A, B, C, D, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, DifferenceType_>>
+            consecutiveIntervals(QuadFunction<A, B, C, D, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                (resultContainer, a, b, c, d) -> intervalAccumulator(resultContainer, intervalMap.apply(a, b, c, d)),
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    /**
+     * As defined by {@link #consecutiveTemporalIntervals(Function,Function)}.
+     *
+     * @param intervalMap Maps the four facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            QuadConstraintCollector<A, B, C, D, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, Duration>>
+            consecutiveTemporalIntervals(QuadFunction<A, B, C, D, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap Maps the four facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_>
+            QuadConstraintCollector<A, B, C, D, ?, ConsecutiveIntervalInfo<IntervalType_, Long, Long>>
+            consecutiveIntervals(QuadFunction<A, B, C, D, IntervalType_> intervalMap,
+                    ToLongFunction<IntervalType_> startMap, ToLongFunction<IntervalType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    private static <Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>> Runnable
+            intervalAccumulator(IntervalTree<Interval_, Point_, Difference_> resultContainer, Interval_ value) {
+        Interval<Interval_, Point_> interval = resultContainer.getInterval(value);
+        resultContainer.add(interval);
+        return () -> resultContainer.remove(interval);
+    }
+
     // ************************************************************************
     // conditional collectors
     // ************************************************************************
@@ -1,5 +1,6 @@
 package org.optaplanner.core.api.score.stream;
 
+import java.util.Collection;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -25,7 +26,6 @@ import org.optaplanner.core.impl.score.stream.JoinerType;
 public final class Joiners {
 
     // TODO Support using non-natural comparators, such as lessThan(leftMapping, rightMapping, comparator).
-    // TODO Support collection-based joiners, such as containing(), intersecting() and disjoint().
 
     // ************************************************************************
     // BiJoiner
@@ -267,6 +267,96 @@ public final class Joiners {
                 .and(Joiners.greaterThan(leftEndMapping, rightStartMapping));
     }
 
+    /**
+     * Joins every A and B where a collection property on A contains a property of B.
+     * These are exactly the pairs where {@code leftMapping.apply(A).contains(rightMapping.apply(B))}.
+     *
+     * For example, on a cartesian product of list {@code [Ann(skills = [Java, SQL]), Beth(skills = [SQL])]}
+     * and list {@code [Task1(skill = Java), Task2(skill = SQL)]}
+     * with leftMapping being {@code Person::getSkills} and rightMapping being {@code Task::getSkill},
+     * this joiner will produce pairs {@code (Ann, Task1), (Ann, Task2), (Beth, Task2)}.
+     *
+     * @param leftMapping mapping function to apply to A
+     * @param rightMapping mapping function to apply to B
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    public static <A, B, Property_> BiJoiner<A, B> containing(Function<A, ? extends Collection<Property_>> leftMapping,
+            Function<B, Property_> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newBiJoiner((Function) leftMapping, JoinerType.CONTAINING, (Function) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #intersecting(Function, Function)} with both arguments using the same mapping.
+     *
+     * @param mapping mapping function to apply
+     * @param <A> the type of both objects
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    public static <A, Property_> BiJoiner<A, A> intersecting(Function<A, ? extends Collection<Property_>> mapping) {
+        return intersecting(mapping, mapping);
+    }
+
+    /**
+     * Joins every A and B where a collection property on A and a collection property on B share an element.
+     * These are exactly the pairs where {@code !Collections.disjoint(leftMapping.apply(A), rightMapping.apply(B))}.
+     *
+     * For example, on a cartesian product of list
+     * {@code [Ann(skills = [Java, SQL]), Beth(skills = [SQL]), Eric(skills = [Python])]}
+     * with both leftMapping and rightMapping being {@code Person::getSkills},
+     * this joiner will produce pairs {@code (Ann, Ann), (Ann, Beth), (Beth, Ann), (Beth, Beth), (Eric, Eric)}.
+     *
+     * @param leftMapping mapping function to apply to A
+     * @param rightMapping mapping function to apply to B
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    public static <A, B, Property_> BiJoiner<A, B> intersecting(Function<A, ? extends Collection<Property_>> leftMapping,
+            Function<B, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newBiJoiner((Function) leftMapping, JoinerType.INTERSECTING, (Function) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #disjoint(Function, Function)} with both arguments using the same mapping.
+     *
+     * @param mapping mapping function to apply
+     * @param <A> the type of both objects
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    public static <A, Property_> BiJoiner<A, A> disjoint(Function<A, ? extends Collection<Property_>> mapping) {
+        return disjoint(mapping, mapping);
+    }
+
+    /**
+     * Joins every A and B where a collection property on A and a collection property on B share no element.
+     * These are exactly the pairs where {@code Collections.disjoint(leftMapping.apply(A), rightMapping.apply(B))}.
+     *
+     * For example, on a cartesian product of list
+     * {@code [Ann(skills = [Java, SQL]), Beth(skills = [SQL]), Eric(skills = [Python])]}
+     * with both leftMapping and rightMapping being {@code Person::getSkills},
+     * this joiner will produce pairs {@code (Ann, Eric), (Beth, Eric), (Eric, Ann), (Eric, Beth)}.
+     *
+     * @param leftMapping mapping function to apply to A
+     * @param rightMapping mapping function to apply to B
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    public static <A, B, Property_> BiJoiner<A, B> disjoint(Function<A, ? extends Collection<Property_>> leftMapping,
+            Function<B, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newBiJoiner((Function) leftMapping, JoinerType.DISJOINT, (Function) rightMapping);
+    }
+
     // ************************************************************************
     // TriJoiner
     // ************************************************************************
@@ -390,6 +480,59 @@ public final class Joiners {
                 .and(Joiners.greaterThan(leftEndMapping, rightStartMapping));
     }
 
+    /**
+     * As defined by {@link #containing(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B)
+     * @param rightMapping mapping function to apply to C
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    public static <A, B, C, Property_> TriJoiner<A, B, C> containing(
+            BiFunction<A, B, ? extends Collection<Property_>> leftMapping, Function<C, Property_> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newTriJoiner((BiFunction) leftMapping, JoinerType.CONTAINING, (Function) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #intersecting(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B)
+     * @param rightMapping mapping function to apply to C
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    public static <A, B, C, Property_> TriJoiner<A, B, C> intersecting(
+            BiFunction<A, B, ? extends Collection<Property_>> leftMapping,
+            Function<C, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newTriJoiner((BiFunction) leftMapping, JoinerType.INTERSECTING, (Function) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #disjoint(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B)
+     * @param rightMapping mapping function to apply to C
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    public static <A, B, C, Property_> TriJoiner<A, B, C> disjoint(
+            BiFunction<A, B, ? extends Collection<Property_>> leftMapping,
+            Function<C, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newTriJoiner((BiFunction) leftMapping, JoinerType.DISJOINT, (Function) rightMapping);
+    }
+
     // ************************************************************************
     // QuadJoiner
     // ************************************************************************
@@ -520,6 +663,62 @@ public final class Joiners {
                 .and(Joiners.greaterThan(leftEndMapping, rightStartMapping));
     }
 
+    /**
+     * As defined by {@link #containing(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C)
+     * @param rightMapping mapping function to apply to D
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    public static <A, B, C, D, Property_> QuadJoiner<A, B, C, D> containing(
+            TriFunction<A, B, C, ? extends Collection<Property_>> leftMapping, Function<D, Property_> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newQuadJoiner((TriFunction) leftMapping, JoinerType.CONTAINING, (Function) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #intersecting(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C)
+     * @param rightMapping mapping function to apply to D
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    public static <A, B, C, D, Property_> QuadJoiner<A, B, C, D> intersecting(
+            TriFunction<A, B, C, ? extends Collection<Property_>> leftMapping,
+            Function<D, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newQuadJoiner((TriFunction) leftMapping, JoinerType.INTERSECTING, (Function) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #disjoint(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C)
+     * @param rightMapping mapping function to apply to D
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    public static <A, B, C, D, Property_> QuadJoiner<A, B, C, D> disjoint(
+            TriFunction<A, B, C, ? extends Collection<Property_>> leftMapping,
+            Function<D, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newQuadJoiner((TriFunction) leftMapping, JoinerType.DISJOINT, (Function) rightMapping);
+    }
+
     // ************************************************************************
     // PentaJoiner
     // ************************************************************************
@@ -657,6 +856,65 @@ public final class Joiners {
                 .and(Joiners.greaterThan(leftEndMapping, rightStartMapping));
     }
 
+    /**
+     * As defined by {@link #containing(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C,D)
+     * @param rightMapping mapping function to apply to E
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of the fourth object on the left
+     * @param <E> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    public static <A, B, C, D, E, Property_> PentaJoiner<A, B, C, D, E> containing(
+            QuadFunction<A, B, C, D, ? extends Collection<Property_>> leftMapping, Function<E, Property_> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newPentaJoiner((QuadFunction) leftMapping, JoinerType.CONTAINING, (Function) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #intersecting(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C,D)
+     * @param rightMapping mapping function to apply to E
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of the fourth object on the left
+     * @param <E> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    public static <A, B, C, D, E, Property_> PentaJoiner<A, B, C, D, E> intersecting(
+            QuadFunction<A, B, C, D, ? extends Collection<Property_>> leftMapping,
+            Function<E, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newPentaJoiner((QuadFunction) leftMapping, JoinerType.INTERSECTING, (Function) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #disjoint(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C,D)
+     * @param rightMapping mapping function to apply to E
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of the fourth object on the left
+     * @param <E> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    public static <A, B, C, D, E, Property_> PentaJoiner<A, B, C, D, E> disjoint(
+            QuadFunction<A, B, C, D, ? extends Collection<Property_>> leftMapping,
+            Function<E, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newPentaJoiner((QuadFunction) leftMapping, JoinerType.DISJOINT, (Function) rightMapping);
+    }
+
     private Joiners() {
     }
 
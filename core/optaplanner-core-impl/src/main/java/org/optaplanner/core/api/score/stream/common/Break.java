@@ -1,4 +1,4 @@
-package org.optaplanner.examples.common.experimental.api;
+package org.optaplanner.core.api.score.stream.common;
 
 /**
  * A Break is a gap between two consecutive values. For instance,
@@ -1,4 +1,4 @@
-package org.optaplanner.examples.common.experimental.api;
+package org.optaplanner.core.api.score.stream.common;
 
 /**
  * Contains info regarding the consecutive sequences and breaks
@@ -1,5 +1,13 @@
-package org.optaplanner.examples.common.experimental.api;
+package org.optaplanner.core.api.score.stream.common;
 
+/**
+ * Contains info regarding the interval clusters and breaks in a collection of intervals.
+ * An interval cluster is a maximal group of intervals that overlap or touch each other.
+ *
+ * @param <Interval_> The type of interval in the collection
+ * @param <Point_> The type of the start and end points of each interval
+ * @param <Difference_> The type of difference between points
+ */
 public interface ConsecutiveIntervalInfo<Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>> {
 
     /**
@@ -1,4 +1,4 @@
-package org.optaplanner.examples.common.experimental.api;
+package org.optaplanner.core.api.score.stream.common;
 
 /**
  * An IntervalBreak is a gap between two consecutive interval clusters. For instance,
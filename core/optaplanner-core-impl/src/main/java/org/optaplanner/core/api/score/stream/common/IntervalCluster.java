@@ -0,0 +1,23 @@
+package org.optaplanner.core.api.score.stream.common;
+
+/**
+ * An IntervalCluster is a group of intervals that overlap or touch each other,
+ * iterable in ascending order of their start.
+ * For instance, the intervals [1,3], [2,4] and [4,5] form a single cluster from 1 to 5.
+ *
+ * @param <Interval_> The type of interval in the cluster
+ * @param <Point_> The type of the start and end points of each interval
+ * @param <Difference_> The type of difference between points
+ */
+public interface IntervalCluster<Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        extends Iterable<Interval_> {
+    int size();
+
+    boolean hasOverlap();
+
+    Difference_ getLength();
+
+    Point_ getStart();
+
+    Point_ getEnd();
+}
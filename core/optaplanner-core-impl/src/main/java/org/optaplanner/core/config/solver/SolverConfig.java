@@ -62,6 +62,8 @@ import org.optaplanner.core.impl.solver.random.RandomFactory;
         "randomFactoryClass",
         "moveThreadCount",
         "moveThreadBufferSize",
+        "moveThreadBatchSize",
+        "moveThreadSelection",
         "threadFactoryClass",
         "monitoringConfig",
         "solutionClass",
@@ -221,6 +223,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     protected Class<? extends RandomFactory> randomFactoryClass = null;
     protected String moveThreadCount = null;
     protected Integer moveThreadBufferSize = null;
+    protected Integer moveThreadBatchSize = null;
+    protected Boolean moveThreadSelection = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
 
     protected Class<?> solutionClass = null;
@@ -346,6 +350,22 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.moveThreadBufferSize = moveThreadBufferSize;
     }
 
+    public Integer getMoveThreadBatchSize() {
+        return moveThreadBatchSize;
+    }
+
+    public void setMoveThreadBatchSize(Integer moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+    }
+
+    public Boolean getMoveThreadSelection() {
+        return moveThreadSelection;
+    }
+
+    public void setMoveThreadSelection(Boolean moveThreadSelection) {
+        this.moveThreadSelection = moveThreadSelection;
+    }
+
     public Class<? extends ThreadFactory> getThreadFactoryClass() {
         return threadFactoryClass;
     }
@@ -465,6 +485,16 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withMoveThreadBatchSize(Integer moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+        return this;
+    }
+
+    public SolverConfig withMoveThreadSelection(Boolean moveThreadSelection) {
+        this.moveThreadSelection = moveThreadSelection;
+        return this;
+    }
+
     public SolverConfig withThreadFactoryClass(Class<? extends ThreadFactory> threadFactoryClass) {
         this.threadFactoryClass = threadFactoryClass;
         return this;
@@ -624,6 +654,10 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadCount());
         moveThreadBufferSize = ConfigUtils.inheritOverwritableProperty(moveThreadBufferSize,
                 inheritedConfig.getMoveThreadBufferSize());
+        moveThreadBatchSize = ConfigUtils.inheritOverwritableProperty(moveThreadBatchSize,
+                inheritedConfig.getMoveThreadBatchSize());
+        moveThreadSelection = ConfigUtils.inheritOverwritableProperty(moveThreadSelection,
+                inheritedConfig.getMoveThreadSelection());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
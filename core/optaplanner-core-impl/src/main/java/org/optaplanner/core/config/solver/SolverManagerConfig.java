@@ -1,8 +1,11 @@
 package org.optaplanner.core.config.solver;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 
 import org.optaplanner.core.config.AbstractConfig;
@@ -22,6 +25,8 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    @XmlTransient
+    protected Supplier<ExecutorService> solverExecutorSupplier = null;
 
     // Future features:
     // throttlingDelay
@@ -50,6 +55,25 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    public Supplier<ExecutorService> getSolverExecutorSupplier() {
+        return solverExecutorSupplier;
+    }
+
+    /**
+     * Replaces the fixed thread pool that runs the solvers,
+     * for example with {@code Executors::newVirtualThreadPerTaskExecutor} on JDK 21 or higher.
+     * The {@link org.optaplanner.core.api.solver.SolverManager} calls it once
+     * and shuts the {@link ExecutorService} down when it is closed.
+     * The executor decides how many problems solve concurrently, so {@link #getParallelSolverCount()} no longer
+     * limits that.
+     * Can't be combined with {@link #getThreadFactoryClass()}.
+     *
+     * @param solverExecutorSupplier sometimes null
+     */
+    public void setSolverExecutorSupplier(Supplier<ExecutorService> solverExecutorSupplier) {
+        this.solverExecutorSupplier = solverExecutorSupplier;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -64,6 +88,11 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withSolverExecutorSupplier(Supplier<ExecutorService> solverExecutorSupplier) {
+        this.solverExecutorSupplier = solverExecutorSupplier;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -110,6 +139,8 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        solverExecutorSupplier = ConfigUtils.inheritOverwritableProperty(solverExecutorSupplier,
+                inheritedConfig.getSolverExecutorSupplier());
         return this;
     }
 
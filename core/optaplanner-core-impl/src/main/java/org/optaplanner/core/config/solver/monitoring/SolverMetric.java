@@ -36,7 +36,8 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("optaplanner.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("optaplanner.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
-            false);
+            false),
+    CONSTRAINT_PROFILE("optaplanner.solver.constraint.profile", false);
 
     String meterId;
     @SuppressWarnings("rawtypes")
@@ -200,6 +200,9 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 multiThreadedDecider.setAssertExpectedStepScore(true);
                 multiThreadedDecider.setAssertShadowVariablesAreNotStaleAfterStep(true);
             }
+            if (configPolicy.getMoveThreadBatchSize() != null) {
+                multiThreadedDecider.setMoveThreadBatchSize(configPolicy.getMoveThreadBatchSize());
+            }
             decider = multiThreadedDecider;
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
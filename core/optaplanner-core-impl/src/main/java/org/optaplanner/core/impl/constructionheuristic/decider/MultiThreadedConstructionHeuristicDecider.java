@@ -7,9 +7,8 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
@@ -43,12 +42,14 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+    protected int moveThreadBatchSize = 1;
 
     protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
     protected CyclicBarrier moveThreadBarrier;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
+    protected List<Future<?>> moveThreadFutureList;
 
     public MultiThreadedConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
             ConstructionHeuristicForager<Solution_> forager, ThreadFactory threadFactory, int moveThreadCount,
@@ -71,6 +72,17 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
     }
 
+    /**
+     * @param moveThreadBatchSize at least 1, the number of moves per {@link MoveEvaluationOperation}
+     */
+    public void setMoveThreadBatchSize(int moveThreadBatchSize) {
+        if (moveThreadBatchSize < 1) {
+            throw new IllegalArgumentException("The moveThreadBatchSize (" + moveThreadBatchSize
+                    + ") must be at least 1.");
+        }
+        this.moveThreadBatchSize = moveThreadBatchSize;
+    }
+
     @Override
     public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
@@ -80,8 +92,10 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
         moveThreadBarrier = new CyclicBarrier(moveThreadCount);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
-        executor = createThreadPoolExecutor();
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        executor = solverScope.getOrCreateMoveThreadExecutor(threadFactory, moveThreadCount);
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
+        moveThreadFutureList = new ArrayList<>(moveThreadCount);
         for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
             MoveThreadRunner<Solution_, ?> moveThreadRunner = new MoveThreadRunner<>(
                     logIndentation, moveThreadIndex, false,
@@ -89,7 +103,7 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
                     assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
                     assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
             moveThreadRunnerList.add(moveThreadRunner);
-            executor.submit(moveThreadRunner);
+            moveThreadFutureList.add(executor.submit(moveThreadRunner));
             operationQueue.add(new SetupOperation<>(scoreDirector));
         }
     }
@@ -104,7 +118,7 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         for (int i = 0; i < moveThreadCount; i++) {
             operationQueue.add(destroyOperation);
         }
-        shutdownMoveThreads();
+        awaitMoveThreads(phaseScope.getSolverScope());
         long childThreadsScoreCalculationCount = 0;
         for (MoveThreadRunner<Solution_, ?> moveThreadRunner : moveThreadRunnerList) {
             childThreadsScoreCalculationCount += moveThreadRunner.getCalculationCount();
@@ -118,18 +132,7 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     @Override
     public void solvingError(SolverScope<Solution_> solverScope, Exception exception) {
         super.solvingError(solverScope, exception);
-        shutdownMoveThreads();
-    }
-
-    protected ExecutorService createThreadPoolExecutor() {
-        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(moveThreadCount,
-                threadFactory);
-        if (threadPoolExecutor.getMaximumPoolSize() < moveThreadCount) {
-            throw new IllegalStateException(
-                    "The threadPoolExecutor's maximumPoolSize (" + threadPoolExecutor.getMaximumPoolSize()
-                            + ") is less than the moveThreadCount (" + moveThreadCount + "), this is unsupported.");
-        }
-        return threadPoolExecutor;
+        awaitMoveThreads(solverScope);
     }
 
     @Override
@@ -139,6 +142,7 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
 
         int selectMoveIndex = 0;
         int movesInPlay = 0;
+        List<Move<Solution_>> moveBatch = new ArrayList<>(moveThreadBatchSize);
         Iterator<Move<Solution_>> moveIterator = placement.iterator();
         do {
             boolean hasNextMove = moveIterator.hasNext();
@@ -146,16 +150,26 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
             // For reproducibility, the selectedMoveBufferSize always need to be entirely selected,
             // even if some of those moves won't end up being evaluated or foraged
             if (movesInPlay > 0 && (selectMoveIndex >= selectedMoveBufferSize || !hasNextMove)) {
+                if (moveBatch.size() == movesInPlay) {
+                    // The next move to forage is in the unfinished batch
+                    operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex - moveBatch.size(),
+                            moveBatch));
+                    moveBatch = new ArrayList<>(moveThreadBatchSize);
+                }
                 if (forageResult(stepScope, stepIndex)) {
                     break;
                 }
                 movesInPlay--;
             }
             if (hasNextMove) {
-                Move<Solution_> move = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex, move));
+                moveBatch.add(moveIterator.next());
                 selectMoveIndex++;
                 movesInPlay++;
+                if (moveBatch.size() == moveThreadBatchSize) {
+                    operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex - moveBatch.size(),
+                            moveBatch));
+                    moveBatch = new ArrayList<>(moveThreadBatchSize);
+                }
             }
         } while (movesInPlay > 0);
 
@@ -215,9 +229,13 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         return false;
     }
 
-    private void shutdownMoveThreads() {
-        if (executor != null && !executor.isShutdown()) {
-            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multi-threaded Construction Heuristic");
+    private void awaitMoveThreads(SolverScope<Solution_> solverScope) {
+        if (moveThreadFutureList != null) {
+            if (!ThreadUtils.awaitOrCancel(moveThreadFutureList, logIndentation, "Multi-threaded Construction Heuristic")) {
+                // A move thread that is still busy would starve the next phase that shares the executor
+                solverScope.destroyMoveThreadExecutor();
+            }
+            moveThreadFutureList = null;
         }
     }
 }
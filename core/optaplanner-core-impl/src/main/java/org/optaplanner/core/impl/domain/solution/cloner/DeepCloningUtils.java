@@ -88,7 +88,7 @@ public final class DeepCloningUtils {
                 || isFieldADeepCloneProperty(field, owningClass);
     }
 
-    static boolean isImmutable(Class<?> clz) {
+    public static boolean isImmutable(Class<?> clz) {
         if (clz.isPrimitive() || clz.isEnum() || Score.class.isAssignableFrom(clz)) {
             return true;
         }
@@ -27,6 +27,8 @@ public class HeuristicConfigPolicy<Solution_> {
     private final String logIndentation;
     private final Integer moveThreadCount;
     private final Integer moveThreadBufferSize;
+    private final Integer moveThreadBatchSize;
+    private final boolean moveThreadSelection;
     private final Class<? extends ThreadFactory> threadFactoryClass;
     private final InitializingScoreTrend initializingScoreTrend;
     private final SolutionDescriptor<Solution_> solutionDescriptor;
@@ -46,6 +48,8 @@ public class HeuristicConfigPolicy<Solution_> {
         this.logIndentation = builder.logIndentation;
         this.moveThreadCount = builder.moveThreadCount;
         this.moveThreadBufferSize = builder.moveThreadBufferSize;
+        this.moveThreadBatchSize = builder.moveThreadBatchSize;
+        this.moveThreadSelection = builder.moveThreadSelection;
         this.threadFactoryClass = builder.threadFactoryClass;
         this.initializingScoreTrend = builder.initializingScoreTrend;
         this.solutionDescriptor = builder.solutionDescriptor;
@@ -73,6 +77,14 @@ public class HeuristicConfigPolicy<Solution_> {
         return moveThreadBufferSize;
     }
 
+    public Integer getMoveThreadBatchSize() {
+        return moveThreadBatchSize;
+    }
+
+    public boolean isMoveThreadSelection() {
+        return moveThreadSelection;
+    }
+
     public InitializingScoreTrend getInitializingScoreTrend() {
         return initializingScoreTrend;
     }
@@ -115,7 +127,10 @@ public class HeuristicConfigPolicy<Solution_> {
 
     public Builder<Solution_> cloneBuilder() {
         return new Builder<>(environmentMode, moveThreadCount, moveThreadBufferSize, threadFactoryClass, initializingScoreTrend,
-                solutionDescriptor, classInstanceCache).withLogIndentation(logIndentation);
+                solutionDescriptor, classInstanceCache)
+                .withLogIndentation(logIndentation)
+                .withMoveThreadBatchSize(moveThreadBatchSize)
+                .withMoveThreadSelection(moveThreadSelection);
     }
 
     public HeuristicConfigPolicy<Solution_> createPhaseConfigPolicy() {
@@ -204,6 +219,9 @@ public class HeuristicConfigPolicy<Solution_> {
 
         private String logIndentation = "";
 
+        private Integer moveThreadBatchSize = null;
+        private boolean moveThreadSelection = false;
+
         private EntitySorterManner entitySorterManner = EntitySorterManner.NONE;
         private ValueSorterManner valueSorterManner = ValueSorterManner.NONE;
 
@@ -228,6 +246,16 @@ public class HeuristicConfigPolicy<Solution_> {
             return this;
         }
 
+        public Builder<Solution_> withMoveThreadBatchSize(Integer moveThreadBatchSize) {
+            this.moveThreadBatchSize = moveThreadBatchSize;
+            return this;
+        }
+
+        public Builder<Solution_> withMoveThreadSelection(boolean moveThreadSelection) {
+            this.moveThreadSelection = moveThreadSelection;
+            return this;
+        }
+
         public Builder<Solution_> withEntitySorterManner(EntitySorterManner entitySorterManner) {
             this.entitySorterManner = entitySorterManner;
             return this;
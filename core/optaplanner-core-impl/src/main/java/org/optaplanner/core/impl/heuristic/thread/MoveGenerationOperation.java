@@ -0,0 +1,25 @@
+package org.optaplanner.core.impl.heuristic.thread;
+
+/**
+ * Tells a move thread to select and evaluate moves with its own move selector,
+ * until it runs out of moves or the solver thread closes the {@link MoveIndexWindow} of the step.
+ */
+public class MoveGenerationOperation<Solution_> extends MoveThreadOperation<Solution_> {
+
+    private final int stepIndex;
+    private final long stepSeed;
+
+    public MoveGenerationOperation(int stepIndex, long stepSeed) {
+        this.stepIndex = stepIndex;
+        this.stepSeed = stepSeed;
+    }
+
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    public long getStepSeed() {
+        return stepSeed;
+    }
+
+}
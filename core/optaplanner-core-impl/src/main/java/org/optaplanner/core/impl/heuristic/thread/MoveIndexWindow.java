@@ -0,0 +1,84 @@
+package org.optaplanner.core.impl.heuristic.thread;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limits how far ahead of the solver thread the move threads can select moves,
+ * when every move thread selects its own moves (see {@link MoveGenerationOperation}).
+ * A move thread may only add the result of a moveIndex that is less than
+ * the number of results the solver thread has taken plus the capacity,
+ * so the {@link OrderByMoveIndexBlockingQueue} never overflows.
+ */
+public class MoveIndexWindow {
+
+    private static final int SPIN_COUNT = 100;
+    private static final long PARK_NANOS = 10_000L;
+
+    private final int capacity;
+
+    private volatile int stepIndex = -1;
+    private volatile int takenMoveCount = 0;
+    private volatile boolean closed = true;
+
+    /**
+     * @param capacity at least the moveThreadCount, so every move thread can always add its next result
+     */
+    public MoveIndexWindow(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     *
+     * @param stepIndex at least 0
+     */
+    public void open(int stepIndex) {
+        takenMoveCount = 0;
+        this.stepIndex = stepIndex;
+        closed = false;
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     */
+    public void moveTaken() {
+        takenMoveCount++;
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     * Releases every move thread that is waiting for room.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     * Blocks until there is room for the moveIndex.
+     *
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @return true if the result of the moveIndex can be added,
+     *         false if the step is over or the thread is interrupted
+     */
+    public boolean await(int stepIndex, int moveIndex) {
+        int spinCount = 0;
+        while (!closed && this.stepIndex == stepIndex) {
+            if (moveIndex < takenMoveCount + capacity) {
+                return true;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            if (spinCount < SPIN_COUNT) {
+                spinCount++;
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+        return false;
+    }
+
+}
@@ -1,5 +1,9 @@
 package org.optaplanner.core.impl.heuristic.thread;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
@@ -7,7 +11,11 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +23,8 @@ import org.slf4j.LoggerFactory;
 public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MoveThreadRunner.class);
+    // Golden ratio increment, so the seeds of the move threads are far apart.
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
 
     private final String logIndentation;
     private final int moveThreadIndex;
@@ -30,7 +40,15 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     private final boolean assertExpectedStepScore;
     private final boolean assertShadowVariablesAreNotStaleAfterStep;
 
+    // Only used if every move thread selects its own moves
+    private final MoveSelector<Solution_> moveSelector;
+    private final MoveIndexWindow moveIndexWindow;
+    private final int moveThreadCount;
+    private final long phaseSeed;
+
     private InnerScoreDirector<Solution_, Score_> scoreDirector = null;
+    private Random workingRandom = null;
+    private LocalSearchPhaseScope<Solution_> phaseScope = null;
     private AtomicLong calculationCount = new AtomicLong(-1);
 
     public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
@@ -40,6 +58,27 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
             boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
             boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
             boolean assertShadowVariablesAreNotStaleAfterStep) {
+        this(logIndentation, moveThreadIndex, evaluateDoable, operationQueue, resultQueue, moveThreadBarrier,
+                assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep,
+                null, null, -1, 0L);
+    }
+
+    /**
+     * @param moveSelector null if the solver thread selects the moves,
+     *        otherwise a move selector that is used by this move thread only
+     * @param moveIndexWindow null if moveSelector is null
+     * @param moveThreadCount at least 1, ignored if moveSelector is null
+     * @param phaseSeed the seed from which this move thread derives its random seed, ignored if moveSelector is null
+     */
+    public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
+            BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
+            OrderByMoveIndexBlockingQueue<Solution_> resultQueue,
+            CyclicBarrier moveThreadBarrier,
+            boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
+            boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
+            boolean assertShadowVariablesAreNotStaleAfterStep,
+            MoveSelector<Solution_> moveSelector, MoveIndexWindow moveIndexWindow, int moveThreadCount, long phaseSeed) {
         this.logIndentation = logIndentation;
         this.moveThreadIndex = moveThreadIndex;
         this.evaluateDoable = evaluateDoable;
@@ -51,6 +90,10 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         this.assertStepScoreFromScratch = assertStepScoreFromScratch;
         this.assertExpectedStepScore = assertExpectedStepScore;
         this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
+        this.moveSelector = moveSelector;
+        this.moveIndexWindow = moveIndexWindow;
+        this.moveThreadCount = moveThreadCount;
+        this.phaseSeed = phaseSeed;
     }
 
     @Override
@@ -73,6 +116,9 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                             .createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
                     stepIndex = 0;
                     lastStepScore = scoreDirector.calculateScore();
+                    if (moveSelector != null) {
+                        setupMoveSelector();
+                    }
                     LOGGER.trace("{}            Move thread ({}) setup: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
                     try {
@@ -86,6 +132,10 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     LOGGER.trace("{}            Move thread ({}) destroy: step index ({}).",
                             logIndentation, moveThreadIndex, stepIndex);
                     calculationCount.set(scoreDirector.getCalculationCount());
+                    if (moveSelector != null) {
+                        moveSelector.phaseEnded(phaseScope);
+                        moveSelector.solvingEnded(phaseScope.getSolverScope());
+                    }
                     break;
                 } else if (operation instanceof ApplyStepOperation) {
                     // TODO Performance gain with specialized 2-phase cyclic barrier:
@@ -122,21 +172,36 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                                 + moveEvaluationOperation.getStepIndex() + ") with moveIndex ("
                                 + moveIndex + ").");
                     }
-                    Move<Solution_> move = moveEvaluationOperation.getMove().rebase(scoreDirector);
-                    if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
-                        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex);
-                        resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
+                    List<Move<Solution_>> moveList = moveEvaluationOperation.getMoveList();
+                    if (moveList.size() == 1) {
+                        Move<Solution_> move = moveList.get(0).rebase(scoreDirector);
+                        resultQueue.add(evaluateMove(stepIndex, moveIndex, move, lastStepScore));
                     } else {
-                        Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
-                        if (assertExpectedUndoMoveScore) {
-                            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+                        // Send the results of a batch together, to reduce the coordination with the solver thread
+                        List<OrderByMoveIndexBlockingQueue.MoveResult<Solution_>> resultList =
+                                new ArrayList<>(moveList.size());
+                        for (Move<Solution_> move : moveList) {
+                            resultList.add(evaluateMove(stepIndex, moveIndex, move.rebase(scoreDirector), lastStepScore));
+                            moveIndex++;
                         }
-                        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
-                        // Deliberately add to fail fast if there is not enough capacity (which is impossible)
-                        resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+                        resultQueue.addAll(resultList);
+                    }
+                } else if (operation instanceof MoveGenerationOperation) {
+                    MoveGenerationOperation<Solution_> moveGenerationOperation =
+                            (MoveGenerationOperation<Solution_>) operation;
+                    if (stepIndex != moveGenerationOperation.getStepIndex()) {
+                        throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
+                                + stepIndex + ") differs from the operation's stepIndex ("
+                                + moveGenerationOperation.getStepIndex() + ").");
                     }
+                    try {
+                        // Don't consume another operation until every moveThread took this MoveGenerationOperation
+                        moveThreadBarrier.await();
+                    } catch (InterruptedException | BrokenBarrierException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    generateMoves(stepIndex, moveGenerationOperation.getStepSeed(), lastStepScore);
                 } else {
                     throw new IllegalStateException("Unknown operation (" + operation + ").");
                 }
@@ -156,6 +221,75 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         }
     }
 
+    private void setupMoveSelector() {
+        workingRandom = new Random(deriveSeed(phaseSeed));
+        SolverScope<Solution_> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setWorkingRandom(workingRandom);
+        phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        moveSelector.solvingStarted(solverScope);
+        moveSelector.phaseStarted(phaseScope);
+    }
+
+    private long deriveSeed(long seed) {
+        // A never ending selector selects different moves on every move thread.
+        // A finite selector selects the same moves on every move thread, each one only evaluates a share of them.
+        return moveSelector.isNeverEnding() ? seed + moveThreadIndex * SEED_INCREMENT : seed;
+    }
+
+    /**
+     * Every move thread owns the moveIndexes that are congruent to its moveThreadIndex modulo the moveThreadCount,
+     * so the moveIndex of every move is independent of the thread timing, which keeps the solver reproducible.
+     * The random is reseeded every step, because the number of moves selected in the previous step is not reproducible.
+     */
+    private void generateMoves(int stepIndex, long stepSeed, Score_ lastStepScore) {
+        workingRandom.setSeed(deriveSeed(stepSeed));
+        LocalSearchStepScope<Solution_> stepScope = new LocalSearchStepScope<>(phaseScope, stepIndex);
+        moveSelector.stepStarted(stepScope);
+        boolean neverEnding = moveSelector.isNeverEnding();
+        int selectIndex = 0;
+        int moveIndex = moveThreadIndex;
+        Iterator<Move<Solution_>> moveIterator = moveSelector.iterator();
+        while (true) {
+            if (!moveIterator.hasNext()) {
+                if (moveIndexWindow.await(stepIndex, moveIndex)) {
+                    LOGGER.trace("{}            Move thread ({}) generation: step index ({}), move index ({}), end of moves.",
+                            logIndentation, moveThreadIndex, stepIndex, moveIndex);
+                    resultQueue.addEndOfMoves(moveThreadIndex, stepIndex, moveIndex);
+                }
+                break;
+            }
+            Move<Solution_> move = moveIterator.next();
+            if (!neverEnding && selectIndex++ % moveThreadCount != moveThreadIndex) {
+                // Another move thread evaluates this move
+                continue;
+            }
+            if (!moveIndexWindow.await(stepIndex, moveIndex)) {
+                break;
+            }
+            resultQueue.add(evaluateMove(stepIndex, moveIndex, move, lastStepScore));
+            moveIndex += moveThreadCount;
+        }
+        moveSelector.stepEnded(stepScope);
+    }
+
+    private OrderByMoveIndexBlockingQueue.MoveResult<Solution_> evaluateMove(int stepIndex, int moveIndex,
+            Move<Solution_> move, Score_ lastStepScore) {
+        if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
+            LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
+                    logIndentation, moveThreadIndex, stepIndex, moveIndex);
+            return new OrderByMoveIndexBlockingQueue.MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null);
+        } else {
+            Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
+            if (assertExpectedUndoMoveScore) {
+                scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+            }
+            LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
+                    logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
+            return new OrderByMoveIndexBlockingQueue.MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score);
+        }
+    }
+
     protected void predictWorkingStepScore(Move<Solution_> step, Score_ score) {
         // There is no need to recalculate the score, but we still need to set it
         scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), score);
@@ -1,24 +1,39 @@
 package org.optaplanner.core.impl.heuristic.thread;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
 
+/**
+ * Returns the results of the move threads in the order of their moveIndex.
+ * <p>
+ * Lock-free ring buffer with a single consumer (the solver thread) and multiple producers (the move threads):
+ * the result of a moveIndex goes in slot {@code moveIndex % capacity}.
+ * The callers guarantee that the moveIndexes in circulation span less than the capacity,
+ * so 2 results of the same step never need the same slot.
+ * A result from a previous step is discarded when it is found, so it does not need to be cleared first.
+ */
 public class OrderByMoveIndexBlockingQueue<Solution_> {
 
-    private final BlockingQueue<MoveResult<Solution_>> innerQueue;
-    private final Map<Integer, MoveResult<Solution_>> backlog;
+    private static final int SPIN_COUNT = 100;
+    private static final int YIELD_COUNT = 10;
 
-    private int filterStepIndex = Integer.MIN_VALUE;
+    private final int capacity;
+    private final AtomicReferenceArray<MoveResult<Solution_>> slots;
+    private final AtomicReference<MoveResult<Solution_>> exceptionResult = new AtomicReference<>();
+    private volatile Thread waitingConsumerThread = null;
+
+    private volatile int filterStepIndex = Integer.MIN_VALUE;
     private int nextMoveIndex = Integer.MIN_VALUE;
 
     public OrderByMoveIndexBlockingQueue(int capacity) {
-        innerQueue = new ArrayBlockingQueue<>(capacity);
-        backlog = new HashMap<>(capacity);
+        this.capacity = capacity;
+        slots = new AtomicReferenceArray<>(capacity);
     }
 
     /**
@@ -27,24 +42,19 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @param stepIndex at least 0
      */
     public void startNextStep(int stepIndex) {
-        synchronized (this) {
-            if (filterStepIndex >= stepIndex) {
-                throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
-                        + ") must be less than the stepIndex (" + stepIndex + ")");
-            }
-            filterStepIndex = stepIndex;
-            MoveResult<Solution_> exceptionResult = innerQueue.stream().filter(MoveResult::hasThrownException)
-                    .findFirst().orElse(null);
-            if (exceptionResult != null) {
-                throw new IllegalStateException("The move thread with moveThreadIndex ("
-                        + exceptionResult.getMoveThreadIndex() + ") has thrown an exception."
-                        + " Relayed here in the parent thread.",
-                        exceptionResult.getThrowable());
-            }
-            innerQueue.clear();
+        if (filterStepIndex >= stepIndex) {
+            throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
+                    + ") must be less than the stepIndex (" + stepIndex + ")");
+        }
+        filterStepIndex = stepIndex;
+        MoveResult<Solution_> exceptionResult = this.exceptionResult.get();
+        if (exceptionResult != null) {
+            throw new IllegalStateException("The move thread with moveThreadIndex ("
+                    + exceptionResult.getMoveThreadIndex() + ") has thrown an exception."
+                    + " Relayed here in the parent thread.",
+                    exceptionResult.getThrowable());
         }
         nextMoveIndex = 0;
-        backlog.clear();
     }
 
     /**
@@ -57,14 +67,7 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @see BlockingQueue#add(Object)
      */
     public void addUndoableMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move) {
-        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null);
-        synchronized (this) {
-            if (result.getStepIndex() != filterStepIndex) {
-                // Discard element from previous step
-                return;
-            }
-            innerQueue.add(result);
-        }
+        add(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null));
     }
 
     /**
@@ -78,13 +81,74 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @see BlockingQueue#add(Object)
      */
     public void addMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, Score score) {
-        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score);
-        synchronized (this) {
-            if (result.getStepIndex() != filterStepIndex) {
+        add(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score));
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     * Marks that there are no moves at or after the moveIndex,
+     * when every move thread selects its own moves.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @see BlockingQueue#add(Object)
+     */
+    public void addEndOfMoves(int moveThreadIndex, int stepIndex, int moveIndex) {
+        add(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex));
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @param result never null, not an exception result
+     * @see BlockingQueue#add(Object)
+     */
+    public void add(MoveResult<Solution_> result) {
+        if (publish(result)) {
+            signalConsumer();
+        }
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     * Cheaper than adding every result separately, because the solver thread is signaled only once.
+     *
+     * @param resultList never null, no exception results
+     * @see BlockingQueue#addAll(java.util.Collection)
+     */
+    public void addAll(List<MoveResult<Solution_>> resultList) {
+        boolean published = false;
+        for (MoveResult<Solution_> result : resultList) {
+            published |= publish(result);
+        }
+        if (published) {
+            signalConsumer();
+        }
+    }
+
+    private boolean publish(MoveResult<Solution_> result) {
+        if (result.getStepIndex() != filterStepIndex || exceptionResult.get() != null) {
+            // Discard element from previous step or after an exception
+            return false;
+        }
+        int slotIndex = result.getMoveIndex() % capacity;
+        while (true) {
+            MoveResult<Solution_> oldResult = slots.get(slotIndex);
+            if (oldResult == null || oldResult.getStepIndex() < result.getStepIndex()) {
+                if (slots.compareAndSet(slotIndex, oldResult, result)) {
+                    return true;
+                }
+            } else if (oldResult.getStepIndex() > result.getStepIndex()) {
                 // Discard element from previous step
-                return;
+                return false;
+            } else {
+                // Deliberately fail fast if there is not enough capacity (which is impossible)
+                throw new IllegalStateException("Impossible state: the moveIndex (" + result.getMoveIndex()
+                        + ") and the moveIndex (" + oldResult.getMoveIndex()
+                        + ") of stepIndex (" + result.getStepIndex()
+                        + ") are in circulation at the same time, but the capacity is only (" + capacity + ").");
             }
-            innerQueue.add(result);
         }
     }
 
@@ -93,19 +157,30 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * Previous results (that haven't been consumed yet), will still be returned during iteration
      * before the iteration throws an exception,
      * unless there's a lower moveIndex that isn't in the queue yet.
+     * Later results are discarded.
+     * If 2 exceptions are added from different threads concurrently, either one could be relayed.
+     * This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
      *
      * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
      * @param throwable never null
      */
     public void addExceptionThrown(int moveThreadIndex, Throwable throwable) {
         MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, throwable);
-        synchronized (this) {
-            innerQueue.add(result);
+        if (exceptionResult.compareAndSet(null, result)) {
+            signalConsumer();
+        }
+    }
+
+    private void signalConsumer() {
+        Thread consumerThread = waitingConsumerThread;
+        if (consumerThread != null) {
+            LockSupport.unpark(consumerThread);
         }
     }
 
     /**
      * Not thread-safe. Can only be called from the solver thread.
+     * Spins, then yields and finally parks until the result of the next moveIndex is added.
      *
      * @return never null
      * @throws InterruptedException if interrupted
@@ -114,30 +189,59 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
     public MoveResult<Solution_> take() throws InterruptedException {
         int moveIndex = nextMoveIndex;
         nextMoveIndex++;
-        if (!backlog.isEmpty()) {
-            MoveResult<Solution_> result = backlog.remove(moveIndex);
+        int slotIndex = moveIndex % capacity;
+        int waitCount = 0;
+        while (true) {
+            MoveResult<Solution_> result = pollSlot(slotIndex, moveIndex);
             if (result != null) {
                 return result;
             }
-        }
-        while (true) {
-            MoveResult<Solution_> result = innerQueue.take();
-            // If 2 exceptions are added from different threads concurrently, either one could end up first.
-            // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
-            if (result.hasThrownException()) {
+            MoveResult<Solution_> exceptionResult = this.exceptionResult.get();
+            if (exceptionResult != null) {
                 throw new IllegalStateException("The move thread with moveThreadIndex ("
-                        + result.getMoveThreadIndex() + ") has thrown an exception."
+                        + exceptionResult.getMoveThreadIndex() + ") has thrown an exception."
                         + " Relayed here in the parent thread.",
-                        result.getThrowable());
+                        exceptionResult.getThrowable());
             }
-            if (result.getMoveIndex() == moveIndex) {
-                return result;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (waitCount < SPIN_COUNT) {
+                Thread.onSpinWait();
+            } else if (waitCount < SPIN_COUNT + YIELD_COUNT) {
+                Thread.yield();
             } else {
-                backlog.put(result.getMoveIndex(), result);
+                waitingConsumerThread = Thread.currentThread();
+                // Check again after publishing the waiting thread, to not miss a signal
+                if (slots.get(slotIndex) == null && this.exceptionResult.get() == null) {
+                    LockSupport.park(this);
+                }
+                waitingConsumerThread = null;
             }
+            waitCount++;
         }
     }
 
+    private MoveResult<Solution_> pollSlot(int slotIndex, int moveIndex) {
+        MoveResult<Solution_> result = slots.get(slotIndex);
+        if (result == null) {
+            return null;
+        }
+        if (result.getStepIndex() != filterStepIndex) {
+            // Discard element from previous step
+            slots.compareAndSet(slotIndex, result, null);
+            return null;
+        }
+        if (result.getMoveIndex() != moveIndex) {
+            throw new IllegalStateException("Impossible state: the moveIndex (" + result.getMoveIndex()
+                    + ") of stepIndex (" + result.getStepIndex()
+                    + ") is added before the moveIndex (" + moveIndex
+                    + ") is taken, but the capacity is only (" + capacity + ").");
+        }
+        slots.compareAndSet(slotIndex, result, null);
+        return result;
+    }
+
     public static class MoveResult<Solution_> {
 
         private final int moveThreadIndex;
@@ -146,6 +250,7 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
         private final Move<Solution_> move;
         private final boolean moveDoable;
         private final Score score;
+        private final boolean endOfMoves;
         private final Throwable throwable;
 
         public MoveResult(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, boolean moveDoable,
@@ -156,6 +261,18 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             this.move = move;
             this.moveDoable = moveDoable;
             this.score = score;
+            this.endOfMoves = false;
+            this.throwable = null;
+        }
+
+        public MoveResult(int moveThreadIndex, int stepIndex, int moveIndex) {
+            this.moveThreadIndex = moveThreadIndex;
+            this.stepIndex = stepIndex;
+            this.moveIndex = moveIndex;
+            this.move = null;
+            this.moveDoable = false;
+            this.score = null;
+            this.endOfMoves = true;
             this.throwable = null;
         }
 
@@ -166,13 +283,10 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             this.move = null;
             this.moveDoable = false;
             this.score = null;
+            this.endOfMoves = false;
             this.throwable = throwable;
         }
 
-        private boolean hasThrownException() {
-            return throwable != null;
-        }
-
         public int getMoveThreadIndex() {
             return moveThreadIndex;
         }
@@ -197,6 +311,13 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             return score;
         }
 
+        /**
+         * @return true if this result has no move, because there are no more moves in this step
+         */
+        public boolean isEndOfMoves() {
+            return endOfMoves;
+        }
+
         private Throwable getThrowable() {
             return throwable;
         }
@@ -1,5 +1,6 @@
 package org.optaplanner.core.impl.localsearch;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -15,6 +16,7 @@ import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleList
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.phase.AbstractPhase;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
@@ -38,6 +40,7 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
     protected final Map<Tags, AtomicLong> constraintMatchTotalTagsToBestCount = new ConcurrentHashMap<>();
     protected final Map<Tags, List<AtomicReference<Number>>> constraintMatchTotalStepScoreMap = new ConcurrentHashMap<>();
     protected final Map<Tags, List<AtomicReference<Number>>> constraintMatchTotalBestScoreMap = new ConcurrentHashMap<>();
+    protected final Map<Tags, List<AtomicLong>> constraintProfileMap = new ConcurrentHashMap<>();
 
     private DefaultLocalSearchPhase(Builder<Solution_> builder) {
         super(builder);
@@ -172,6 +175,41 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
                 }
             }
         }
+        if (solverScope.isMetricEnabled(SolverMetric.CONSTRAINT_PROFILE)) {
+            InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
+            if (scoreDirector.isConstraintProfilingEnabled()) {
+                for (ConstraintProfile constraintProfile : scoreDirector.getConstraintProfileMap().values()) {
+                    Tags tags = solverScope.getMonitoringTags().and(
+                            "constraint.package", constraintProfile.getConstraintPackage(),
+                            "constraint.name", constraintProfile.getConstraintName());
+                    collectConstraintProfileMetrics(tags, constraintProfile);
+                }
+            }
+        }
+    }
+
+    private void collectConstraintProfileMetrics(Tags tags, ConstraintProfile constraintProfile) {
+        long[] values = new long[] {
+                constraintProfile.getInsertCount(),
+                constraintProfile.getUpdateCount(),
+                constraintProfile.getRetractCount(),
+                constraintProfile.getTupleCount(),
+                constraintProfile.getNanos()
+        };
+        List<AtomicLong> gaugeList = constraintProfileMap.get(tags);
+        if (gaugeList != null) {
+            for (int i = 0; i < values.length; i++) {
+                gaugeList.get(i).set(values[i]);
+            }
+        } else {
+            String[] suffixes = new String[] { ".inserts", ".updates", ".retracts", ".tuples", ".nanos" };
+            gaugeList = new ArrayList<>(values.length);
+            for (int i = 0; i < values.length; i++) {
+                gaugeList.add(Metrics.gauge(SolverMetric.CONSTRAINT_PROFILE.getMeterId() + suffixes[i],
+                        tags, new AtomicLong(values[i])));
+            }
+            constraintProfileMap.put(tags, gaugeList);
+        }
     }
 
     private void collectConstraintMatchTotalMetrics(SolverMetric metric, Tags tags, Map<Tags, AtomicLong> countMap,
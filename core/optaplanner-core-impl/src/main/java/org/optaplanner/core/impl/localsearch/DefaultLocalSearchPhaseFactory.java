@@ -1,5 +1,6 @@
 package org.optaplanner.core.impl.localsearch;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -65,17 +66,24 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
 
     private LocalSearchDecider<Solution_> buildDecider(HeuristicConfigPolicy<Solution_> configPolicy,
             Termination<Solution_> termination) {
-        MoveSelector<Solution_> moveSelector = buildMoveSelector(configPolicy);
+        Integer moveThreadCount = configPolicy.getMoveThreadCount();
         Acceptor<Solution_> acceptor = buildAcceptor(configPolicy);
         LocalSearchForager<Solution_> forager = buildForager(configPolicy);
-        if (moveSelector.isNeverEnding() && !forager.supportsNeverEndingMoveSelector()) {
-            throw new IllegalStateException("The moveSelector (" + moveSelector
-                    + ") has neverEnding (" + moveSelector.isNeverEnding()
-                    + "), but the forager (" + forager
-                    + ") does not support it.\n"
-                    + "Maybe configure the <forager> with an <acceptedCountLimit>.");
+        // If the move threads select the moves, the solver thread doesn't need a move selector of its own
+        MoveSelector<Solution_> moveSelector = null;
+        List<MoveSelector<Solution_>> moveThreadMoveSelectorList = null;
+        if (moveThreadCount != null && configPolicy.isMoveThreadSelection()) {
+            moveThreadMoveSelectorList = new ArrayList<>(moveThreadCount);
+            for (int i = 0; i < moveThreadCount; i++) {
+                // A fresh config policy, because the mimic recorders of each move selector must be distinct
+                MoveSelector<Solution_> moveThreadMoveSelector = buildMoveSelector(configPolicy.createPhaseConfigPolicy());
+                assertForagerSupportsMoveSelector(forager, moveThreadMoveSelector);
+                moveThreadMoveSelectorList.add(moveThreadMoveSelector);
+            }
+        } else {
+            moveSelector = buildMoveSelector(configPolicy);
+            assertForagerSupportsMoveSelector(forager, moveSelector);
         }
-        Integer moveThreadCount = configPolicy.getMoveThreadCount();
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         LocalSearchDecider<Solution_> decider;
         if (moveThreadCount == null) {
@@ -100,6 +108,10 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
                 multiThreadedDecider.setAssertExpectedStepScore(true);
                 multiThreadedDecider.setAssertShadowVariablesAreNotStaleAfterStep(true);
             }
+            if (configPolicy.getMoveThreadBatchSize() != null) {
+                multiThreadedDecider.setMoveThreadBatchSize(configPolicy.getMoveThreadBatchSize());
+            }
+            multiThreadedDecider.setMoveThreadMoveSelectorList(moveThreadMoveSelectorList);
             decider = multiThreadedDecider;
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -111,6 +123,17 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
         return decider;
     }
 
+    private void assertForagerSupportsMoveSelector(LocalSearchForager<Solution_> forager,
+            MoveSelector<Solution_> moveSelector) {
+        if (moveSelector.isNeverEnding() && !forager.supportsNeverEndingMoveSelector()) {
+            throw new IllegalStateException("The moveSelector (" + moveSelector
+                    + ") has neverEnding (" + moveSelector.isNeverEnding()
+                    + "), but the forager (" + forager
+                    + ") does not support it.\n"
+                    + "Maybe configure the <forager> with an <acceptedCountLimit>.");
+        }
+    }
+
     protected Acceptor<Solution_> buildAcceptor(HeuristicConfigPolicy<Solution_> configPolicy) {
         LocalSearchAcceptorConfig acceptorConfig_;
         if (phaseConfig.getAcceptorConfig() != null) {
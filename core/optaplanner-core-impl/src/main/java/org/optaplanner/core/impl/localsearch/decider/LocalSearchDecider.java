@@ -24,6 +24,7 @@ public class LocalSearchDecider<Solution_> {
 
     protected final String logIndentation;
     protected final Termination<Solution_> termination;
+    // Null if the move threads select the moves
     protected final MoveSelector<Solution_> moveSelector;
     protected final Acceptor<Solution_> acceptor;
     protected final LocalSearchForager<Solution_> forager;
@@ -69,19 +70,25 @@ public class LocalSearchDecider<Solution_> {
     // ************************************************************************
 
     public void solvingStarted(SolverScope<Solution_> solverScope) {
-        moveSelector.solvingStarted(solverScope);
+        if (moveSelector != null) {
+            moveSelector.solvingStarted(solverScope);
+        }
         acceptor.solvingStarted(solverScope);
         forager.solvingStarted(solverScope);
     }
 
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
-        moveSelector.phaseStarted(phaseScope);
+        if (moveSelector != null) {
+            moveSelector.phaseStarted(phaseScope);
+        }
         acceptor.phaseStarted(phaseScope);
         forager.phaseStarted(phaseScope);
     }
 
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
-        moveSelector.stepStarted(stepScope);
+        if (moveSelector != null) {
+            moveSelector.stepStarted(stepScope);
+        }
         acceptor.stepStarted(stepScope);
         forager.stepStarted(stepScope);
     }
@@ -143,19 +150,25 @@ public class LocalSearchDecider<Solution_> {
     }
 
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
-        moveSelector.stepEnded(stepScope);
+        if (moveSelector != null) {
+            moveSelector.stepEnded(stepScope);
+        }
         acceptor.stepEnded(stepScope);
         forager.stepEnded(stepScope);
     }
 
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
-        moveSelector.phaseEnded(phaseScope);
+        if (moveSelector != null) {
+            moveSelector.phaseEnded(phaseScope);
+        }
         acceptor.phaseEnded(phaseScope);
         forager.phaseEnded(phaseScope);
     }
 
     public void solvingEnded(SolverScope<Solution_> solverScope) {
-        moveSelector.solvingEnded(solverScope);
+        if (moveSelector != null) {
+            moveSelector.solvingEnded(solverScope);
+        }
         acceptor.solvingEnded(solverScope);
         forager.solvingEnded(solverScope);
     }
@@ -7,9 +7,8 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
@@ -18,6 +17,8 @@ import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.heuristic.thread.ApplyStepOperation;
 import org.optaplanner.core.impl.heuristic.thread.DestroyOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveGenerationOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveIndexWindow;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
 import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
@@ -44,12 +45,18 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+    protected int moveThreadBatchSize = 1;
+
+    // Null if the solver thread selects the moves, otherwise one move selector per move thread
+    protected List<MoveSelector<Solution_>> moveThreadMoveSelectorList = null;
 
     protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
     protected CyclicBarrier moveThreadBarrier;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
+    protected List<Future<?>> moveThreadFutureList;
+    protected MoveIndexWindow moveIndexWindow;
 
     public MultiThreadedLocalSearchDecider(String logIndentation, Termination<Solution_> termination,
             MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
@@ -72,6 +79,33 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
     }
 
+    /**
+     * @param moveThreadBatchSize at least 1, the number of moves per {@link MoveEvaluationOperation}
+     */
+    public void setMoveThreadBatchSize(int moveThreadBatchSize) {
+        if (moveThreadBatchSize < 1) {
+            throw new IllegalArgumentException("The moveThreadBatchSize (" + moveThreadBatchSize
+                    + ") must be at least 1.");
+        }
+        this.moveThreadBatchSize = moveThreadBatchSize;
+    }
+
+    /**
+     * @param moveThreadMoveSelectorList null if the solver thread selects the moves,
+     *        otherwise of size moveThreadCount, so every move thread selects and evaluates its own moves
+     */
+    public void setMoveThreadMoveSelectorList(List<MoveSelector<Solution_>> moveThreadMoveSelectorList) {
+        if (moveThreadMoveSelectorList != null && moveThreadMoveSelectorList.size() != moveThreadCount) {
+            throw new IllegalArgumentException("The moveThreadMoveSelectorList size (" + moveThreadMoveSelectorList.size()
+                    + ") differs from the moveThreadCount (" + moveThreadCount + ").");
+        }
+        if (moveThreadMoveSelectorList == null && moveSelector == null) {
+            throw new IllegalArgumentException("The moveThreadMoveSelectorList must not be null"
+                    + " if the solver thread has no moveSelector.");
+        }
+        this.moveThreadMoveSelectorList = moveThreadMoveSelectorList;
+    }
+
     @Override
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
@@ -81,16 +115,25 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
         moveThreadBarrier = new CyclicBarrier(moveThreadCount);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
-        executor = createThreadPoolExecutor();
+        long phaseSeed = 0L;
+        if (moveThreadMoveSelectorList != null) {
+            moveIndexWindow = new MoveIndexWindow(selectedMoveBufferSize);
+            phaseSeed = phaseScope.getWorkingRandom().nextLong();
+        }
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        executor = solverScope.getOrCreateMoveThreadExecutor(threadFactory, moveThreadCount);
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
+        moveThreadFutureList = new ArrayList<>(moveThreadCount);
         for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
             MoveThreadRunner<Solution_, ?> moveThreadRunner = new MoveThreadRunner<>(
                     logIndentation, moveThreadIndex, true,
                     operationQueue, resultQueue, moveThreadBarrier,
                     assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
-                    assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+                    assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep,
+                    moveThreadMoveSelectorList == null ? null : moveThreadMoveSelectorList.get(moveThreadIndex),
+                    moveIndexWindow, moveThreadCount, phaseSeed);
             moveThreadRunnerList.add(moveThreadRunner);
-            executor.submit(moveThreadRunner);
+            moveThreadFutureList.add(executor.submit(moveThreadRunner));
             operationQueue.add(new SetupOperation<>(scoreDirector));
         }
     }
@@ -105,7 +148,7 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         for (int i = 0; i < moveThreadCount; i++) {
             operationQueue.add(destroyOperation);
         }
-        shutdownMoveThreads();
+        awaitMoveThreads(phaseScope.getSolverScope());
         long childThreadsScoreCalculationCount = 0;
         for (MoveThreadRunner<Solution_, ?> moveThreadRunner : moveThreadRunnerList) {
             childThreadsScoreCalculationCount += moveThreadRunner.getCalculationCount();
@@ -114,32 +157,35 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         operationQueue = null;
         resultQueue = null;
         moveThreadRunnerList = null;
+        moveIndexWindow = null;
     }
 
     @Override
     public void solvingError(SolverScope<Solution_> solverScope, Exception exception) {
         super.solvingError(solverScope, exception);
-        shutdownMoveThreads();
-    }
-
-    protected ExecutorService createThreadPoolExecutor() {
-        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(moveThreadCount,
-                threadFactory);
-        if (threadPoolExecutor.getMaximumPoolSize() < moveThreadCount) {
-            throw new IllegalStateException(
-                    "The threadPoolExecutor's maximumPoolSize (" + threadPoolExecutor.getMaximumPoolSize()
-                            + ") is less than the moveThreadCount (" + moveThreadCount + "), this is unsupported.");
+        if (moveIndexWindow != null) {
+            moveIndexWindow.close();
         }
-        return threadPoolExecutor;
+        awaitMoveThreads(solverScope);
     }
 
     @Override
     public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
         int stepIndex = stepScope.getStepIndex();
         resultQueue.startNextStep(stepIndex);
+        if (moveThreadMoveSelectorList != null) {
+            forageMoveThreadSelectedMoves(stepScope, stepIndex);
+        } else {
+            forageSolverThreadSelectedMoves(stepScope, stepIndex);
+        }
+        pickMove(stepScope);
+        applyStepOnMoveThreads(stepScope, stepIndex);
+    }
 
+    private void forageSolverThreadSelectedMoves(LocalSearchStepScope<Solution_> stepScope, int stepIndex) {
         int selectMoveIndex = 0;
         int movesInPlay = 0;
+        List<Move<Solution_>> moveBatch = new ArrayList<>(moveThreadBatchSize);
         Iterator<Move<Solution_>> moveIterator = moveSelector.iterator();
         do {
             boolean hasNextMove = moveIterator.hasNext();
@@ -147,22 +193,51 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             // For reproducibility, the selectedMoveBufferSize always need to be entirely selected,
             // even if some of those moves won't end up being evaluated or foraged
             if (movesInPlay > 0 && (selectMoveIndex >= selectedMoveBufferSize || !hasNextMove)) {
+                if (moveBatch.size() == movesInPlay) {
+                    // The next move to forage is in the unfinished batch
+                    operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex - moveBatch.size(),
+                            moveBatch));
+                    moveBatch = new ArrayList<>(moveThreadBatchSize);
+                }
                 if (forageResult(stepScope, stepIndex)) {
                     break;
                 }
                 movesInPlay--;
             }
             if (hasNextMove) {
-                Move<Solution_> move = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex, move));
+                moveBatch.add(moveIterator.next());
                 selectMoveIndex++;
                 movesInPlay++;
+                if (moveBatch.size() == moveThreadBatchSize) {
+                    operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex - moveBatch.size(),
+                            moveBatch));
+                    moveBatch = new ArrayList<>(moveThreadBatchSize);
+                }
             }
         } while (movesInPlay > 0);
 
         // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
         operationQueue.clear();
-        pickMove(stepScope);
+    }
+
+    private void forageMoveThreadSelectedMoves(LocalSearchStepScope<Solution_> stepScope, int stepIndex) {
+        moveIndexWindow.open(stepIndex);
+        // Drawn from the solver thread's random, so every step selects different, but reproducible moves
+        MoveGenerationOperation<Solution_> moveGenerationOperation =
+                new MoveGenerationOperation<>(stepIndex, stepScope.getWorkingRandom().nextLong());
+        for (int i = 0; i < moveThreadCount; i++) {
+            operationQueue.add(moveGenerationOperation);
+        }
+        while (!forageResult(stepScope, stepIndex)) {
+            moveIndexWindow.moveTaken();
+        }
+        // Stop the move threads from selecting more moves for this step.
+        // Don't clear the operationQueue to avoid moveThreadBarrier deadlock:
+        // a move thread might not have taken its MoveGenerationOperation yet.
+        moveIndexWindow.close();
+    }
+
+    private void applyStepOnMoveThreads(LocalSearchStepScope<Solution_> stepScope, int stepIndex) {
         // Start doing the step on every move thread. Don't wait for the stepEnded() event.
         if (stepScope.getStep() != null) {
             InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
@@ -192,6 +267,9 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
                     + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
         }
+        if (result.isEndOfMoves()) {
+            return true;
+        }
         Move<Solution_> foragingMove = result.getMove().rebase(stepScope.getScoreDirector());
         int foragingMoveIndex = result.getMoveIndex();
         LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, foragingMoveIndex, foragingMove);
@@ -217,9 +295,13 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         return termination.isPhaseTerminated(stepScope.getPhaseScope());
     }
 
-    private void shutdownMoveThreads() {
-        if (executor != null && !executor.isShutdown()) {
-            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multi-threaded Local Search");
+    private void awaitMoveThreads(SolverScope<Solution_> solverScope) {
+        if (moveThreadFutureList != null) {
+            if (!ThreadUtils.awaitOrCancel(moveThreadFutureList, logIndentation, "Multi-threaded Local Search")) {
+                // A move thread that is still busy would starve the next phase that shares the executor
+                solverScope.destroyMoveThreadExecutor();
+            }
+            moveThreadFutureList = null;
         }
     }
 }
@@ -0,0 +1,131 @@
+package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Maps every tabu to the step index at which it last became tabu, ordered by that step index.
+ * Looking up a tabu, making it tabu again and expiring the oldest tabu are all O(1).
+ *
+ * @see AbstractTabuAcceptor
+ */
+public final class TabuList implements Iterable<Object> {
+
+    private final Map<Object, Entry> tabuToEntryMap;
+    // Doubly linked in step index order, so a tabu that becomes tabu again moves to the end without a scan
+    private Entry oldestEntry = null;
+    private Entry newestEntry = null;
+
+    public TabuList(int expectedSize) {
+        tabuToEntryMap = new HashMap<>(expectedSize);
+    }
+
+    /**
+     * @param tabu sometimes null
+     * @return -1 if the tabu isn't in the list, otherwise the step index at which it last became tabu
+     */
+    public int getStepIndex(Object tabu) {
+        Entry entry = tabuToEntryMap.get(tabu);
+        return entry == null ? -1 : entry.stepIndex;
+    }
+
+    /**
+     * @param tabu sometimes null
+     * @param stepIndex at least the step index of every tabu already in the list
+     */
+    public void add(Object tabu, int stepIndex) {
+        Entry entry = tabuToEntryMap.get(tabu);
+        if (entry == null) {
+            entry = new Entry(tabu);
+            tabuToEntryMap.put(tabu, entry);
+        } else {
+            // Push tabu to the end of the line
+            unlink(entry);
+        }
+        entry.stepIndex = stepIndex;
+        entry.previous = newestEntry;
+        if (newestEntry == null) {
+            oldestEntry = entry;
+        } else {
+            newestEntry.next = entry;
+        }
+        newestEntry = entry;
+    }
+
+    /**
+     * @param maximumStepIndex every tabu that last became tabu at this step index or earlier is removed
+     */
+    public void removeUpTo(int maximumStepIndex) {
+        while (oldestEntry != null && oldestEntry.stepIndex <= maximumStepIndex) {
+            Entry entry = oldestEntry;
+            if (tabuToEntryMap.remove(entry.tabu) != entry) {
+                throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
+                        + entry.tabu + ") of class (" + entry.tabu.getClass()
+                        + ") changed during planning, since it was inserted in the tabu Map or Set.");
+            }
+            unlink(entry);
+        }
+    }
+
+    public int size() {
+        return tabuToEntryMap.size();
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.previous == null) {
+            oldestEntry = entry.next;
+        } else {
+            entry.previous.next = entry.next;
+        }
+        if (entry.next == null) {
+            newestEntry = entry.previous;
+        } else {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+    }
+
+    /**
+     * @return never null, the tabus from oldest to newest
+     */
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<>() {
+
+            private Entry nextEntry = oldestEntry;
+
+            @Override
+            public boolean hasNext() {
+                return nextEntry != null;
+            }
+
+            @Override
+            public Object next() {
+                if (nextEntry == null) {
+                    throw new NoSuchElementException();
+                }
+                Object tabu = nextEntry.tabu;
+                nextEntry = nextEntry.next;
+                return tabu;
+            }
+
+        };
+    }
+
+    private static final class Entry {
+
+        private final Object tabu;
+        private int stepIndex;
+        private Entry previous;
+        private Entry next;
+
+        private Entry(Object tabu) {
+            this.tabu = tabu;
+        }
+
+    }
+
+}
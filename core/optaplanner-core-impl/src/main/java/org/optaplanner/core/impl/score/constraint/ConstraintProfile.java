@@ -0,0 +1,94 @@
+package org.optaplanner.core.impl.score.constraint;
+
+import static java.util.Objects.requireNonNull;
+
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.stream.Constraint;
+
+/**
+ * An immutable snapshot of how much work the score calculation has spent on a single {@link Constraint}
+ * since the working solution was set.
+ * <p>
+ * The counts and the time are summed over the nodes of the constraint's network.
+ * A node that is shared by multiple constraints is counted fully in each of those constraints,
+ * so the sum over all constraints can exceed the total work done.
+ *
+ * @see org.optaplanner.core.impl.score.director.InnerScoreDirector#getConstraintProfileMap()
+ */
+public final class ConstraintProfile {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final long insertCount;
+    private final long updateCount;
+    private final long retractCount;
+    private final long nanos;
+
+    public ConstraintProfile(String constraintPackage, String constraintName, long insertCount, long updateCount,
+            long retractCount, long nanos) {
+        this.constraintPackage = requireNonNull(constraintPackage);
+        this.constraintName = requireNonNull(constraintName);
+        this.insertCount = insertCount;
+        this.updateCount = updateCount;
+        this.retractCount = retractCount;
+        this.nanos = nanos;
+    }
+
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    public String getConstraintId() {
+        return ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+    }
+
+    /**
+     * @return the number of tuples inserted into the nodes of this constraint
+     */
+    public long getInsertCount() {
+        return insertCount;
+    }
+
+    /**
+     * @return the number of tuples updated in the nodes of this constraint
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * @return the number of tuples retracted from the nodes of this constraint
+     */
+    public long getRetractCount() {
+        return retractCount;
+    }
+
+    /**
+     * An estimate, because a filter forwards the retract of a tuple to its downstream node,
+     * even if that tuple never passed the filter.
+     *
+     * @return the number of tuples inserted minus the number of tuples retracted,
+     *         approximately the number of tuples currently held by the nodes of this constraint
+     */
+    public long getTupleCount() {
+        return insertCount - retractCount;
+    }
+
+    /**
+     * @return the wall clock time spent in the nodes of this constraint, in nanoseconds
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        return getConstraintId() + "=(inserts: " + insertCount + ", updates: " + updateCount
+                + ", retracts: " + retractCount + ", tuples: " + getTupleCount() + ", nanos: " + nanos + ")";
+    }
+
+}
@@ -36,6 +36,7 @@ import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.listener.support.VariableListenerSupport;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 import org.slf4j.Logger;
@@ -62,6 +63,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected final boolean lookUpEnabled;
     protected final LookUpManager lookUpManager;
     protected boolean constraintMatchEnabledPreference;
+    protected boolean constraintProfilingEnabledPreference = false;
     protected final VariableListenerSupport<Solution_> variableListenerSupport;
 
     protected Solution_ workingSolution;
@@ -104,6 +106,32 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.constraintMatchEnabledPreference = constraintMatchEnabledPreference;
     }
 
+    /**
+     * Constraint profiling is not supported unless a subclass overrides this method.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isConstraintProfilingEnabled() {
+        return false;
+    }
+
+    @Override
+    public void overwriteConstraintProfilingEnabledPreference(boolean constraintProfilingEnabledPreference) {
+        this.constraintProfilingEnabledPreference = constraintProfilingEnabledPreference;
+    }
+
+    /**
+     * Constraint profiling is not supported unless a subclass overrides this method.
+     *
+     * @throws IllegalStateException always
+     * @return throws {@link IllegalStateException}
+     */
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        throw new IllegalStateException("Constraint profiling is not supported by " + getClass().getSimpleName() + ".");
+    }
+
     @Override
     public Solution_ getWorkingSolution() {
         return workingSolution;
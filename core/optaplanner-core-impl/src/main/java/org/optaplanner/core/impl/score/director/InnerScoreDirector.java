@@ -21,6 +21,7 @@ import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescript
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 
@@ -91,6 +92,30 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void overwriteConstraintMatchEnabledPreference(boolean constraintMatchEnabledPreference);
 
+    /**
+     * @return true if {@link #getConstraintProfileMap()} is supported and profiling has been requested
+     *         by {@link #overwriteConstraintProfilingEnabledPreference(boolean)}
+     */
+    boolean isConstraintProfilingEnabled();
+
+    /**
+     * Must be called before {@link #setWorkingSolution(Object)} to take effect.
+     * Profiling adds overhead to every score calculation, so it is disabled by default.
+     *
+     * @param constraintProfilingEnabledPreference true if a {@link ScoreDirector} implementation
+     *        should track the work done per {@link Constraint}, if it supports it.
+     */
+    void overwriteConstraintProfilingEnabledPreference(boolean constraintProfilingEnabledPreference);
+
+    /**
+     * Reports the work the incremental score calculation has done per {@link Constraint}
+     * since {@link #setWorkingSolution(Object)}.
+     *
+     * @return never null, the key is the {@link ConstraintProfile#getConstraintId() constraintId}
+     * @throws IllegalStateException if {@link #isConstraintProfilingEnabled()} returns false
+     */
+    Map<String, ConstraintProfile> getConstraintProfileMap();
+
     /**
      * @return used to check {@link #isWorkingEntityListDirty(long)} later on
      */
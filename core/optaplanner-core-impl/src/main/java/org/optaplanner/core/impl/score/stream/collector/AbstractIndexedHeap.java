@@ -0,0 +1,154 @@
+package org.optaplanner.core.impl.score.stream.collector;
+
+import java.util.Arrays;
+
+/**
+ * A binary heap in which every inserted value gets an int handle, through which it can be removed in O(log n).
+ * <p>
+ * Unlike a {@link java.util.TreeMap} with counts, inserting and removing values does not allocate,
+ * except when the backing arrays need to grow.
+ * Handles of removed values are recycled.
+ * <p>
+ * Subclasses store the values per handle and define their order.
+ * Not thread-safe.
+ */
+public abstract class AbstractIndexedHeap {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int REMOVED = -1;
+
+    // Heap position to handle.
+    private int[] heap = new int[INITIAL_CAPACITY];
+    // Handle to heap position, or REMOVED.
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int[] freeHandles = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    private int handleCount = 0;
+    private int freeHandleCount = 0;
+
+    /**
+     * @param capacity at least 1, the number of handles that the subclass must be able to store a value for
+     */
+    protected abstract void ensureValueCapacity(int capacity);
+
+    /**
+     * @param handle handle of a value that has just been removed
+     */
+    protected abstract void clearValue(int handle);
+
+    /**
+     * @param handle1 handle of a value in the heap
+     * @param handle2 handle of another value in the heap
+     * @return negative if the value of handle1 must come out of the heap before the value of handle2
+     */
+    protected abstract int compare(int handle1, int handle2);
+
+    /**
+     * The subclass must store the value for the returned handle before calling {@link #insertHandle(int)}.
+     *
+     * @return never negative, a handle that is not in the heap
+     */
+    protected final int allocateHandle() {
+        if (freeHandleCount > 0) {
+            freeHandleCount--;
+            return freeHandles[freeHandleCount];
+        }
+        int handle = handleCount;
+        handleCount++;
+        if (handleCount > positions.length) {
+            int newCapacity = positions.length * 2;
+            positions = Arrays.copyOf(positions, newCapacity);
+            freeHandles = Arrays.copyOf(freeHandles, newCapacity);
+        }
+        ensureValueCapacity(positions.length);
+        return handle;
+    }
+
+    protected final void insertHandle(int handle) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        heap[size] = handle;
+        positions[handle] = size;
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * @param handle a handle returned by the subclass' insert method, which has not been removed yet
+     */
+    public final void remove(int handle) {
+        int position = positions[handle];
+        if (position == REMOVED) {
+            throw new IllegalStateException("Impossible state: the handle (" + handle + ") was already removed.");
+        }
+        positions[handle] = REMOVED;
+        clearValue(handle);
+        freeHandles[freeHandleCount] = handle;
+        freeHandleCount++;
+        size--;
+        if (position != size) {
+            int lastHandle = heap[size];
+            heap[position] = lastHandle;
+            positions[lastHandle] = position;
+            if (siftUp(position) == position) {
+                siftDown(position);
+            }
+        }
+    }
+
+    /**
+     * @return the handle of the value that comes out first, undefined if {@link #isEmpty()}
+     */
+    protected final int peekHandle() {
+        return heap[0];
+    }
+
+    public final boolean isEmpty() {
+        return size == 0;
+    }
+
+    public final int size() {
+        return size;
+    }
+
+    private int siftUp(int position) {
+        int handle = heap[position];
+        while (position > 0) {
+            int parentPosition = (position - 1) >>> 1;
+            int parentHandle = heap[parentPosition];
+            if (compare(handle, parentHandle) >= 0) {
+                break;
+            }
+            heap[position] = parentHandle;
+            positions[parentHandle] = position;
+            position = parentPosition;
+        }
+        heap[position] = handle;
+        positions[handle] = position;
+        return position;
+    }
+
+    private void siftDown(int position) {
+        int handle = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int childPosition = (position << 1) + 1;
+            int childHandle = heap[childPosition];
+            int rightPosition = childPosition + 1;
+            if (rightPosition < size && compare(heap[rightPosition], childHandle) < 0) {
+                childPosition = rightPosition;
+                childHandle = heap[rightPosition];
+            }
+            if (compare(handle, childHandle) <= 0) {
+                break;
+            }
+            heap[position] = childHandle;
+            positions[childHandle] = position;
+            position = childPosition;
+        }
+        heap[position] = handle;
+        positions[handle] = position;
+    }
+
+}
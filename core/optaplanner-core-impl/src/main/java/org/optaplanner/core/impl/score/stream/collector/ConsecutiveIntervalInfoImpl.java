@@ -1,4 +1,4 @@
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
 import java.util.Map;
 import java.util.NavigableMap;
@@ -8,9 +8,9 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.BiFunction;
 
-import org.optaplanner.examples.common.experimental.api.ConsecutiveIntervalInfo;
-import org.optaplanner.examples.common.experimental.api.IntervalBreak;
-import org.optaplanner.examples.common.experimental.api.IntervalCluster;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveIntervalInfo;
+import org.optaplanner.core.api.score.stream.common.IntervalBreak;
+import org.optaplanner.core.api.score.stream.common.IntervalCluster;
 
 public final class ConsecutiveIntervalInfoImpl<Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
         implements ConsecutiveIntervalInfo<Interval_, Point_, Difference_> {
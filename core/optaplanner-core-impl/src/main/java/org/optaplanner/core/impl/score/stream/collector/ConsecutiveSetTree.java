@@ -1,7 +1,7 @@
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
@@ -9,9 +9,9 @@ import java.util.Objects;
 import java.util.TreeMap;
 import java.util.function.BiFunction;
 
-import org.optaplanner.examples.common.experimental.api.Break;
-import org.optaplanner.examples.common.experimental.api.ConsecutiveInfo;
-import org.optaplanner.examples.common.experimental.api.Sequence;
+import org.optaplanner.core.api.score.stream.common.Break;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveInfo;
+import org.optaplanner.core.api.score.stream.common.Sequence;
 
 /**
  * A {@code ConsecutiveSetTree} determines what values are consecutive. A sequence
@@ -48,7 +48,8 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
         this.sumFunction = sumFunction;
         this.maxDifference = maxDifference;
         this.zeroDifference = zeroDifference;
-        indexMap = new HashMap<>();
+        // Identity based, consistent with the ValueComparator; equal but distinct values are different items.
+        indexMap = new IdentityHashMap<>();
         Comparator<Value_> comparator = new ValueComparator<>(indexMap);
         itemToCountMap = new TreeMap<>(comparator);
         startItemToSequence = new TreeMap<>(comparator);
@@ -275,7 +276,7 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
     private boolean removeItemFromBag(SequenceImpl<Value_, Difference_> bag, Value_ item, Value_ sequenceStart,
             Value_ sequenceEnd) {
         NavigableSet<Value_> itemSet = getItemSet();
-        if (item.equals(sequenceStart)) {
+        if (item == sequenceStart) {
             // Change start key to the item after this one
             bag.setStart(itemSet.higher(item));
             startItemToSequence.remove(sequenceStart);
@@ -289,7 +290,7 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
             indexMap.remove(item);
             return true;
         }
-        if (item.equals(sequenceEnd)) {
+        if (item == sequenceEnd) {
             // Set end key to the item before this one
             bag.setEnd(itemSet.lower(item));
             Map.Entry<Value_, BreakImpl<Value_, Difference_>> extendedBreakEntry =
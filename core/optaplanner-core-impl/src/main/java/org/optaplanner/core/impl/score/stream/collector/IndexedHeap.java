@@ -0,0 +1,65 @@
+package org.optaplanner.core.impl.score.stream.collector;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * An {@link AbstractIndexedHeap} of values ordered by a {@link Comparator}.
+ * Used by the min and max collectors.
+ *
+ * @param <Value_> the type of value
+ */
+public final class IndexedHeap<Value_> extends AbstractIndexedHeap {
+
+    private final Comparator<? super Value_> comparator;
+    private Object[] values = new Object[0];
+
+    /**
+     * @param comparator never null, {@link #peek()} returns the value that comes first in this order
+     */
+    public IndexedHeap(Comparator<? super Value_> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    /**
+     * @param value any value, duplicates are allowed
+     * @return the handle to {@link #remove(int)} the value with
+     */
+    public int insert(Value_ value) {
+        int handle = allocateHandle();
+        values[handle] = value;
+        insertHandle(handle);
+        return handle;
+    }
+
+    /**
+     * @return null if {@link #isEmpty()}
+     */
+    public Value_ peek() {
+        return isEmpty() ? null : getValue(peekHandle());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Value_ getValue(int handle) {
+        return (Value_) values[handle];
+    }
+
+    @Override
+    protected void ensureValueCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    @Override
+    protected void clearValue(int handle) {
+        values[handle] = null; // Do not leak the value.
+    }
+
+    @Override
+    protected int compare(int handle1, int handle2) {
+        return comparator.compare(getValue(handle1), getValue(handle2));
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.optaplanner.core.impl.score.stream.collector;
+
+import java.util.Arrays;
+
+/**
+ * An {@link AbstractIndexedHeap} of primitive long values, without boxing.
+ * Used by the int and long min and max collectors.
+ */
+public final class IndexedLongHeap extends AbstractIndexedHeap {
+
+    private final boolean maximum;
+    private long[] values = new long[0];
+
+    /**
+     * @param maximum true if {@link #peek()} returns the largest value, false if it returns the smallest value
+     */
+    public IndexedLongHeap(boolean maximum) {
+        this.maximum = maximum;
+    }
+
+    /**
+     * @param value any value, duplicates are allowed
+     * @return the handle to {@link #remove(int)} the value with
+     */
+    public int insert(long value) {
+        int handle = allocateHandle();
+        values[handle] = value;
+        insertHandle(handle);
+        return handle;
+    }
+
+    /**
+     * @return the smallest or largest value, undefined if {@link #isEmpty()}
+     */
+    public long peek() {
+        return values[peekHandle()];
+    }
+
+    @Override
+    protected void ensureValueCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    @Override
+    protected void clearValue(int handle) {
+        // Primitives hold no references.
+    }
+
+    @Override
+    protected int compare(int handle1, int handle2) {
+        return maximum ? Long.compare(values[handle2], values[handle1]) : Long.compare(values[handle1], values[handle2]);
+    }
+
+}
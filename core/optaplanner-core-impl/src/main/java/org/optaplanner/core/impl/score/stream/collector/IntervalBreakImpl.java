@@ -1,7 +1,7 @@
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
-import org.optaplanner.examples.common.experimental.api.IntervalBreak;
-import org.optaplanner.examples.common.experimental.api.IntervalCluster;
+import org.optaplanner.core.api.score.stream.common.IntervalBreak;
+import org.optaplanner.core.api.score.stream.common.IntervalCluster;
 
 final class IntervalBreakImpl<Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
         implements IntervalBreak<Interval_, Point_, Difference_> {
@@ -1,4 +1,4 @@
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
 import java.util.Comparator;
 import java.util.IdentityHashMap;
@@ -195,6 +195,7 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             } catch (Exception e) {
                 errorCounter.increment();
                 solvingError(solverScope, e);
+                solverScope.destroyMoveThreadExecutor();
                 throw e;
             } finally {
                 sample.stop();
@@ -244,6 +245,9 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     public void outerSolvingEnded(SolverScope<Solution_> solverScope) {
         // Must be kept open for doProblemFactChange
         solverScope.getScoreDirector().close();
+        // Only destroyed now, because the move threads are kept alive across restarts
+        // so they don't have to start new threads.
+        solverScope.destroyMoveThreadExecutor();
         logger.info("Solving ended: time spent ({}), best score ({}), score calculation speed ({}/sec), "
                 + "phase total ({}), environment mode ({}), move thread count ({}).",
                 solverScope.getTimeMillisSpent(),
@@ -106,6 +106,14 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                     SolverMetric.CONSTRAINT_MATCH_TOTAL_STEP_SCORE.getMeterId(),
                     SolverMetric.CONSTRAINT_MATCH_TOTAL_BEST_SCORE.getMeterId());
         }
+        if (solverScope.isMetricEnabled(SolverMetric.CONSTRAINT_PROFILE)) {
+            innerScoreDirector.overwriteConstraintProfilingEnabledPreference(true);
+            if (!innerScoreDirector.isConstraintProfilingEnabled()) {
+                LOGGER.warn("The metric ({}) cannot function properly" +
+                        " because constraint profiling is not supported on the ScoreDirector.",
+                        SolverMetric.CONSTRAINT_PROFILE.getMeterId());
+            }
+        }
 
         Integer moveThreadCount_ = new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
@@ -117,7 +125,10 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                 solverConfig.getThreadFactoryClass(),
                 scoreDirectorFactory.getInitializingScoreTrend(),
                 solutionDescriptor,
-                ClassInstanceCache.create()).build();
+                ClassInstanceCache.create())
+                .withMoveThreadBatchSize(solverConfig.getMoveThreadBatchSize())
+                .withMoveThreadSelection(Objects.requireNonNullElse(solverConfig.getMoveThreadSelection(), false))
+                .build();
         TerminationConfig terminationConfig_ =
                 Objects.requireNonNullElseGet(solverConfig.getTerminationConfig(), TerminationConfig::new);
         BasicPlumbingTermination<Solution_> basicPlumbingTermination = new BasicPlumbingTermination<>(daemon_);
@@ -8,9 +8,11 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.solver.Solver;
@@ -20,6 +22,7 @@ import org.optaplanner.core.api.solver.SolverManager;
 import org.optaplanner.core.api.solver.SolverStatus;
 import org.optaplanner.core.api.solver.change.ProblemChange;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,7 +46,7 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         this.solverFactory = solverFactory;
         validateSolverFactory();
         int parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+        solverThreadPool = buildSolverThreadPool(solverManagerConfig, parallelSolverCount);
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
@@ -51,6 +54,34 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         return solverFactory;
     }
 
+    private ExecutorService buildSolverThreadPool(SolverManagerConfig solverManagerConfig, int parallelSolverCount) {
+        Supplier<ExecutorService> solverExecutorSupplier = solverManagerConfig.getSolverExecutorSupplier();
+        if (solverExecutorSupplier == null) {
+            return Executors.newFixedThreadPool(parallelSolverCount, buildThreadFactory(solverManagerConfig));
+        }
+        if (solverManagerConfig.getThreadFactoryClass() != null) {
+            throw new IllegalArgumentException("The solverManagerConfig has both a solverExecutorSupplier ("
+                    + solverExecutorSupplier + ") and a threadFactoryClass ("
+                    + solverManagerConfig.getThreadFactoryClass() + ").\n"
+                    + "Maybe create the threads with that thread factory in the solverExecutorSupplier instead.");
+        }
+        ExecutorService solverExecutor = solverExecutorSupplier.get();
+        if (solverExecutor == null) {
+            throw new IllegalArgumentException("The solverExecutorSupplier (" + solverExecutorSupplier
+                    + ") returned a null executor.");
+        }
+        return solverExecutor;
+    }
+
+    private ThreadFactory buildThreadFactory(SolverManagerConfig solverManagerConfig) {
+        Class<? extends ThreadFactory> threadFactoryClass = solverManagerConfig.getThreadFactoryClass();
+        if (threadFactoryClass != null) {
+            return ConfigUtils.newInstance(solverManagerConfig, "threadFactoryClass", threadFactoryClass);
+        } else {
+            return Executors.defaultThreadFactory();
+        }
+    }
+
     private void validateSolverFactory() {
         solverFactory.buildSolver();
     }
@@ -6,7 +6,11 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -37,6 +41,11 @@ public class SolverScope<Solution_> {
      * Used for capping CPU power usage in multithreaded scenarios.
      */
     protected Semaphore runnableThreadSemaphore = null;
+    /**
+     * Shared by the move threads of every multithreaded phase, so they don't start new threads per phase.
+     * Lives until {@link #destroyMoveThreadExecutor()}.
+     */
+    protected ExecutorService moveThreadExecutor = null;
 
     protected volatile Long startingSystemTimeMillis;
     protected volatile Long endingSystemTimeMillis;
@@ -64,6 +73,30 @@ public class SolverScope<Solution_> {
         this.problemChangeDirector = problemChangeDirector;
     }
 
+    public ExecutorService getMoveThreadExecutor() {
+        return moveThreadExecutor;
+    }
+
+    /**
+     * The first multithreaded phase creates the executor, every later phase reuses it.
+     * The moveThreadCount is configured for the entire solver, so the pool size doesn't depend on the phase order.
+     *
+     * @param threadFactory never null, used only if the executor doesn't exist yet
+     * @param moveThreadCount at least 1
+     * @return never null, with at least moveThreadCount threads
+     */
+    public ExecutorService getOrCreateMoveThreadExecutor(ThreadFactory threadFactory, int moveThreadCount) {
+        if (moveThreadExecutor == null) {
+            moveThreadExecutor = Executors.newFixedThreadPool(moveThreadCount, threadFactory);
+        }
+        int maximumPoolSize = ((ThreadPoolExecutor) moveThreadExecutor).getMaximumPoolSize();
+        if (maximumPoolSize < moveThreadCount) {
+            throw new IllegalStateException("The threadPoolExecutor's maximumPoolSize (" + maximumPoolSize
+                    + ") is less than the moveThreadCount (" + moveThreadCount + "), this is unsupported.");
+        }
+        return moveThreadExecutor;
+    }
+
     public Tags getMonitoringTags() {
         return monitoringTags;
     }
@@ -299,4 +332,12 @@ public class SolverScope<Solution_> {
         }
     }
 
+    public void destroyMoveThreadExecutor() {
+        if (moveThreadExecutor != null) {
+            // The move threads of every phase have already finished or been cancelled, so none are busy
+            moveThreadExecutor.shutdownNow();
+            moveThreadExecutor = null;
+        }
+    }
+
 }
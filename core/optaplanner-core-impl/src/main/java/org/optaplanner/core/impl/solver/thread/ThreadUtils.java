@@ -1,7 +1,12 @@
 package org.optaplanner.core.impl.solver.thread;
 
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +52,46 @@ public class ThreadUtils {
         }
     }
 
+    /**
+     * Like {@link #shutdownAwaitOrKill(ExecutorService, String, String)},
+     * but for tasks that run on an {@link ExecutorService} that outlives them, so it must not be shut down.
+     *
+     * @param futureList never null, the tasks to wait for
+     * @param logIndentation never null
+     * @param name never null
+     * @return false if some tasks had to be cancelled because they didn't finish within the timeout
+     */
+    public static boolean awaitOrCancel(List<? extends Future<?>> futureList, String logIndentation, String name) {
+        // Intentionally clearing the interrupted flag so that get() works.
+        if (Thread.interrupted()) {
+            // If the current thread is interrupted, propagate interrupt signal to the tasks.
+            futureList.forEach(future -> future.cancel(true));
+        }
+        final int awaitingSeconds = 1;
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(awaitingSeconds);
+        try {
+            for (Future<?> future : futureList) {
+                try {
+                    future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (CancellationException | ExecutionException e) {
+                    // The task is done: it was cancelled above or it has relayed its exception itself.
+                }
+            }
+            return true;
+        } catch (TimeoutException e) {
+            // Some tasks refused to complete. Busy threads will be interrupted in the finally block.
+            LOGGER.error("{}{}'s threads didn't finish within timeout ({} seconds).",
+                    logIndentation, name, awaitingSeconds);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Thread termination was interrupted.", e);
+        } finally {
+            // Cancelling a finished task does nothing.
+            futureList.forEach(future -> future.cancel(true));
+        }
+    }
+
     // ************************************************************************
     // Private constructor
     // ************************************************************************
@@ -0,0 +1,63 @@
+package org.optaplanner.core.impl.solver.thread;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates virtual threads, which requires JDK 21 or higher.
+ * Use it as a {@code threadFactoryClass} for a SolverManager that runs many solvers
+ * which spend most of their time waiting, for example on problem changes.
+ * <p>
+ * Virtual threads don't make the CPU-bound move threads any faster.
+ */
+public class VirtualThreadFactory implements ThreadFactory {
+
+    private static final AtomicInteger poolNumber = new AtomicInteger(1);
+
+    private final ThreadFactory delegate;
+
+    public VirtualThreadFactory() {
+        this("Solver");
+    }
+
+    public VirtualThreadFactory(String threadPrefix) {
+        delegate = buildVirtualThreadFactory("OptaVirtual-" + poolNumber.getAndIncrement() + "-" + threadPrefix + "-");
+    }
+
+    /**
+     * @return true if this JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    // Thread.ofVirtual() doesn't exist in the JDK version the code is compiled against.
+    private static ThreadFactory buildVirtualThreadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            throw new IllegalStateException("The " + VirtualThreadFactory.class.getSimpleName()
+                    + " requires JDK 21 or higher, but the current Java version is ("
+                    + Runtime.version() + ").", e);
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            // On JDK 19 and 20, virtual threads are a preview feature
+            throw new IllegalStateException("The " + VirtualThreadFactory.class.getSimpleName()
+                    + " failed to create virtual threads on Java version (" + Runtime.version() + ").", e);
+        }
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        return delegate.newThread(r);
+    }
+
+}
@@ -9,12 +9,17 @@ import static java.util.Collections.emptySortedSet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.compose;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countLongBi;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countLongQuad;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countLongTri;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.max;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.maxInt;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.maxLong;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.min;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.minInt;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.minLong;
 import static org.optaplanner.core.impl.testdata.util.PlannerTestUtils.asMap;
 import static org.optaplanner.core.impl.testdata.util.PlannerTestUtils.asSet;
 import static org.optaplanner.core.impl.testdata.util.PlannerTestUtils.asSortedMap;
@@ -28,6 +33,7 @@ import java.time.Period;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
@@ -39,9 +45,13 @@ import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveInfo;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveIntervalInfo;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.core.impl.score.stream.collector.ConsecutiveSetTree;
+import org.optaplanner.core.impl.score.stream.collector.IntervalTree;
 import org.optaplanner.core.impl.util.Pair;
 import org.optaplanner.core.impl.util.Quadruple;
 
@@ -1641,6 +1651,65 @@ class ConstraintCollectorsTest {
         assertResult(collector, container, null);
     }
 
+    @Test
+    void minIntPrimitive() {
+        UniConstraintCollector<Integer, ?, Integer> collector = minInt(a -> a);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        // add first value, which becomes the min
+        Runnable firstRetractor = accumulate(collector, container, 2);
+        assertResult(collector, container, 2);
+        // add second value, lesser than the first, becomes the new min
+        Runnable secondRetractor = accumulate(collector, container, -1);
+        assertResult(collector, container, -1);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, -1);
+        assertResult(collector, container, -1);
+        // add fourth value, greater than all others, result does not change
+        Runnable fourthRetractor = accumulate(collector, container, Integer.MAX_VALUE);
+        assertResult(collector, container, -1);
+        // retract one instance of the second value; second value is still the min value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, -1);
+        // retract final instance of the second value; first value is now the min value
+        thirdRetractor.run();
+        assertResult(collector, container, 2);
+        // retract the first value; fourth value is now the min value
+        firstRetractor.run();
+        assertResult(collector, container, Integer.MAX_VALUE);
+        // retract last value; there are no values now
+        fourthRetractor.run();
+        assertResult(collector, container, null);
+        // the container is reusable after it has been emptied
+        Runnable fifthRetractor = accumulate(collector, container, 5);
+        assertResult(collector, container, 5);
+        fifthRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void minLongPrimitiveBi() {
+        BiConstraintCollector<Long, Long, ?, Long> collector = minLong((Long a, Long b) -> a + b);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        // add first value, which becomes the min
+        Runnable firstRetractor = accumulate(collector, container, Long.MAX_VALUE - 1, 1L);
+        assertResult(collector, container, Long.MAX_VALUE);
+        // add second value, lesser than the first, becomes the new min
+        Runnable secondRetractor = accumulate(collector, container, Long.MIN_VALUE, 0L);
+        assertResult(collector, container, Long.MIN_VALUE);
+        // retract second value; first value is now the min value
+        secondRetractor.run();
+        assertResult(collector, container, Long.MAX_VALUE);
+        // retract last value; there are no values now
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
     // ************************************************************************
     // max
     // ************************************************************************
@@ -1900,6 +1969,61 @@ class ConstraintCollectorsTest {
         assertResult(collector, container, null);
     }
 
+    @Test
+    void maxIntPrimitive() {
+        UniConstraintCollector<Integer, ?, Integer> collector = maxInt(a -> a);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        // add first value, which becomes the max
+        Runnable firstRetractor = accumulate(collector, container, 2);
+        assertResult(collector, container, 2);
+        // add second value, greater than the first, becomes the new max
+        Runnable secondRetractor = accumulate(collector, container, 3);
+        assertResult(collector, container, 3);
+        // add third value, same as the second, result does not change
+        Runnable thirdRetractor = accumulate(collector, container, 3);
+        assertResult(collector, container, 3);
+        // add fourth value, lesser than all others, result does not change
+        Runnable fourthRetractor = accumulate(collector, container, Integer.MIN_VALUE);
+        assertResult(collector, container, 3);
+        // retract one instance of the second value; second value is still the max value, nothing should change
+        secondRetractor.run();
+        assertResult(collector, container, 3);
+        // retract final instance of the second value; first value is now the max value
+        thirdRetractor.run();
+        assertResult(collector, container, 2);
+        // retract the first value; fourth value is now the max value
+        firstRetractor.run();
+        assertResult(collector, container, Integer.MIN_VALUE);
+        // retract last value; there are no values now
+        fourthRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void maxLongPrimitiveQuad() {
+        QuadConstraintCollector<Long, Long, Long, Long, ?, Long> collector =
+                maxLong((Long a, Long b, Long c, Long d) -> a + b + c + d);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        // add first value, which becomes the max
+        Runnable firstRetractor = accumulate(collector, container, 1L, 0L, 0L, 0L);
+        assertResult(collector, container, 1L);
+        // add second value, greater than the first, becomes the new max
+        Runnable secondRetractor = accumulate(collector, container, 1L, 1L, 1L, 1L);
+        assertResult(collector, container, 4L);
+        // retract first value; second value is still the max value, nothing should change
+        firstRetractor.run();
+        assertResult(collector, container, 4L);
+        // retract last value; there are no values now
+        secondRetractor.run();
+        assertResult(collector, container, null);
+    }
+
     // ************************************************************************
     // average
     // ************************************************************************
@@ -2534,6 +2658,38 @@ class ConstraintCollectorsTest {
         assertResult(collector, container, emptySet());
     }
 
+    @Test
+    void toListSetAndMapAreUnmodifiableViews() {
+        UniConstraintCollector<Integer, ?, List<Integer>> listCollector = ConstraintCollectors.toList();
+        Object listContainer = listCollector.supplier().get();
+        List<Integer> list = finish(listCollector, listContainer);
+        Runnable listRetractor = accumulate(listCollector, listContainer, 1);
+        assertThat(finish(listCollector, listContainer)).isSameAs(list);
+        assertThat(list).containsExactly(1);
+        assertThatThrownBy(() -> list.add(2)).isInstanceOf(UnsupportedOperationException.class);
+        listRetractor.run();
+        assertThat(list).isEmpty();
+
+        UniConstraintCollector<Integer, ?, SortedSet<Integer>> setCollector = ConstraintCollectors.toSortedSet();
+        Object setContainer = setCollector.supplier().get();
+        accumulate(setCollector, setContainer, 1);
+        SortedSet<Integer> set = finish(setCollector, setContainer);
+        accumulate(setCollector, setContainer, 2);
+        assertThat(finish(setCollector, setContainer)).isSameAs(set);
+        assertThat(set).containsExactly(1, 2);
+        assertThatThrownBy(() -> set.remove(1)).isInstanceOf(UnsupportedOperationException.class);
+
+        UniConstraintCollector<Integer, ?, Map<Integer, Integer>> mapCollector =
+                ConstraintCollectors.toMap(a -> a, a -> a, Integer::sum);
+        Object mapContainer = mapCollector.supplier().get();
+        accumulate(mapCollector, mapContainer, 1);
+        Map<Integer, Integer> map = finish(mapCollector, mapContainer);
+        accumulate(mapCollector, mapContainer, 1);
+        assertThat(finish(mapCollector, mapContainer)).isSameAs(map);
+        assertThat(map).containsExactly(Map.entry(1, 2));
+        assertThatThrownBy(map::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     void toSortedSet() {
         UniConstraintCollector<Integer, ?, SortedSet<Integer>> collector = ConstraintCollectors.toSortedSet();
@@ -3923,6 +4079,135 @@ class ConstraintCollectorsTest {
         assertResult(collector, container, Quadruple.of(0, null, null, null));
     }
 
+    @Test
+    void consecutive() {
+        // Do a basic test w/o edge cases; edge cases are covered in ConsecutiveSetTreeTest
+        UniConstraintCollector<Integer, ?, ConsecutiveInfo<Integer, Integer>> collector =
+                ConstraintCollectors.consecutive(Integer::intValue);
+        Object container = collector.supplier().get();
+        // Add first value, sequence is [2]
+        int firstValue = 2;
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertConsecutiveResult(collector, container, consecutiveData(2));
+        // Add second value, sequence is [1,2]
+        int secondValue = 1;
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertConsecutiveResult(collector, container, consecutiveData(1, 2));
+        // Add third value, same as the second. Sequence is [{1,1},2}]
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertConsecutiveResult(collector, container, consecutiveData(1, 1, 2));
+        // Retract one instance of the second value; we only have two values now.
+        secondRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveData(1, 2));
+        // Retract final instance of the second value; we only have one value now.
+        thirdRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveData(2));
+        // Retract last value; there are no values now.
+        firstRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveData());
+    }
+
+    @Test
+    void consecutiveBi() {
+        BiConstraintCollector<Integer, Integer, ?, ConsecutiveInfo<Integer, Integer>> collector =
+                ConstraintCollectors.consecutive(Integer::sum, Integer::intValue);
+        Object container = collector.supplier().get();
+        // Add first value, sequence is [2]
+        Runnable firstRetractor = accumulate(collector, container, 1, 1);
+        assertConsecutiveResult(collector, container, consecutiveData(2));
+        // Add second value, sequence is [2,3]
+        Runnable secondRetractor = accumulate(collector, container, 1, 2);
+        assertConsecutiveResult(collector, container, consecutiveData(2, 3));
+        // Retract the first value; sequence is [3]
+        firstRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveData(3));
+        // Retract last value; there are no values now.
+        secondRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveData());
+    }
+
+    @Test
+    void consecutiveIntervals() {
+        // Do a basic test w/o edge cases; edge cases are covered in IntervalTreeTest
+        UniConstraintCollector<TestInterval, ?, ConsecutiveIntervalInfo<TestInterval, Integer, Integer>> collector =
+                ConstraintCollectors.consecutiveIntervals(TestInterval::getStart, TestInterval::getEnd, (a, b) -> b - a);
+        Object container = collector.supplier().get();
+        // Add first value, sequence is [(1,3)]
+        TestInterval firstValue = new TestInterval(1, 3);
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertConsecutiveResult(collector, container, consecutiveIntervalData(firstValue));
+        // Add second value, sequence is [(1,3),(2,4)]
+        TestInterval secondValue = new TestInterval(2, 4);
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertConsecutiveResult(collector, container, consecutiveIntervalData(firstValue, secondValue));
+        // Add third value, same as the second. Sequence is [{1,1},2}]
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertConsecutiveResult(collector, container, consecutiveIntervalData(firstValue, secondValue, secondValue));
+        // Retract one instance of the second value; we only have two values now.
+        secondRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveIntervalData(firstValue, secondValue));
+        // Retract final instance of the second value; we only have one value now.
+        thirdRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveIntervalData(firstValue));
+        // Retract last value; there are no values now.
+        firstRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveIntervalData());
+    }
+
+    private static ConsecutiveInfo<Integer, Integer> consecutiveData(Integer... data) {
+        ConsecutiveSetTree<Integer, Integer, Integer> tree =
+                new ConsecutiveSetTree<>((a, b) -> b - a, Integer::sum, 1, 0);
+        for (Integer datum : data) {
+            tree.add(datum, datum);
+        }
+        return tree;
+    }
+
+    private static ConsecutiveIntervalInfo<TestInterval, Integer, Integer> consecutiveIntervalData(TestInterval... data) {
+        IntervalTree<TestInterval, Integer, Integer> tree =
+                new IntervalTree<>(TestInterval::getStart, TestInterval::getEnd, (a, b) -> b - a);
+        for (TestInterval datum : data) {
+            tree.add(tree.getInterval(datum));
+        }
+        return tree.getConsecutiveIntervalData();
+    }
+
+    private static final class TestInterval {
+
+        private final int start;
+        private final int end;
+
+        public TestInterval(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TestInterval interval = (TestInterval) o;
+            return start == interval.start && end == interval.end;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, end);
+        }
+    }
+
     private static <A, B, C, Container_, Result_> Runnable accumulate(
             TriConstraintCollector<A, B, C, Container_, Result_> collector, Object container, A valueA, B valueB,
             C valueC) {
@@ -3945,6 +4230,11 @@ class ConstraintCollectorsTest {
         return collector.accumulator().apply((Container_) container, value);
     }
 
+    private static <A, Container_, Result_> Result_ finish(UniConstraintCollector<A, Container_, Result_> collector,
+            Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
     private static <A, B, C, D, Container_, Result_> void assertResult(
             QuadConstraintCollector<A, B, C, D, Container_, Result_> collector, Object container,
             Result_ expectedResult) {
@@ -3978,4 +4268,21 @@ class ConstraintCollectorsTest {
                 .isEqualTo(expectedResult);
     }
 
+    private static <Container_, Result_> void assertConsecutiveResult(
+            UniConstraintCollector<?, Container_, Result_> collector, Object container, Result_ expectedResult) {
+        assertConsecutiveResult(collector.finisher().apply((Container_) container), expectedResult);
+    }
+
+    private static <Container_, Result_> void assertConsecutiveResult(
+            BiConstraintCollector<?, ?, Container_, Result_> collector, Object container, Result_ expectedResult) {
+        assertConsecutiveResult(collector.finisher().apply((Container_) container), expectedResult);
+    }
+
+    private static void assertConsecutiveResult(Object actualResult, Object expectedResult) {
+        assertThat(actualResult)
+                .usingRecursiveComparison()
+                .ignoringFields("sourceTree", "indexFunction", "sequenceList", "startItemToSequence")
+                .isEqualTo(expectedResult);
+    }
+
 }
@@ -1,6 +1,7 @@
 package org.optaplanner.core.api.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
@@ -19,6 +20,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -39,6 +42,7 @@ import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.config.solver.testutil.MockThreadFactory;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -67,6 +71,49 @@ class SolverManagerTest {
         SolverManager.create(solverFactory, solverManagerConfig).close();
     }
 
+    @Test
+    @Timeout(60)
+    void threadFactoryClassIsUsed() throws ExecutionException, InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverManager = SolverManager.create(solverConfig,
+                new SolverManagerConfig().withThreadFactoryClass(MockThreadFactory.class));
+
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        assertSolutionInitialized(solverJob.getFinalBestSolution());
+        assertThat(MockThreadFactory.hasBeenCalled()).isTrue();
+    }
+
+    @Test
+    @Timeout(60)
+    void solverExecutorSupplierIsUsed() throws ExecutionException, InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        AtomicReference<ExecutorService> solverExecutor = new AtomicReference<>();
+        solverManager = SolverManager.create(solverConfig,
+                new SolverManagerConfig().withSolverExecutorSupplier(() -> {
+                    ExecutorService executor = Executors.newSingleThreadExecutor();
+                    assertThat(solverExecutor.getAndSet(executor)).isNull();
+                    return executor;
+                }));
+
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        assertSolutionInitialized(solverJob.getFinalBestSolution());
+        solverManager.close();
+        assertThat(solverExecutor.get().isShutdown()).isTrue();
+    }
+
+    @Test
+    void solverExecutorSupplierAndThreadFactoryClassAreExclusive() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        SolverManagerConfig solverManagerConfig = new SolverManagerConfig()
+                .withThreadFactoryClass(MockThreadFactory.class)
+                .withSolverExecutorSupplier(Executors::newSingleThreadExecutor);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> SolverManager.create(solverConfig, solverManagerConfig))
+                .withMessageContaining("threadFactoryClass");
+    }
+
     @Test
     @Timeout(60)
     void solveBatch_2InParallel() throws ExecutionException, InterruptedException {
@@ -9,6 +9,12 @@ import java.util.stream.IntStream;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchType;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.config.solver.testutil.MockThreadFactory;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
@@ -57,6 +63,50 @@ class SolverConfigMultiThreadedTest {
         return testdataSolution;
     }
 
+    @ParameterizedTest
+    @EnumSource(value = LocalSearchType.class, names = { "LATE_ACCEPTANCE", "VARIABLE_NEIGHBORHOOD_DESCENT" })
+    @Timeout(10)
+    void moveThreadSelectionIsReproducible(LocalSearchType localSearchType) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setMoveThreadCount("3");
+        solverConfig.setMoveThreadSelection(true);
+        LocalSearchPhaseConfig localSearchPhaseConfig = (LocalSearchPhaseConfig) solverConfig.getPhaseConfigList().get(1);
+        localSearchPhaseConfig.setLocalSearchType(localSearchType);
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(50));
+
+        TestdataSolution firstSolution = PlannerTestUtils.solve(solverConfig, createTestSolution(10, 5));
+        TestdataSolution secondSolution = PlannerTestUtils.solve(solverConfig, createTestSolution(10, 5));
+        assertThat(firstSolution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(secondSolution.getEntityList())
+                .map(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(firstSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    @Timeout(10)
+    void moveThreadBatchSizeDoesNotChangeResult() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setMoveThreadBufferSize(3);
+        LocalSearchPhaseConfig localSearchPhaseConfig = (LocalSearchPhaseConfig) solverConfig.getPhaseConfigList().get(1);
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(50));
+
+        TestdataSolution unbatchedSolution = PlannerTestUtils.solve(solverConfig, createTestSolution(10, 5));
+        solverConfig.setMoveThreadBatchSize(4);
+        TestdataSolution batchedSolution = PlannerTestUtils.solve(solverConfig, createTestSolution(10, 5));
+        assertThat(batchedSolution.getEntityList())
+                .map(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(unbatchedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .collect(Collectors.toList()));
+    }
+
     @Test
     @Timeout(5)
     void customThreadFactoryClassIsUsed() {
@@ -73,4 +123,20 @@ class SolverConfigMultiThreadedTest {
         assertThat(MockThreadFactory.hasBeenCalled()).isTrue();
     }
 
+    @Test
+    @Timeout(5)
+    void moveThreadsAreSharedAcrossPhases() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setThreadFactoryClass(MockThreadFactory.class);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setPhaseConfigList(List.of(new ConstructionHeuristicPhaseConfig(),
+                new LocalSearchPhaseConfig().withTerminationConfig(new TerminationConfig().withStepCountLimit(5)),
+                new LocalSearchPhaseConfig().withTerminationConfig(new TerminationConfig().withStepCountLimit(5))));
+
+        TestdataSolution solution = PlannerTestUtils.solve(solverConfig, createTestSolution(3, 5));
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(MockThreadFactory.getNewThreadCount()).isEqualTo(2);
+    }
+
 }
@@ -1,22 +1,30 @@
 package org.optaplanner.core.config.solver.testutil;
 
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MockThreadFactory implements ThreadFactory {
 
     private static boolean called;
+    private static final AtomicInteger newThreadCount = new AtomicInteger();
 
     public static boolean hasBeenCalled() {
         return called;
     }
 
+    public static int getNewThreadCount() {
+        return newThreadCount.get();
+    }
+
     public MockThreadFactory() {
         called = false;
+        newThreadCount.set(0);
     }
 
     @Override
     public Thread newThread(Runnable r) {
         called = true;
+        newThreadCount.incrementAndGet();
         Thread newThread = new Thread(r, "testing thread");
         newThread.setDaemon(false);
         return newThread;
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -161,6 +162,77 @@ class OrderByMoveIndexBlockingQueueTest {
         }).hasCause(exception);
     }
 
+    @Test
+    void addExceptionThrownIsRelayedOnEveryTake() {
+        // Capacity: 4 moves in circulation + 2 exception handling results
+        OrderByMoveIndexBlockingQueue<TestdataSolution> queue = new OrderByMoveIndexBlockingQueue<>(4 + 2);
+
+        queue.startNextStep(0);
+        IllegalArgumentException exception = new IllegalArgumentException();
+        queue.addExceptionThrown(0, exception);
+        assertThatThrownBy(queue::take).hasCause(exception);
+        assertThatThrownBy(queue::take).hasCause(exception);
+        // A later exception doesn't replace the original cause and later results are still discarded
+        queue.addExceptionThrown(1, new IllegalStateException());
+        queue.addMove(1, 0, 2, new DummyMove("a2"), SimpleScore.of(-2));
+        assertThatThrownBy(queue::take).hasCause(exception);
+        assertThatThrownBy(() -> queue.startNextStep(1)).hasCause(exception);
+    }
+
+    @Test
+    void addEndOfMoves() throws InterruptedException {
+        // Capacity: 4 moves in circulation + 2 exception handling results
+        OrderByMoveIndexBlockingQueue<TestdataSolution> queue = new OrderByMoveIndexBlockingQueue<>(4 + 2);
+
+        queue.startNextStep(0);
+        executorService.submit(() -> queue.addEndOfMoves(0, 0, 2));
+        executorService.submit(() -> queue.addEndOfMoves(1, 0, 3));
+        executorService.submit(() -> queue.addMove(1, 0, 1, new DummyMove("a1"), SimpleScore.of(-1)));
+        executorService.submit(() -> queue.addMove(0, 0, 0, new DummyMove("a0"), SimpleScore.of(0)));
+        assertResult("a0", 0, queue.take());
+        assertResult("a1", -1, queue.take());
+        OrderByMoveIndexBlockingQueue.MoveResult<TestdataSolution> endResult = queue.take();
+        assertThat(endResult.isEndOfMoves()).isTrue();
+        assertThat(endResult.getMoveIndex()).isEqualTo(2);
+
+        // The results left over from the previous step don't block their slot
+        queue.startNextStep(1);
+        executorService.submit(() -> queue.addMove(0, 1, 3, new DummyMove("b3"), SimpleScore.of(-3)));
+        executorService.submit(() -> queue.addMove(0, 1, 0, new DummyMove("b0"), SimpleScore.of(0)));
+        assertResult("b0", 0, queue.take());
+        executorService.submit(() -> queue.addMove(1, 1, 1, new DummyMove("b1"), SimpleScore.of(-1)));
+        assertResult("b1", -1, queue.take());
+    }
+
+    @Test
+    void addAll() throws InterruptedException {
+        // Capacity: 4 moves in circulation + 2 exception handling results
+        OrderByMoveIndexBlockingQueue<TestdataSolution> queue = new OrderByMoveIndexBlockingQueue<>(4 + 2);
+
+        queue.startNextStep(0);
+        executorService.submit(() -> queue.addAll(List.of(
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(1, 0, 2, new DummyMove("a2"), true, SimpleScore.of(-2)),
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(1, 0, 3, new DummyMove("a3"), false, null))));
+        executorService.submit(() -> queue.addAll(List.of(
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(0, 0, 0, new DummyMove("a0"), true, SimpleScore.of(0)),
+                new OrderByMoveIndexBlockingQueue.MoveResult<>(0, 0, 1, new DummyMove("a1"), true, SimpleScore.of(-1)))));
+        assertResult("a0", 0, queue.take());
+        assertResult("a1", -1, queue.take());
+        assertResult("a2", -2, queue.take());
+        assertResult("a3", false, queue.take());
+    }
+
+    @Test
+    void addMoveWithoutCapacity() {
+        OrderByMoveIndexBlockingQueue<TestdataSolution> queue = new OrderByMoveIndexBlockingQueue<>(2);
+
+        queue.startNextStep(0);
+        queue.addMove(0, 0, 0, new DummyMove("a0"), SimpleScore.of(0));
+        assertThatThrownBy(() -> queue.addMove(1, 0, 2, new DummyMove("a2"), SimpleScore.of(-2)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("capacity");
+    }
+
     private void assertResult(String moveCode, int score, OrderByMoveIndexBlockingQueue.MoveResult<TestdataSolution> result) {
         assertCode(moveCode, result.getMove());
         assertThat(result.getScore()).isEqualTo(SimpleScore.of(score));
@@ -0,0 +1,44 @@
+package org.optaplanner.core.impl.localsearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.localsearch.decider.MultiThreadedLocalSearchDecider;
+import org.optaplanner.core.impl.solver.ClassInstanceCache;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+class DefaultLocalSearchPhaseFactoryTest {
+
+    @Test
+    void solverThreadSelectsMoves() {
+        DefaultLocalSearchPhase<TestdataSolution> phase = buildMultiThreadedPhase(false);
+        assertThat(phase.decider).isInstanceOf(MultiThreadedLocalSearchDecider.class);
+        assertThat(phase.decider.getMoveSelector()).isNotNull();
+    }
+
+    @Test
+    void moveThreadSelectionBuildsNoSolverThreadMoveSelector() {
+        DefaultLocalSearchPhase<TestdataSolution> phase = buildMultiThreadedPhase(true);
+        assertThat(phase.decider).isInstanceOf(MultiThreadedLocalSearchDecider.class);
+        assertThat(phase.decider.getMoveSelector()).isNull();
+    }
+
+    private DefaultLocalSearchPhase<TestdataSolution> buildMultiThreadedPhase(boolean moveThreadSelection) {
+        HeuristicConfigPolicy<TestdataSolution> configPolicy =
+                new HeuristicConfigPolicy.Builder<>(EnvironmentMode.REPRODUCIBLE, 2, null, null, null,
+                        TestdataSolution.buildSolutionDescriptor(), ClassInstanceCache.create())
+                        .withMoveThreadSelection(moveThreadSelection)
+                        .build();
+        DefaultLocalSearchPhaseFactory<TestdataSolution> phaseFactory =
+                new DefaultLocalSearchPhaseFactory<>(new LocalSearchPhaseConfig());
+        return (DefaultLocalSearchPhase<TestdataSolution>) phaseFactory.buildPhase(0, configPolicy,
+                mock(BestSolutionRecaller.class), mock(Termination.class));
+    }
+
+}
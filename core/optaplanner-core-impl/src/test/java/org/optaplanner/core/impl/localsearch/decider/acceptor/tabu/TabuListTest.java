@@ -0,0 +1,74 @@
+package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+
+class TabuListTest {
+
+    @Test
+    void addAndRemoveUpTo() {
+        TabuList tabuList = new TabuList(4);
+        tabuList.add("a", 0);
+        tabuList.add("b", 1);
+        tabuList.add(null, 1);
+        tabuList.add("c", 2);
+        assertThat(tabuList.getStepIndex("a")).isEqualTo(0);
+        assertThat(tabuList.getStepIndex(null)).isEqualTo(1);
+        assertThat(tabuList.getStepIndex("d")).isEqualTo(-1);
+        assertThat(tabuList).containsExactly("a", "b", null, "c");
+
+        tabuList.removeUpTo(1);
+        assertThat(tabuList.size()).isEqualTo(1);
+        assertThat(tabuList.getStepIndex("a")).isEqualTo(-1);
+        assertThat(tabuList.getStepIndex(null)).isEqualTo(-1);
+        assertThat(tabuList).containsExactly("c");
+
+        tabuList.removeUpTo(2);
+        assertThat(tabuList).isEmpty();
+        tabuList.add("a", 3);
+        assertThat(tabuList).containsExactly("a");
+    }
+
+    @Test
+    void addExistingTabuMovesItToTheEnd() {
+        TabuList tabuList = new TabuList(3);
+        tabuList.add("a", 0);
+        tabuList.add("b", 1);
+        tabuList.add("c", 2);
+        tabuList.add("a", 3);
+        tabuList.add("b", 3);
+        assertThat(tabuList).containsExactly("c", "a", "b");
+        assertThat(tabuList.getStepIndex("a")).isEqualTo(3);
+
+        tabuList.removeUpTo(2);
+        assertThat(tabuList).containsExactly("a", "b");
+    }
+
+    @Test
+    void unstableHashCode() {
+        MutableHashCode tabu = new MutableHashCode(1);
+        TabuList tabuList = new TabuList(1);
+        tabuList.add(tabu, 0);
+        tabu.hashCode = 2;
+        assertThatIllegalStateException().isThrownBy(() -> tabuList.removeUpTo(0))
+                .withMessageContaining("HashCode stability violation");
+    }
+
+    private static final class MutableHashCode {
+
+        private int hashCode;
+
+        private MutableHashCode(int hashCode) {
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
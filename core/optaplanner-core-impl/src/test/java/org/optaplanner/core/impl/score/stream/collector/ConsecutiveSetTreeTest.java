@@ -1,4 +1,4 @@
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -15,9 +15,9 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
-import org.optaplanner.examples.common.experimental.api.Break;
-import org.optaplanner.examples.common.experimental.api.ConsecutiveInfo;
-import org.optaplanner.examples.common.experimental.api.Sequence;
+import org.optaplanner.core.api.score.stream.common.Break;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveInfo;
+import org.optaplanner.core.api.score.stream.common.Sequence;
 
 class ConsecutiveSetTreeTest {
 
@@ -264,6 +264,31 @@ class ConsecutiveSetTreeTest {
         assertThat(tree.getBreaks()).hasSize(0);
     }
 
+    @Test
+    void testEqualButDistinctValues() {
+        ConsecutiveSetTree<String, Integer, Integer> tree = new ConsecutiveSetTree<>((a, b) -> b - a, Integer::sum, 1, 0);
+        String first = new String("shift");
+        String second = new String("shift");
+        String third = new String("shift");
+
+        tree.add(first, 1);
+        tree.add(second, 2);
+        tree.add(third, 2);
+        assertThat(tree.getConsecutiveSequences()).singleElement()
+                .satisfies(sequence -> assertThat(sequence.getCount()).isEqualTo(3));
+
+        tree.remove(first);
+        assertThat(tree.getConsecutiveSequences()).singleElement()
+                .satisfies(sequence -> assertThat(sequence.getCount()).isEqualTo(2));
+        assertThat(tree.getConsecutiveSequences()).singleElement()
+                .satisfies(sequence -> assertThat(sequence.getFirstItem()).isNotSameAs(first));
+
+        tree.remove(second);
+        tree.remove(third);
+        assertThat(tree.getConsecutiveSequences()).isEmpty();
+        assertThat(tree.getBreaks()).isEmpty();
+    }
+
     @Test
     void testRandomSequences() {
         Random random = new Random(1);
@@ -0,0 +1,88 @@
+package org.optaplanner.core.impl.score.stream.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+class IndexedHeapTest {
+
+    @Test
+    void insertPeekRemove() {
+        IndexedHeap<String> heap = new IndexedHeap<>(Comparator.naturalOrder());
+        assertThat(heap.isEmpty()).isTrue();
+        assertThat(heap.peek()).isNull();
+
+        int b = heap.insert("b");
+        int a = heap.insert("a");
+        int c = heap.insert("c");
+        int secondA = heap.insert("a");
+        assertThat(heap.size()).isEqualTo(4);
+        assertThat(heap.peek()).isEqualTo("a");
+
+        heap.remove(a);
+        assertThat(heap.peek()).isEqualTo("a");
+        heap.remove(secondA);
+        assertThat(heap.peek()).isEqualTo("b");
+        heap.remove(c);
+        assertThat(heap.peek()).isEqualTo("b");
+        heap.remove(b);
+        assertThat(heap.isEmpty()).isTrue();
+        assertThat(heap.peek()).isNull();
+    }
+
+    @Test
+    void removeTwice() {
+        IndexedLongHeap heap = new IndexedLongHeap(false);
+        int handle = heap.insert(1L);
+        heap.insert(2L);
+        heap.remove(handle);
+        assertThatIllegalStateException().isThrownBy(() -> heap.remove(handle));
+    }
+
+    @Test
+    void handlesAreRecycled() {
+        IndexedLongHeap heap = new IndexedLongHeap(true);
+        int first = heap.insert(1L);
+        heap.remove(first);
+        assertThat(heap.insert(2L)).isEqualTo(first);
+        assertThat(heap.peek()).isEqualTo(2L);
+    }
+
+    @Test
+    void randomizedAgainstTreeMap() {
+        Random random = new Random(37);
+        IndexedHeap<Integer> minHeap = new IndexedHeap<>(Comparator.naturalOrder());
+        IndexedLongHeap maxHeap = new IndexedLongHeap(true);
+        TreeMap<Integer, Integer> expectedCounts = new TreeMap<>();
+        List<int[]> handles = new ArrayList<>(); // Value, min heap handle, max heap handle.
+        for (int i = 0; i < 10_000; i++) {
+            if (handles.isEmpty() || random.nextInt(5) < 3) {
+                int value = random.nextInt(100) - 50;
+                handles.add(new int[] { value, minHeap.insert(value), maxHeap.insert(value) });
+                expectedCounts.merge(value, 1, Integer::sum);
+            } else {
+                int[] removed = handles.remove(random.nextInt(handles.size()));
+                minHeap.remove(removed[1]);
+                maxHeap.remove(removed[2]);
+                expectedCounts.computeIfPresent(removed[0], (value, count) -> count == 1 ? null : count - 1);
+            }
+            assertThat(minHeap.size()).isEqualTo(handles.size());
+            assertThat(maxHeap.size()).isEqualTo(handles.size());
+            if (expectedCounts.isEmpty()) {
+                assertThat(minHeap.peek()).isNull();
+                assertThat(maxHeap.isEmpty()).isTrue();
+            } else {
+                assertThat(minHeap.peek()).isEqualTo(expectedCounts.firstKey());
+                assertThat(maxHeap.peek()).isEqualTo((long) expectedCounts.lastKey());
+            }
+        }
+    }
+
+}
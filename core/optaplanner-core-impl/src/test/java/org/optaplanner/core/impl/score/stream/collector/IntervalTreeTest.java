@@ -1,4 +1,4 @@
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -12,8 +12,8 @@ import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
-import org.optaplanner.examples.common.experimental.api.IntervalBreak;
-import org.optaplanner.examples.common.experimental.api.IntervalCluster;
+import org.optaplanner.core.api.score.stream.common.IntervalBreak;
+import org.optaplanner.core.api.score.stream.common.IntervalCluster;
 
 class IntervalTreeTest {
     private static class TestInterval {
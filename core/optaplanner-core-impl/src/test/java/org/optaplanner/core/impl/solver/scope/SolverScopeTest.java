@@ -0,0 +1,36 @@
+package org.optaplanner.core.impl.solver.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+class SolverScopeTest {
+
+    @Test
+    void moveThreadExecutorIsCreatedOnce() {
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        ThreadFactory firstThreadFactory = Executors.defaultThreadFactory();
+        ExecutorService executor = solverScope.getOrCreateMoveThreadExecutor(firstThreadFactory, 2);
+        try {
+            ThreadFactory secondThreadFactory = runnable -> {
+                throw new IllegalStateException("The executor must not be created again.");
+            };
+            assertThat(solverScope.getOrCreateMoveThreadExecutor(secondThreadFactory, 2)).isSameAs(executor);
+            assertThat(solverScope.getOrCreateMoveThreadExecutor(secondThreadFactory, 1)).isSameAs(executor);
+            assertThatIllegalStateException()
+                    .isThrownBy(() -> solverScope.getOrCreateMoveThreadExecutor(secondThreadFactory, 3))
+                    .withMessageContaining("maximumPoolSize (2)");
+        } finally {
+            solverScope.destroyMoveThreadExecutor();
+        }
+        assertThat(executor.isShutdown()).isTrue();
+        assertThat(solverScope.getMoveThreadExecutor()).isNull();
+    }
+
+}
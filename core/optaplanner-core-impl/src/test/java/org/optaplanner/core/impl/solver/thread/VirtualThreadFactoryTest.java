@@ -0,0 +1,28 @@
+package org.optaplanner.core.impl.solver.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadFactoryTest {
+
+    @Test
+    void newThread() throws InterruptedException {
+        if (Runtime.version().feature() < 21) {
+            assertThat(VirtualThreadFactory.isSupported()).isEqualTo(Runtime.version().feature() >= 19);
+            assertThatIllegalStateException().isThrownBy(VirtualThreadFactory::new);
+            return;
+        }
+        assertThat(VirtualThreadFactory.isSupported()).isTrue();
+        AtomicBoolean ran = new AtomicBoolean(false);
+        Thread thread = new VirtualThreadFactory("Test").newThread(() -> ran.set(true));
+        assertThat(thread.getName()).startsWith("OptaVirtual-").endsWith("-Test-1");
+        thread.start();
+        thread.join();
+        assertThat(ran).isTrue();
+    }
+
+}
@@ -8,6 +8,7 @@ import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.StatisticType;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.subsingle.constraintprofile.ConstraintProfileSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
 
@@ -16,7 +17,8 @@ public enum SingleStatisticType implements StatisticType {
     CONSTRAINT_MATCH_TOTAL_BEST_SCORE,
     CONSTRAINT_MATCH_TOTAL_STEP_SCORE,
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF,
-    PICKED_MOVE_TYPE_STEP_SCORE_DIFF;
+    PICKED_MOVE_TYPE_STEP_SCORE_DIFF,
+    CONSTRAINT_PROFILE;
 
     public PureSubSingleStatistic buildPureSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
         switch (this) {
@@ -28,6 +30,8 @@ public enum SingleStatisticType implements StatisticType {
                 return new PickedMoveTypeBestScoreDiffSubSingleStatistic(subSingleBenchmarkResult);
             case PICKED_MOVE_TYPE_STEP_SCORE_DIFF:
                 return new PickedMoveTypeStepScoreDiffSubSingleStatistic(subSingleBenchmarkResult);
+            case CONSTRAINT_PROFILE:
+                return new ConstraintProfileSubSingleStatistic(subSingleBenchmarkResult);
             default:
                 throw new IllegalStateException("The singleStatisticType (" + this + ") is not implemented.");
         }
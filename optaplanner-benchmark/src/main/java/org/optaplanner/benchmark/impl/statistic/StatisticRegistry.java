@@ -17,6 +17,7 @@ import org.optaplanner.core.config.solver.monitoring.SolverMetric;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListener;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfile;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.DefaultSolver;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
@@ -122,6 +123,26 @@ public class StatisticRegistry<Solution_> extends SimpleMeterRegistry
         });
     }
 
+    public void extractConstraintProfilesFromMeters(Tags runId, Consumer<ConstraintProfile> constraintProfileConsumer) {
+        String meterId = SolverMetric.CONSTRAINT_PROFILE.getMeterId();
+        Set<Pair<String, String>> constraintPackageNamePairs = new HashSet<>();
+        getMeterIds(SolverMetric.CONSTRAINT_PROFILE, runId).forEach(id -> constraintPackageNamePairs
+                .add(Pair.of(id.getTag("constraint.package"), id.getTag("constraint.name"))));
+        constraintPackageNamePairs.forEach(constraintPackageNamePair -> {
+            String constraintPackage = constraintPackageNamePair.getKey();
+            String constraintName = constraintPackageNamePair.getValue();
+            Tags constraintProfileRunId = runId.and("constraint.package", constraintPackage)
+                    .and("constraint.name", constraintName);
+            long[] values = new long[4];
+            getGaugeValue(meterId + ".inserts", constraintProfileRunId, value -> values[0] = value.longValue());
+            getGaugeValue(meterId + ".updates", constraintProfileRunId, value -> values[1] = value.longValue());
+            getGaugeValue(meterId + ".retracts", constraintProfileRunId, value -> values[2] = value.longValue());
+            getGaugeValue(meterId + ".nanos", constraintProfileRunId, value -> values[3] = value.longValue());
+            constraintProfileConsumer.accept(new ConstraintProfile(constraintPackage, constraintName,
+                    values[0], values[1], values[2], values[3]));
+        });
+    }
+
     public void getGaugeValue(SolverMetric metric, Tags runId, Consumer<Number> gaugeConsumer) {
         getGaugeValue(metric.getMeterId(), runId, gaugeConsumer);
     }
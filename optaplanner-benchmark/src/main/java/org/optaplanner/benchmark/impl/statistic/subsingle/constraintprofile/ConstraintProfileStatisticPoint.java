@@ -0,0 +1,70 @@
+package org.optaplanner.benchmark.impl.statistic.subsingle.constraintprofile;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+
+public class ConstraintProfileStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final String constraintPackage;
+    private final String constraintName;
+    private final long insertCount;
+    private final long updateCount;
+    private final long retractCount;
+    private final long nanos;
+
+    public ConstraintProfileStatisticPoint(long timeMillisSpent,
+            String constraintPackage, String constraintName,
+            long insertCount, long updateCount, long retractCount, long nanos) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.insertCount = insertCount;
+        this.updateCount = updateCount;
+        this.retractCount = retractCount;
+        this.nanos = nanos;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    public long getInsertCount() {
+        return insertCount;
+    }
+
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    public long getRetractCount() {
+        return retractCount;
+    }
+
+    public long getTupleCount() {
+        return insertCount - retractCount;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public String getConstraintId() {
+        return constraintPackage + "/" + constraintName;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, constraintPackage, constraintName,
+                Long.toString(insertCount), Long.toString(updateCount), Long.toString(retractCount),
+                Long.toString(nanos));
+    }
+
+}
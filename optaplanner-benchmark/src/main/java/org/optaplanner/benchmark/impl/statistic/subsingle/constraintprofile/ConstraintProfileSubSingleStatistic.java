@@ -0,0 +1,132 @@
+package org.optaplanner.benchmark.impl.statistic.subsingle.constraintprofile;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYStepRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.StatisticRegistry;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Charts the time the score calculation spent per constraint.
+ * The CSV file also contains the number of tuples inserted, updated and retracted per constraint.
+ */
+public class ConstraintProfileSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, ConstraintProfileStatisticPoint> {
+
+    @XmlTransient
+    protected File graphFile = null;
+
+    ConstraintProfileSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public ConstraintProfileSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.CONSTRAINT_PROFILE);
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFile == null ? Collections.emptyList() : Collections.singletonList(graphFile);
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        defaultSolver.getSolverScope().getScoreDirector().overwriteConstraintProfilingEnabledPreference(true);
+        registry.addListener(SolverMetric.CONSTRAINT_PROFILE,
+                timeMillisSpent -> registry.extractConstraintProfilesFromMeters(runTag,
+                        constraintProfile -> pointList.add(new ConstraintProfileStatisticPoint(
+                                timeMillisSpent,
+                                constraintProfile.getConstraintPackage(),
+                                constraintProfile.getConstraintName(),
+                                constraintProfile.getInsertCount(),
+                                constraintProfile.getUpdateCount(),
+                                constraintProfile.getRetractCount(),
+                                constraintProfile.getNanos()))));
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return ConstraintProfileStatisticPoint.buildCsvLine(
+                "timeMillisSpent", "constraintPackage", "constraintName",
+                "insertCount", "updateCount", "retractCount", "nanos");
+    }
+
+    @Override
+    protected ConstraintProfileStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new ConstraintProfileStatisticPoint(Long.parseLong(csvLine.get(0)),
+                csvLine.get(1), csvLine.get(2),
+                Long.parseLong(csvLine.get(3)), Long.parseLong(csvLine.get(4)), Long.parseLong(csvLine.get(5)),
+                Long.parseLong(csvLine.get(6)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Map<String, XYSeries> constraintIdToSeriesMap = new LinkedHashMap<>();
+        for (ConstraintProfileStatisticPoint point : getPointList()) {
+            XYSeries series = constraintIdToSeriesMap.computeIfAbsent(point.getConstraintId(),
+                    k -> new XYSeries(point.getConstraintName()));
+            series.add(point.getTimeMillisSpent(), point.getNanos() / 1_000_000.0);
+        }
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis("Score calculation time spent (ms)");
+        yAxis.setNumberFormatOverride(NumberFormat.getInstance(locale));
+        XYPlot plot = new XYPlot(null, xAxis, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        // No direct ascending lines between 2 points, but a stepping line instead
+        XYItemRenderer renderer = new XYStepRenderer();
+        plot.setRenderer(renderer);
+        XYSeriesCollection seriesCollection = new XYSeriesCollection();
+        for (XYSeries series : constraintIdToSeriesMap.values()) {
+            seriesCollection.addSeries(series);
+        }
+        plot.setDataset(seriesCollection);
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName() + " constraint profile statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFile = writeChartToImageFile(chart, "ConstraintProfileStatistic");
+    }
+
+}